@@ -0,0 +1,75 @@
+package com.cebix.swiftcodesapi.json;
+
+import com.cebix.swiftcodesapi.dto.CountrySwiftCodesDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeSimpleDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Country listing serialization with Jackson's reflective bean serializer versus
+ * {@link SwiftCodeJsonModule}. Run with {@code -prof gc} to compare allocation per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CountryResponseSerializationBenchmark {
+
+    @Param({"50", "1000"})
+    public int codes;
+
+    private ObjectWriter beanWriter;
+    private ObjectWriter moduleWriter;
+    private CountrySwiftCodesDTO response;
+
+    /**
+     * The message converters stream into the response body, so no result array is built here.
+     */
+    private final OutputStream sink = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        beanWriter = new ObjectMapper().writerFor(CountrySwiftCodesDTO.class);
+        moduleWriter = new ObjectMapper().registerModule(new SwiftCodeJsonModule()).writerFor(CountrySwiftCodesDTO.class);
+
+        List<SwiftCodeSimpleDTO> swiftCodes = IntStream.range(0, codes)
+                .mapToObj(i -> SwiftCodeSimpleDTO.builder()
+                        .address("UL. MARSZALKOWSKA " + i + " WARSZAWA, 00-000")
+                        .bankName("BANK POLSKA KASA OPIEKI S.A.")
+                        .countryISO2("PL")
+                        .isHeadquarter(i % 10 == 0)
+                        .swiftCode(String.format("BANKPL%02dX%02d", i % 100, i % 97))
+                        .build())
+                .toList();
+        response = CountrySwiftCodesDTO.builder()
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .swiftCodes(swiftCodes)
+                .build();
+    }
+
+    @Benchmark
+    public void beanSerializer() throws Exception {
+        beanWriter.writeValue(sink, response);
+    }
+
+    @Benchmark
+    public void handWrittenSerializer() throws Exception {
+        moduleWriter.writeValue(sink, response);
+    }
+}
@@ -0,0 +1,94 @@
+package com.cebix.swiftcodesapi.json;
+
+import com.cebix.swiftcodesapi.dto.CountrySwiftCodesDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeSimpleDTO;
+import com.cebix.swiftcodesapi.protobuf.SwiftCodeProtobufWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.protobuf.CodedOutputStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Country listing serialization in each response format against JSON. The encoded size of the response
+ * is printed once per trial, before the measurements of that format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResponseFormatBenchmark {
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    public String format;
+
+    @Param({"50", "1000"})
+    public int codes;
+
+    private ObjectWriter jacksonWriter;
+    private CountrySwiftCodesDTO response;
+
+    private final OutputStream sink = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper mapper = switch (format) {
+            case "json" -> new ObjectMapper();
+            case "cbor" -> new CBORMapper();
+            case "smile" -> new SmileMapper();
+            default -> null;
+        };
+        jacksonWriter = mapper == null ? null : mapper.registerModule(new SwiftCodeJsonModule()).writerFor(CountrySwiftCodesDTO.class);
+
+        List<SwiftCodeSimpleDTO> swiftCodes = IntStream.range(0, codes)
+                .mapToObj(i -> SwiftCodeSimpleDTO.builder()
+                        .address("UL. MARSZALKOWSKA " + i + " WARSZAWA, 00-000")
+                        .bankName("BANK POLSKA KASA OPIEKI S.A.")
+                        .countryISO2("PL")
+                        .isHeadquarter(i % 10 == 0)
+                        .swiftCode(String.format("BANKPL%02dX%02d", i % 100, i % 97))
+                        .build())
+                .toList();
+        response = CountrySwiftCodesDTO.builder()
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .swiftCodes(swiftCodes)
+                .build();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        write(bytes);
+        System.out.printf("%n%s, %d codes: %d bytes%n", format, codes, bytes.size());
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        write(sink);
+    }
+
+    private void write(OutputStream out) throws IOException {
+        if (jacksonWriter != null) {
+            jacksonWriter.writeValue(out, response);
+        } else {
+            CodedOutputStream coded = CodedOutputStream.newInstance(out);
+            SwiftCodeProtobufWriter.write(response, coded);
+            coded.flush();
+        }
+    }
+}
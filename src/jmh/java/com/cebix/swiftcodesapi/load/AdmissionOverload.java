@@ -0,0 +1,23 @@
+package com.cebix.swiftcodesapi.load;
+
+import java.util.List;
+
+/**
+ * Overloads the servlet stack with and without admission control, see {@link LoadDriver}.
+ * Rejected requests (503) are counted separately from the latency of accepted ones.
+ * <p>
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec@admission-overload -Dload.concurrency=1000}
+ */
+public class AdmissionOverload {
+
+    public static void main(String[] args) throws Exception {
+        List<String> results = List.of(
+                LoadDriver.run("admission off", false, "--swift-codes.admission.enabled=false"),
+                LoadDriver.run("admission on", false, "--swift-codes.admission.enabled=true"));
+
+        System.out.printf("%nconcurrency=%d, duration=%ds%n", LoadDriver.CONCURRENCY, LoadDriver.DURATION.toSeconds());
+        System.out.println(LoadDriver.HEADER);
+        results.forEach(System.out::println);
+        System.exit(0);
+    }
+}
@@ -0,0 +1,37 @@
+package com.cebix.swiftcodesapi.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Single-code lookups of which half ask for well-formed codes that do not exist, with and without the Bloom
+ * filter, see {@link LoadDriver}. Admission control is switched off so that every lookup reaches
+ * the service.
+ * <p>
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec@bloom-filter-load -Dload.concurrency=100}
+ */
+public class BloomFilterLoad {
+
+    private static final LoadDriver.Workload HALF_MISSES = (baseUrl, codes, countries) -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String path = random.nextBoolean()
+                ? codes.get(random.nextInt(codes.size()))
+                : String.format("MISSZZ2%c%03d", (char) ('A' + random.nextInt(26)), random.nextInt(1000));
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    };
+
+    public static void main(String[] args) throws Exception {
+        List<String> results = List.of(
+                LoadDriver.run("bloom filter off", false, HALF_MISSES,
+                        "--swift-codes.admission.enabled=false", "--swift-codes.bloom-filter.enabled=false"),
+                LoadDriver.run("bloom filter on", false, HALF_MISSES,
+                        "--swift-codes.admission.enabled=false", "--swift-codes.bloom-filter.enabled=true"));
+
+        System.out.printf("%nconcurrency=%d, duration=%ds%n", LoadDriver.CONCURRENCY, LoadDriver.DURATION.toSeconds());
+        System.out.println(LoadDriver.HEADER);
+        results.forEach(System.out::println);
+        System.exit(0);
+    }
+}
@@ -0,0 +1,22 @@
+package com.cebix.swiftcodesapi.load;
+
+import java.util.List;
+
+/**
+ * Side-by-side load run of the servlet/JPA and WebFlux/R2DBC read paths, see {@link LoadDriver}.
+ * <p>
+ * {@code ./mvnw -Pbenchmark,reactive test-compile exec:exec@load-comparison -Dload.concurrency=1000}
+ */
+public class LoadComparison {
+
+    public static void main(String[] args) throws Exception {
+        List<String> results = List.of(
+                LoadDriver.run("servlet", false, "--swift-codes.admission.enabled=false"),
+                LoadDriver.run("reactive", true));
+
+        System.out.printf("%nconcurrency=%d, duration=%ds%n", LoadDriver.CONCURRENCY, LoadDriver.DURATION.toSeconds());
+        System.out.println(LoadDriver.HEADER);
+        results.forEach(System.out::println);
+        System.exit(0);
+    }
+}
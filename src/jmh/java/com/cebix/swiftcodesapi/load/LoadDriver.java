@@ -0,0 +1,183 @@
+package com.cebix.swiftcodesapi.load;
+
+import com.cebix.swiftcodesapi.SwiftCodesApiApplication;
+import com.cebix.swiftcodesapi.entity.Country;
+import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.repository.CountryRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Boots the application on an embedded database with the bundled CSV and keeps a fixed number of
+ * requests of a {@link Workload} in flight against it.
+ * <p>
+ * Client and server share the JVM and the database has no network latency, so absolute numbers
+ * only make sense relative to another run. The client runs on a small fixed pool so the peak
+ * thread count mostly reflects the server stack.
+ */
+final class LoadDriver {
+
+    static final int CONCURRENCY = Integer.getInteger("load.concurrency", 1000);
+    static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("load.warmup", 5));
+    static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("load.duration", 20));
+
+    static final String HEADER = String.format("%-18s %10s %10s %10s %10s %10s %8s %12s",
+            "run", "ok/s", "p50 ms", "p99 ms", "max ms", "503/s", "errors", "peak threads");
+
+    /**
+     * 80% single-code lookups, 20% country listings.
+     */
+    static final Workload READS = (baseUrl, codes, countries) -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String path = random.nextInt(5) == 0
+                ? "country/" + countries.get(random.nextInt(countries.size()))
+                : codes.get(random.nextInt(codes.size()));
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    };
+
+    @FunctionalInterface
+    interface Workload {
+        HttpRequest next(String baseUrl, List<String> codes, List<String> countries);
+    }
+
+    private LoadDriver() {
+    }
+
+    static String run(String label, boolean reactive, String... extraArgs) throws Exception {
+        return run(label, reactive, READS, extraArgs);
+    }
+
+    static String run(String label, boolean reactive, Workload workload, String... extraArgs) throws Exception {
+        String db = "load-" + UUID.randomUUID();
+        List<String> appArgs = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + db + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=warn",
+                "--spring.devtools.restart.enabled=false"));
+        if (reactive) {
+            appArgs.addAll(List.of(
+                    "--spring.profiles.active=reactive",
+                    "--spring.r2dbc.url=r2dbc:h2:mem:///" + db + ";DB_CLOSE_DELAY=-1",
+                    "--spring.r2dbc.username=sa",
+                    "--spring.r2dbc.password="));
+        }
+        appArgs.addAll(List.of(extraArgs));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SwiftCodesApiApplication.class)
+                .run(appArgs.toArray(String[]::new))) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/v1/swift-codes/";
+            List<String> codes = context.getBean(SwiftCodeRepository.class).findAll()
+                    .stream().map(SwiftCode::getSwiftCode).toList();
+            List<String> countries = context.getBean(CountryRepository.class).findAll()
+                    .stream().map(Country::getIsoCode).toList();
+
+            ExecutorService clientPool = Executors.newFixedThreadPool(4);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientPool)
+                    .build();
+            try {
+                drive(client, workload, baseUrl, codes, countries, WARMUP, null);
+                Stats stats = new Stats();
+                drive(client, workload, baseUrl, codes, countries, DURATION, stats);
+                return stats.format(label, DURATION);
+            } finally {
+                clientPool.shutdownNow();
+            }
+        }
+    }
+
+    private static void drive(HttpClient client, Workload workload, String baseUrl, List<String> codes, List<String> countries,
+                              Duration duration, Stats stats) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long deadline = System.nanoTime() + duration.toNanos();
+        long nextSample = 0;
+
+        while (System.nanoTime() < deadline) {
+            if (!inFlight.tryAcquire(10, TimeUnit.MILLISECONDS)) {
+                continue;
+            }
+            HttpRequest request = workload.next(baseUrl, codes, countries);
+            long start = System.nanoTime();
+
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        if (stats != null) {
+                            stats.record(System.nanoTime() - start, failure == null ? response.statusCode() : -1);
+                        }
+                        inFlight.release();
+                    });
+
+            if (stats != null && System.nanoTime() > nextSample) {
+                stats.peakThreads.accumulateAndGet(threads.getThreadCount(), Math::max);
+                nextSample = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+            }
+        }
+        inFlight.acquire(CONCURRENCY);
+    }
+
+    private static final class Stats {
+        private final long[] latencies = new long[16_000_000];
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong peakThreads = new AtomicLong();
+
+        void record(long latencyNanos, int status) {
+            if (status == 503) {
+                rejected.incrementAndGet();
+                return;
+            }
+            // A 404 is a served answer for workloads that look up unknown codes
+            if (status != 200 && status != 404) {
+                errors.incrementAndGet();
+                return;
+            }
+            int index = count.getAndIncrement();
+            if (index < latencies.length) {
+                latencies[index] = latencyNanos;
+            }
+        }
+
+        String format(String label, Duration duration) {
+            int n = Math.min(count.get(), latencies.length);
+            long[] sorted = Arrays.copyOf(latencies, n);
+            Arrays.sort(sorted);
+            return String.format("%-18s %10.0f %10.2f %10.2f %10.2f %10.0f %8d %12d",
+                    label,
+                    count.get() / (double) duration.toSeconds(),
+                    n == 0 ? 0 : sorted[n / 2] / 1e6,
+                    n == 0 ? 0 : sorted[(int) (n * 0.99)] / 1e6,
+                    n == 0 ? 0 : sorted[n - 1] / 1e6,
+                    rejected.get() / (double) duration.toSeconds(),
+                    errors.get(),
+                    peakThreads.get());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.cebix.swiftcodesapi.load;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cold starts of the plain {@code java -jar} launch used by the {@code Dockerfile} against the fast-start variants,
+ * each in a fresh JVM on an in-memory database. For every run it records the startup time Spring Boot logs and the
+ * wall-clock time from process launch until the first API request is answered.
+ * <p>
+ * Build the artifacts first, then run the comparison:
+ * <pre>
+ * ./mvnw clean package -Pfast-start -DskipTests
+ * ./mvnw -Pbenchmark test-compile exec:exec@startup-comparison -Dstartup.args="-Dstartup.runs=5"
+ * </pre>
+ * The CDS archive is only used when this runs on the JVM that wrote it, i.e. the one of the Maven build.
+ */
+public class StartupComparison {
+
+    private static final int RUNS = Integer.getInteger("startup.runs", 5);
+    private static final boolean IMPORT = Boolean.getBoolean("startup.import");
+    private static final Path TARGET = Path.of(System.getProperty("startup.target", "target")).toAbsolutePath();
+    private static final Duration TIMEOUT = Duration.ofMinutes(3);
+
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+
+    private record Variant(String label, Path directory, String jar, List<String> jvmArgs) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path extracted = TARGET.resolve("fast-start");
+        if (!Files.exists(extracted.resolve("application.jsa"))) {
+            throw new IllegalStateException("No fast-start build in " + TARGET + ", run ./mvnw clean package -Pfast-start first");
+        }
+
+        List<Variant> variants = List.of(
+                new Variant("java -jar", TARGET, "swift-codes-api.jar", List.of()),
+                new Variant("extracted", extracted, "swift-codes-api.jar", List.of()),
+                new Variant("extracted+aot", extracted, "swift-codes-api.jar",
+                        List.of("-Dspring.aot.enabled=true")),
+                new Variant("aot+cds", extracted, "swift-codes-api.jar",
+                        List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=application.jsa")),
+                new Variant("aot+cds+lazy", extracted, "swift-codes-api.jar",
+                        List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=application.jsa",
+                                "-Dspring.main.lazy-initialization=true")));
+
+        List<String> results = new ArrayList<>();
+        for (Variant variant : variants) {
+            // One discarded run per variant so that the page cache is warm for all of them
+            start(variant);
+            long[] firstResponse = new long[RUNS];
+            long[] started = new long[RUNS];
+            for (int i = 0; i < RUNS; i++) {
+                long[] run = start(variant);
+                firstResponse[i] = run[0];
+                started[i] = run[1];
+            }
+            results.add(format(variant.label(), firstResponse, started));
+        }
+
+        System.out.printf("%nruns=%d, startup import=%s%n", RUNS, IMPORT);
+        System.out.printf("%-16s %18s %18s %18s%n", "run", "first request ms", "min ms", "boot log ms");
+        results.forEach(System.out::println);
+        System.exit(0);
+    }
+
+    /**
+     * @return milliseconds until the first answered request and the startup time Spring Boot logged
+     */
+    private static long[] start(Variant variant) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        List<String> command = new ArrayList<>(List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString()));
+        command.addAll(variant.jvmArgs());
+        command.addAll(List.of("-jar", variant.jar(),
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:startup-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--swift-codes.import.on-startup=" + IMPORT));
+
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(variant.directory().toFile())
+                .redirectErrorStream(true)
+                .start();
+        CompletableFuture<Long> bootLog = new CompletableFuture<>();
+        Thread drain = new Thread(() -> drain(process, bootLog));
+        drain.setDaemon(true);
+        drain.start();
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v1/swift-codes/country/PL"))
+                .GET().build();
+        try {
+            long deadline = launched + TIMEOUT.toNanos();
+            while (true) {
+                if (!process.isAlive() || System.nanoTime() > deadline) {
+                    throw new IllegalStateException(variant.label() + " did not answer, exit code "
+                            + (process.isAlive() ? "none" : process.exitValue()));
+                }
+                try {
+                    // Any answer from the API counts; a 404 just means the in-memory database is empty
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 500) {
+                        break;
+                    }
+                } catch (IOException e) {
+                    // not listening yet
+                }
+                Thread.sleep(5);
+            }
+            long firstResponse = (System.nanoTime() - launched) / 1_000_000;
+            return new long[]{firstResponse, bootLog.get(1, TimeUnit.MINUTES)};
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    /**
+     * Completes {@code bootLog} with the startup time from the "Started ..." line and keeps reading the output
+     * so that the process never blocks on a full pipe.
+     */
+    private static void drain(Process process, CompletableFuture<Long> bootLog) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher matcher = STARTED.matcher(line);
+                if (!bootLog.isDone() && matcher.find()) {
+                    bootLog.complete(Math.round(Double.parseDouble(matcher.group(1)) * 1000));
+                }
+            }
+        } catch (IOException e) {
+            // process was destroyed
+        }
+        bootLog.complete(-1L);
+    }
+
+    private static String format(String label, long[] firstResponse, long[] started) {
+        long[] sortedResponse = firstResponse.clone();
+        long[] sortedStarted = started.clone();
+        Arrays.sort(sortedResponse);
+        Arrays.sort(sortedStarted);
+        return String.format("%-16s %18d %18d %18d",
+                label, sortedResponse[RUNS / 2], sortedResponse[0], sortedStarted[RUNS / 2]);
+    }
+}
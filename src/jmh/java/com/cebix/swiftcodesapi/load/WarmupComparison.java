@@ -0,0 +1,229 @@
+package com.cebix.swiftcodesapi.load;
+
+import com.cebix.swiftcodesapi.SwiftCodesApiApplication;
+import com.opencsv.CSVReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Latency of the first minute of traffic with and without the JIT warm-up, each in a fresh JVM on an in-memory
+ * database with the bundled CSV. The client also runs in a fresh JVM per run, so that neither run meets a client
+ * the other one has warmed up. Traffic starts as soon as {@code /actuator/health/readiness} reports the
+ * application ready, as a load balancer would send it, and is reported for the whole window and per ten seconds.
+ * <p>
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec@warmup-comparison -Dwarmup.args="-Dwarmup.concurrency=8"}
+ * <p>
+ * {@code -Dwarmup.read-model=true} serves lookups from the read model in both runs.
+ */
+public class WarmupComparison {
+
+    private static final int CONCURRENCY = Integer.getInteger("warmup.concurrency", 8);
+    private static final Duration WINDOW = Duration.ofSeconds(Integer.getInteger("warmup.window", 60));
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("warmup.duration", 10));
+    private static final boolean READ_MODEL = Boolean.getBoolean("warmup.read-model");
+    private static final Duration BUCKET = Duration.ofSeconds(10);
+    private static final Duration TIMEOUT = Duration.ofMinutes(3);
+
+    private static final String RESULT = "RESULT ";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 1) {
+            boolean warmup = Boolean.parseBoolean(args[0]);
+            for (String row : run(warmup ? "warm-up " + WARMUP.toSeconds() + "s" : "no warm-up", warmup)) {
+                System.out.println(RESULT + row);
+            }
+            System.exit(0);
+        }
+
+        List<String> results = new ArrayList<>();
+        results.addAll(fork(false));
+        results.addAll(fork(true));
+
+        System.out.printf("%nconcurrency=%d, window=%ds, read model=%s%n", CONCURRENCY, WINDOW.toSeconds(), READ_MODEL);
+        System.out.printf("%-16s %-8s %10s %10s %10s %10s %10s%n", "run", "seconds", "requests", "p50 ms", "p99 ms", "max ms", "ready ms");
+        results.forEach(System.out::println);
+        System.exit(0);
+    }
+
+    private static List<String> fork(boolean warmup) throws Exception {
+        List<String> command = List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Dwarmup.concurrency=" + CONCURRENCY, "-Dwarmup.window=" + WINDOW.toSeconds(),
+                "-Dwarmup.duration=" + WARMUP.toSeconds(), "-Dwarmup.read-model=" + READ_MODEL,
+                "-cp", System.getProperty("java.class.path"),
+                WarmupComparison.class.getName(), String.valueOf(warmup));
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        List<String> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT)) {
+                    rows.add(line.substring(RESULT.length()));
+                } else {
+                    System.out.println(line);
+                }
+            }
+        }
+        if (process.waitFor() != 0 || rows.isEmpty()) {
+            throw new IllegalStateException("Run with warm-up=" + warmup + " failed with exit code " + process.exitValue());
+        }
+        return rows;
+    }
+
+    private static List<String> run(String label, boolean warmup) throws Exception {
+        List<String> codes = new ArrayList<>();
+        var stream = WarmupComparison.class.getClassLoader().getResourceAsStream("data/Interns_2025_SWIFT_CODES.csv");
+        try (CSVReader reader = new CSVReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            reader.skip(1);
+            String[] fields;
+            while ((fields = reader.readNext()) != null) {
+                codes.add(fields[1].trim());
+            }
+        }
+        List<String> countries = codes.stream().map(code -> code.substring(4, 6)).distinct().toList();
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                SwiftCodesApiApplication.class.getName(),
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:warmup-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=warn",
+                "--spring.devtools.restart.enabled=false",
+                "--swift-codes.admission.enabled=false",
+                "--swift-codes.read-model.enabled=" + READ_MODEL,
+                "--swift-codes.warmup.enabled=" + warmup,
+                "--swift-codes.warmup.duration=" + WARMUP.toSeconds() + "s"));
+
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectErrorStream(true)
+                .start();
+        try {
+            String baseUrl = "http://localhost:" + port;
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+            awaitReady(client, baseUrl, process, label);
+            long ready = (System.nanoTime() - launched) / 1_000_000;
+
+            int buckets = (int) (WINDOW.toSeconds() / BUCKET.toSeconds());
+            List<long[]> latencies = new ArrayList<>();
+            AtomicInteger[] counts = new AtomicInteger[buckets];
+            for (int i = 0; i < buckets; i++) {
+                latencies.add(new long[1_000_000]);
+                counts[i] = new AtomicInteger();
+            }
+            AtomicInteger errors = new AtomicInteger();
+
+            long start = System.nanoTime();
+            long end = start + WINDOW.toNanos();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < CONCURRENCY; t++) {
+                Thread thread = new Thread(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long now;
+                    while ((now = System.nanoTime()) < end) {
+                        // 80% single-code lookups, 20% country listings, as in the other load runs
+                        String path = random.nextInt(5) == 0
+                                ? "country/" + countries.get(random.nextInt(countries.size()))
+                                : codes.get(random.nextInt(codes.size()));
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/v1/swift-codes/" + path)).GET().build();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            long latency = System.nanoTime() - now;
+                            if (status != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                            int bucket = (int) Math.min(buckets - 1, (now - start) / BUCKET.toNanos());
+                            int index = counts[bucket].getAndIncrement();
+                            if (index < latencies.get(bucket).length) {
+                                latencies.get(bucket)[index] = latency;
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            if (errors.get() > 0) {
+                System.out.printf("%s: %d failed requests%n", label, errors.get());
+            }
+
+            List<String> rows = new ArrayList<>();
+            List<Long> all = new ArrayList<>();
+            for (int i = 0; i < buckets; i++) {
+                long[] bucket = Arrays.copyOf(latencies.get(i), Math.min(counts[i].get(), latencies.get(i).length));
+                Arrays.stream(bucket).forEach(all::add);
+                rows.add(format(label, (i * BUCKET.toSeconds()) + "-" + ((i + 1) * BUCKET.toSeconds()), bucket, ready));
+            }
+            rows.add(0, format(label, "0-" + WINDOW.toSeconds(), all.stream().mapToLong(Long::longValue).toArray(), ready));
+            return rows;
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static void awaitReady(HttpClient client, String baseUrl, Process process, String label) throws Exception {
+        HttpRequest readiness = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness")).GET().build();
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (true) {
+            if (!process.isAlive() || System.nanoTime() > deadline) {
+                throw new IllegalStateException(label + " did not become ready");
+            }
+            try {
+                if (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static String format(String label, String seconds, long[] latencies, long ready) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        int n = sorted.length;
+        return String.format("%-16s %-8s %10d %10.2f %10.2f %10.2f %10d", label, seconds, n,
+                n == 0 ? 0 : sorted[n / 2] / 1e6,
+                n == 0 ? 0 : sorted[Math.min(n - 1, (int) (n * 0.99))] / 1e6,
+                n == 0 ? 0 : sorted[n - 1] / 1e6,
+                ready);
+    }
+}
@@ -0,0 +1,47 @@
+package com.cebix.swiftcodesapi.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sustained burst of POSTs creating new headquarter codes, with and without write-behind, see
+ * {@link LoadDriver}. Admission control is switched off so that every create reaches the service.
+ * <p>
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec@write-behind-load -Dload.concurrency=100}
+ */
+public class WriteBehindLoad {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private static final LoadDriver.Workload CREATES = (baseUrl, codes, countries) -> {
+        String country = countries.get(ThreadLocalRandom.current().nextInt(countries.size()));
+        String swiftCode = String.format("W%07d", SEQUENCE.incrementAndGet()) + "XXX";
+        String body = """
+                {"swiftCode":"%s","bankName":"WRITE BEHIND BANK","address":"LOAD TEST STREET 1",\
+                "countryISO2":"%s","countryName":"LOAD","isHeadquarter":true}"""
+                .formatted(swiftCode, country);
+
+        // The base URL ends with a slash, POST is mapped on the collection itself
+        return HttpRequest.newBuilder(URI.create(baseUrl.substring(0, baseUrl.length() - 1)))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    };
+
+    public static void main(String[] args) throws Exception {
+        String readModel = "--swift-codes.read-model.enabled=" + Boolean.getBoolean("load.read-model");
+        List<String> results = List.of(
+                LoadDriver.run("write-behind off", false, CREATES,
+                        "--swift-codes.admission.enabled=false", readModel, "--swift-codes.write-behind.enabled=false"),
+                LoadDriver.run("write-behind on", false, CREATES,
+                        "--swift-codes.admission.enabled=false", readModel, "--swift-codes.write-behind.enabled=true"));
+
+        System.out.printf("%nconcurrency=%d, duration=%ds, %s%n", LoadDriver.CONCURRENCY, LoadDriver.DURATION.toSeconds(), readModel);
+        System.out.println(LoadDriver.HEADER);
+        results.forEach(System.out::println);
+        System.exit(0);
+    }
+}
@@ -0,0 +1,244 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.opencsv.CSVReader;
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * GC pauses and memory of the heap and off-heap read model, each in a fresh JVM with the same heap settings.
+ * <p>
+ * Every run builds a synthetic directory of {@code storage.codes} codes from the bundled rows (banks of eight
+ * codes, distinct bank names and addresses), reports the heap left after a full collection, the native memory
+ * and the resident set size, then serves code, branch and country lookups from {@code storage.threads}
+ * threads for {@code storage.duration}, decoding records and building response-sized garbage as the API does,
+ * and reports the stop-the-world pauses during that time and the resident set size at its end.
+ * <p>
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec@read-model-storage -Dstorage.args="-Dstorage.codes=500000"}
+ */
+public class ReadModelStorageComparison {
+
+    private static final int CODES = Integer.getInteger("storage.codes", 500_000);
+    private static final int THREADS = Integer.getInteger("storage.threads", 4);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("storage.duration", 30));
+    private static final String JVM_HEAP = System.getProperty("storage.heap", "1g");
+
+    private static final String RESULT = "RESULT ";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 1) {
+            measure(args[0]);
+            return;
+        }
+
+        List<String> results = new ArrayList<>();
+        for (String storage : List.of("heap", "off-heap")) {
+            results.add(fork(storage));
+        }
+
+        System.out.printf("%ncodes=%d, threads=%d, duration=%ds, -Xmx%s, G1%n",
+                CODES, THREADS, DURATION.toSeconds(), JVM_HEAP);
+        System.out.printf("%-10s %10s %10s %10s %10s %12s %8s %10s %8s %8s %12s%n", "storage", "heap MB", "native MB",
+                "RSS MB", "RSS end MB", "full GC ms", "pauses", "pause ms", "p99 ms", "max ms", "lookups/s");
+        results.forEach(System.out::println);
+    }
+
+    private static String fork(String storage) throws Exception {
+        List<String> command = List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xms" + JVM_HEAP, "-Xmx" + JVM_HEAP, "-XX:+UseG1GC", "-XX:MaxDirectMemorySize=4g",
+                "-Dstorage.codes=" + CODES, "-Dstorage.threads=" + THREADS, "-Dstorage.duration=" + DURATION.toSeconds(),
+                "-cp", System.getProperty("java.class.path"),
+                ReadModelStorageComparison.class.getName(), storage);
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String result = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT)) {
+                    result = line.substring(RESULT.length());
+                } else {
+                    System.out.println(line);
+                }
+            }
+        }
+        if (process.waitFor() != 0 || result == null) {
+            throw new IllegalStateException(storage + " run failed with exit code " + process.exitValue());
+        }
+        return result;
+    }
+
+    private static void measure(String storage) throws Exception {
+        SwiftCodeDirectory directory = build(storage, syntheticDirectory());
+        List<String> codes = new ArrayList<>(CODES);
+        directory.records().forEach(record -> codes.add(record.getSwiftCode()));
+        List<String> countries = codes.stream().map(code -> code.substring(4, 6)).distinct().toList();
+
+        long fullGc = System.nanoTime();
+        System.gc();
+        fullGc = System.nanoTime() - fullGc;
+        long heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        long nativeUsed = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+        long loadedRss = residentSetSize();
+
+        ConcurrentLinkedQueue<Long> pauses = new ConcurrentLinkedQueue<>();
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) collector).addNotificationListener((notification, handback) -> {
+                GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                // G1 reports its concurrent cycle as a collector of its own; only stop-the-world collections pause requests
+                if (!info.getGcName().contains("Concurrent")) {
+                    pauses.add(info.getGcInfo().getDuration());
+                }
+            }, null, null);
+        }
+
+        LongAdder lookups = new LongAdder();
+        long deadline = System.nanoTime() + DURATION.toNanos();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Thread thread = new Thread(() -> serve(directory, codes, countries, deadline, lookups));
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long rss = residentSetSize();
+
+        List<Long> sorted = new ArrayList<>(pauses);
+        Collections.sort(sorted);
+        long total = sorted.stream().mapToLong(Long::longValue).sum();
+        long p99 = sorted.isEmpty() ? 0 : sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+        long max = sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1);
+
+        System.out.println(RESULT + String.format(Locale.ROOT, "%-10s %10.1f %10.1f %10.1f %10.1f %12.1f %8d %10d %8d %8d %12d",
+                storage, heapUsed / 1e6, nativeUsed / 1e6, loadedRss / 1e6, rss / 1e6, fullGc / 1e6,
+                sorted.size(), total, p99, max, lookups.sum() / DURATION.toSeconds()));
+    }
+
+    private static SwiftCodeDirectory build(String storage, List<SwiftCodeRecord> records) {
+        if (storage.equals("off-heap")) {
+            return OffHeapSwiftCodeDirectory.of(records);
+        }
+
+        // As the read model loads heap snapshots: repeated values share one String through the pool
+        StringPool pool = new StringPool();
+        return SwiftCodeDirectory.of(records.stream()
+                .map(record -> record.toBuilder()
+                        .bankName(pool.canonical(record.getBankName()))
+                        .address(pool.canonical(record.getAddress()))
+                        .townName(pool.canonical(record.getTownName()))
+                        .countryISO2(pool.canonical(record.getCountryISO2()))
+                        .countryName(pool.canonical(record.getCountryName()))
+                        .build())
+                .toList());
+    }
+
+    /**
+     * One lookup in eight reads a whole country, the rest a single code, half of them with its branches.
+     */
+    private static void serve(SwiftCodeDirectory directory, List<String> codes, List<String> countries,
+                              long deadline, LongAdder lookups) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long checksum = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < 100; i++) {
+                if (random.nextInt(8) == 0) {
+                    var country = directory.findCountry(countries.get(random.nextInt(countries.size()))).orElseThrow();
+                    // Capped like a page of the country listing
+                    for (SwiftCodeRecord record : country.getCodes().subList(0, Math.min(1000, country.getCodes().size()))) {
+                        checksum += response(record).length();
+                    }
+                } else {
+                    SwiftCodeRecord record = directory.find(codes.get(random.nextInt(codes.size()))).orElseThrow();
+                    checksum += response(record).length();
+                    if (random.nextBoolean()) {
+                        for (SwiftCodeRecord branch : directory.findBranches(record)) {
+                            checksum += response(branch).length();
+                        }
+                    }
+                }
+            }
+            lookups.add(100);
+        }
+        if (checksum == 42) {
+            System.out.println(checksum);
+        }
+    }
+
+    private static String response(SwiftCodeRecord record) {
+        return "{\"swiftCode\":\"" + record.getSwiftCode() + "\",\"bankName\":\"" + record.getBankName()
+                + "\",\"address\":\"" + record.getAddress() + "\",\"countryISO2\":\"" + record.getCountryISO2()
+                + "\",\"isHeadquarter\":" + record.isHeadquarter() + "}";
+    }
+
+    private static List<SwiftCodeRecord> syntheticDirectory() throws Exception {
+        List<String[]> rows = new ArrayList<>();
+        var stream = ReadModelStorageComparison.class.getClassLoader().getResourceAsStream("data/Interns_2025_SWIFT_CODES.csv");
+        try (CSVReader reader = new CSVReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            reader.skip(1);
+            String[] fields;
+            while ((fields = reader.readNext()) != null) {
+                rows.add(fields);
+            }
+        }
+
+        List<SwiftCodeRecord> records = new ArrayList<>(CODES);
+        for (int i = 0; i < CODES; i++) {
+            int bank = i / 8;
+            String[] row = rows.get(bank % rows.size());
+            String country = row[0].trim();
+            String branch = i % 8 == 0 ? "XXX" : String.format("%03d", i % 8);
+            String swiftCode = letters(bank, 4) + country + letters(bank / 456_976, 2) + branch;
+            records.add(SwiftCodeRecord.builder()
+                    .id((long) i + 1)
+                    .swiftCode(swiftCode)
+                    .bankName(row[3].trim() + " " + bank)
+                    .address(row[4].trim() + " " + i)
+                    .townName(row[5].trim())
+                    .countryISO2(country)
+                    .countryName(row[6].trim())
+                    .headquarter(branch.equals("XXX"))
+                    .build());
+        }
+        return records;
+    }
+
+    private static String letters(int value, int length) {
+        char[] chars = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = (char) ('A' + value % 26);
+            value /= 26;
+        }
+        return new String(chars);
+    }
+
+    private static long residentSetSize() throws Exception {
+        for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,91 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.opencsv.CSVReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code String}-keyed {@link HashMap} lookups with {@link SwiftCodeKeys} encoding
+ * plus {@link LongObjectMap} over the bundled directory. Lookup keys are fresh {@code String}
+ * instances per invocation, as they are when parsed from a request path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(SwiftCodeLookupBenchmark.CODES)
+public class SwiftCodeLookupBenchmark {
+
+    static final int CODES = 1024;
+
+    private final Map<String, SwiftCodeRecord> hashMap = new HashMap<>();
+    private final LongObjectMap<SwiftCodeRecord> longMap = new LongObjectMap<>();
+    private final List<String> codes = new ArrayList<>();
+
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void loadDirectory() throws Exception {
+        var stream = getClass().getClassLoader().getResourceAsStream("data/Interns_2025_SWIFT_CODES.csv");
+        try (CSVReader reader = new CSVReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            reader.skip(1);
+            String[] fields;
+            while ((fields = reader.readNext()) != null && codes.size() < CODES) {
+                SwiftCodeRecord record = SwiftCodeRecord.builder()
+                        .swiftCode(fields[1].trim())
+                        .bankName(fields[3].trim())
+                        .countryISO2(fields[0].trim())
+                        .headquarter(fields[1].trim().endsWith("XXX"))
+                        .build();
+                codes.add(record.getSwiftCode());
+                hashMap.put(record.getSwiftCode(), record);
+                longMap.put(SwiftCodeKeys.encode(record.getSwiftCode()), record);
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void freshKeys() {
+        keys = new String[CODES];
+        for (int i = 0; i < CODES; i++) {
+            keys[i] = new String(codes.get(i % codes.size()).toCharArray());
+        }
+    }
+
+    @Benchmark
+    public void hashMapLookup(Blackhole blackhole) {
+        for (String key : keys) {
+            blackhole.consume(hashMap.get(key));
+        }
+    }
+
+    @Benchmark
+    public void longMapLookup(Blackhole blackhole) {
+        for (String key : keys) {
+            blackhole.consume(longMap.get(SwiftCodeKeys.encode(key)));
+        }
+    }
+
+    @Benchmark
+    public void hashMapHeadquarter(Blackhole blackhole) {
+        for (String key : keys) {
+            blackhole.consume(hashMap.get(key.substring(0, 8) + "XXX"));
+        }
+    }
+
+    @Benchmark
+    public void longMapHeadquarter(Blackhole blackhole) {
+        for (String key : keys) {
+            blackhole.consume(longMap.get(SwiftCodeKeys.headquarter(SwiftCodeKeys.encode(key))));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.cebix.swiftcodesapi.validation;
+
+import com.opencsv.CSVReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Cost per call of {@link SwiftCodeValidator#check(CharSequence, CharSequence)} over the bundled
+ * directory's codes and a set of malformed ones, next to the equivalent regular expression.
+ * Run with {@code -prof gc} to see the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(SwiftCodeValidatorBenchmark.CODES)
+public class SwiftCodeValidatorBenchmark {
+
+    static final int CODES = 1024;
+
+    private static final Pattern PATTERN = Pattern.compile("[A-Z0-9]{4}[A-Z]{2}[2-9A-Z][0-9A-NP-Z](XXX|[0-9A-WYZ][0-9A-Z]{2})?");
+
+    private static final String[] MALFORMED = {
+            "TESTPLPXXX", "aaisaltrxxx", "AAISALTR-XX", "AAIS12TRXXX", "AAISAL0RXXX", "AAISALTRX12", "AAISPLTRXXX"
+    };
+
+    @Param({"valid", "malformed"})
+    public String input;
+
+    private final String[] codes = new String[CODES];
+    private final String[] countries = new String[CODES];
+
+    @Setup(Level.Trial)
+    public void loadCodes() throws Exception {
+        List<String[]> rows = new ArrayList<>();
+        var stream = getClass().getClassLoader().getResourceAsStream("data/Interns_2025_SWIFT_CODES.csv");
+        try (CSVReader reader = new CSVReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            reader.skip(1);
+            String[] fields;
+            while ((fields = reader.readNext()) != null) {
+                rows.add(fields);
+            }
+        }
+
+        for (int i = 0; i < CODES; i++) {
+            String[] row = rows.get(i % rows.size());
+            codes[i] = input.equals("valid") ? row[1].trim() : MALFORMED[i % MALFORMED.length];
+            countries[i] = input.equals("valid") ? row[0].trim() : "AL";
+        }
+    }
+
+    @Benchmark
+    public void validator(Blackhole blackhole) {
+        for (int i = 0; i < CODES; i++) {
+            blackhole.consume(SwiftCodeValidator.check(codes[i], countries[i]));
+        }
+    }
+
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        for (int i = 0; i < CODES; i++) {
+            String code = codes[i];
+            blackhole.consume(PATTERN.matcher(code).matches() && code.regionMatches(4, countries[i], 0, 2));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.cebix.swiftcodesapi.admission;
+
+import com.cebix.swiftcodesapi.config.AdmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One {@link AdaptiveConcurrencyLimiter} per {@link RequestClass}, with accepted/rejected counters
+ * and limit/in-flight gauges tagged by class.
+ */
+@Component
+public class AdmissionControl {
+
+    private final Map<RequestClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(RequestClass.class);
+    private final Map<RequestClass, Counter> accepted = new EnumMap<>(RequestClass.class);
+    private final Map<RequestClass, Counter> rejected = new EnumMap<>(RequestClass.class);
+
+    public AdmissionControl(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        register(RequestClass.READ, properties.getRead(), meterRegistry);
+        register(RequestClass.WRITE, properties.getWrite(), meterRegistry);
+        register(RequestClass.BULK, properties.getBulk(), meterRegistry);
+    }
+
+    private void register(RequestClass requestClass, AdmissionProperties.Limit limit, MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                limit.getInitialLimit(),
+                limit.getMinLimit(),
+                limit.getMaxLimit(),
+                limit.getLatencyThreshold().toNanos(),
+                limit.getBackoffRatio());
+        String tag = requestClass.name().toLowerCase();
+
+        limiters.put(requestClass, limiter);
+        accepted.put(requestClass, Counter.builder("swiftcodes.admission.requests")
+                .tag("class", tag)
+                .tag("outcome", "accepted")
+                .register(meterRegistry));
+        rejected.put(requestClass, Counter.builder("swiftcodes.admission.requests")
+                .tag("class", tag)
+                .tag("outcome", "rejected")
+                .register(meterRegistry));
+        Gauge.builder("swiftcodes.admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("class", tag)
+                .register(meterRegistry);
+        Gauge.builder("swiftcodes.admission.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("class", tag)
+                .register(meterRegistry);
+    }
+
+    public boolean tryAcquire(RequestClass requestClass) {
+        if (limiters.get(requestClass).tryAcquire()) {
+            accepted.get(requestClass).increment();
+            return true;
+        }
+        rejected.get(requestClass).increment();
+        return false;
+    }
+
+    public void release(RequestClass requestClass, long latencyNanos, boolean failed) {
+        limiters.get(requestClass).release(latencyNanos, failed);
+    }
+
+    public AdaptiveConcurrencyLimiter getLimiter(RequestClass requestClass) {
+        return limiters.get(requestClass);
+    }
+}
@@ -0,0 +1,66 @@
+package com.cebix.swiftcodesapi.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Admits API requests against the limit of their {@link RequestClass}. Excess requests are
+ * answered with 503 and {@code Retry-After} right away instead of waiting for a worker thread.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final AdmissionControl admissionControl;
+    private final ObjectMapper objectMapper;
+    private final Duration retryAfter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestClass requestClass = RequestClass.of(request.getMethod(), request.getRequestURI());
+
+        if (!admissionControl.tryAcquire(requestClass)) {
+            reject(response, requestClass);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            admissionControl.release(requestClass, System.nanoTime() - start, failed);
+        }
+    }
+
+    private void reject(HttpServletResponse response, RequestClass requestClass) throws IOException {
+        log.debug("Rejected {} request: concurrency limit reached", requestClass);
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, retryAfter.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of(
+                "timestamp", LocalDateTime.now(),
+                "status", status.value(),
+                "error", status.getReasonPhrase(),
+                "message", "Server is at capacity for " + requestClass.name().toLowerCase() + " requests, retry later"
+        ));
+    }
+}
@@ -0,0 +1,33 @@
+package com.cebix.swiftcodesapi.admission;
+
+/**
+ * Endpoint classes that get separate concurrency limits, so a burst of one kind of traffic
+ * cannot starve the others.
+ */
+public enum RequestClass {
+    READ,
+    WRITE,
+    BULK;
+
+    private static final String BASE_PATH = "/v1/swift-codes";
+    private static final String IMPORTS_PATH = "/v1/imports";
+
+    public static RequestClass of(String method, String path) {
+        if ("POST".equals(method) && path.equals(IMPORTS_PATH)) {
+            return BULK;
+        }
+
+        String subPath = path.startsWith(BASE_PATH) ? path.substring(BASE_PATH.length()) : path;
+
+        if (subPath.equals("/batch") || subPath.equals("/export")) {
+            return BULK;
+        }
+        if ("DELETE".equals(method) && (subPath.startsWith("/bank/") || subPath.startsWith("/country/"))) {
+            return BULK;
+        }
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return READ;
+        }
+        return WRITE;
+    }
+}
@@ -0,0 +1,28 @@
+package com.cebix.swiftcodesapi.config;
+
+import com.cebix.swiftcodesapi.admission.AdmissionControl;
+import com.cebix.swiftcodesapi.admission.AdmissionControlFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "swift-codes.admission", name = "enabled")
+public class AdmissionControlConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(AdmissionControl admissionControl,
+                                                                                 ObjectMapper objectMapper,
+                                                                                 AdmissionProperties properties) {
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+                new AdmissionControlFilter(admissionControl, objectMapper, properties.getRetryAfter()));
+        registration.addUrlPatterns("/v1/swift-codes", "/v1/swift-codes/*", "/v1/imports", "/v1/imports/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
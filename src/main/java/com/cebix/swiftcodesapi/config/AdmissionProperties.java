@@ -0,0 +1,72 @@
+package com.cebix.swiftcodesapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "swift-codes.admission")
+public class AdmissionProperties {
+
+    /**
+     * Reject requests above the adaptive concurrency limit instead of letting them queue.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Value of the Retry-After header sent with rejected requests.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Single-code lookups, country listings and the change feed.
+     */
+    private Limit read = new Limit(100, 10, 180, Duration.ofMillis(100));
+
+    /**
+     * Creates and deletes.
+     */
+    private Limit write = new Limit(20, 2, 50, Duration.ofMillis(250));
+
+    /**
+     * Batch lookups, exports and other endpoints that touch many codes per request.
+     */
+    private Limit bulk = new Limit(4, 1, 16, Duration.ofSeconds(1));
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        /**
+         * Concurrency limit used until latency feedback adjusts it.
+         */
+        private int initialLimit;
+
+        private int minLimit;
+
+        private int maxLimit;
+
+        /**
+         * Requests slower than this (or failing with 5xx) shrink the limit multiplicatively.
+         */
+        private Duration latencyThreshold;
+
+        /**
+         * Factor applied to the limit on a slow or failed request.
+         */
+        private double backoffRatio = 0.9;
+
+        public Limit() {
+        }
+
+        public Limit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.latencyThreshold = latencyThreshold;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.cebix.swiftcodesapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "swift-codes.bloom-filter")
+public class BloomFilterProperties {
+
+    /**
+     * Answer lookups of unknown SWIFT codes from an in-memory Bloom filter instead of the database.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of codes the filter is sized for; it is resized on reload when the directory outgrows it.
+     */
+    private int expectedInsertions = 200_000;
+
+    /**
+     * Target probability that a code that does not exist still has to be looked up in the database.
+     */
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * How often to poll the shared change log for codes created by other replicas. Zero disables polling.
+     */
+    private Duration syncInterval = Duration.ofSeconds(1);
+
+    /**
+     * Maximum number of changes applied incrementally; a node further behind rebuilds the filter.
+     */
+    private int syncBatchSize = 1000;
+
+    /**
+     * How long to wait for a missing change log version to commit before skipping it.
+     */
+    private Duration syncGapGrace = Duration.ofSeconds(10);
+
+    /**
+     * How often to rebuild the filter from the directory, dropping bits of deleted codes. Zero disables rebuilds.
+     */
+    private Duration rebuildInterval = Duration.ofHours(1);
+}
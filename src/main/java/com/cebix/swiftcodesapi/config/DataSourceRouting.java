@@ -0,0 +1,36 @@
+package com.cebix.swiftcodesapi.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Lets code that must read its own writes (imports, snapshot reloads right after them) pin
+ * the current thread to the primary database, even inside read-only repository calls.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = ThreadLocal.withInitial(() -> false);
+
+    private DataSourceRouting() {
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get();
+    }
+
+    public static void onPrimary(Runnable action) {
+        onPrimary(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(true);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_FORCED.set(previous);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.cebix.swiftcodesapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "swift-codes.import")
+public class ImportProperties {
+
+    public enum Mode {
+        /**
+         * Write each row to {@code swift_codes} as it is read.
+         */
+        IN_PLACE,
+        /**
+         * Read the whole file into a staging table first and publish it in one transaction.
+         */
+        STAGED
+    }
+
+    /**
+     * How imports write their rows. Readers see either none or all of a staged import, and a file that
+     * fails the checks or is cancelled leaves the directory unchanged.
+     */
+    private Mode mode = Mode.STAGED;
+
+    /**
+     * Largest share of rejected rows a staged import may contain and still be published.
+     */
+    private double maxRejectedRatio = 0.05;
+
+    /**
+     * Rows written to the staging table per transaction.
+     */
+    private int stagingBatchSize = 500;
+
+    /**
+     * Import the bundled CSV when the application starts.
+     */
+    private boolean onStartup = true;
+
+    /**
+     * How many finished import jobs stay available through {@code GET /v1/imports/{id}}.
+     */
+    private int retainedJobs = 20;
+
+    private Watch watch = new Watch();
+
+    @Getter
+    @Setter
+    public static class Watch {
+
+        /**
+         * Directory watched for new CSV files, each imported once it has stopped changing. Unset disables watching.
+         */
+        private Path directory;
+
+        /**
+         * How long a file must go without changes before it is imported.
+         */
+        private Duration debounce = Duration.ofSeconds(2);
+    }
+}
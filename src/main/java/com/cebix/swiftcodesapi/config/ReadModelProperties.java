@@ -0,0 +1,56 @@
+package com.cebix.swiftcodesapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "swift-codes.read-model")
+public class ReadModelProperties {
+
+    public enum Storage {
+        /**
+         * Keep the records as Java objects.
+         */
+        HEAP,
+        /**
+         * Keep the records in native memory outside the garbage-collected heap and decode them on every read.
+         */
+        OFF_HEAP
+    }
+
+    /**
+     * Serve lookups from an in-memory snapshot of the directory instead of the database.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Where the snapshot keeps its records. Off-heap storage takes the directory out of the heap that the
+     * garbage collector has to trace, at the cost of decoding each record a request reads.
+     */
+    private Storage storage = Storage.HEAP;
+
+    /**
+     * Deduplicate repeated strings (bank names, addresses, towns, countries) through a shared pool.
+     * Only applies to heap storage; off-heap storage stores each distinct value once by itself.
+     */
+    private boolean internStrings = true;
+
+    /**
+     * How often to poll the shared change log for writes made by other replicas. Zero disables polling.
+     */
+    private Duration syncInterval = Duration.ofSeconds(1);
+
+    /**
+     * Maximum number of changes applied incrementally; a node further behind reloads the whole snapshot.
+     */
+    private int syncBatchSize = 1000;
+
+    /**
+     * How long to wait for a missing change log version to commit before skipping it.
+     */
+    private Duration syncGapGrace = Duration.ofSeconds(10);
+}
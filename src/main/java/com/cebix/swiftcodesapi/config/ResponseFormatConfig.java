@@ -0,0 +1,62 @@
+package com.cebix.swiftcodesapi.config;
+
+import com.cebix.swiftcodesapi.protobuf.SwiftCodeProtobufHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary alternatives to JSON, chosen by the request's {@code Accept} header: CBOR
+ * ({@code application/cbor}) and Smile ({@code application/x-jackson-smile}) through Jackson, and
+ * protobuf ({@code application/x-protobuf}) for the read responses.
+ * <p>
+ * The CBOR and Smile mappers are built by Boot's {@link Jackson2ObjectMapperBuilder}, so they share the
+ * modules and settings of the JSON mapper, {@link com.cebix.swiftcodesapi.json.SwiftCodeJsonModule}
+ * included. The binary formats come after JSON, which stays the answer to {@code Accept: *}{@code /*}.
+ * They are not registered as {@code ObjectMapper} beans, which would replace Boot's JSON mapper. The
+ * WebFlux codecs of the {@code reactive} build are registered by {@code ReactiveResponseFormatConfig}.
+ */
+@Configuration
+public class ResponseFormatConfig {
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class Servlet implements WebMvcConfigurer {
+
+        private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+        Servlet(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+            this.objectMapperBuilder = objectMapperBuilder;
+        }
+
+        /**
+         * Spring MVC already adds CBOR and Smile converters after JSON when the formats are on the
+         * classpath, but with mappers of its own.
+         */
+        @Override
+        public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+            ObjectMapper cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+            ObjectMapper smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+
+            converters.replaceAll(converter -> {
+                if (converter instanceof MappingJackson2CborHttpMessageConverter) {
+                    return new MappingJackson2CborHttpMessageConverter(cborMapper);
+                }
+                if (converter instanceof MappingJackson2SmileHttpMessageConverter) {
+                    return new MappingJackson2SmileHttpMessageConverter(smileMapper);
+                }
+                return converter;
+            });
+            converters.add(new SwiftCodeProtobufHttpMessageConverter());
+        }
+    }
+}
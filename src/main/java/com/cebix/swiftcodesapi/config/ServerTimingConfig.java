@@ -0,0 +1,66 @@
+package com.cebix.swiftcodesapi.config;
+
+import com.cebix.swiftcodesapi.timing.ServerTimingEndpoint;
+import com.cebix.swiftcodesapi.timing.ServerTimingFilter;
+import com.cebix.swiftcodesapi.timing.TimedJsonHttpMessageConverter;
+import com.cebix.swiftcodesapi.timing.TimingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Per-request timing for the servlet stack, see {@link ServerTimingFilter}. The hooks stay installed
+ * when timing is off so that {@code /actuator/servertiming} can switch it on without a restart.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    /**
+     * Wraps the {@code dataSource} bean only: with a read replica that is the routing proxy in front
+     * of both pools, so every statement is counted once.
+     */
+    @Bean
+    static BeanPostProcessor timingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return new TimingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(ServerTimingProperties properties) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(
+                new ServerTimingFilter(properties));
+        registration.addUrlPatterns("/v1/*");
+        // Outside admission control so that rejected requests are timed as well
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    @Bean
+    public ServerTimingEndpoint serverTimingEndpoint(ServerTimingProperties properties) {
+        return new ServerTimingEndpoint(properties);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter jackson
+                ? new TimedJsonHttpMessageConverter(jackson.getObjectMapper())
+                : converter);
+    }
+}
@@ -0,0 +1,27 @@
+package com.cebix.swiftcodesapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Both settings can also be changed on a running instance through {@code /actuator/servertiming} once it is exposed.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "swift-codes.server-timing")
+public class ServerTimingProperties {
+
+    /**
+     * Count SQL statements and time the database, mapping and JSON phases of each API request,
+     * reported in a Server-Timing response header.
+     */
+    private volatile boolean enabled = false;
+
+    /**
+     * Requests slower than this are logged with their timing breakdown while timing is enabled.
+     */
+    private volatile Duration slowThreshold = Duration.ofMillis(500);
+}
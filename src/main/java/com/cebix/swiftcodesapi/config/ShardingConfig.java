@@ -0,0 +1,27 @@
+package com.cebix.swiftcodesapi.config;
+
+import com.cebix.swiftcodesapi.sharding.CountryShardMap;
+import com.cebix.swiftcodesapi.sharding.ShardRoutingFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "swift-codes.sharding", name = "enabled")
+public class ShardingConfig {
+
+    /**
+     * Ahead of admission control, so that a redirect does not take a permit on the node that only forwards it.
+     */
+    @Bean
+    public FilterRegistrationBean<ShardRoutingFilter> shardRoutingFilter(CountryShardMap shardMap) {
+        FilterRegistrationBean<ShardRoutingFilter> registration = new FilterRegistrationBean<>(new ShardRoutingFilter(shardMap));
+        registration.addUrlPatterns("/v1/swift-codes/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 8);
+        return registration;
+    }
+}
@@ -0,0 +1,41 @@
+package com.cebix.swiftcodesapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "swift-codes.sharding")
+public class ShardingProperties {
+
+    /**
+     * Split countries between the nodes: each node's read model holds only its own countries and
+     * lookups for other countries are redirected to their owner.
+     */
+    private boolean enabled = false;
+
+    /**
+     * This node's key in {@link #nodes}.
+     */
+    private String nodeId;
+
+    /**
+     * Every node by id, with the base URL clients are redirected to. All nodes need the same map.
+     */
+    private Map<String, URI> nodes = new LinkedHashMap<>();
+
+    /**
+     * Points per node on the hash ring; more points spread countries more evenly.
+     */
+    private int virtualNodes = 128;
+
+    /**
+     * Countries (ISO2) assigned to a node id explicitly instead of by hash, e.g. to give a large country its own node.
+     */
+    private Map<String, String> pinned = new LinkedHashMap<>();
+}
@@ -0,0 +1,26 @@
+package com.cebix.swiftcodesapi.config;
+
+import com.cebix.swiftcodesapi.parser.ImportDirectoryWatcher;
+import com.cebix.swiftcodesapi.parser.ParserService;
+import com.cebix.swiftcodesapi.service.impl.SwiftCodeWriteBehind;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Beans that must stay eager when {@code spring.main.lazy-initialization} is on (the fast-start image).
+ * <p>
+ * {@link ParserService} runs the startup import and loads the read model, Bloom filter and statistics, which
+ * also brings up Hibernate before the first request; {@link SwiftCodeWriteBehind} starts its flusher thread and
+ * {@link ImportDirectoryWatcher} its watcher thread.
+ * Everything else (controllers, services, mappers) is created on first use.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(ParserService.class, SwiftCodeWriteBehind.class,
+                ImportDirectoryWatcher.class);
+    }
+}
@@ -0,0 +1,43 @@
+package com.cebix.swiftcodesapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "swift-codes.stats")
+public class StatisticsProperties {
+
+    /**
+     * Maintain directory statistics for {@code GET /v1/swift-codes/stats}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How often to poll the shared change log for writes made by other replicas. Zero disables polling.
+     */
+    private Duration syncInterval = Duration.ofSeconds(1);
+
+    /**
+     * Maximum number of changes applied incrementally; a node further behind recounts from the tables.
+     */
+    private int syncBatchSize = 1000;
+
+    /**
+     * How long to wait for a missing change log version to commit before skipping it.
+     */
+    private Duration syncGapGrace = Duration.ofSeconds(10);
+
+    /**
+     * How often to recompute the statistics from the tables and correct any drift. Zero disables the check.
+     */
+    private Duration consistencyCheckInterval = Duration.ZERO;
+
+    /**
+     * Number of banks listed by branch count when the request does not say.
+     */
+    private int largestBanks = 10;
+}
@@ -0,0 +1,29 @@
+package com.cebix.swiftcodesapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "swift-codes.warmup")
+public class WarmupProperties {
+
+    /**
+     * Exercise the lookup, mapping and serialization paths after startup, before the application reports
+     * itself ready, so that the first requests do not run interpreted code.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How long to keep exercising them.
+     */
+    private Duration duration = Duration.ofSeconds(10);
+
+    /**
+     * Number of codes, spread evenly over the directory, to look up; their countries are listed as well.
+     */
+    private int sampleSize = 500;
+}
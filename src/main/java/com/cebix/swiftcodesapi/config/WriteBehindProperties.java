@@ -0,0 +1,33 @@
+package com.cebix.swiftcodesapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "swift-codes.write-behind")
+public class WriteBehindProperties {
+
+    /**
+     * Group concurrent creates into shared transactions instead of committing each one on its own.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of creates written in one transaction.
+     */
+    private int maxBatchSize = 100;
+
+    /**
+     * How long the first create of a batch waits for others to join it before the batch is written.
+     */
+    private Duration maxDelay = Duration.ofMillis(5);
+
+    /**
+     * Creates waiting to be written; callers block while the queue is full.
+     */
+    private int queueCapacity = 10_000;
+}
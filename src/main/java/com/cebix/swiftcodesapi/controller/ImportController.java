@@ -0,0 +1,40 @@
+package com.cebix.swiftcodesapi.controller;
+
+import com.cebix.swiftcodesapi.dto.ImportJobDTO;
+import com.cebix.swiftcodesapi.service.ImportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.net.URI;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/v1/imports")
+@RequiredArgsConstructor
+public class ImportController {
+    private final ImportJobService importJobService;
+
+    @PostMapping(consumes = {"text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ImportJobDTO> startImport(InputStream csv) {
+        ImportJobDTO result = importJobService.submit(csv);
+        return ResponseEntity.accepted()
+                .location(URI.create("/v1/imports/" + result.getId()))
+                .body(result);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobDTO> getImport(@PathVariable String id) {
+        ImportJobDTO result = importJobService.getJob(id);
+        return ResponseEntity.ok(result);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ImportJobDTO> cancelImport(@PathVariable String id) {
+        ImportJobDTO result = importJobService.cancel(id);
+        return ResponseEntity.ok(result);
+    }
+}
@@ -2,26 +2,57 @@ package com.cebix.swiftcodesapi.controller;
 
 import com.cebix.swiftcodesapi.dto.CountrySwiftCodesDTO;
 import com.cebix.swiftcodesapi.dto.MessageResponseDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeBatchDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeBatchRequestDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeChangesDTO;
 import com.cebix.swiftcodesapi.dto.SwiftCodeCreateDTO;
 import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeStatsDTO;
+import com.cebix.swiftcodesapi.service.ChangeFeedService;
 import com.cebix.swiftcodesapi.service.SwiftCodeService;
+import com.cebix.swiftcodesapi.validation.SwiftCodeValidator;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/v1/swift-codes")
 @RequiredArgsConstructor
 public class SwiftCodeController {
     private final SwiftCodeService swiftCodeService;
+    private final ChangeFeedService changeFeedService;
+    private final SwiftCodeValidator swiftCodeValidator;
+
+    @GetMapping("/changes")
+    public ResponseEntity<SwiftCodeChangesDTO> getChanges(@RequestParam(defaultValue = "0") long since,
+                                                          @RequestParam(defaultValue = "500") int limit) {
+        SwiftCodeChangesDTO result = changeFeedService.getChanges(since, limit);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<SwiftCodeStatsDTO> getStatistics(@RequestParam(required = false) Integer largestBanks) {
+        SwiftCodeStatsDTO result = swiftCodeService.getStatistics(largestBanks);
+        return ResponseEntity.ok(result);
+    }
 
     @GetMapping("/{swiftCode}")
     public ResponseEntity<SwiftCodeDTO> getSwiftCode(@PathVariable String swiftCode) {
+        swiftCodeValidator.requireValid(swiftCode);
         SwiftCodeDTO result = swiftCodeService.getSwiftCode(swiftCode);
         return ResponseEntity.ok(result);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<SwiftCodeBatchDTO> getSwiftCodes(@Valid @RequestBody SwiftCodeBatchRequestDTO dto) {
+        swiftCodeValidator.requireAllValid(dto.getSwiftCodes());
+        SwiftCodeBatchDTO result = swiftCodeService.getSwiftCodes(dto.getSwiftCodes());
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/country/{countryISO2}")
     public ResponseEntity<CountrySwiftCodesDTO> getSwiftCodesByCountry(@PathVariable String countryISO2) {
         CountrySwiftCodesDTO result = swiftCodeService.getSwiftCodesByCountryISO2(countryISO2.toUpperCase());
@@ -30,13 +61,29 @@ public class SwiftCodeController {
 
     @PostMapping
     public ResponseEntity<MessageResponseDTO> createSwiftCode(@Valid @RequestBody SwiftCodeCreateDTO dto) {
+        swiftCodeValidator.requireValid(dto.getSwiftCode(), dto.getCountryISO2());
         swiftCodeService.createSwiftCode(dto);
         return ResponseEntity.ok(new MessageResponseDTO("SwiftCode " + dto.getSwiftCode() + " successfully created"));
     }
 
     @DeleteMapping("/{swiftCode}")
     public ResponseEntity<MessageResponseDTO> deleteSwiftCode(@PathVariable String swiftCode) {
+        swiftCodeValidator.requireValid(swiftCode);
         swiftCodeService.deleteSwiftCode(swiftCode);
         return ResponseEntity.ok(new MessageResponseDTO("SwiftCode " + swiftCode + " successfully deleted"));
     }
+
+    @DeleteMapping("/bank/{bic8}")
+    public ResponseEntity<MessageResponseDTO> deleteBank(@PathVariable String bic8) {
+        swiftCodeValidator.requireValidBic8(bic8);
+        int deleted = swiftCodeService.deleteBank(bic8);
+        return ResponseEntity.ok(new MessageResponseDTO(deleted + " SwiftCodes of bank " + bic8 + " successfully deleted"));
+    }
+
+    @DeleteMapping("/country/{countryISO2}")
+    public ResponseEntity<MessageResponseDTO> deleteCountry(@PathVariable String countryISO2) {
+        swiftCodeValidator.requireValidCountryISO2(countryISO2);
+        int deleted = swiftCodeService.deleteCountry(countryISO2);
+        return ResponseEntity.ok(new MessageResponseDTO(deleted + " SwiftCodes of country " + countryISO2 + " successfully deleted"));
+    }
 }
@@ -0,0 +1,13 @@
+package com.cebix.swiftcodesapi.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BankStatsDTO {
+    private String bic8;
+    private String bankName;
+    private String countryISO2;
+    private long branches;
+}
@@ -0,0 +1,13 @@
+package com.cebix.swiftcodesapi.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CountryStatsDTO {
+    private String countryISO2;
+    private String countryName;
+    private long headquarters;
+    private long branches;
+}
@@ -0,0 +1,26 @@
+package com.cebix.swiftcodesapi.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+public class ImportJobDTO {
+    private String id;
+    private String state;
+    private long rowsProcessed;
+    private long rowsImported;
+    private long rowsRejected;
+    private double rowsPerSecond;
+    private long bytesRead;
+    private long bytesTotal;
+    private Long etaSeconds;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private Map<String, Long> rowsByCountry;
+    private List<String> errors;
+}
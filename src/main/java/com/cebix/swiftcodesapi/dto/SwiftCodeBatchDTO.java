@@ -0,0 +1,13 @@
+package com.cebix.swiftcodesapi.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class SwiftCodeBatchDTO {
+    private List<SwiftCodeDTO> swiftCodes;
+    private List<String> notFound;
+}
@@ -0,0 +1,20 @@
+package com.cebix.swiftcodesapi.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SwiftCodeBatchRequestDTO {
+    @NotEmpty(message = "SwiftCodes cannot be empty")
+    @Size(max = 1000)
+    private List<String> swiftCodes;
+}
@@ -0,0 +1,27 @@
+package com.cebix.swiftcodesapi.dto;
+
+import com.cebix.swiftcodesapi.entity.ChangeType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SwiftCodeChangeDTO {
+    private Long version;
+    private ChangeType changeType;
+    private String swiftCode;
+    private String address;
+    private String bankName;
+    private String countryISO2;
+    private String countryName;
+
+    @JsonProperty("isHeadquarter")
+    private Boolean isHeadquarter;
+
+    private Instant changedAt;
+}
@@ -0,0 +1,14 @@
+package com.cebix.swiftcodesapi.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class SwiftCodeChangesDTO {
+    private List<SwiftCodeChangeDTO> changes;
+    private long nextSince;
+    private boolean hasMore;
+}
@@ -0,0 +1,17 @@
+package com.cebix.swiftcodesapi.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class SwiftCodeStatsDTO {
+    private long version;
+    private long totalCodes;
+    private long headquarters;
+    private long branches;
+    private List<CountryStatsDTO> countries;
+    private List<BankStatsDTO> largestBanks;
+}
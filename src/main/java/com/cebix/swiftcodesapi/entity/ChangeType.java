@@ -0,0 +1,7 @@
+package com.cebix.swiftcodesapi.entity;
+
+public enum ChangeType {
+    INSERT,
+    UPDATE,
+    DELETE
+}
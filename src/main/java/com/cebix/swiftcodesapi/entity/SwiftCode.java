@@ -5,6 +5,9 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Entity
 @Table(name = "swift_codes")
 @Getter
@@ -45,4 +48,9 @@ public class SwiftCode {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "headquarter_id")
     private SwiftCode headquarterEntity;
+
+    @OneToMany(mappedBy = "headquarterEntity")
+    @OrderBy("swiftCode")
+    @Builder.Default
+    private List<SwiftCode> branches = new ArrayList<>();
 }
@@ -0,0 +1,48 @@
+package com.cebix.swiftcodesapi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Append-only change log entry. The identity column doubles as the directory version:
+ * consumers ask for everything after the last version they applied.
+ */
+@Entity
+@Table(name = "swift_code_changes")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SwiftCodeChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 10)
+    private ChangeType changeType;
+
+    @Column(name = "swift_code", nullable = false, length = 11)
+    private String swiftCode;
+
+    @Column(name = "bank_name", length = 150)
+    private String bankName;
+
+    @Column(name = "address", length = 255)
+    private String address;
+
+    @Column(name = "country_iso2", length = 2)
+    private String countryISO2;
+
+    @Column(name = "country_name", length = 100)
+    private String countryName;
+
+    @Column(name = "is_headquarter")
+    private Boolean isHeadquarter;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+}
@@ -0,0 +1,45 @@
+package com.cebix.swiftcodesapi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * One validated CSV row of a staged import, waiting to be published into {@code swift_codes}.
+ * Country and headquarter are kept as plain values; they are resolved when the import is published.
+ */
+@Entity
+@Table(name = "swift_code_staging")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SwiftCodeStaging {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "import_id", nullable = false, length = 36)
+    private String importId;
+
+    @Column(name = "swift_code", nullable = false, length = 11)
+    private String swiftCode;
+
+    @Column(name = "bank_name", nullable = false, length = 150)
+    private String bankName;
+
+    @Column(name = "branch_name", length = 150)
+    private String branchName;
+
+    @Column(name = "address", nullable = false, length = 255)
+    private String address;
+
+    @Column(name = "is_headquarter", nullable = false)
+    private boolean isHeadquarter;
+
+    @Column(name = "country_iso2", nullable = false, length = 2)
+    private String countryISO2;
+
+    @Column(name = "country_name", nullable = false, length = 100)
+    private String countryName;
+}
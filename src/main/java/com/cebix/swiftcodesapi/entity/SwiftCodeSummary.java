@@ -0,0 +1,8 @@
+package com.cebix.swiftcodesapi.entity;
+
+/**
+ * The columns of a SWIFT code that directory statistics are counted by. Not a JPA entity.
+ */
+public record SwiftCodeSummary(String swiftCode, String bankName, boolean headquarter,
+                               String countryISO2, String countryName) {
+}
@@ -4,12 +4,14 @@ import com.cebix.swiftcodesapi.dto.MessageResponseDTO;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Objects;
 
 @RestControllerAdvice
 @Slf4j
@@ -29,9 +31,17 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    @ExceptionHandler(ImportInProgressException.class)
+    public ResponseEntity<Object> handleImportInProgress(ImportInProgressException ex) {
+        log.warn("ImportInProgressException: {}", ex.getMessage());
+
+        return buildResponse(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<MessageResponseDTO> handleException(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(new MessageResponseDTO("Unexpected error occurred"));
     }
 
@@ -40,9 +50,10 @@ public class GlobalExceptionHandler {
                 "timestamp", LocalDateTime.now(),
                 "status", status.value(),
                 "error", status.getReasonPhrase(),
-                "message", message
+                "message", Objects.requireNonNullElse(message, status.getReasonPhrase())
         );
 
-        return new ResponseEntity<>(body, status);
+        // Errors are JSON whatever the request accepts; the protobuf schema has no error message
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
     }
 }
\ No newline at end of file
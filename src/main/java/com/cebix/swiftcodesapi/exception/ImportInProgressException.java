@@ -0,0 +1,11 @@
+package com.cebix.swiftcodesapi.exception;
+
+/**
+ * Thrown when an import is requested while another one is still writing the directory.
+ */
+public class ImportInProgressException extends RuntimeException {
+
+    public ImportInProgressException(String message) {
+        super(message);
+    }
+}
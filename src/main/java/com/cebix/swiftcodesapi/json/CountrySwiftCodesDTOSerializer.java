@@ -0,0 +1,44 @@
+package com.cebix.swiftcodesapi.json;
+
+import com.cebix.swiftcodesapi.dto.CountrySwiftCodesDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+import static com.cebix.swiftcodesapi.json.SwiftCodeDTOSerializer.COUNTRY_NAME;
+import static com.cebix.swiftcodesapi.json.SwiftCodeSimpleDTOSerializer.COUNTRY_ISO2;
+import static com.cebix.swiftcodesapi.json.SwiftCodeSimpleDTOSerializer.writeString;
+
+/**
+ * Writes {@link CountrySwiftCodesDTO}, the largest response of the API, without going through
+ * the bean serializer for each of its codes.
+ */
+public class CountrySwiftCodesDTOSerializer extends StdSerializer<CountrySwiftCodesDTO> {
+
+    static final SerializableString SWIFT_CODES = new SerializedString("swiftCodes");
+
+    private final SwiftCodeSimpleDTOSerializer simpleSerializer;
+
+    public CountrySwiftCodesDTOSerializer(SwiftCodeSimpleDTOSerializer simpleSerializer) {
+        super(CountrySwiftCodesDTO.class);
+        this.simpleSerializer = simpleSerializer;
+    }
+
+    @Override
+    public void serialize(CountrySwiftCodesDTO dto, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(dto);
+        writeString(gen, COUNTRY_ISO2, dto.getCountryISO2());
+        writeString(gen, COUNTRY_NAME, dto.getCountryName());
+        gen.writeFieldName(SWIFT_CODES);
+        if (dto.getSwiftCodes() == null) {
+            gen.writeNull();
+        } else {
+            simpleSerializer.serializeList(dto.getSwiftCodes(), gen, provider);
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,59 @@
+package com.cebix.swiftcodesapi.json;
+
+import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeSimpleDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.cebix.swiftcodesapi.json.SwiftCodeSimpleDTOSerializer.*;
+
+/**
+ * Writes {@link SwiftCodeDTO} with pre-encoded names. Mirrors the bean serializer output: null
+ * fields are omitted ({@code NON_NULL}) and the renamed {@code isHeadquarter} property comes last.
+ */
+public class SwiftCodeDTOSerializer extends StdSerializer<SwiftCodeDTO> {
+
+    static final SerializableString COUNTRY_NAME = new SerializedString("countryName");
+    static final SerializableString BRANCHES = new SerializedString("branches");
+
+    private final SwiftCodeSimpleDTOSerializer simpleSerializer;
+
+    public SwiftCodeDTOSerializer(SwiftCodeSimpleDTOSerializer simpleSerializer) {
+        super(SwiftCodeDTO.class);
+        this.simpleSerializer = simpleSerializer;
+    }
+
+    @Override
+    public void serialize(SwiftCodeDTO dto, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(dto);
+        writeNonNull(gen, ADDRESS, dto.getAddress());
+        writeNonNull(gen, BANK_NAME, dto.getBankName());
+        writeNonNull(gen, COUNTRY_ISO2, dto.getCountryISO2());
+        writeNonNull(gen, COUNTRY_NAME, dto.getCountryName());
+        writeNonNull(gen, SWIFT_CODE, dto.getSwiftCode());
+
+        List<SwiftCodeSimpleDTO> branches = dto.getBranches();
+        if (branches != null) {
+            gen.writeFieldName(BRANCHES);
+            simpleSerializer.serializeList(branches, gen, provider);
+        }
+        if (dto.getIsHeadquarter() != null) {
+            gen.writeFieldName(IS_HEADQUARTER);
+            gen.writeBoolean(dto.getIsHeadquarter());
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeNonNull(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.cebix.swiftcodesapi.json;
+
+import com.cebix.swiftcodesapi.dto.CountrySwiftCodesDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeSimpleDTO;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers the hand-written serializers for the lookup DTOs. Spring Boot adds every
+ * {@link com.fasterxml.jackson.databind.Module} bean to the shared {@code ObjectMapper}, so the
+ * MVC and WebFlux message converters both pick them up.
+ */
+@Component
+public class SwiftCodeJsonModule extends SimpleModule {
+
+    public SwiftCodeJsonModule() {
+        super("SwiftCodeJsonModule");
+
+        SwiftCodeSimpleDTOSerializer simpleSerializer = new SwiftCodeSimpleDTOSerializer();
+        addSerializer(SwiftCodeSimpleDTO.class, simpleSerializer);
+        addSerializer(SwiftCodeDTO.class, new SwiftCodeDTOSerializer(simpleSerializer));
+        addSerializer(CountrySwiftCodesDTO.class, new CountrySwiftCodesDTOSerializer(simpleSerializer));
+    }
+}
@@ -0,0 +1,65 @@
+package com.cebix.swiftcodesapi.json;
+
+import com.cebix.swiftcodesapi.dto.SwiftCodeSimpleDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes {@link SwiftCodeSimpleDTO} field by field with pre-encoded names, in the same order
+ * and with the same null handling as bean serialization (nulls are written).
+ */
+public class SwiftCodeSimpleDTOSerializer extends StdSerializer<SwiftCodeSimpleDTO> {
+
+    static final SerializableString ADDRESS = new SerializedString("address");
+    static final SerializableString BANK_NAME = new SerializedString("bankName");
+    static final SerializableString COUNTRY_ISO2 = new SerializedString("countryISO2");
+    static final SerializableString IS_HEADQUARTER = new SerializedString("isHeadquarter");
+    static final SerializableString SWIFT_CODE = new SerializedString("swiftCode");
+
+    public SwiftCodeSimpleDTOSerializer() {
+        super(SwiftCodeSimpleDTO.class);
+    }
+
+    @Override
+    public void serialize(SwiftCodeSimpleDTO dto, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(dto);
+        writeString(gen, ADDRESS, dto.getAddress());
+        writeString(gen, BANK_NAME, dto.getBankName());
+        writeString(gen, COUNTRY_ISO2, dto.getCountryISO2());
+        gen.writeFieldName(IS_HEADQUARTER);
+        if (dto.getIsHeadquarter() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeBoolean(dto.getIsHeadquarter());
+        }
+        writeString(gen, SWIFT_CODE, dto.getSwiftCode());
+        gen.writeEndObject();
+    }
+
+    void serializeList(List<SwiftCodeSimpleDTO> dtos, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartArray(dtos, dtos.size());
+        for (SwiftCodeSimpleDTO dto : dtos) {
+            if (dto == null) {
+                gen.writeNull();
+            } else {
+                serialize(dto, gen, provider);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.cebix.swiftcodesapi.mapper;
 
+import com.cebix.swiftcodesapi.dto.SwiftCodeChangeDTO;
 import com.cebix.swiftcodesapi.dto.SwiftCodeCreateDTO;
 import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
 import com.cebix.swiftcodesapi.dto.SwiftCodeSimpleDTO;
 import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.entity.SwiftCodeChange;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeRecord;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -13,6 +16,7 @@ public interface SwiftCodeMapper {
     @Mapping(source = "country.isoCode", target = "countryISO2")
     @Mapping(source = "country.name", target = "countryName")
     @Mapping(source = "headquarter", target = "isHeadquarter")
+    @Mapping(target = "branches", ignore = true)
     SwiftCodeDTO toDTO(SwiftCode entity);
 
     SwiftCode toEntity(SwiftCodeCreateDTO dto);
@@ -20,4 +24,12 @@ public interface SwiftCodeMapper {
     @Mapping(source = "country.isoCode", target = "countryISO2")
     @Mapping(source = "headquarter", target = "isHeadquarter")
     SwiftCodeSimpleDTO toSimpleDTO(SwiftCode swiftCode);
+
+    @Mapping(source = "headquarter", target = "isHeadquarter")
+    SwiftCodeDTO recordToDTO(SwiftCodeRecord record);
+
+    @Mapping(source = "headquarter", target = "isHeadquarter")
+    SwiftCodeSimpleDTO recordToSimpleDTO(SwiftCodeRecord record);
+
+    SwiftCodeChangeDTO toChangeDTO(SwiftCodeChange change);
 }
@@ -0,0 +1,192 @@
+package com.cebix.swiftcodesapi.parser;
+
+import com.cebix.swiftcodesapi.config.ImportProperties;
+import com.cebix.swiftcodesapi.dto.ImportJobDTO;
+import com.cebix.swiftcodesapi.exception.ImportInProgressException;
+import com.cebix.swiftcodesapi.service.ImportJobService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Imports CSV files dropped into {@code swift-codes.import.watch.directory} without a restart.
+ * <p>
+ * A file is submitted to {@link ImportJobService} once no create or modify event has arrived for it
+ * during the debounce period, so a file that is still being copied is not read half-written. Files
+ * are imported one at a time and read in place. Afterwards a file is moved to {@code processed/}, or
+ * to {@code failed/} if its import failed or was cancelled, so it is not imported again. Files already
+ * in the directory at startup are imported as well.
+ * <p>
+ * Hidden files and files without a {@code .csv} extension are ignored, which lets copy tools write to
+ * a temporary name and rename the file when it is complete.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ImportDirectoryWatcher {
+
+    static final String PROCESSED = "processed";
+    static final String FAILED = "failed";
+
+    private final ImportProperties importProperties;
+    private final ImportJobService importJobService;
+
+    /**
+     * Files waiting for their debounce period to pass, by the time of their last event. Only touched by the watcher thread.
+     */
+    private final Map<Path, Long> pending = new LinkedHashMap<>();
+    private final AtomicReference<Path> importing = new AtomicReference<>();
+
+    private WatchService watchService;
+    private Thread watcher;
+    private volatile boolean running;
+
+    public boolean isEnabled() {
+        return importProperties.getWatch().getDirectory() != null;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Path directory = importProperties.getWatch().getDirectory();
+        Files.createDirectories(directory);
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        scan(directory);
+
+        running = true;
+        watcher = new Thread(() -> watchLoop(directory), "swift-codes-import-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("Watching {} for CSV imports", directory.toAbsolutePath());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        if (watcher == null) {
+            return;
+        }
+
+        running = false;
+        watchService.close();
+        watcher.join();
+    }
+
+    private void watchLoop(Path directory) {
+        long debounceNanos = importProperties.getWatch().getDebounce().toNanos();
+        long pollMillis = Math.max(10, importProperties.getWatch().getDebounce().toMillis() / 4);
+
+        while (running) {
+            try {
+                WatchKey key = watchService.poll(pollMillis, TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            scan(directory);
+                        } else {
+                            offer(directory.resolve((Path) event.context()));
+                        }
+                    }
+                    key.reset();
+                }
+                submitSettled(debounceNanos);
+            } catch (ClosedWatchServiceException e) {
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Import directory watcher failed, retrying", e);
+            }
+        }
+    }
+
+    private void scan(Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            files.forEach(this::offer);
+        }
+    }
+
+    private void offer(Path file) {
+        String name = file.getFileName().toString();
+        if (name.startsWith(".") || !name.toLowerCase(Locale.ROOT).endsWith(".csv") || !Files.isRegularFile(file)) {
+            return;
+        }
+        pending.put(file, System.nanoTime());
+    }
+
+    /**
+     * Submits the first file that has been quiet for the debounce period, unless an import is still
+     * running. A file whose submission is refused stays pending and is tried again on the next poll.
+     */
+    private void submitSettled(long debounceNanos) {
+        if (importing.get() != null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Path, Long>> entries = pending.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Path, Long> entry = entries.next();
+            Path file = entry.getKey();
+            if (now - entry.getValue() < debounceNanos) {
+                continue;
+            }
+            if (!Files.isRegularFile(file)) {
+                entries.remove();
+                continue;
+            }
+
+            importing.set(file);
+            try {
+                ImportJobDTO job = importJobService.submit(file, result -> finished(file, result));
+                entries.remove();
+                log.info("Submitted {} as import {}", file, job.getId());
+            } catch (ImportInProgressException e) {
+                // An upload is running; keep the file for the next poll
+                importing.set(null);
+            } catch (UncheckedIOException e) {
+                importing.set(null);
+                entries.remove();
+                log.warn("Could not import {}", file, e);
+            }
+            return;
+        }
+    }
+
+    private void finished(Path file, ImportJobDTO result) {
+        try {
+            String target = "COMPLETED".equals(result.getState()) ? PROCESSED : FAILED;
+            Path directory = Files.createDirectories(file.resolveSibling(target));
+            Files.move(file, directory.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Could not move imported file {}", file, e);
+        } finally {
+            importing.set(null);
+        }
+    }
+}
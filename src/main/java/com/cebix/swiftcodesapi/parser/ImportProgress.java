@@ -0,0 +1,29 @@
+package com.cebix.swiftcodesapi.parser;
+
+/**
+ * Receives progress from {@link ParserService} while it imports a CSV and can ask it to stop.
+ * Cancellation is checked between rows. An in-place import keeps the rows written before that;
+ * a staged import publishes nothing.
+ */
+public interface ImportProgress {
+
+    ImportProgress NONE = new ImportProgress() {
+    };
+
+    default void rowImported(String countryISO2) {
+    }
+
+    default void rowRejected(long line, String reason) {
+    }
+
+    /**
+     * The CSV could not be read any further, or a staged import failed its checks. An in-place import
+     * keeps the rows imported so far.
+     */
+    default void importFailed(Exception cause) {
+    }
+
+    default boolean isCancelled() {
+        return false;
+    }
+}
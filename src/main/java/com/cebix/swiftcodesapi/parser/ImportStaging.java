@@ -0,0 +1,72 @@
+package com.cebix.swiftcodesapi.parser;
+
+import com.cebix.swiftcodesapi.entity.SwiftCodeStaging;
+import com.cebix.swiftcodesapi.repository.SwiftCodeStagingRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes the rows of one staged import to the staging table in batches. A code that appears
+ * again later in the file replaces its earlier row, as it would in an in-place import.
+ */
+class ImportStaging {
+
+    private final String importId;
+    private final SwiftCodeStagingRepository stagingRepository;
+    private final int batchSize;
+
+    private final Set<String> staged = new HashSet<>();
+    private final Map<String, SwiftCodeStaging> pending = new LinkedHashMap<>();
+    private final List<String> replaced = new ArrayList<>();
+
+    ImportStaging(String importId, SwiftCodeStagingRepository stagingRepository, int batchSize) {
+        this.importId = importId;
+        this.stagingRepository = stagingRepository;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    String getImportId() {
+        return importId;
+    }
+
+    void add(SwiftCodeStaging row) {
+        row.setImportId(importId);
+        if (!staged.add(row.getSwiftCode()) && !pending.containsKey(row.getSwiftCode())) {
+            replaced.add(row.getSwiftCode());
+        }
+        pending.put(row.getSwiftCode(), row);
+        if (pending.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    void flush() {
+        if (!replaced.isEmpty()) {
+            stagingRepository.deleteAllByImportIdAndSwiftCodeIn(importId, List.copyOf(replaced));
+            replaced.clear();
+        }
+        if (!pending.isEmpty()) {
+            stagingRepository.saveAll(List.copyOf(pending.values()));
+            pending.clear();
+        }
+    }
+
+    /**
+     * Distinct codes added so far, including rows not flushed yet.
+     */
+    Set<String> getSwiftCodes() {
+        return Collections.unmodifiableSet(staged);
+    }
+
+    void discard() {
+        pending.clear();
+        replaced.clear();
+        stagingRepository.deleteAllByImportId(importId);
+    }
+}
@@ -1,9 +1,21 @@
 package com.cebix.swiftcodesapi.parser;
 
+import com.cebix.swiftcodesapi.config.DataSourceRouting;
+import com.cebix.swiftcodesapi.config.ImportProperties;
+import com.cebix.swiftcodesapi.entity.ChangeType;
 import com.cebix.swiftcodesapi.entity.Country;
 import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.entity.SwiftCodeStaging;
+import com.cebix.swiftcodesapi.exception.ImportInProgressException;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeBloomFilter;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeReadModel;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeStatistics;
 import com.cebix.swiftcodesapi.repository.CountryRepository;
 import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeStagingRepository;
+import com.cebix.swiftcodesapi.service.ChangeFeedService;
+import com.cebix.swiftcodesapi.validation.SwiftCodeValidator;
+import com.cebix.swiftcodesapi.validation.SwiftCodeViolation;
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
 import jakarta.annotation.PostConstruct;
@@ -15,6 +27,10 @@ import org.springframework.stereotype.Service;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -23,9 +39,30 @@ public class ParserService {
 
     private final CountryRepository countryRepository;
     private final SwiftCodeRepository swiftCodeRepository;
+    private final SwiftCodeReadModel readModel;
+    private final ChangeFeedService changeFeedService;
+    private final ImportProperties importProperties;
+    private final SwiftCodeBloomFilter bloomFilter;
+    private final SwiftCodeValidator swiftCodeValidator;
+    private final SwiftCodeStatistics statistics;
+    private final SwiftCodeStagingRepository stagingRepository;
+    private final StagedImportPublisher stagedImportPublisher;
+
+    /**
+     * Only one import writes at a time; a second one would interleave upserts of the same codes.
+     */
+    private final ReentrantLock importLock = new ReentrantLock();
 
     @PostConstruct
     public void init() {
+        if (!importProperties.isOnStartup()) {
+            log.info("Startup CSV import disabled");
+            readModel.reload();
+            bloomFilter.reload();
+            statistics.reload();
+            return;
+        }
+
         log.info("Starting CSV import/update...");
         importData();
     }
@@ -40,6 +77,133 @@ public class ParserService {
     }
 
     public void importDataFromStream(InputStreamReader reader) {
+        importDataFromStream(reader, ImportProgress.NONE);
+    }
+
+    /**
+     * Imports the CSV, reporting each row to {@code progress} and stopping early once it is cancelled.
+     *
+     * @throws ImportInProgressException if another import is running
+     */
+    public void importDataFromStream(InputStreamReader reader, ImportProgress progress) {
+        if (!importLock.tryLock()) {
+            throw new ImportInProgressException("Another import is already running");
+        }
+
+        try {
+            DataSourceRouting.onPrimary(() -> doImportDataFromStream(reader, progress));
+        } finally {
+            importLock.unlock();
+        }
+    }
+
+    private void doImportDataFromStream(InputStreamReader reader, ImportProgress progress) {
+        if (importProperties.getMode() == ImportProperties.Mode.STAGED) {
+            importStaged(reader, progress);
+        } else {
+            importInPlace(reader, progress);
+        }
+    }
+
+    private void importInPlace(InputStreamReader reader, ImportProgress progress) {
+        ReadResult result = readRows(reader, progress, row -> {
+            Country country = countryRepository.findByIsoCode(row.countryISO2())
+                    .orElseGet(() -> {
+                        Country newCountry = Country.builder()
+                                .name(row.countryName().toUpperCase())
+                                .isoCode(row.countryISO2().toUpperCase())
+                                .build();
+                        return countryRepository.save(newCountry);
+                    });
+
+            saveOrUpdateSwiftCode(
+                    row.swiftCode(),
+                    row.bankName(),
+                    row.address(),
+                    row.townName(),
+                    row.headquarter(),
+                    country
+            );
+        });
+
+        if (result.failed()) {
+            return;
+        }
+
+        log.info("CSV import/update completed!");
+        readModel.reload();
+        bloomFilter.reload();
+        statistics.reload();
+    }
+
+    /**
+     * Stages the whole file, checks it and only then publishes it in one transaction. A file that
+     * cannot be read to the end, is cancelled or fails the checks leaves {@code swift_codes} untouched.
+     */
+    private void importStaged(InputStreamReader reader, ImportProgress progress) {
+        ImportStaging staging = new ImportStaging(UUID.randomUUID().toString(), stagingRepository,
+                importProperties.getStagingBatchSize());
+        try {
+            ReadResult result = readRows(reader, progress, row -> staging.add(SwiftCodeStaging.builder()
+                    .swiftCode(row.swiftCode())
+                    .bankName(row.bankName())
+                    .branchName(row.townName())
+                    .address(row.address())
+                    .isHeadquarter(row.headquarter())
+                    .countryISO2(row.countryISO2())
+                    .countryName(row.countryName().toUpperCase())
+                    .build()));
+
+            if (result.failed()) {
+                log.warn("Staged import {} could not be read to the end, nothing published", staging.getImportId());
+                return;
+            }
+            if (progress.isCancelled()) {
+                log.info("Staged import {} cancelled, nothing published", staging.getImportId());
+                return;
+            }
+
+            String rejection = checkStaged(result);
+            if (rejection != null) {
+                log.warn("Staged import {} rejected: {}", staging.getImportId(), rejection);
+                progress.importFailed(new IllegalStateException(rejection + "; nothing was published"));
+                return;
+            }
+
+            staging.flush();
+            // Before the commit: a code missing from the filter would read as absent until the reload below
+            staging.getSwiftCodes().forEach(bloomFilter::put);
+            stagedImportPublisher.publish(staging.getImportId());
+
+            log.info("CSV import/update completed!");
+            readModel.reload();
+            bloomFilter.reload();
+            statistics.reload();
+        } finally {
+            staging.discard();
+        }
+    }
+
+    private String checkStaged(ReadResult result) {
+        long total = result.imported() + result.rejected();
+        if (result.imported() == 0) {
+            return "No valid rows";
+        }
+        if (result.rejected() > total * importProperties.getMaxRejectedRatio()) {
+            return String.format("%d of %d rows rejected, more than the allowed %.1f%%",
+                    result.rejected(), total, importProperties.getMaxRejectedRatio() * 100);
+        }
+        return null;
+    }
+
+    /**
+     * Reads and validates the CSV, handing each accepted row to {@code sink}. Stops early when
+     * {@code progress} is cancelled.
+     */
+    private ReadResult readRows(InputStreamReader reader, ImportProgress progress, Consumer<ImportRow> sink) {
+        long imported = 0;
+        long rejected = 0;
+
         try (CSVReader csvReader = createCsvReader(reader)) {
             String[] fields;
             boolean isFirstLine = true;
@@ -50,6 +214,17 @@ public class ParserService {
                     continue;
                 }
 
+                if (progress.isCancelled()) {
+                    log.info("CSV import cancelled after line {}", csvReader.getLinesRead() - 1);
+                    break;
+                }
+
+                if (fields.length < 8) {
+                    progress.rowRejected(csvReader.getLinesRead(), "Expected 8 columns, found " + fields.length);
+                    rejected++;
+                    continue;
+                }
+
                 String countryISO2 = fields[0].trim().toUpperCase();
                 String swiftCodeValue = fields[1].trim();
                 String codeType = fields[2].trim();
@@ -61,37 +236,36 @@ public class ParserService {
 
                 if (countryISO2.length() != 2) {
                     log.warn("Invalid ISO code [{}] for country [{}]. Skipping...", countryISO2, countryName);
+                    progress.rowRejected(csvReader.getLinesRead(), "Invalid ISO code [" + countryISO2 + "]");
+                    rejected++;
+                    continue;
+                }
+
+                SwiftCodeViolation violation = swiftCodeValidator.checkImported(swiftCodeValue, countryISO2);
+                if (violation != null) {
+                    log.warn("Invalid SwiftCode [{}]: {}. Skipping...", swiftCodeValue, violation.getMessage());
+                    progress.rowRejected(csvReader.getLinesRead(), violation.getMessage() + " [" + swiftCodeValue + "]");
+                    rejected++;
                     continue;
                 }
 
                 boolean isHeadquarter = swiftCodeValue.endsWith("XXX");
 
-                Country country = countryRepository.findByIsoCode(countryISO2)
-                        .orElseGet(() -> {
-                            Country newCountry = Country.builder()
-                                    .name(countryName.toUpperCase())
-                                    .isoCode(countryISO2.toUpperCase())
-                                    .build();
-                            return countryRepository.save(newCountry);
-                        });
-
-                saveOrUpdateSwiftCode(
-                        swiftCodeValue,
-                        bankName,
-                        address,
-                        townName,
-                        isHeadquarter,
-                        country
-                );
+                sink.accept(new ImportRow(countryISO2, countryName, swiftCodeValue, bankName, address, townName, isHeadquarter));
+                progress.rowImported(countryISO2);
+                imported++;
             }
 
-            log.info("CSV import/update completed!");
+            return new ReadResult(imported, rejected, false);
 
         } catch (CsvValidationException e) {
             log.error("CSV parsing error", e);
+            progress.importFailed(e);
         } catch (IOException e) {
             log.error("IO error during import", e);
+            progress.importFailed(e);
         }
+        return new ReadResult(imported, rejected, true);
     }
 
     protected CSVReader createCsvReader(InputStreamReader reader) {
@@ -104,13 +278,19 @@ public class ParserService {
 
     private void saveOrUpdateSwiftCode(String swiftCodeValue, String bankName, String address, String branchName, boolean isHeadquarter, Country country) {
         SwiftCode swiftCode = swiftCodeRepository.findBySwiftCode(swiftCodeValue).orElse(null);
+        ChangeType changeType = null;
 
         if (swiftCode == null) {
             swiftCode = SwiftCode.builder()
                     .swiftCode(swiftCodeValue)
                     .build();
+            changeType = ChangeType.INSERT;
+            bloomFilter.put(swiftCodeValue);
             log.info("Inserted new SwiftCode: {}", swiftCodeValue);
         } else {
+            if (!isUnchanged(swiftCode, bankName, address, isHeadquarter, country)) {
+                changeType = ChangeType.UPDATE;
+            }
             log.info("Updated SwiftCode: {}", swiftCodeValue);
         }
 
@@ -129,5 +309,24 @@ public class ParserService {
         }
 
         swiftCodeRepository.save(swiftCode);
+
+        if (changeType != null) {
+            changeFeedService.recordUpsert(swiftCode, changeType);
+        }
+    }
+
+    private record ImportRow(String countryISO2, String countryName, String swiftCode, String bankName,
+                             String address, String townName, boolean headquarter) {
+    }
+
+    private record ReadResult(long imported, long rejected, boolean failed) {
+    }
+
+    private boolean isUnchanged(SwiftCode swiftCode, String bankName, String address, boolean isHeadquarter, Country country) {
+        return Objects.equals(swiftCode.getBankName(), bankName)
+                && Objects.equals(swiftCode.getAddress(), address)
+                && swiftCode.isHeadquarter() == isHeadquarter
+                && swiftCode.getCountry() != null
+                && Objects.equals(swiftCode.getCountry().getIsoCode(), country.getIsoCode());
     }
 }
\ No newline at end of file
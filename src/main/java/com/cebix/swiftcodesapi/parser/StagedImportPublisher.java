@@ -0,0 +1,47 @@
+package com.cebix.swiftcodesapi.parser;
+
+import com.cebix.swiftcodesapi.repository.SwiftCodeStagingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Merges a staged import into {@code swift_codes} in one transaction, so readers on any node see
+ * the directory either before or after the whole file. The change log entries are written in the
+ * same transaction and become visible to other replicas together with the data.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StagedImportPublisher {
+
+    private final SwiftCodeStagingRepository stagingRepository;
+
+    public record Result(int inserted, int updated) {
+    }
+
+    /**
+     * Repeatable read: a code created concurrently between the statements fails the publish on
+     * its unique key instead of being half-merged.
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public Result publish(String importId) {
+        Instant changedAt = Instant.now();
+
+        int countries = stagingRepository.insertMissingCountries(importId);
+        stagingRepository.insertUpdateChanges(importId, changedAt);
+        stagingRepository.insertInsertChanges(importId, changedAt);
+        int updated = stagingRepository.updateChangedCodes(importId);
+        int inserted = stagingRepository.insertNewCodes(importId);
+        int relinked = stagingRepository.relinkHeadquarters(importId);
+        stagingRepository.deleteAllByImportId(importId);
+
+        log.info("Published import {}: {} inserted, {} updated, {} headquarter links changed, {} new countries",
+                importId, inserted, updated, relinked, countries);
+        return new Result(inserted, updated);
+    }
+}
@@ -0,0 +1,57 @@
+package com.cebix.swiftcodesapi.protobuf;
+
+import com.google.protobuf.CodedOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Writes the read responses of the servlet stack as {@code application/x-protobuf}, see {@link SwiftCodeProtobufWriter}.
+ * Request bodies are JSON only.
+ */
+public class SwiftCodeProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public SwiftCodeProtobufHttpMessageConverter() {
+        super(SwiftCodeProtobufWriter.PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SwiftCodeProtobufWriter.supports(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected void addDefaultHeaders(HttpHeaders headers, Object value, @Nullable MediaType contentType) throws IOException {
+        super.addDefaultHeaders(headers, value, contentType);
+        headers.set(SwiftCodeProtobufWriter.SCHEMA_HEADER, SwiftCodeProtobufWriter.SCHEMA);
+        headers.set(SwiftCodeProtobufWriter.MESSAGE_HEADER, SwiftCodeProtobufWriter.messageName(value.getClass()));
+    }
+
+    @Override
+    protected Long getContentLength(Object value, @Nullable MediaType contentType) {
+        return (long) SwiftCodeProtobufWriter.size(value);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(outputMessage.getBody());
+        SwiftCodeProtobufWriter.write(value, out);
+        out.flush();
+    }
+}
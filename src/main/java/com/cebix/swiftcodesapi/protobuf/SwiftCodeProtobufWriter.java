@@ -0,0 +1,398 @@
+package com.cebix.swiftcodesapi.protobuf;
+
+import com.cebix.swiftcodesapi.dto.BankStatsDTO;
+import com.cebix.swiftcodesapi.dto.CountryStatsDTO;
+import com.cebix.swiftcodesapi.dto.CountrySwiftCodesDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeBatchDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeChangeDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeChangesDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeSimpleDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeStatsDTO;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the read DTOs in the protobuf wire format of {@code static/proto/swift_codes.proto}, published at
+ * {@value #SCHEMA}. Like {@link com.cebix.swiftcodesapi.json.SwiftCodeJsonModule} this is written by hand:
+ * the DTOs are encoded directly instead of being copied into generated message classes first.
+ * <p>
+ * Nested messages are length-prefixed, so their size is computed before they are written. Null strings
+ * and zero numbers are not written, as in proto3; a null {@code isHeadquarter} is told from {@code false}
+ * by the field being {@code optional}. Any change here must be made to the schema as well.
+ */
+public final class SwiftCodeProtobufWriter {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+    public static final String SCHEMA = "/proto/swift_codes.proto";
+
+    /**
+     * The headers Spring's own protobuf converters send, naming the schema and message type of the body.
+     */
+    public static final String SCHEMA_HEADER = "X-Protobuf-Schema";
+    public static final String MESSAGE_HEADER = "X-Protobuf-Message";
+
+    private static final Map<Class<?>, String> MESSAGES = Map.of(
+            SwiftCodeDTO.class, "cebix.swiftcodes.v1.SwiftCode",
+            CountrySwiftCodesDTO.class, "cebix.swiftcodes.v1.CountrySwiftCodes",
+            SwiftCodeBatchDTO.class, "cebix.swiftcodes.v1.SwiftCodeBatch",
+            SwiftCodeChangesDTO.class, "cebix.swiftcodes.v1.SwiftCodeChanges",
+            SwiftCodeStatsDTO.class, "cebix.swiftcodes.v1.SwiftCodeStats");
+
+    private SwiftCodeProtobufWriter() {
+    }
+
+    public static boolean supports(Class<?> type) {
+        return MESSAGES.containsKey(type);
+    }
+
+    /**
+     * @return the full name of the message {@code type} is written as, e.g. {@code cebix.swiftcodes.v1.SwiftCode}
+     */
+    public static String messageName(Class<?> type) {
+        return MESSAGES.get(type);
+    }
+
+    /**
+     * @return the encoded size of {@code value} in bytes, without a length prefix
+     */
+    public static int size(Object value) {
+        if (value instanceof SwiftCodeDTO dto) {
+            return size(dto);
+        }
+        if (value instanceof CountrySwiftCodesDTO dto) {
+            return size(dto);
+        }
+        if (value instanceof SwiftCodeBatchDTO dto) {
+            return size(dto);
+        }
+        if (value instanceof SwiftCodeChangesDTO dto) {
+            return size(dto);
+        }
+        if (value instanceof SwiftCodeStatsDTO dto) {
+            return size(dto);
+        }
+        throw unsupported(value);
+    }
+
+    public static void write(Object value, CodedOutputStream out) throws IOException {
+        if (value instanceof SwiftCodeDTO dto) {
+            write(dto, out);
+        } else if (value instanceof CountrySwiftCodesDTO dto) {
+            write(dto, out);
+        } else if (value instanceof SwiftCodeBatchDTO dto) {
+            write(dto, out);
+        } else if (value instanceof SwiftCodeChangesDTO dto) {
+            write(dto, out);
+        } else if (value instanceof SwiftCodeStatsDTO dto) {
+            write(dto, out);
+        } else {
+            throw unsupported(value);
+        }
+    }
+
+    private static IllegalArgumentException unsupported(Object value) {
+        return new IllegalArgumentException("No protobuf message for " + (value == null ? null : value.getClass().getName()));
+    }
+
+    // SwiftCode
+
+    private static int size(SwiftCodeDTO dto) {
+        int size = stringSize(1, dto.getAddress())
+                + stringSize(2, dto.getBankName())
+                + stringSize(3, dto.getCountryISO2())
+                + stringSize(4, dto.getCountryName())
+                + boolSize(5, dto.getIsHeadquarter())
+                + stringSize(6, dto.getSwiftCode());
+        if (dto.getBranches() != null) {
+            for (SwiftCodeSimpleDTO branch : dto.getBranches()) {
+                size += messageSize(7, size(branch));
+            }
+        }
+        return size;
+    }
+
+    private static void write(SwiftCodeDTO dto, CodedOutputStream out) throws IOException {
+        writeString(out, 1, dto.getAddress());
+        writeString(out, 2, dto.getBankName());
+        writeString(out, 3, dto.getCountryISO2());
+        writeString(out, 4, dto.getCountryName());
+        writeBool(out, 5, dto.getIsHeadquarter());
+        writeString(out, 6, dto.getSwiftCode());
+        if (dto.getBranches() != null) {
+            for (SwiftCodeSimpleDTO branch : dto.getBranches()) {
+                startMessage(out, 7, size(branch));
+                write(branch, out);
+            }
+        }
+    }
+
+    // SwiftCodeSummary
+
+    private static int size(SwiftCodeSimpleDTO dto) {
+        return stringSize(1, dto.getAddress())
+                + stringSize(2, dto.getBankName())
+                + stringSize(3, dto.getCountryISO2())
+                + boolSize(4, dto.getIsHeadquarter())
+                + stringSize(5, dto.getSwiftCode());
+    }
+
+    private static void write(SwiftCodeSimpleDTO dto, CodedOutputStream out) throws IOException {
+        writeString(out, 1, dto.getAddress());
+        writeString(out, 2, dto.getBankName());
+        writeString(out, 3, dto.getCountryISO2());
+        writeBool(out, 4, dto.getIsHeadquarter());
+        writeString(out, 5, dto.getSwiftCode());
+    }
+
+    // CountrySwiftCodes
+
+    private static int size(CountrySwiftCodesDTO dto) {
+        int size = stringSize(1, dto.getCountryISO2()) + stringSize(2, dto.getCountryName());
+        if (dto.getSwiftCodes() != null) {
+            for (SwiftCodeSimpleDTO swiftCode : dto.getSwiftCodes()) {
+                size += messageSize(3, size(swiftCode));
+            }
+        }
+        return size;
+    }
+
+    private static void write(CountrySwiftCodesDTO dto, CodedOutputStream out) throws IOException {
+        writeString(out, 1, dto.getCountryISO2());
+        writeString(out, 2, dto.getCountryName());
+        if (dto.getSwiftCodes() != null) {
+            for (SwiftCodeSimpleDTO swiftCode : dto.getSwiftCodes()) {
+                startMessage(out, 3, size(swiftCode));
+                write(swiftCode, out);
+            }
+        }
+    }
+
+    // SwiftCodeBatch
+
+    private static int size(SwiftCodeBatchDTO dto) {
+        int size = stringsSize(2, dto.getNotFound());
+        if (dto.getSwiftCodes() != null) {
+            for (SwiftCodeDTO swiftCode : dto.getSwiftCodes()) {
+                size += messageSize(1, size(swiftCode));
+            }
+        }
+        return size;
+    }
+
+    private static void write(SwiftCodeBatchDTO dto, CodedOutputStream out) throws IOException {
+        if (dto.getSwiftCodes() != null) {
+            for (SwiftCodeDTO swiftCode : dto.getSwiftCodes()) {
+                startMessage(out, 1, size(swiftCode));
+                write(swiftCode, out);
+            }
+        }
+        writeStrings(out, 2, dto.getNotFound());
+    }
+
+    // SwiftCodeChanges
+
+    private static int size(SwiftCodeChangesDTO dto) {
+        int size = int64Size(2, dto.getNextSince()) + (dto.isHasMore() ? CodedOutputStream.computeBoolSize(3, true) : 0);
+        if (dto.getChanges() != null) {
+            for (SwiftCodeChangeDTO change : dto.getChanges()) {
+                size += messageSize(1, size(change));
+            }
+        }
+        return size;
+    }
+
+    private static void write(SwiftCodeChangesDTO dto, CodedOutputStream out) throws IOException {
+        if (dto.getChanges() != null) {
+            for (SwiftCodeChangeDTO change : dto.getChanges()) {
+                startMessage(out, 1, size(change));
+                write(change, out);
+            }
+        }
+        writeInt64(out, 2, dto.getNextSince());
+        if (dto.isHasMore()) {
+            out.writeBool(3, true);
+        }
+    }
+
+    private static int size(SwiftCodeChangeDTO dto) {
+        int size = (dto.getVersion() != null ? CodedOutputStream.computeInt64Size(1, dto.getVersion()) : 0)
+                + (dto.getChangeType() != null ? CodedOutputStream.computeEnumSize(2, dto.getChangeType().ordinal() + 1) : 0)
+                + stringSize(3, dto.getSwiftCode())
+                + stringSize(4, dto.getAddress())
+                + stringSize(5, dto.getBankName())
+                + stringSize(6, dto.getCountryISO2())
+                + stringSize(7, dto.getCountryName())
+                + boolSize(8, dto.getIsHeadquarter());
+        if (dto.getChangedAt() != null) {
+            size += messageSize(9, size(dto.getChangedAt()));
+        }
+        return size;
+    }
+
+    private static void write(SwiftCodeChangeDTO dto, CodedOutputStream out) throws IOException {
+        if (dto.getVersion() != null) {
+            out.writeInt64(1, dto.getVersion());
+        }
+        if (dto.getChangeType() != null) {
+            // The schema reserves 0 for CHANGE_TYPE_UNSPECIFIED
+            out.writeEnum(2, dto.getChangeType().ordinal() + 1);
+        }
+        writeString(out, 3, dto.getSwiftCode());
+        writeString(out, 4, dto.getAddress());
+        writeString(out, 5, dto.getBankName());
+        writeString(out, 6, dto.getCountryISO2());
+        writeString(out, 7, dto.getCountryName());
+        writeBool(out, 8, dto.getIsHeadquarter());
+        if (dto.getChangedAt() != null) {
+            startMessage(out, 9, size(dto.getChangedAt()));
+            write(dto.getChangedAt(), out);
+        }
+    }
+
+    // google.protobuf.Timestamp
+
+    private static int size(Instant instant) {
+        return int64Size(1, instant.getEpochSecond())
+                + (instant.getNano() != 0 ? CodedOutputStream.computeInt32Size(2, instant.getNano()) : 0);
+    }
+
+    private static void write(Instant instant, CodedOutputStream out) throws IOException {
+        writeInt64(out, 1, instant.getEpochSecond());
+        if (instant.getNano() != 0) {
+            out.writeInt32(2, instant.getNano());
+        }
+    }
+
+    // SwiftCodeStats
+
+    private static int size(SwiftCodeStatsDTO dto) {
+        int size = int64Size(1, dto.getVersion())
+                + int64Size(2, dto.getTotalCodes())
+                + int64Size(3, dto.getHeadquarters())
+                + int64Size(4, dto.getBranches());
+        if (dto.getCountries() != null) {
+            for (CountryStatsDTO country : dto.getCountries()) {
+                size += messageSize(5, size(country));
+            }
+        }
+        if (dto.getLargestBanks() != null) {
+            for (BankStatsDTO bank : dto.getLargestBanks()) {
+                size += messageSize(6, size(bank));
+            }
+        }
+        return size;
+    }
+
+    private static void write(SwiftCodeStatsDTO dto, CodedOutputStream out) throws IOException {
+        writeInt64(out, 1, dto.getVersion());
+        writeInt64(out, 2, dto.getTotalCodes());
+        writeInt64(out, 3, dto.getHeadquarters());
+        writeInt64(out, 4, dto.getBranches());
+        if (dto.getCountries() != null) {
+            for (CountryStatsDTO country : dto.getCountries()) {
+                startMessage(out, 5, size(country));
+                write(country, out);
+            }
+        }
+        if (dto.getLargestBanks() != null) {
+            for (BankStatsDTO bank : dto.getLargestBanks()) {
+                startMessage(out, 6, size(bank));
+                write(bank, out);
+            }
+        }
+    }
+
+    private static int size(CountryStatsDTO dto) {
+        return stringSize(1, dto.getCountryISO2())
+                + stringSize(2, dto.getCountryName())
+                + int64Size(3, dto.getHeadquarters())
+                + int64Size(4, dto.getBranches());
+    }
+
+    private static void write(CountryStatsDTO dto, CodedOutputStream out) throws IOException {
+        writeString(out, 1, dto.getCountryISO2());
+        writeString(out, 2, dto.getCountryName());
+        writeInt64(out, 3, dto.getHeadquarters());
+        writeInt64(out, 4, dto.getBranches());
+    }
+
+    private static int size(BankStatsDTO dto) {
+        return stringSize(1, dto.getBic8())
+                + stringSize(2, dto.getBankName())
+                + stringSize(3, dto.getCountryISO2())
+                + int64Size(4, dto.getBranches());
+    }
+
+    private static void write(BankStatsDTO dto, CodedOutputStream out) throws IOException {
+        writeString(out, 1, dto.getBic8());
+        writeString(out, 2, dto.getBankName());
+        writeString(out, 3, dto.getCountryISO2());
+        writeInt64(out, 4, dto.getBranches());
+    }
+
+    // Fields
+
+    private static int stringSize(int field, String value) {
+        return value != null ? CodedOutputStream.computeStringSize(field, value) : 0;
+    }
+
+    private static int stringsSize(int field, List<String> values) {
+        int size = 0;
+        if (values != null) {
+            for (String value : values) {
+                size += stringSize(field, value);
+            }
+        }
+        return size;
+    }
+
+    private static int boolSize(int field, Boolean value) {
+        return value != null ? CodedOutputStream.computeBoolSize(field, value) : 0;
+    }
+
+    private static int int64Size(int field, long value) {
+        return value != 0 ? CodedOutputStream.computeInt64Size(field, value) : 0;
+    }
+
+    private static int messageSize(int field, int size) {
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    }
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static void writeStrings(CodedOutputStream out, int field, List<String> values) throws IOException {
+        if (values != null) {
+            for (String value : values) {
+                writeString(out, field, value);
+            }
+        }
+    }
+
+    private static void writeBool(CodedOutputStream out, int field, Boolean value) throws IOException {
+        if (value != null) {
+            out.writeBool(field, value);
+        }
+    }
+
+    private static void writeInt64(CodedOutputStream out, int field, long value) throws IOException {
+        if (value != 0) {
+            out.writeInt64(field, value);
+        }
+    }
+
+    private static void startMessage(CodedOutputStream out, int field, int size) throws IOException {
+        out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(size);
+    }
+}
@@ -0,0 +1,125 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings. Bits are only ever set, through atomic word updates, so
+ * concurrent {@link #put} and {@link #mightContain} calls need no locking; a reader racing a
+ * writer may miss the code being added, never one added before.
+ * <p>
+ * Probe positions use double hashing over the two halves of a 64-bit FNV-1a / murmur-finalized
+ * hash, which keeps the false-positive rate close to the theoretical one for short ASCII keys.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    private BloomFilter(long bitCount, int hashFunctions) {
+        int wordCount = (int) Math.max(1, (bitCount + 63) >>> 6);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount << 6;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Sizes the filter so that holding {@code expectedInsertions} keys gives about {@code falsePositiveRate}:
+     * {@code m = -n ln p / (ln 2)^2} bits and {@code k = m / n ln 2} hash functions.
+     */
+    public static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        int n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2));
+        if (m > (long) Integer.MAX_VALUE << 6) {
+            throw new IllegalArgumentException("Bloom filter too large for " + n + " insertions");
+        }
+        int k = Math.max(1, (int) Math.round((double) m / n * LN2));
+        return new BloomFilter(m, k);
+    }
+
+    public void put(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word = words.get(index);
+            while ((word & mask) == 0 && !words.weakCompareAndSetVolatile(index, word, word | mask)) {
+                word = words.get(index);
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} only if {@code key} was never added
+     */
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * Current false-positive probability, estimated from the share of set bits as {@code (set / m)^k}.
+     * Unlike a count of insertions this is not skewed by duplicate puts.
+     */
+    public double expectedFalsePositiveRate() {
+        long set = 0;
+        for (int i = 0; i < words.length(); i++) {
+            set += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) set / bitCount, hashFunctions);
+    }
+
+    /**
+     * Estimated number of distinct keys added, {@code -m / k ln(1 - set / m)}.
+     */
+    public long approximateElementCount() {
+        long set = 0;
+        for (int i = 0; i < words.length(); i++) {
+            set += Long.bitCount(words.get(i));
+        }
+        if (set >= bitCount) {
+            return Long.MAX_VALUE;
+        }
+        return Math.round(-(double) bitCount / hashFunctions * Math.log1p(-(double) set / bitCount));
+    }
+
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
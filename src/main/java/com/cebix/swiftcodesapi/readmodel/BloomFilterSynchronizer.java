@@ -0,0 +1,52 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.cebix.swiftcodesapi.config.BloomFilterProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds codes created by other replicas to this node's Bloom filter and periodically rebuilds it
+ * so that deleted codes stop costing a database lookup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BloomFilterSynchronizer implements SchedulingConfigurer {
+
+    private final SwiftCodeBloomFilter bloomFilter;
+    private final BloomFilterProperties properties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!properties.getSyncInterval().isZero()) {
+            registrar.addFixedDelayTask(this::synchronize, properties.getSyncInterval());
+        }
+        if (!properties.getRebuildInterval().isZero()) {
+            registrar.addFixedDelayTask(new FixedDelayTask(
+                    this::rebuild, properties.getRebuildInterval(), properties.getRebuildInterval()));
+        }
+    }
+
+    void synchronize() {
+        try {
+            bloomFilter.catchUp();
+        } catch (RuntimeException e) {
+            log.warn("Bloom filter synchronization failed, retrying next interval", e);
+        }
+    }
+
+    void rebuild() {
+        try {
+            bloomFilter.reload();
+        } catch (RuntimeException e) {
+            log.warn("Bloom filter rebuild failed, retrying next interval", e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.cebix.swiftcodesapi.entity.SwiftCodeChange;
+import com.cebix.swiftcodesapi.repository.SwiftCodeChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Moves a change log version cursor over consecutive versions only. Identity values are assigned
+ * at insert time, so a missing version may belong to a transaction that has not committed yet;
+ * the cursor waits for it up to a grace period before skipping it (rolled-back inserts leave
+ * permanent gaps).
+ * <p>
+ * Not thread-safe; callers serialize their catch-ups.
+ */
+@Slf4j
+class ChangeLogCursor {
+
+    private final Clock clock;
+
+    private long pendingGapVersion = -1;
+    private Instant pendingGapSince;
+
+    ChangeLogCursor(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Where catch-ups continue after a full load that started at {@code loadedVersion}. Versions below it
+     * whose transactions had not committed yet are missing from the load, so the cursor is placed before
+     * the first of them and waits for it like for any other gap. Versions recorded more than
+     * {@code gapGrace} before the load, or more than {@code maxRewind} below it, count as settled.
+     * <p>
+     * Call it after reading {@code loadedVersion} and before loading, so that every version it finds
+     * committed is part of the load.
+     *
+     * @return the new cursor
+     */
+    long afterLoad(long loadedVersion, SwiftCodeChangeRepository changeRepository, Duration gapGrace, int maxRewind) {
+        pendingGapVersion = -1;
+        pendingGapSince = null;
+
+        long settled = changeRepository.findLatestVersionBefore(clock.instant().minus(gapGrace));
+        long expected = Math.min(loadedVersion, Math.max(settled, loadedVersion - maxRewind)) + 1;
+        for (long committed : changeRepository.findVersionsBetween(expected - 1, loadedVersion)) {
+            if (committed != expected) {
+                log.debug("Change log version {} was not committed when loading at version {}, re-reading from it",
+                        expected, loadedVersion);
+                return expected - 1;
+            }
+            expected = committed + 1;
+        }
+        return loadedVersion;
+    }
+
+    /**
+     * @param cursor  last version already applied
+     * @param changes changes after {@code cursor}, ordered by version
+     * @return the new cursor
+     */
+    long advance(long cursor, List<SwiftCodeChange> changes, Duration gapGrace) {
+        for (SwiftCodeChange change : changes) {
+            long expected = cursor + 1;
+            if (change.getVersion() != expected) {
+                Instant now = clock.instant();
+                if (pendingGapVersion != expected) {
+                    pendingGapVersion = expected;
+                    pendingGapSince = now;
+                    break;
+                }
+                if (pendingGapSince.plus(gapGrace).isAfter(now)) {
+                    break;
+                }
+                log.warn("Skipping change log versions {}..{} that never committed", expected, change.getVersion() - 1);
+            }
+            cursor = change.getVersion();
+        }
+
+        return cursor;
+    }
+}
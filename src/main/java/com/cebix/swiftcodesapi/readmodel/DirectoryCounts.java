@@ -0,0 +1,168 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.cebix.swiftcodesapi.dto.BankStatsDTO;
+import com.cebix.swiftcodesapi.dto.CountryStatsDTO;
+import com.cebix.swiftcodesapi.entity.SwiftCodeSummary;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Directory statistics kept as counters: headquarters and branches per country and branches
+ * per bank (BIC8). Each code is remembered with what it was counted under, so applying the
+ * same insert or delete twice leaves the counters unchanged.
+ * <p>
+ * Not thread-safe; {@link SwiftCodeStatistics} guards it.
+ */
+class DirectoryCounts {
+
+    private record Counted(String countryISO2, boolean headquarter) {
+    }
+
+    private static final class CountryCounter {
+        private String countryName;
+        private long headquarters;
+        private long branches;
+    }
+
+    private static final class BankCounter {
+        private String bankName;
+        private String countryISO2;
+        private long branches;
+    }
+
+    private final Map<String, Counted> codes = new HashMap<>();
+    private final Map<String, CountryCounter> countries = new TreeMap<>();
+    private final Map<String, BankCounter> banks = new HashMap<>();
+
+    static DirectoryCounts of(List<SwiftCodeSummary> summaries) {
+        DirectoryCounts counts = new DirectoryCounts();
+        summaries.forEach(counts::upsert);
+        return counts;
+    }
+
+    void upsert(SwiftCodeSummary summary) {
+        Counted previous = codes.get(summary.swiftCode());
+        Counted current = new Counted(summary.countryISO2(), summary.headquarter());
+        if (current.equals(previous)) {
+            name(summary);
+            return;
+        }
+        if (previous != null) {
+            count(summary.swiftCode(), previous, -1);
+        }
+
+        codes.put(summary.swiftCode(), current);
+        count(summary.swiftCode(), current, 1);
+        name(summary);
+    }
+
+    void remove(String swiftCode) {
+        Counted previous = codes.remove(swiftCode);
+        if (previous != null) {
+            count(swiftCode, previous, -1);
+        }
+    }
+
+    private void count(String swiftCode, Counted counted, int delta) {
+        CountryCounter country = countries.computeIfAbsent(counted.countryISO2(), iso -> new CountryCounter());
+        if (counted.headquarter()) {
+            country.headquarters += delta;
+        } else {
+            country.branches += delta;
+            BankCounter bank = banks.computeIfAbsent(bic8(swiftCode), bic8 -> new BankCounter());
+            bank.countryISO2 = counted.countryISO2();
+            bank.branches += delta;
+            if (bank.branches == 0) {
+                banks.remove(bic8(swiftCode));
+            }
+        }
+        if (country.headquarters == 0 && country.branches == 0) {
+            countries.remove(counted.countryISO2());
+        }
+    }
+
+    private void name(SwiftCodeSummary summary) {
+        CountryCounter country = countries.get(summary.countryISO2());
+        if (country != null && summary.countryName() != null) {
+            country.countryName = summary.countryName();
+        }
+        BankCounter bank = banks.get(bic8(summary.swiftCode()));
+        if (bank != null && summary.bankName() != null && (bank.bankName == null || summary.headquarter())) {
+            bank.bankName = summary.bankName();
+        }
+    }
+
+    private static String bic8(String swiftCode) {
+        return swiftCode.length() > 8 ? swiftCode.substring(0, 8) : swiftCode;
+    }
+
+    long totalCodes() {
+        return codes.size();
+    }
+
+    long headquarters() {
+        return countries.values().stream().mapToLong(country -> country.headquarters).sum();
+    }
+
+    long branches() {
+        return countries.values().stream().mapToLong(country -> country.branches).sum();
+    }
+
+    List<CountryStatsDTO> countries() {
+        return countries.entrySet().stream()
+                .map(entry -> CountryStatsDTO.builder()
+                        .countryISO2(entry.getKey())
+                        .countryName(entry.getValue().countryName)
+                        .headquarters(entry.getValue().headquarters)
+                        .branches(entry.getValue().branches)
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Banks ordered by branch count, largest first, ties by BIC8.
+     */
+    List<BankStatsDTO> largestBanks(int limit) {
+        return banks.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<String, BankCounter>>comparingLong(entry -> entry.getValue().branches)
+                        .reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(limit)
+                .map(entry -> BankStatsDTO.builder()
+                        .bic8(entry.getKey())
+                        .bankName(entry.getValue().bankName)
+                        .countryISO2(entry.getValue().countryISO2)
+                        .branches(entry.getValue().branches)
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Whether both hold the same counters, ignoring names.
+     */
+    boolean sameCounts(DirectoryCounts other) {
+        if (codes.size() != other.codes.size() || countries.size() != other.countries.size()
+                || banks.size() != other.banks.size()) {
+            return false;
+        }
+        for (Map.Entry<String, CountryCounter> entry : countries.entrySet()) {
+            CountryCounter theirs = other.countries.get(entry.getKey());
+            if (theirs == null || theirs.headquarters != entry.getValue().headquarters
+                    || theirs.branches != entry.getValue().branches) {
+                return false;
+            }
+        }
+        for (Map.Entry<String, BankCounter> entry : banks.entrySet()) {
+            BankCounter theirs = other.banks.get(entry.getKey());
+            if (theirs == null || theirs.branches != entry.getValue().branches) {
+                return false;
+            }
+        }
+        return Objects.equals(codes, other.codes);
+    }
+}
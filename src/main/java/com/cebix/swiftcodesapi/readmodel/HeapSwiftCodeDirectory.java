@@ -0,0 +1,231 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * {@link SwiftCodeDirectory} holding its records as Java objects on the heap.
+ * <p>
+ * Codes and BIC8 prefixes are keyed by their {@link SwiftCodeKeys} encoding in
+ * primitive {@link LongObjectMap}s. Codes that cannot be encoded (lowercase or
+ * punctuation, which imports never produce) fall back to a string-keyed map and
+ * have no branch index.
+ * <p>
+ * Mutations return a new snapshot that shares every index it did not change.
+ */
+public final class HeapSwiftCodeDirectory implements SwiftCodeDirectory {
+
+    private static final Comparator<SwiftCodeRecord> BY_CODE = Comparator.comparing(SwiftCodeRecord::getSwiftCode);
+
+    static final HeapSwiftCodeDirectory EMPTY =
+            new HeapSwiftCodeDirectory(new LongObjectMap<>(), Map.of(), Map.of(), new LongObjectMap<>());
+
+    private final LongObjectMap<SwiftCodeRecord> byCode;
+    private final Map<String, SwiftCodeRecord> irregularCodes;
+    private final Map<String, CountryEntry> byCountry;
+    private final LongObjectMap<List<SwiftCodeRecord>> byBic8;
+
+    private HeapSwiftCodeDirectory(LongObjectMap<SwiftCodeRecord> byCode,
+                                   Map<String, SwiftCodeRecord> irregularCodes,
+                                   Map<String, CountryEntry> byCountry,
+                                   LongObjectMap<List<SwiftCodeRecord>> byBic8) {
+        this.byCode = byCode;
+        this.irregularCodes = irregularCodes;
+        this.byCountry = byCountry;
+        this.byBic8 = byBic8;
+    }
+
+    public static HeapSwiftCodeDirectory of(Collection<SwiftCodeRecord> records) {
+        LongObjectMap<SwiftCodeRecord> byCode = new LongObjectMap<>(records.size());
+        Map<String, SwiftCodeRecord> irregularCodes = new HashMap<>();
+
+        for (SwiftCodeRecord record : records) {
+            long key = SwiftCodeKeys.encode(record.getSwiftCode());
+            if (key == SwiftCodeKeys.INVALID) {
+                irregularCodes.put(record.getSwiftCode(), record);
+            } else {
+                byCode.put(key, record);
+            }
+        }
+
+        Map<String, List<SwiftCodeRecord>> countryCodes = new HashMap<>();
+        Map<String, String> countryNames = new HashMap<>();
+        LongObjectMap<List<SwiftCodeRecord>> byBic8 = new LongObjectMap<>(records.size());
+        List<List<SwiftCodeRecord>> bankGroups = new ArrayList<>();
+
+        Consumer<SwiftCodeRecord> indexCountry = record -> {
+            countryCodes.computeIfAbsent(record.getCountryISO2(), iso -> new ArrayList<>()).add(record);
+            countryNames.putIfAbsent(record.getCountryISO2(), record.getCountryName());
+        };
+
+        byCode.forEachValue(record -> {
+            indexCountry.accept(record);
+
+            long bic8 = SwiftCodeKeys.bic8(SwiftCodeKeys.encode(record.getSwiftCode()));
+            List<SwiftCodeRecord> bank = byBic8.get(bic8);
+            if (bank == null) {
+                bank = new ArrayList<>();
+                byBic8.put(bic8, bank);
+                bankGroups.add(bank);
+            }
+            bank.add(record);
+        });
+        irregularCodes.values().forEach(indexCountry);
+
+        Map<String, CountryEntry> byCountry = new HashMap<>(countryCodes.size() * 2);
+        countryCodes.forEach((iso, codes) -> {
+            codes.sort(BY_CODE);
+            byCountry.put(iso, new CountryEntry(iso, countryNames.get(iso), List.copyOf(codes)));
+        });
+        bankGroups.forEach(bank -> bank.sort(BY_CODE));
+
+        return new HeapSwiftCodeDirectory(byCode, Map.copyOf(irregularCodes), byCountry, byBic8);
+    }
+
+    @Override
+    public Optional<SwiftCodeRecord> find(String swiftCode) {
+        long key = SwiftCodeKeys.encode(swiftCode);
+        if (key == SwiftCodeKeys.INVALID) {
+            return Optional.ofNullable(swiftCode == null ? null : irregularCodes.get(swiftCode));
+        }
+        return Optional.ofNullable(byCode.get(key));
+    }
+
+    @Override
+    public Optional<SwiftCodeRecord> findHeadquarter(String swiftCode) {
+        long key = SwiftCodeKeys.encode(swiftCode);
+        if (key == SwiftCodeKeys.INVALID) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(byCode.get(SwiftCodeKeys.headquarter(key)));
+    }
+
+    @Override
+    public Optional<CountryEntry> findCountry(String countryISO2) {
+        return Optional.ofNullable(byCountry.get(countryISO2));
+    }
+
+    @Override
+    public List<SwiftCodeRecord> findBranches(SwiftCodeRecord headquarter) {
+        long key = SwiftCodeKeys.encode(headquarter.getSwiftCode());
+        if (key == SwiftCodeKeys.INVALID) {
+            return List.of();
+        }
+
+        List<SwiftCodeRecord> bank = byBic8.get(SwiftCodeKeys.bic8(key));
+        if (bank == null) {
+            return List.of();
+        }
+        return bank.stream()
+                .filter(record -> !record.isHeadquarter())
+                .toList();
+    }
+
+    @Override
+    public Collection<SwiftCodeRecord> records() {
+        List<SwiftCodeRecord> records = new ArrayList<>(size());
+        byCode.forEachValue(records::add);
+        records.addAll(irregularCodes.values());
+        return Collections.unmodifiableList(records);
+    }
+
+    @Override
+    public int size() {
+        return byCode.size() + irregularCodes.size();
+    }
+
+    /**
+     * Copies each index at most once.
+     */
+    @Override
+    public HeapSwiftCodeDirectory apply(Collection<SwiftCodeRecord> upserts, Collection<String> removals) {
+        Patch patch = new Patch();
+        removals.forEach(patch::remove);
+        upserts.forEach(patch::put);
+        return patch.build();
+    }
+
+    private final class Patch {
+        private final LongObjectMap<SwiftCodeRecord> newByCode = byCode.copy();
+        private final Map<String, SwiftCodeRecord> newIrregularCodes = new HashMap<>(irregularCodes);
+        private final Map<String, List<SwiftCodeRecord>> countries = new HashMap<>();
+        private final Map<String, String> countryNames = new HashMap<>();
+        private final LongObjectMap<List<SwiftCodeRecord>> banks = new LongObjectMap<>();
+        private final List<Long> bankKeys = new ArrayList<>();
+
+        void remove(String swiftCode) {
+            long key = SwiftCodeKeys.encode(swiftCode);
+            SwiftCodeRecord record = key == SwiftCodeKeys.INVALID
+                    ? newIrregularCodes.remove(swiftCode)
+                    : newByCode.remove(key);
+            if (record == null) {
+                return;
+            }
+
+            country(record.getCountryISO2()).removeIf(code -> code.getSwiftCode().equals(swiftCode));
+            if (key != SwiftCodeKeys.INVALID) {
+                bank(SwiftCodeKeys.bic8(key)).removeIf(code -> code.getSwiftCode().equals(swiftCode));
+            }
+        }
+
+        void put(SwiftCodeRecord record) {
+            remove(record.getSwiftCode());
+
+            long key = SwiftCodeKeys.encode(record.getSwiftCode());
+            if (key == SwiftCodeKeys.INVALID) {
+                newIrregularCodes.put(record.getSwiftCode(), record);
+            } else {
+                newByCode.put(key, record);
+                bank(SwiftCodeKeys.bic8(key)).add(record);
+            }
+
+            country(record.getCountryISO2()).add(record);
+            countryNames.putIfAbsent(record.getCountryISO2(), record.getCountryName());
+        }
+
+        HeapSwiftCodeDirectory build() {
+            Map<String, CountryEntry> newByCountry = new HashMap<>(byCountry);
+            countries.forEach((iso, codes) -> {
+                if (codes.isEmpty()) {
+                    newByCountry.remove(iso);
+                } else {
+                    codes.sort(BY_CODE);
+                    CountryEntry existing = byCountry.get(iso);
+                    String name = existing != null ? existing.getName() : countryNames.get(iso);
+                    newByCountry.put(iso, new CountryEntry(iso, name, List.copyOf(codes)));
+                }
+            });
+
+            LongObjectMap<List<SwiftCodeRecord>> newByBic8 = bankKeys.isEmpty() ? byBic8 : byBic8.copy();
+            for (long bic8 : bankKeys) {
+                List<SwiftCodeRecord> codes = banks.get(bic8);
+                if (codes.isEmpty()) {
+                    newByBic8.remove(bic8);
+                } else {
+                    codes.sort(BY_CODE);
+                    newByBic8.put(bic8, List.copyOf(codes));
+                }
+            }
+
+            return new HeapSwiftCodeDirectory(newByCode, Map.copyOf(newIrregularCodes), newByCountry, newByBic8);
+        }
+
+        private List<SwiftCodeRecord> country(String countryISO2) {
+            return countries.computeIfAbsent(countryISO2, iso -> {
+                CountryEntry entry = byCountry.get(iso);
+                return entry == null ? new ArrayList<>() : new ArrayList<>(entry.getCodes());
+            });
+        }
+
+        private List<SwiftCodeRecord> bank(long bic8) {
+            List<SwiftCodeRecord> codes = banks.get(bic8);
+            if (codes == null) {
+                List<SwiftCodeRecord> existing = byBic8.get(bic8);
+                codes = existing == null ? new ArrayList<>() : new ArrayList<>(existing);
+                banks.put(bic8, codes);
+                bankKeys.add(bic8);
+            }
+            return codes;
+        }
+    }
+}
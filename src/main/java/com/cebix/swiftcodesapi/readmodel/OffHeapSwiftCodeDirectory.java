@@ -0,0 +1,412 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * {@link SwiftCodeDirectory} keeping its records in native memory, outside the garbage-collected heap.
+ * <p>
+ * Records are fixed-width slots in one direct buffer, sorted by their {@link SwiftCodeKeys} encoding, so a
+ * code is found by binary search and the codes of a BIC8 form a contiguous slot range. Text fields are
+ * offsets into a string area of length-prefixed UTF-8 values, each distinct value stored once. A third
+ * buffer lists slot numbers grouped by country, which gives every country a contiguous range as well.
+ * <p>
+ * Records are decoded when they are read: the lists returned for a country, a bank's branches and
+ * {@link #records()} decode an element each time it is accessed. Only the country table and codes that
+ * cannot be encoded stay on the heap.
+ * <p>
+ * The buffers are freed by the garbage collector once no snapshot refers to them, so a request still
+ * reading a replaced snapshot never sees released memory. Mutations copy the slots but keep the string
+ * area and append new values to it; once it has doubled since the last full build it is rebuilt to drop
+ * values no record refers to any more.
+ */
+public final class OffHeapSwiftCodeDirectory implements SwiftCodeDirectory {
+
+    static final int SLOT_SIZE = 32;
+
+    // Slot layout: key, id, three string offsets, country table index, headquarter flag
+    private static final int KEY = 0;
+    private static final int ID = 8;
+    private static final int BANK_NAME = 16;
+    private static final int ADDRESS = 20;
+    private static final int TOWN_NAME = 24;
+    private static final int COUNTRY = 28;
+    private static final int HEADQUARTER = 30;
+
+    private static final int NULL_STRING = -1;
+    private static final long NULL_ID = Long.MIN_VALUE;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+    private static final int MIN_COMPACTION_BYTES = 64 * 1024;
+
+    private static final Comparator<SwiftCodeRecord> BY_CODE = Comparator.comparing(SwiftCodeRecord::getSwiftCode);
+
+    private static final OffHeapSwiftCodeDirectory EMPTY = new OffHeapSwiftCodeDirectory(
+            ByteBuffer.allocateDirect(0), 0, ByteBuffer.allocateDirect(0), 0, 0,
+            new String[0], new String[0], Map.of(), ByteBuffer.allocateDirect(0), new int[1], Map.of());
+
+    private final ByteBuffer slots;
+    private final int count;
+    private final ByteBuffer strings;
+    private final int stringBytes;
+    private final int compactedStringBytes;
+    private final String[] countryCodes;
+    private final String[] countryNames;
+    private final Map<String, Integer> countryIndex;
+    private final ByteBuffer byCountry;
+    private final int[] countryStart;
+    private final Map<String, SwiftCodeRecord> irregularCodes;
+
+    private OffHeapSwiftCodeDirectory(ByteBuffer slots, int count,
+                                      ByteBuffer strings, int stringBytes, int compactedStringBytes,
+                                      String[] countryCodes, String[] countryNames, Map<String, Integer> countryIndex,
+                                      ByteBuffer byCountry, int[] countryStart,
+                                      Map<String, SwiftCodeRecord> irregularCodes) {
+        this.slots = slots;
+        this.count = count;
+        this.strings = strings;
+        this.stringBytes = stringBytes;
+        this.compactedStringBytes = compactedStringBytes;
+        this.countryCodes = countryCodes;
+        this.countryNames = countryNames;
+        this.countryIndex = countryIndex;
+        this.byCountry = byCountry;
+        this.countryStart = countryStart;
+        this.irregularCodes = irregularCodes;
+    }
+
+    public static OffHeapSwiftCodeDirectory of(Collection<SwiftCodeRecord> records) {
+        List<SwiftCodeRecord> regular = new ArrayList<>(records.size());
+        Map<String, SwiftCodeRecord> irregularCodes = new HashMap<>();
+        for (SwiftCodeRecord record : records) {
+            if (SwiftCodeKeys.encode(record.getSwiftCode()) == SwiftCodeKeys.INVALID) {
+                irregularCodes.put(record.getSwiftCode(), record);
+            } else {
+                regular.add(record);
+            }
+        }
+
+        // Keys sort like the codes; of duplicate codes the last one wins, as in a map
+        regular.sort(BY_CODE);
+        List<SwiftCodeRecord> unique = new ArrayList<>(regular.size());
+        for (SwiftCodeRecord record : regular) {
+            int last = unique.size() - 1;
+            if (last >= 0 && unique.get(last).getSwiftCode().equals(record.getSwiftCode())) {
+                unique.set(last, record);
+            } else {
+                unique.add(record);
+            }
+        }
+
+        return EMPTY.merge(new int[0], unique, Map.copyOf(irregularCodes), true);
+    }
+
+    /**
+     * Bytes of native memory held by this snapshot.
+     */
+    public long nativeBytes() {
+        return (long) slots.capacity() + strings.capacity() + byCountry.capacity();
+    }
+
+    @Override
+    public Optional<SwiftCodeRecord> find(String swiftCode) {
+        long key = SwiftCodeKeys.encode(swiftCode);
+        if (key == SwiftCodeKeys.INVALID) {
+            return Optional.ofNullable(swiftCode == null ? null : irregularCodes.get(swiftCode));
+        }
+
+        int slot = indexOf(key);
+        return slot < 0 ? Optional.empty() : Optional.of(decode(slot));
+    }
+
+    @Override
+    public Optional<SwiftCodeRecord> findHeadquarter(String swiftCode) {
+        long key = SwiftCodeKeys.encode(swiftCode);
+        if (key == SwiftCodeKeys.INVALID) {
+            return Optional.empty();
+        }
+
+        int slot = indexOf(SwiftCodeKeys.headquarter(key));
+        return slot < 0 ? Optional.empty() : Optional.of(decode(slot));
+    }
+
+    @Override
+    public Optional<CountryEntry> findCountry(String countryISO2) {
+        Integer country = countryIndex.get(countryISO2);
+        List<SwiftCodeRecord> codes = country == null
+                ? List.of()
+                : new SlotList(countryStart[country + 1] - countryStart[country],
+                        i -> byCountry.getInt((countryStart[country] + i) * Integer.BYTES));
+
+        if (!irregularCodes.isEmpty()) {
+            List<SwiftCodeRecord> irregular = irregularCodes.values().stream()
+                    .filter(record -> record.getCountryISO2().equals(countryISO2))
+                    .toList();
+            if (!irregular.isEmpty()) {
+                List<SwiftCodeRecord> merged = new ArrayList<>(codes);
+                merged.addAll(irregular);
+                merged.sort(BY_CODE);
+                String name = country != null ? countryNames[country] : irregular.get(0).getCountryName();
+                return Optional.of(new CountryEntry(countryISO2, name, Collections.unmodifiableList(merged)));
+            }
+        }
+
+        return codes.isEmpty()
+                ? Optional.empty()
+                : Optional.of(new CountryEntry(countryISO2, countryNames[country], codes));
+    }
+
+    @Override
+    public List<SwiftCodeRecord> findBranches(SwiftCodeRecord headquarter) {
+        long key = SwiftCodeKeys.encode(headquarter.getSwiftCode());
+        if (key == SwiftCodeKeys.INVALID) {
+            return List.of();
+        }
+
+        int from = lowerBound(SwiftCodeKeys.bic8(key));
+        int to = lowerBound(SwiftCodeKeys.bic8End(key));
+        int[] branches = new int[to - from];
+        int size = 0;
+        for (int slot = from; slot < to; slot++) {
+            if (slots.get(slot * SLOT_SIZE + HEADQUARTER) == 0) {
+                branches[size++] = slot;
+            }
+        }
+        return new SlotList(size, i -> branches[i]);
+    }
+
+    @Override
+    public Collection<SwiftCodeRecord> records() {
+        List<SwiftCodeRecord> records = new SlotList(count, i -> i);
+        if (irregularCodes.isEmpty()) {
+            return records;
+        }
+
+        List<SwiftCodeRecord> all = new ArrayList<>(records);
+        all.addAll(irregularCodes.values());
+        return Collections.unmodifiableList(all);
+    }
+
+    @Override
+    public int size() {
+        return count + irregularCodes.size();
+    }
+
+    @Override
+    public OffHeapSwiftCodeDirectory apply(Collection<SwiftCodeRecord> upserts, Collection<String> removals) {
+        Map<String, SwiftCodeRecord> newIrregularCodes = new HashMap<>(irregularCodes);
+        BitSet dropped = new BitSet(count);
+        Map<String, SwiftCodeRecord> added = new HashMap<>();
+
+        for (String swiftCode : removals) {
+            drop(swiftCode, dropped, newIrregularCodes);
+        }
+        for (SwiftCodeRecord record : upserts) {
+            drop(record.getSwiftCode(), dropped, newIrregularCodes);
+            if (SwiftCodeKeys.encode(record.getSwiftCode()) == SwiftCodeKeys.INVALID) {
+                newIrregularCodes.put(record.getSwiftCode(), record);
+            } else {
+                added.put(record.getSwiftCode(), record);
+            }
+        }
+
+        int[] kept = new int[count - dropped.cardinality()];
+        for (int slot = dropped.nextClearBit(0), i = 0; slot < count; slot = dropped.nextClearBit(slot + 1)) {
+            kept[i++] = slot;
+        }
+        List<SwiftCodeRecord> sortedAdded = new ArrayList<>(added.values());
+        sortedAdded.sort(BY_CODE);
+
+        OffHeapSwiftCodeDirectory patched = merge(kept, sortedAdded, Map.copyOf(newIrregularCodes), false);
+        if (patched.stringBytes > 2L * Math.max(compactedStringBytes, MIN_COMPACTION_BYTES)) {
+            return of(patched.records());
+        }
+        return patched;
+    }
+
+    private void drop(String swiftCode, BitSet dropped, Map<String, SwiftCodeRecord> newIrregularCodes) {
+        long key = SwiftCodeKeys.encode(swiftCode);
+        if (key == SwiftCodeKeys.INVALID) {
+            newIrregularCodes.remove(swiftCode);
+            return;
+        }
+
+        int slot = indexOf(key);
+        if (slot >= 0) {
+            dropped.set(slot);
+        }
+    }
+
+    /**
+     * Builds a snapshot from the {@code kept} slots of this one and the {@code added} records, both in
+     * key order and without codes in common. Kept slots are copied as they are: the string area and the
+     * country table are only ever appended to, so their offsets and indexes stay valid.
+     */
+    private OffHeapSwiftCodeDirectory merge(int[] kept, List<SwiftCodeRecord> added,
+                                            Map<String, SwiftCodeRecord> newIrregularCodes, boolean compacted) {
+        List<String> newCountryCodes = new ArrayList<>(Arrays.asList(countryCodes));
+        List<String> newCountryNames = new ArrayList<>(Arrays.asList(countryNames));
+        Map<String, Integer> newCountryIndex = new HashMap<>(countryIndex);
+        for (SwiftCodeRecord record : added) {
+            newCountryIndex.computeIfAbsent(record.getCountryISO2(), iso -> {
+                newCountryCodes.add(iso);
+                newCountryNames.add(record.getCountryName());
+                return newCountryCodes.size() - 1;
+            });
+        }
+        if (newCountryCodes.size() > Short.MAX_VALUE) {
+            throw new IllegalStateException("Too many countries for off-heap storage: " + newCountryCodes.size());
+        }
+
+        // New values are appended after the existing string area
+        Map<String, Integer> offsets = new HashMap<>();
+        List<byte[]> values = new ArrayList<>();
+        int newStringBytes = stringBytes;
+        for (SwiftCodeRecord record : added) {
+            for (String value : new String[]{record.getBankName(), record.getAddress(), record.getTownName()}) {
+                if (value == null || offsets.containsKey(value)) {
+                    continue;
+                }
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                if (bytes.length > MAX_STRING_BYTES) {
+                    throw new IllegalArgumentException("Value of " + record.getSwiftCode() + " exceeds "
+                            + MAX_STRING_BYTES + " bytes");
+                }
+                offsets.put(value, newStringBytes);
+                values.add(bytes);
+                newStringBytes = Math.addExact(newStringBytes, Short.BYTES + bytes.length);
+            }
+        }
+
+        ByteBuffer newStrings = ByteBuffer.allocateDirect(newStringBytes);
+        newStrings.put(0, strings, 0, stringBytes);
+        int position = stringBytes;
+        for (byte[] bytes : values) {
+            newStrings.putShort(position, (short) bytes.length);
+            newStrings.put(position + Short.BYTES, bytes);
+            position += Short.BYTES + bytes.length;
+        }
+
+        int newCount = kept.length + added.size();
+        ByteBuffer newSlots = ByteBuffer.allocateDirect(Math.multiplyExact(newCount, SLOT_SIZE));
+        int i = 0;
+        int j = 0;
+        for (int slot = 0; slot < newCount; slot++) {
+            int target = slot * SLOT_SIZE;
+            if (j == added.size() || (i < kept.length
+                    && key(kept[i]) < SwiftCodeKeys.encode(added.get(j).getSwiftCode()))) {
+                newSlots.put(target, slots, kept[i++] * SLOT_SIZE, SLOT_SIZE);
+            } else {
+                SwiftCodeRecord record = added.get(j++);
+                newSlots.putLong(target + KEY, SwiftCodeKeys.encode(record.getSwiftCode()));
+                newSlots.putLong(target + ID, record.getId() == null ? NULL_ID : record.getId());
+                newSlots.putInt(target + BANK_NAME, offset(offsets, record.getBankName()));
+                newSlots.putInt(target + ADDRESS, offset(offsets, record.getAddress()));
+                newSlots.putInt(target + TOWN_NAME, offset(offsets, record.getTownName()));
+                newSlots.putShort(target + COUNTRY, newCountryIndex.get(record.getCountryISO2()).shortValue());
+                newSlots.put(target + HEADQUARTER, (byte) (record.isHeadquarter() ? 1 : 0));
+            }
+        }
+
+        // Counting sort of the slot numbers by country; slots are already in code order
+        int[] newCountryStart = new int[newCountryCodes.size() + 1];
+        for (int slot = 0; slot < newCount; slot++) {
+            newCountryStart[newSlots.getShort(slot * SLOT_SIZE + COUNTRY) + 1]++;
+        }
+        for (int country = 0; country < newCountryCodes.size(); country++) {
+            newCountryStart[country + 1] += newCountryStart[country];
+        }
+        int[] next = Arrays.copyOf(newCountryStart, newCountryCodes.size());
+        ByteBuffer newByCountry = ByteBuffer.allocateDirect(Math.multiplyExact(newCount, Integer.BYTES));
+        for (int slot = 0; slot < newCount; slot++) {
+            int country = newSlots.getShort(slot * SLOT_SIZE + COUNTRY);
+            newByCountry.putInt(next[country]++ * Integer.BYTES, slot);
+        }
+
+        return new OffHeapSwiftCodeDirectory(newSlots, newCount,
+                newStrings, newStringBytes, compacted ? newStringBytes : compactedStringBytes,
+                newCountryCodes.toArray(String[]::new), newCountryNames.toArray(String[]::new), Map.copyOf(newCountryIndex),
+                newByCountry, newCountryStart, newIrregularCodes);
+    }
+
+    private static int offset(Map<String, Integer> offsets, String value) {
+        return value == null ? NULL_STRING : offsets.get(value);
+    }
+
+    private long key(int slot) {
+        return slots.getLong(slot * SLOT_SIZE + KEY);
+    }
+
+    private int indexOf(long key) {
+        int slot = lowerBound(key);
+        return slot < count && key(slot) == key ? slot : -1;
+    }
+
+    /**
+     * First slot whose key is not less than {@code key}.
+     */
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (key(middle) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private SwiftCodeRecord decode(int slot) {
+        int base = slot * SLOT_SIZE;
+        long id = slots.getLong(base + ID);
+        short country = slots.getShort(base + COUNTRY);
+        return SwiftCodeRecord.builder()
+                .id(id == NULL_ID ? null : id)
+                .swiftCode(SwiftCodeKeys.decode(slots.getLong(base + KEY)))
+                .bankName(string(slots.getInt(base + BANK_NAME)))
+                .address(string(slots.getInt(base + ADDRESS)))
+                .townName(string(slots.getInt(base + TOWN_NAME)))
+                .countryISO2(countryCodes[country])
+                .countryName(countryNames[country])
+                .headquarter(slots.get(base + HEADQUARTER) != 0)
+                .build();
+    }
+
+    private String string(int offset) {
+        if (offset == NULL_STRING) {
+            return null;
+        }
+
+        byte[] bytes = new byte[Short.toUnsignedInt(strings.getShort(offset))];
+        strings.get(offset + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read-only list of slots that decodes an element each time it is accessed.
+     */
+    private final class SlotList extends AbstractList<SwiftCodeRecord> implements RandomAccess {
+        private final int size;
+        private final IntUnaryOperator slotAt;
+
+        SlotList(int size, IntUnaryOperator slotAt) {
+            this.size = size;
+            this.slotAt = slotAt;
+        }
+
+        @Override
+        public SwiftCodeRecord get(int index) {
+            Objects.checkIndex(index, size);
+            return decode(slotAt.applyAsInt(index));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.cebix.swiftcodesapi.config.ReadModelProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+/**
+ * Polls the shared change log so that writes handled by other replicas reach this node's
+ * read model within roughly one sync interval.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadModelSynchronizer implements SchedulingConfigurer {
+
+    private final SwiftCodeReadModel readModel;
+    private final ReadModelProperties properties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (properties.isEnabled() && !properties.getSyncInterval().isZero()) {
+            registrar.addFixedDelayTask(this::synchronize, properties.getSyncInterval());
+        }
+    }
+
+    void synchronize() {
+        try {
+            readModel.catchUp();
+        } catch (RuntimeException e) {
+            log.warn("Read model synchronization failed, retrying next interval", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.cebix.swiftcodesapi.config.StatisticsProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps directory statistics current between requests and, when configured, periodically checks
+ * them against the tables.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsSynchronizer implements SchedulingConfigurer {
+
+    private final SwiftCodeStatistics statistics;
+    private final StatisticsProperties properties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!properties.getSyncInterval().isZero()) {
+            registrar.addFixedDelayTask(this::synchronize, properties.getSyncInterval());
+        }
+        if (!properties.getConsistencyCheckInterval().isZero()) {
+            registrar.addFixedDelayTask(new FixedDelayTask(
+                    this::verify, properties.getConsistencyCheckInterval(), properties.getConsistencyCheckInterval()));
+        }
+    }
+
+    void synchronize() {
+        try {
+            statistics.catchUp();
+        } catch (RuntimeException e) {
+            log.warn("Directory statistics synchronization failed, retrying next interval", e);
+        }
+    }
+
+    void verify() {
+        try {
+            statistics.verify();
+        } catch (RuntimeException e) {
+            log.warn("Directory statistics consistency check failed, retrying next interval", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonicalising pool for strings that repeat across directory records
+ * (bank names, towns, addresses, country names). Every branch of a bank
+ * then points to a single {@code String} instance instead of its own copy.
+ */
+public class StringPool {
+
+    private final ConcurrentHashMap<String, String> values = new ConcurrentHashMap<>();
+
+    public String canonical(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        String existing = values.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public void clear() {
+        values.clear();
+    }
+}
@@ -0,0 +1,241 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.cebix.swiftcodesapi.config.BloomFilterProperties;
+import com.cebix.swiftcodesapi.entity.ChangeType;
+import com.cebix.swiftcodesapi.entity.SwiftCodeChange;
+import com.cebix.swiftcodesapi.repository.SwiftCodeChangeRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * Bloom filter over every known SWIFT code, so that lookups of codes that do not exist (typos,
+ * probing) are answered without a database round trip.
+ * <p>
+ * Writers on this replica {@link #put} a code before their transaction commits, so it is never
+ * reported absent here. Codes created on other replicas only arrive through the change log at the
+ * next {@code sync-interval}; until then a lookup on this replica may answer {@code 404} for them.
+ * That staleness is accepted for reads, but writes must not rely on the filter to decide whether a
+ * code exists. Deleted codes keep their bits until the next {@link #reload}, which only costs an
+ * extra query. While disabled or not yet loaded every code is reported as possibly present.
+ */
+@Component
+@Slf4j
+public class SwiftCodeBloomFilter {
+
+    private final SwiftCodeRepository swiftCodeRepository;
+    private final SwiftCodeChangeRepository changeRepository;
+    private final BloomFilterProperties properties;
+    private final ChangeLogCursor cursor = new ChangeLogCursor(Clock.systemUTC());
+
+    private final Counter absent;
+    private final Counter present;
+    private final Counter falsePositive;
+
+    /**
+     * Serializes reloads and catch-ups; lookups and puts never take it.
+     */
+    private final Object syncLock = new Object();
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter loading;
+    private volatile long version;
+
+    public SwiftCodeBloomFilter(SwiftCodeRepository swiftCodeRepository, SwiftCodeChangeRepository changeRepository,
+                                BloomFilterProperties properties, MeterRegistry meterRegistry) {
+        this.swiftCodeRepository = swiftCodeRepository;
+        this.changeRepository = changeRepository;
+        this.properties = properties;
+
+        absent = lookupCounter(meterRegistry, "absent");
+        present = lookupCounter(meterRegistry, "present");
+        falsePositive = lookupCounter(meterRegistry, "false_positive");
+
+        Gauge.builder("swiftcodes.bloom.false.positive.rate", properties, BloomFilterProperties::getFalsePositiveRate)
+                .tag("kind", "configured")
+                .register(meterRegistry);
+        Gauge.builder("swiftcodes.bloom.false.positive.rate", this, SwiftCodeBloomFilter::getExpectedFalsePositiveRate)
+                .tag("kind", "expected")
+                .register(meterRegistry);
+        Gauge.builder("swiftcodes.bloom.false.positive.rate", this, SwiftCodeBloomFilter::getObservedFalsePositiveRate)
+                .tag("kind", "observed")
+                .register(meterRegistry);
+        Gauge.builder("swiftcodes.bloom.codes", this, bloom -> bloom.filter == null ? 0 : bloom.filter.approximateElementCount())
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("swiftcodes.bloom.lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * @return {@code false} only if {@code swiftCode} did not exist as of the last sync with the change log
+     */
+    public boolean mightContain(String swiftCode) {
+        BloomFilter current = filter;
+        if (!isEnabled() || current == null) {
+            return true;
+        }
+
+        if (current.mightContain(swiftCode)) {
+            present.increment();
+            return true;
+        }
+        absent.increment();
+        return false;
+    }
+
+    /**
+     * Records that a code the filter reported as possibly present was not found in the database.
+     */
+    public void recordFalsePositive() {
+        recordFalsePositives(1);
+    }
+
+    public void recordFalsePositives(long count) {
+        if (isEnabled() && filter != null && count > 0) {
+            falsePositive.increment(count);
+        }
+    }
+
+    public void put(String swiftCode) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(swiftCode);
+        }
+        BloomFilter next = loading;
+        if (next != null) {
+            next.put(swiftCode);
+        }
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public double getExpectedFalsePositiveRate() {
+        BloomFilter current = filter;
+        return current == null ? 0 : current.expectedFalsePositiveRate();
+    }
+
+    /**
+     * Share of lookups of missing codes that still went to the database.
+     */
+    public double getObservedFalsePositiveRate() {
+        double misses = absent.count() + falsePositive.count();
+        return misses == 0 ? 0 : falsePositive.count() / misses;
+    }
+
+    /**
+     * Rebuilds the filter from all codes in the database, dropping the bits of deleted codes.
+     * Codes put while the rebuild runs go into both filters; codes that commit after the load
+     * without having been put here are picked up by re-reading the change log from the version
+     * taken before it, or from the first version below it that had not committed yet.
+     */
+    public void reload() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        synchronized (syncLock) {
+            int capacity = capacity();
+            BloomFilter rebuilt = BloomFilter.create(capacity, properties.getFalsePositiveRate());
+            loading = rebuilt;
+
+            List<String> codes;
+            long loadedVersion;
+            long resumeVersion;
+            try {
+                loadedVersion = changeRepository.findLatestVersion();
+                resumeVersion = cursor.afterLoad(loadedVersion, changeRepository, properties.getSyncGapGrace(),
+                        properties.getSyncBatchSize() / 2);
+                codes = swiftCodeRepository.findAllSwiftCodes();
+                codes.forEach(rebuilt::put);
+            } finally {
+                loading = null;
+            }
+
+            if (codes.size() > capacity) {
+                log.warn("Bloom filter sized for {} codes holds {}; false-positive rate exceeds {} until the next rebuild",
+                        capacity, codes.size(), properties.getFalsePositiveRate());
+            }
+            filter = rebuilt;
+            version = resumeVersion;
+            log.info("Bloom filter loaded: {} SWIFT codes at version {}, {} bits, {} hash functions",
+                    codes.size(), loadedVersion, rebuilt.getBitCount(), rebuilt.getHashFunctions());
+        }
+        catchUp();
+    }
+
+    /**
+     * Configured capacity, or twice the current number of codes once the directory outgrows it. A saturated
+     * filter no longer tells how many codes it holds, so they are counted in the database instead.
+     */
+    private int capacity() {
+        BloomFilter current = filter;
+        long known = current == null ? 0 : current.approximateElementCount();
+        if (known == Long.MAX_VALUE) {
+            known = swiftCodeRepository.count();
+        }
+        long doubled = known > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE : known * 2;
+        return (int) Math.max(properties.getExpectedInsertions(), doubled);
+    }
+
+    /**
+     * Adds codes inserted since the last load, as recorded in the change log.
+     *
+     * @return number of change log entries examined
+     */
+    public int catchUp() {
+        if (!isEnabled()) {
+            return 0;
+        }
+
+        synchronized (syncLock) {
+            if (filter == null) {
+                reload();
+                return 0;
+            }
+
+            long latest = changeRepository.findLatestVersion();
+            if (latest <= version) {
+                return 0;
+            }
+
+            if (latest - version > properties.getSyncBatchSize()) {
+                log.info("Bloom filter is {} versions behind, rebuilding", latest - version);
+                reload();
+                return (int) Math.min(Integer.MAX_VALUE, latest - version);
+            }
+
+            List<SwiftCodeChange> changes = changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(
+                    version, Limit.of(properties.getSyncBatchSize()));
+
+            BloomFilter current = filter;
+            for (SwiftCodeChange change : changes) {
+                if (change.getChangeType() != ChangeType.DELETE) {
+                    current.put(change.getSwiftCode());
+                }
+            }
+            version = cursor.advance(version, changes, properties.getSyncGapGrace());
+            return changes.size();
+        }
+    }
+}
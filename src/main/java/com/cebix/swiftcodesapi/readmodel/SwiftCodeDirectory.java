@@ -0,0 +1,85 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of the SWIFT code directory indexed by code, by country
+ * and by BIC8 (bank + country + location), so headquarter views can be answered
+ * without touching the database.
+ * <p>
+ * {@link HeapSwiftCodeDirectory} keeps the records as Java objects,
+ * {@link OffHeapSwiftCodeDirectory} in native memory; see
+ * {@code swift-codes.read-model.storage}.
+ * <p>
+ * Mutations return a new snapshot and leave this one untouched.
+ */
+public interface SwiftCodeDirectory {
+
+    static SwiftCodeDirectory empty() {
+        return HeapSwiftCodeDirectory.EMPTY;
+    }
+
+    static SwiftCodeDirectory of(Collection<SwiftCodeRecord> records) {
+        return HeapSwiftCodeDirectory.of(records);
+    }
+
+    Optional<SwiftCodeRecord> find(String swiftCode);
+
+    /**
+     * Resolves several codes at once, preserving request order and skipping unknown codes.
+     */
+    default List<SwiftCodeRecord> findAll(Collection<String> swiftCodes) {
+        List<SwiftCodeRecord> found = new ArrayList<>(swiftCodes.size());
+        for (String swiftCode : swiftCodes) {
+            find(swiftCode).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    /**
+     * Resolves the headquarter ({@code XXX} code with the same first 8 characters) of a code.
+     */
+    Optional<SwiftCodeRecord> findHeadquarter(String swiftCode);
+
+    /**
+     * Returns the country's codes in code order.
+     */
+    Optional<CountryEntry> findCountry(String countryISO2);
+
+    /**
+     * Returns the branches sharing the headquarter's BIC8, excluding the headquarter itself.
+     */
+    List<SwiftCodeRecord> findBranches(SwiftCodeRecord headquarter);
+
+    Collection<SwiftCodeRecord> records();
+
+    int size();
+
+    default SwiftCodeDirectory with(SwiftCodeRecord record) {
+        return apply(List.of(record), List.of());
+    }
+
+    default SwiftCodeDirectory without(String swiftCode) {
+        if (find(swiftCode).isEmpty()) {
+            return this;
+        }
+        return apply(List.of(), List.of(swiftCode));
+    }
+
+    /**
+     * Applies a batch of removals followed by upserts.
+     */
+    SwiftCodeDirectory apply(Collection<SwiftCodeRecord> upserts, Collection<String> removals);
+
+    @Value
+    class CountryEntry {
+        String isoCode;
+        String name;
+        List<SwiftCodeRecord> codes;
+    }
+}
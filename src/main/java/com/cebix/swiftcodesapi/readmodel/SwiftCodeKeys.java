@@ -0,0 +1,107 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+/**
+ * Encodes SWIFT (BIC) codes of up to 11 characters over {@code [A-Z0-9]} into a single
+ * {@code long} so the read model can index them without {@code String} hashing.
+ * <p>
+ * Each character is a base-37 digit (1-36, in ASCII order); shorter codes are padded
+ * with zeros on the right, so keys sort like the codes themselves, a BIC8 and its
+ * BIC11 extensions share a contiguous key range, and every key is strictly positive.
+ */
+public final class SwiftCodeKeys {
+
+    /**
+     * Returned for values that cannot be encoded (wrong length, lowercase, punctuation).
+     */
+    public static final long INVALID = -1L;
+
+    public static final int MAX_LENGTH = 11;
+
+    private static final int RADIX = 37;
+
+    private static final long BRANCH_SPAN = (long) RADIX * RADIX * RADIX;
+
+    // "XXX": 'X' is digit 34
+    private static final long HEADQUARTER_SUFFIX = 34L * RADIX * RADIX + 34L * RADIX + 34L;
+
+    private SwiftCodeKeys() {
+    }
+
+    public static long encode(CharSequence value) {
+        if (value == null) {
+            return INVALID;
+        }
+
+        int length = value.length();
+        if (length == 0 || length > MAX_LENGTH) {
+            return INVALID;
+        }
+
+        long key = 0;
+        for (int i = 0; i < MAX_LENGTH; i++) {
+            int digit = 0;
+            if (i < length) {
+                digit = digit(value.charAt(i));
+                if (digit == 0) {
+                    return INVALID;
+                }
+            }
+            key = key * RADIX + digit;
+        }
+        return key;
+    }
+
+    public static String decode(long key) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("Not a SWIFT code key: " + key);
+        }
+
+        char[] chars = new char[MAX_LENGTH];
+        int length = 0;
+        for (int i = MAX_LENGTH - 1; i >= 0; i--) {
+            int digit = (int) (key % RADIX);
+            key /= RADIX;
+            if (digit != 0) {
+                chars[i] = symbol(digit);
+                length = Math.max(length, i + 1);
+            }
+        }
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Key of the first 8 characters (bank, country and location code) of an encoded code.
+     */
+    public static long bic8(long key) {
+        return key - key % BRANCH_SPAN;
+    }
+
+    /**
+     * Key just past every code sharing the first 8 characters of an encoded code, so that
+     * {@code [bic8(key), bic8End(key))} is the key range of its bank.
+     */
+    public static long bic8End(long key) {
+        return bic8(key) + BRANCH_SPAN;
+    }
+
+    /**
+     * Key of the headquarter ({@code XXX} branch) for an encoded code.
+     */
+    public static long headquarter(long key) {
+        return bic8(key) + HEADQUARTER_SUFFIX;
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 1;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 11;
+        }
+        return 0;
+    }
+
+    private static char symbol(int digit) {
+        return digit <= 10 ? (char) ('0' + digit - 1) : (char) ('A' + digit - 11);
+    }
+}
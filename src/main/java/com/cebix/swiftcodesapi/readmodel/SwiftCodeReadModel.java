@@ -0,0 +1,222 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.cebix.swiftcodesapi.config.ReadModelProperties;
+import com.cebix.swiftcodesapi.entity.Country;
+import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.entity.SwiftCodeChange;
+import com.cebix.swiftcodesapi.repository.CountryRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeChangeRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import com.cebix.swiftcodesapi.sharding.CountryShardMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the current {@link SwiftCodeDirectory} snapshot. Reads are lock-free;
+ * writers build a new snapshot and publish it atomically.
+ * <p>
+ * The snapshot remembers the change log version it reflects. {@link #catchUp()} applies
+ * changes written by any node since then, which keeps replicas sharing one database coherent.
+ * <p>
+ * With sharding enabled the snapshot holds only the countries this node owns; callers check
+ * {@link #holds} / {@link #holdsCountry} and read anything else from the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SwiftCodeReadModel {
+
+    private final SwiftCodeRepository swiftCodeRepository;
+    private final CountryRepository countryRepository;
+    private final SwiftCodeChangeRepository changeRepository;
+    private final ReadModelProperties properties;
+    private final CountryShardMap shardMap;
+    private final StringPool stringPool = new StringPool();
+    private final ChangeLogCursor cursor = new ChangeLogCursor(Clock.systemUTC());
+
+    /**
+     * Serializes reloads and catch-ups while they query the database. Writers call {@link #put}
+     * once their transaction has committed, possibly still holding a pooled connection, so the monitor
+     * on {@code this} is only ever held for in-memory work; otherwise a catch-up waiting for a
+     * connection and writers waiting for the monitor could exhaust the pool between them.
+     */
+    private final Object syncLock = new Object();
+
+    private volatile SwiftCodeDirectory directory = SwiftCodeDirectory.empty();
+    private volatile long version;
+
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public SwiftCodeDirectory getDirectory() {
+        return directory;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Whether the snapshot is the place to look {@code swiftCode} up, i.e. it is enabled and the code's
+     * country belongs to this node.
+     */
+    public boolean holds(String swiftCode) {
+        return isEnabled() && shardMap.isLocalCode(swiftCode);
+    }
+
+    public boolean holdsCountry(String countryISO2) {
+        return isEnabled() && shardMap.isLocal(countryISO2);
+    }
+
+    /**
+     * Whether the snapshot is enabled and holds every country, i.e. sharding is off.
+     */
+    public boolean holdsAll() {
+        return isEnabled() && !shardMap.isEnabled();
+    }
+
+    public void reload() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        synchronized (syncLock) {
+            // Read the version first: changes committed while loading are re-applied by the next catch-up,
+            // and so are those below it that had not committed yet.
+            long loadedVersion = changeRepository.findLatestVersion();
+            long resumeVersion = cursor.afterLoad(loadedVersion, changeRepository, properties.getSyncGapGrace(),
+                    properties.getSyncBatchSize() / 2);
+            List<SwiftCode> entities = shardMap.isEnabled() ? findLocal() : swiftCodeRepository.findAllWithCountry();
+
+            synchronized (this) {
+                stringPool.clear();
+                List<SwiftCodeRecord> records = entities.stream()
+                        .map(this::toRecord)
+                        .toList();
+
+                directory = properties.getStorage() == ReadModelProperties.Storage.OFF_HEAP
+                        ? OffHeapSwiftCodeDirectory.of(records)
+                        : SwiftCodeDirectory.of(records);
+                version = resumeVersion;
+            }
+        }
+        if (directory instanceof OffHeapSwiftCodeDirectory offHeap) {
+            log.info("Read model loaded: {} SWIFT codes at version {}, {} bytes off-heap",
+                    directory.size(), version, offHeap.nativeBytes());
+        } else {
+            log.info("Read model loaded: {} SWIFT codes at version {}, {} pooled strings",
+                    directory.size(), version, stringPool.size());
+        }
+    }
+
+    /**
+     * Brings the snapshot up to the latest change log version. Changed codes are re-read
+     * from their tables, so applying a change twice (e.g. one this node wrote itself) is harmless.
+     *
+     * @return number of change log entries examined
+     */
+    public int catchUp() {
+        if (!isEnabled()) {
+            return 0;
+        }
+
+        synchronized (syncLock) {
+            long latest = changeRepository.findLatestVersion();
+            if (latest <= version) {
+                return 0;
+            }
+
+            if (latest - version > properties.getSyncBatchSize()) {
+                log.info("Read model is {} versions behind, reloading", latest - version);
+                reload();
+                return (int) Math.min(Integer.MAX_VALUE, latest - version);
+            }
+
+            List<SwiftCodeChange> changes = changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(
+                    version, Limit.of(properties.getSyncBatchSize()));
+
+            Set<String> codes = changes.stream()
+                    .map(SwiftCodeChange::getSwiftCode)
+                    .filter(shardMap::isLocalCode)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+
+            Map<String, SwiftCode> current = codes.isEmpty() ? Map.of() : swiftCodeRepository.findAllWithCountryBySwiftCodeIn(codes)
+                    .stream()
+                    .collect(Collectors.toMap(SwiftCode::getSwiftCode, Function.identity()));
+
+            synchronized (this) {
+                List<SwiftCodeRecord> upserts = current.values().stream().map(this::toRecord).toList();
+                List<String> removals = codes.stream().filter(code -> !current.containsKey(code)).toList();
+
+                directory = directory.apply(upserts, removals);
+                version = cursor.advance(version, changes, properties.getSyncGapGrace());
+                log.debug("Read model caught up to version {} ({} upserts, {} removals)", version, upserts.size(), removals.size());
+            }
+            return changes.size();
+        }
+    }
+
+    public synchronized void put(SwiftCode entity) {
+        if (holds(entity.getSwiftCode())) {
+            directory = directory.with(toRecord(entity));
+        }
+    }
+
+    public synchronized void putAll(Collection<SwiftCode> entities) {
+        List<SwiftCodeRecord> records = entities.stream()
+                .filter(entity -> holds(entity.getSwiftCode()))
+                .map(this::toRecord)
+                .toList();
+        if (!records.isEmpty()) {
+            directory = directory.apply(records, List.of());
+        }
+    }
+
+    public synchronized void remove(String swiftCode) {
+        if (isEnabled()) {
+            directory = directory.without(swiftCode);
+        }
+    }
+
+    public synchronized void removeAll(Collection<String> swiftCodes) {
+        if (isEnabled() && !swiftCodes.isEmpty()) {
+            directory = directory.apply(List.of(), swiftCodes);
+        }
+    }
+
+    private List<SwiftCode> findLocal() {
+        List<String> localCountries = countryRepository.findAll().stream()
+                .map(Country::getIsoCode)
+                .filter(shardMap::isLocal)
+                .toList();
+        return localCountries.isEmpty() ? List.of() : swiftCodeRepository.findAllWithCountryByCountryIsoCodeIn(localCountries);
+    }
+
+    SwiftCodeRecord toRecord(SwiftCode entity) {
+        return SwiftCodeRecord.builder()
+                .id(entity.getId())
+                .swiftCode(entity.getSwiftCode())
+                .bankName(canonical(entity.getBankName()))
+                .address(canonical(entity.getAddress()))
+                .townName(canonical(entity.getBranchName()))
+                .countryISO2(canonical(entity.getCountry().getIsoCode()))
+                .countryName(canonical(entity.getCountry().getName()))
+                .headquarter(entity.isHeadquarter())
+                .build();
+    }
+
+    private String canonical(String value) {
+        // Off-heap storage keeps its own single copy of each value; pooling would only pin them on the heap
+        boolean pooled = properties.isInternStrings() && properties.getStorage() == ReadModelProperties.Storage.HEAP;
+        return pooled ? stringPool.canonical(value) : value;
+    }
+}
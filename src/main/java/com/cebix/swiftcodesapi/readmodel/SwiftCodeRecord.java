@@ -0,0 +1,25 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable, detached view of a {@link com.cebix.swiftcodesapi.entity.SwiftCode} row
+ * held by the in-memory read model.
+ */
+@Value
+@Builder(toBuilder = true)
+public class SwiftCodeRecord {
+    Long id;
+    String swiftCode;
+    String bankName;
+    String address;
+    String townName;
+    String countryISO2;
+    String countryName;
+    boolean headquarter;
+
+    public String getBic8() {
+        return swiftCode.length() >= 8 ? swiftCode.substring(0, 8) : swiftCode;
+    }
+}
@@ -0,0 +1,214 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.cebix.swiftcodesapi.config.StatisticsProperties;
+import com.cebix.swiftcodesapi.dto.BankStatsDTO;
+import com.cebix.swiftcodesapi.dto.CountryStatsDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeStatsDTO;
+import com.cebix.swiftcodesapi.entity.ChangeType;
+import com.cebix.swiftcodesapi.entity.SwiftCodeChange;
+import com.cebix.swiftcodesapi.entity.SwiftCodeSummary;
+import com.cebix.swiftcodesapi.repository.SwiftCodeChangeRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * Directory statistics (codes per country, headquarters and branches, largest banks) counted once
+ * from the tables and then kept current from the change log, which records local and remote writes
+ * alike. Loads, catch-ups and checks publish an immutable snapshot that requests read without locking
+ * or querying, so the statistics are at most one {@code sync-interval} behind. With polling disabled
+ * a request catches up itself first.
+ * <p>
+ * The optional consistency check recounts from the tables and replaces the counters if they drifted,
+ * e.g. because a change log version was skipped.
+ */
+@Component
+@Slf4j
+public class SwiftCodeStatistics {
+
+    private final SwiftCodeRepository swiftCodeRepository;
+    private final SwiftCodeChangeRepository changeRepository;
+    private final StatisticsProperties properties;
+    private final ChangeLogCursor cursor = new ChangeLogCursor(Clock.systemUTC());
+    private final Counter drift;
+
+    private DirectoryCounts counts;
+    private long version;
+    private volatile Snapshot snapshot;
+
+    public SwiftCodeStatistics(SwiftCodeRepository swiftCodeRepository, SwiftCodeChangeRepository changeRepository,
+                               StatisticsProperties properties, MeterRegistry meterRegistry) {
+        this.swiftCodeRepository = swiftCodeRepository;
+        this.changeRepository = changeRepository;
+        this.properties = properties;
+        this.drift = Counter.builder("swiftcodes.stats.drift")
+                .description("Consistency checks that found the counters out of line with the tables")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * While disabled the statistics are counted from the tables on every call.
+     *
+     * @param largestBanks number of banks to list by branch count
+     */
+    public SwiftCodeStatsDTO getStatistics(int largestBanks) {
+        if (largestBanks < 0) {
+            throw new IllegalArgumentException("largestBanks must not be negative: " + largestBanks);
+        }
+
+        if (!isEnabled()) {
+            long latest = changeRepository.findLatestVersion();
+            return Snapshot.of(DirectoryCounts.of(swiftCodeRepository.findAllSummaries()), latest).toDTO(largestBanks);
+        }
+
+        Snapshot current = snapshot;
+        if (current == null || properties.getSyncInterval().isZero()) {
+            catchUp();
+            current = snapshot;
+        }
+        return current.toDTO(largestBanks);
+    }
+
+    public SwiftCodeStatsDTO getStatistics() {
+        return getStatistics(properties.getLargestBanks());
+    }
+
+    public long getVersion() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.version();
+    }
+
+    private void publish() {
+        snapshot = Snapshot.of(counts, version);
+    }
+
+    public synchronized void reload() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        // Read the version first: changes committed while counting are re-applied by the next catch-up,
+        // and so are those below it that had not committed yet.
+        long loadedVersion = changeRepository.findLatestVersion();
+        long resumeVersion = cursor.afterLoad(loadedVersion, changeRepository, properties.getSyncGapGrace(),
+                properties.getSyncBatchSize() / 2);
+        counts = DirectoryCounts.of(swiftCodeRepository.findAllSummaries());
+        version = resumeVersion;
+        publish();
+        log.info("Directory statistics loaded: {} SWIFT codes at version {}", counts.totalCodes(), loadedVersion);
+    }
+
+    /**
+     * Applies changes since the last load or catch-up.
+     *
+     * @return number of change log entries examined
+     */
+    public synchronized int catchUp() {
+        if (!isEnabled()) {
+            return 0;
+        }
+        if (counts == null) {
+            reload();
+            return 0;
+        }
+
+        long latest = changeRepository.findLatestVersion();
+        if (latest <= version) {
+            return 0;
+        }
+
+        if (latest - version > properties.getSyncBatchSize()) {
+            log.info("Directory statistics are {} versions behind, recounting", latest - version);
+            reload();
+            return (int) Math.min(Integer.MAX_VALUE, latest - version);
+        }
+
+        List<SwiftCodeChange> changes = changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(
+                version, Limit.of(properties.getSyncBatchSize()));
+        long advanced = cursor.advance(version, changes, properties.getSyncGapGrace());
+
+        for (SwiftCodeChange change : changes) {
+            if (change.getVersion() > advanced) {
+                break;
+            }
+            if (change.getChangeType() == ChangeType.DELETE) {
+                counts.remove(change.getSwiftCode());
+            } else {
+                counts.upsert(new SwiftCodeSummary(change.getSwiftCode(), change.getBankName(),
+                        Boolean.TRUE.equals(change.getIsHeadquarter()), change.getCountryISO2(), change.getCountryName()));
+            }
+        }
+        version = advanced;
+        publish();
+        return changes.size();
+    }
+
+    /**
+     * Recounts from the tables and replaces the counters if they differ. Skipped when the
+     * directory changes while recounting, since the two would then count different states.
+     *
+     * @return {@code true} if the counters had drifted and were replaced
+     */
+    public synchronized boolean verify() {
+        if (!isEnabled()) {
+            return false;
+        }
+
+        catchUp();
+        long checkedVersion = changeRepository.findLatestVersion();
+        if (checkedVersion != version) {
+            log.debug("Directory statistics still catching up to version {}, skipping consistency check", checkedVersion);
+            return false;
+        }
+
+        DirectoryCounts recounted = DirectoryCounts.of(swiftCodeRepository.findAllSummaries());
+        if (changeRepository.findLatestVersion() != checkedVersion) {
+            log.debug("Directory changed during the consistency check, skipping it");
+            return false;
+        }
+
+        if (recounted.sameCounts(counts)) {
+            return false;
+        }
+
+        log.warn("Directory statistics drifted from the tables at version {}: {} codes counted, {} in the tables",
+                version, counts.totalCodes(), recounted.totalCodes());
+        drift.increment();
+        counts = recounted;
+        publish();
+        return true;
+    }
+
+    /**
+     * What requests are served from; banks are kept in full, ordered by branch count.
+     */
+    private record Snapshot(long version, long totalCodes, long headquarters, long branches,
+                            List<CountryStatsDTO> countries, List<BankStatsDTO> banks) {
+
+        static Snapshot of(DirectoryCounts counts, long version) {
+            return new Snapshot(version, counts.totalCodes(), counts.headquarters(), counts.branches(),
+                    counts.countries(), counts.largestBanks(Integer.MAX_VALUE));
+        }
+
+        SwiftCodeStatsDTO toDTO(int largestBanks) {
+            return SwiftCodeStatsDTO.builder()
+                    .version(version)
+                    .totalCodes(totalCodes)
+                    .headquarters(headquarters)
+                    .branches(branches)
+                    .countries(countries)
+                    .largestBanks(banks.subList(0, Math.min(largestBanks, banks.size())))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.cebix.swiftcodesapi.repository;
+
+import com.cebix.swiftcodesapi.entity.SwiftCodeChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface SwiftCodeChangeRepository extends JpaRepository<SwiftCodeChange, Long> {
+    List<SwiftCodeChange> findAllByVersionGreaterThanOrderByVersionAsc(Long version, Limit limit);
+
+    @Query("select coalesce(max(c.version), 0) from SwiftCodeChange c")
+    long findLatestVersion();
+
+    @Query("select coalesce(max(c.version), 0) from SwiftCodeChange c where c.changedAt < :before")
+    long findLatestVersionBefore(@Param("before") Instant before);
+
+    @Query("select c.version from SwiftCodeChange c where c.version > :after and c.version <= :upTo order by c.version")
+    List<Long> findVersionsBetween(@Param("after") long after, @Param("upTo") long upTo);
+
+    // Native: Hibernate renders HQL inserts with a table alias, which only some databases accept
+    @Modifying
+    @Query(value = "insert into swift_code_changes (change_type, swift_code, changed_at) "
+            + "select 'DELETE', swift_code, :changedAt from swift_codes where substring(swift_code from 1 for 8) = :bic8",
+            nativeQuery = true)
+    int insertDeletesOfBank(@Param("bic8") String bic8, @Param("changedAt") Instant changedAt);
+
+    @Modifying
+    @Query(value = "insert into swift_code_changes (change_type, swift_code, changed_at) "
+            + "select 'DELETE', swift_code, :changedAt from swift_codes where country_id = :countryId",
+            nativeQuery = true)
+    int insertDeletesOfCountry(@Param("countryId") Long countryId, @Param("changedAt") Instant changedAt);
+}
@@ -1,9 +1,15 @@
 package com.cebix.swiftcodesapi.repository;
 
 import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.entity.SwiftCodeSummary;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,9 +17,80 @@ import java.util.Optional;
 public interface SwiftCodeRepository extends JpaRepository<SwiftCode, Long> {
     Optional<SwiftCode> findBySwiftCode(String swiftCode);
 
+    /**
+     * Loads a code with its country and, for a headquarter, its branches and their countries in one statement.
+     */
+    @EntityGraph(attributePaths = {"country", "branches", "branches.country"})
+    Optional<SwiftCode> findWithBranchesBySwiftCode(String swiftCode);
+
+    @EntityGraph(attributePaths = {"country", "branches", "branches.country"})
+    List<SwiftCode> findAllWithBranchesBySwiftCodeIn(Collection<String> swiftCodes);
+
     List<SwiftCode> findAllByCountry_Id(Long countryId);
 
+    List<SwiftCode> findAllBySwiftCodeIn(Collection<String> swiftCodes);
+
     boolean existsBySwiftCode(String swiftCode);
 
     List<SwiftCode> findAllByHeadquarterEntity(SwiftCode headquarter);
+
+    @Query("select s.swiftCode from SwiftCode s")
+    List<String> findAllSwiftCodes();
+
+    @Query("select new com.cebix.swiftcodesapi.entity.SwiftCodeSummary(s.swiftCode, s.bankName, s.isHeadquarter, c.isoCode, c.name) "
+            + "from SwiftCode s join s.country c")
+    List<SwiftCodeSummary> findAllSummaries();
+
+    @Query("select s from SwiftCode s join fetch s.country")
+    List<SwiftCode> findAllWithCountry();
+
+    @Query("select s from SwiftCode s join fetch s.country where s.swiftCode in :swiftCodes")
+    List<SwiftCode> findAllWithCountryBySwiftCodeIn(@Param("swiftCodes") Collection<String> swiftCodes);
+
+    @Query("select s from SwiftCode s join fetch s.country c where c.isoCode in :isoCodes")
+    List<SwiftCode> findAllWithCountryByCountryIsoCodeIn(@Param("isoCodes") Collection<String> isoCodes);
+
+    // BIC8 predicates use the expression of ix_swift_codes_bic8 (substring(swift_code from 1 for 8))
+
+    @Query("select s.swiftCode from SwiftCode s where substring(s.swiftCode, 1, 8) = :bic8")
+    List<String> findSwiftCodesByBic8(@Param("bic8") String bic8);
+
+    @Query("select s.swiftCode from SwiftCode s where s.country.id = :countryId")
+    List<String> findSwiftCodesByCountryId(@Param("countryId") Long countryId);
+
+    /**
+     * Unlinks the branches of {@code headquarter} so that it can be deleted on its own.
+     */
+    @Modifying
+    @Query("update SwiftCode s set s.headquarterEntity = null where s.headquarterEntity = :headquarter")
+    int detachBranches(@Param("headquarter") SwiftCode headquarter);
+
+    /**
+     * Unlinks branches outside the bank from its headquarter; codes of the bank itself are deleted together.
+     */
+    @Modifying
+    @Query("update SwiftCode s set s.headquarterEntity = null "
+            + "where s.headquarterEntity.id in (select h.id from SwiftCode h where substring(h.swiftCode, 1, 8) = :bic8) "
+            + "and substring(s.swiftCode, 1, 8) <> :bic8")
+    int detachBranchesOutsideBank(@Param("bic8") String bic8);
+
+    /**
+     * Unlinks branches in other countries from headquarters in {@code countryId}.
+     */
+    @Modifying
+    @Query("update SwiftCode s set s.headquarterEntity = null "
+            + "where s.headquarterEntity.id in (select h.id from SwiftCode h where h.country.id = :countryId) "
+            + "and s.country.id <> :countryId")
+    int detachBranchesOutsideCountry(@Param("countryId") Long countryId);
+
+    // Branches are deleted before headquarters: databases that check the self-reference per row (H2)
+    // reject a single statement that removes a headquarter ahead of its branches.
+
+    @Modifying
+    @Query("delete from SwiftCode s where substring(s.swiftCode, 1, 8) = :bic8 and s.isHeadquarter = :headquarter")
+    int deleteAllByBic8(@Param("bic8") String bic8, @Param("headquarter") boolean headquarter);
+
+    @Modifying
+    @Query("delete from SwiftCode s where s.country.id = :countryId and s.isHeadquarter = :headquarter")
+    int deleteAllByCountryId(@Param("countryId") Long countryId, @Param("headquarter") boolean headquarter);
 }
@@ -0,0 +1,110 @@
+package com.cebix.swiftcodesapi.repository;
+
+import com.cebix.swiftcodesapi.entity.SwiftCodeStaging;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Staging rows of a staged import and the set-based statements that publish them. The publishing
+ * statements are meant to run in one transaction, in the order they are declared here.
+ */
+@Repository
+public interface SwiftCodeStagingRepository extends JpaRepository<SwiftCodeStaging, Long> {
+
+    long countByImportId(String importId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from SwiftCodeStaging s where s.importId = :importId and s.swiftCode in :swiftCodes")
+    int deleteAllByImportIdAndSwiftCodeIn(@Param("importId") String importId, @Param("swiftCodes") Collection<String> swiftCodes);
+
+    @Transactional
+    @Modifying
+    @Query("delete from SwiftCodeStaging s where s.importId = :importId")
+    int deleteAllByImportId(@Param("importId") String importId);
+
+    @Modifying
+    @Query(value = "insert into countries (name, iso_code) "
+            + "select min(s.country_name), s.country_iso2 from swift_code_staging s "
+            + "where s.import_id = :importId "
+            + "and not exists (select 1 from countries c where c.iso_code = s.country_iso2) "
+            + "group by s.country_iso2",
+            nativeQuery = true)
+    int insertMissingCountries(@Param("importId") String importId);
+
+    /**
+     * Logs the staged codes that will change. Like the row-by-row import, a new town name alone is written but not logged.
+     */
+    @Modifying
+    @Query(value = "insert into swift_code_changes "
+            + "(change_type, swift_code, bank_name, address, country_iso2, country_name, is_headquarter, changed_at) "
+            + "select 'UPDATE', s.swift_code, s.bank_name, s.address, s.country_iso2, k.name, s.is_headquarter, :changedAt "
+            + "from swift_code_staging s "
+            + "join swift_codes c on c.swift_code = s.swift_code "
+            + "join countries old on old.id = c.country_id "
+            + "join countries k on k.iso_code = s.country_iso2 "
+            + "where s.import_id = :importId "
+            + "and (s.bank_name <> c.bank_name or s.address <> c.address "
+            + "or s.is_headquarter <> c.is_headquarter or s.country_iso2 <> old.iso_code)",
+            nativeQuery = true)
+    int insertUpdateChanges(@Param("importId") String importId, @Param("changedAt") Instant changedAt);
+
+    @Modifying
+    @Query(value = "insert into swift_code_changes "
+            + "(change_type, swift_code, bank_name, address, country_iso2, country_name, is_headquarter, changed_at) "
+            + "select 'INSERT', s.swift_code, s.bank_name, s.address, s.country_iso2, k.name, s.is_headquarter, :changedAt "
+            + "from swift_code_staging s "
+            + "join countries k on k.iso_code = s.country_iso2 "
+            + "where s.import_id = :importId "
+            + "and not exists (select 1 from swift_codes c where c.swift_code = s.swift_code)",
+            nativeQuery = true)
+    int insertInsertChanges(@Param("importId") String importId, @Param("changedAt") Instant changedAt);
+
+    /**
+     * Overwrites existing codes whose staged row differs; identical rows are left alone.
+     */
+    @Modifying
+    @Query(value = "update swift_codes set (bank_name, branch_name, address, is_headquarter, country_id) = "
+            + "(select s.bank_name, s.branch_name, s.address, s.is_headquarter, k.id "
+            + "from swift_code_staging s join countries k on k.iso_code = s.country_iso2 "
+            + "where s.import_id = :importId and s.swift_code = swift_codes.swift_code) "
+            + "where exists (select 1 from swift_code_staging s join countries k on k.iso_code = s.country_iso2 "
+            + "where s.import_id = :importId and s.swift_code = swift_codes.swift_code "
+            + "and (s.bank_name <> swift_codes.bank_name or s.branch_name is distinct from swift_codes.branch_name "
+            + "or s.address <> swift_codes.address or s.is_headquarter <> swift_codes.is_headquarter "
+            + "or k.id <> swift_codes.country_id))",
+            nativeQuery = true)
+    int updateChangedCodes(@Param("importId") String importId);
+
+    @Modifying
+    @Query(value = "insert into swift_codes (swift_code, bank_name, branch_name, address, is_headquarter, country_id) "
+            + "select s.swift_code, s.bank_name, s.branch_name, s.address, s.is_headquarter, k.id "
+            + "from swift_code_staging s join countries k on k.iso_code = s.country_iso2 "
+            + "where s.import_id = :importId "
+            + "and not exists (select 1 from swift_codes c where c.swift_code = s.swift_code)",
+            nativeQuery = true)
+    int insertNewCodes(@Param("importId") String importId);
+
+    /**
+     * Points every code of the banks in the import at its bank's headquarter, or at none if there is
+     * no headquarter. Unlike the row-by-row import this also links branches that precede their
+     * headquarter in the file, and branches already stored when their headquarter arrives.
+     */
+    @Modifying
+    @Query(value = "update swift_codes set headquarter_id = "
+            + "case when is_headquarter then null else (select h.id from swift_codes h "
+            + "where h.swift_code = substring(swift_codes.swift_code from 1 for 8) || 'XXX') end "
+            + "where substring(swift_code from 1 for 8) in (select substring(s.swift_code from 1 for 8) "
+            + "from swift_code_staging s where s.import_id = :importId) "
+            + "and headquarter_id is distinct from case when is_headquarter then null else (select h.id from swift_codes h "
+            + "where h.swift_code = substring(swift_codes.swift_code from 1 for 8) || 'XXX') end",
+            nativeQuery = true)
+    int relinkHeadquarters(@Param("importId") String importId);
+}
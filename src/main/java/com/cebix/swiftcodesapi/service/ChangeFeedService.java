@@ -0,0 +1,26 @@
+package com.cebix.swiftcodesapi.service;
+
+import com.cebix.swiftcodesapi.dto.SwiftCodeChangesDTO;
+import com.cebix.swiftcodesapi.entity.ChangeType;
+import com.cebix.swiftcodesapi.entity.SwiftCode;
+
+public interface ChangeFeedService {
+
+    void recordUpsert(SwiftCode swiftCode, ChangeType changeType);
+
+    void recordDelete(String swiftCode);
+
+    /**
+     * Records a delete for every code of the bank; call before the codes are deleted.
+     */
+    void recordDeletesOfBank(String bic8);
+
+    /**
+     * Records a delete for every code of the country; call before the codes are deleted.
+     */
+    void recordDeletesOfCountry(Long countryId);
+
+    SwiftCodeChangesDTO getChanges(long since, int limit);
+
+    long getLatestVersion();
+}
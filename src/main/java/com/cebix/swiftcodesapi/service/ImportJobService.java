@@ -0,0 +1,22 @@
+package com.cebix.swiftcodesapi.service;
+
+import com.cebix.swiftcodesapi.dto.ImportJobDTO;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+public interface ImportJobService {
+
+    ImportJobDTO submit(InputStream csv);
+
+    /**
+     * Imports a CSV that is already on disk, reading it in place. The file is left where it is;
+     * {@code onFinished} receives the final job status on the import thread.
+     */
+    ImportJobDTO submit(Path csv, Consumer<ImportJobDTO> onFinished);
+
+    ImportJobDTO getJob(String id);
+
+    ImportJobDTO cancel(String id);
+}
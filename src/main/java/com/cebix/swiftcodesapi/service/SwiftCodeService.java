@@ -1,16 +1,41 @@
 package com.cebix.swiftcodesapi.service;
 
 import com.cebix.swiftcodesapi.dto.CountrySwiftCodesDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeBatchDTO;
 import com.cebix.swiftcodesapi.dto.SwiftCodeCreateDTO;
 import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeStatsDTO;
+
+import java.util.List;
 
 public interface SwiftCodeService {
 
     SwiftCodeDTO getSwiftCode(String swiftCode);
 
+    SwiftCodeBatchDTO getSwiftCodes(List<String> swiftCodes);
+
     CountrySwiftCodesDTO getSwiftCodesByCountryISO2(String countryISO2);
 
     void createSwiftCode(SwiftCodeCreateDTO dto);
 
     void deleteSwiftCode(String swiftCode);
+
+    /**
+     * Deletes the headquarter and all branches of a bank.
+     *
+     * @return the number of deleted codes
+     */
+    int deleteBank(String bic8);
+
+    /**
+     * Deletes all codes of a country; the country itself stays.
+     *
+     * @return the number of deleted codes
+     */
+    int deleteCountry(String countryISO2);
+
+    /**
+     * @param largestBanks number of banks to list by branch count, or {@code null} for the configured default
+     */
+    SwiftCodeStatsDTO getStatistics(Integer largestBanks);
 }
\ No newline at end of file
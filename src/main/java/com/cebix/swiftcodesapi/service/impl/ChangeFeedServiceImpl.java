@@ -0,0 +1,98 @@
+package com.cebix.swiftcodesapi.service.impl;
+
+import com.cebix.swiftcodesapi.dto.SwiftCodeChangeDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeChangesDTO;
+import com.cebix.swiftcodesapi.entity.ChangeType;
+import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.entity.SwiftCodeChange;
+import com.cebix.swiftcodesapi.mapper.SwiftCodeMapper;
+import com.cebix.swiftcodesapi.repository.SwiftCodeChangeRepository;
+import com.cebix.swiftcodesapi.service.ChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Appends directory changes to {@code swift_code_changes} and pages through them by version.
+ * <p>
+ * Versions come from an identity column, so they are assigned at insert time. Writers that
+ * commit out of order can briefly expose a gap; consumers should re-read from their last
+ * applied version rather than assume a page is final.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+    public static final int MAX_PAGE_SIZE = 5000;
+
+    private final SwiftCodeChangeRepository changeRepository;
+    private final SwiftCodeMapper swiftCodeMapper;
+
+    @Override
+    public void recordUpsert(SwiftCode swiftCode, ChangeType changeType) {
+        changeRepository.save(SwiftCodeChange.builder()
+                .changeType(changeType)
+                .swiftCode(swiftCode.getSwiftCode())
+                .bankName(swiftCode.getBankName())
+                .address(swiftCode.getAddress())
+                .countryISO2(swiftCode.getCountry().getIsoCode())
+                .countryName(swiftCode.getCountry().getName())
+                .isHeadquarter(swiftCode.isHeadquarter())
+                .changedAt(Instant.now())
+                .build());
+    }
+
+    @Override
+    public void recordDelete(String swiftCode) {
+        changeRepository.save(SwiftCodeChange.builder()
+                .changeType(ChangeType.DELETE)
+                .swiftCode(swiftCode)
+                .changedAt(Instant.now())
+                .build());
+    }
+
+    @Override
+    public void recordDeletesOfBank(String bic8) {
+        changeRepository.insertDeletesOfBank(bic8, Instant.now());
+    }
+
+    @Override
+    public void recordDeletesOfCountry(Long countryId) {
+        changeRepository.insertDeletesOfCountry(countryId, Instant.now());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SwiftCodeChangesDTO getChanges(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since must not be negative: " + since);
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE + ": " + limit);
+        }
+
+        List<SwiftCodeChange> page = changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(since, Limit.of(limit + 1));
+        boolean hasMore = page.size() > limit;
+        List<SwiftCodeChangeDTO> changes = page.stream()
+                .limit(limit)
+                .map(swiftCodeMapper::toChangeDTO)
+                .toList();
+
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getVersion();
+
+        return SwiftCodeChangesDTO.builder()
+                .changes(changes)
+                .nextSince(nextSince)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    public long getLatestVersion() {
+        return changeRepository.findLatestVersion();
+    }
+}
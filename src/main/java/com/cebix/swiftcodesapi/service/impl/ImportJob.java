@@ -0,0 +1,159 @@
+package com.cebix.swiftcodesapi.service.impl;
+
+import com.cebix.swiftcodesapi.dto.ImportJobDTO;
+import com.cebix.swiftcodesapi.parser.ImportProgress;
+import lombok.Getter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Progress of one CSV import submitted through {@link ImportJobServiceImpl}. Written by the
+ * import thread, read by status requests.
+ */
+public class ImportJob implements ImportProgress {
+
+    static final int MAX_ERRORS = 20;
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    @Getter
+    private final String id;
+    private final Clock clock;
+
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final Map<String, LongAdder> rowsByCountry = new ConcurrentHashMap<>();
+    private final List<String> errors = new ArrayList<>();
+
+    @Getter
+    private volatile State state = State.QUEUED;
+    private volatile long bytesTotal;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile boolean cancelRequested;
+    private volatile boolean failed;
+
+    ImportJob(String id, Clock clock) {
+        this.id = id;
+        this.clock = clock;
+    }
+
+    void setBytesTotal(long bytesTotal) {
+        this.bytesTotal = bytesTotal;
+    }
+
+    void addBytesRead(long bytes) {
+        bytesRead.addAndGet(bytes);
+    }
+
+    void start() {
+        startedAt = clock.instant();
+        state = State.RUNNING;
+    }
+
+    void finish() {
+        finishedAt = clock.instant();
+        if (failed) {
+            state = State.FAILED;
+        } else if (cancelRequested) {
+            state = State.CANCELLED;
+        } else {
+            state = State.COMPLETED;
+        }
+    }
+
+    void cancel() {
+        cancelRequested = true;
+    }
+
+    boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    @Override
+    public void rowImported(String countryISO2) {
+        rowsImported.incrementAndGet();
+        rowsByCountry.computeIfAbsent(countryISO2, key -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void rowRejected(long line, String reason) {
+        rowsRejected.incrementAndGet();
+        addError("Line " + line + ": " + reason);
+    }
+
+    @Override
+    public void importFailed(Exception cause) {
+        failed = true;
+        addError(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelRequested;
+    }
+
+    /**
+     * Rate and ETA are derived from the bytes consumed so far, since the number of rows in an
+     * uploaded file is not known up front.
+     */
+    ImportJobDTO toDTO() {
+        long imported = rowsImported.get();
+        long rejected = rowsRejected.get();
+        long read = bytesRead.get();
+        long total = bytesTotal;
+
+        Instant start = startedAt;
+        Instant end = finishedAt != null ? finishedAt : clock.instant();
+        double seconds = start == null ? 0 : Duration.between(start, end).toNanos() / 1e9;
+
+        Long etaSeconds = null;
+        if (state == State.RUNNING && seconds > 0 && read > 0 && total >= read) {
+            etaSeconds = Math.round((total - read) / (read / seconds));
+        }
+
+        Map<String, Long> byCountry = new TreeMap<>();
+        rowsByCountry.forEach((country, rows) -> byCountry.put(country, rows.sum()));
+
+        List<String> errorSample;
+        synchronized (errors) {
+            errorSample = List.copyOf(errors);
+        }
+
+        return ImportJobDTO.builder()
+                .id(id)
+                .state(state.name())
+                .rowsProcessed(imported + rejected)
+                .rowsImported(imported)
+                .rowsRejected(rejected)
+                .rowsPerSecond(seconds > 0 ? Math.round((imported + rejected) / seconds * 10) / 10.0 : 0)
+                .bytesRead(Math.min(read, total))
+                .bytesTotal(total)
+                .etaSeconds(etaSeconds)
+                .startedAt(start)
+                .finishedAt(finishedAt)
+                .rowsByCountry(byCountry)
+                .errors(errorSample)
+                .build();
+    }
+
+    private void addError(String error) {
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.cebix.swiftcodesapi.service.impl;
+
+import com.cebix.swiftcodesapi.config.ImportProperties;
+import com.cebix.swiftcodesapi.dto.ImportJobDTO;
+import com.cebix.swiftcodesapi.exception.ImportInProgressException;
+import com.cebix.swiftcodesapi.parser.ParserService;
+import com.cebix.swiftcodesapi.service.ImportJobService;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Runs uploaded CSV imports in the background, one at a time.
+ * <p>
+ * The upload is copied to a temporary file as it arrives, so it is never held in memory and the
+ * request returns as soon as the upload is complete. The file size then gives the denominator for
+ * progress and ETA. A second upload is refused while an import is active.
+ * <p>
+ * Files already on disk, such as those picked up from the watched import directory, are read in
+ * place instead of being copied.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportJobServiceImpl implements ImportJobService {
+
+    private final ParserService parserService;
+    private final ImportProperties importProperties;
+
+    private final Clock clock = Clock.systemUTC();
+    private final AtomicReference<ImportJob> activeJob = new AtomicReference<>();
+    private final Map<String, ImportJob> jobs = new LinkedHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "swift-codes-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public ImportJobDTO submit(InputStream csv) {
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), clock);
+        if (!activeJob.compareAndSet(null, job)) {
+            throw new ImportInProgressException("Import " + activeJob.get().getId() + " is still running");
+        }
+        remember(job);
+
+        Path file;
+        try {
+            file = Files.createTempFile("swift-codes-import-", ".csv");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                csv.transferTo(out);
+            }
+            job.setBytesTotal(Files.size(file));
+        } catch (IOException e) {
+            job.importFailed(e);
+            job.finish();
+            activeJob.set(null);
+            throw new UncheckedIOException("Could not receive the uploaded CSV", e);
+        }
+
+        executor.execute(() -> run(job, file, true, dto -> {
+        }));
+        return job.toDTO();
+    }
+
+    @Override
+    public ImportJobDTO submit(Path csv, Consumer<ImportJobDTO> onFinished) {
+        long size;
+        try {
+            size = Files.size(csv);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + csv, e);
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), clock);
+        if (!activeJob.compareAndSet(null, job)) {
+            throw new ImportInProgressException("Import " + activeJob.get().getId() + " is still running");
+        }
+        remember(job);
+        job.setBytesTotal(size);
+
+        executor.execute(() -> run(job, csv, false, onFinished));
+        return job.toDTO();
+    }
+
+    @Override
+    public ImportJobDTO getJob(String id) {
+        return findJob(id).toDTO();
+    }
+
+    /**
+     * Asks the import to stop after the current row. An in-place import keeps the rows imported up
+     * to then; a staged import discards them.
+     */
+    @Override
+    public ImportJobDTO cancel(String id) {
+        ImportJob job = findJob(id);
+        if (!job.isFinished()) {
+            job.cancel();
+        }
+        return job.toDTO();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        ImportJob job = activeJob.get();
+        if (job != null) {
+            job.cancel();
+        }
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void run(ImportJob job, Path file, boolean temporary, Consumer<ImportJobDTO> onFinished) {
+        job.start();
+        log.info("Import {} of {} started", job.getId(), temporary ? "an upload" : file);
+
+        try (InputStreamReader reader = new InputStreamReader(
+                new CountingInputStream(Files.newInputStream(file), job), StandardCharsets.UTF_8)) {
+            parserService.importDataFromStream(reader, job);
+        } catch (IOException | RuntimeException e) {
+            log.error("Import {} failed", job.getId(), e);
+            job.importFailed(e);
+        } finally {
+            job.finish();
+            activeJob.compareAndSet(job, null);
+            if (temporary) {
+                deleteQuietly(file);
+            }
+
+            ImportJobDTO result = job.toDTO();
+            log.info("Import {} finished: {}, {} rows imported, {} rejected, {} bytes in {} ms ({} rows/s)",
+                    job.getId(), result.getState(), result.getRowsImported(), result.getRowsRejected(),
+                    result.getBytesRead(), Duration.between(result.getStartedAt(), result.getFinishedAt()).toMillis(),
+                    result.getRowsPerSecond());
+            try {
+                onFinished.accept(result);
+            } catch (RuntimeException e) {
+                log.warn("Import {} finished, but its callback failed", job.getId(), e);
+            }
+        }
+    }
+
+    private ImportJob findJob(String id) {
+        synchronized (jobs) {
+            ImportJob job = jobs.get(id);
+            if (job == null) {
+                throw new EntityNotFoundException("Import job not found: " + id);
+            }
+            return job;
+        }
+    }
+
+    private void remember(ImportJob job) {
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+
+            Iterator<ImportJob> oldest = jobs.values().iterator();
+            while (jobs.size() > importProperties.getRetainedJobs() && oldest.hasNext()) {
+                if (oldest.next().isFinished()) {
+                    oldest.remove();
+                }
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}", file, e);
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private final ImportJob job;
+
+        CountingInputStream(InputStream in, ImportJob job) {
+            super(in);
+            this.job = job;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                job.addBytesRead(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                job.addBytesRead(count);
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.cebix.swiftcodesapi.service.impl;
+
+import com.cebix.swiftcodesapi.dto.SwiftCodeCreateDTO;
+import com.cebix.swiftcodesapi.entity.ChangeType;
+import com.cebix.swiftcodesapi.entity.Country;
+import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.mapper.SwiftCodeMapper;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeBloomFilter;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeReadModel;
+import com.cebix.swiftcodesapi.repository.CountryRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import com.cebix.swiftcodesapi.service.ChangeFeedService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Inserts a group of new SWIFT codes in one transaction for {@link SwiftCodeWriteBehind}.
+ * <p>
+ * Existing codes and headquarters are looked up with one query for the whole group, and a
+ * branch may refer to a headquarter created earlier in the same group. A create that fails
+ * validation is skipped and reported without affecting the others.
+ */
+@Component
+@RequiredArgsConstructor
+public class SwiftCodeBatchWriter {
+
+    private final SwiftCodeRepository swiftCodeRepository;
+    private final CountryRepository countryRepository;
+    private final SwiftCodeMapper swiftCodeMapper;
+    private final SwiftCodeReadModel readModel;
+    private final ChangeFeedService changeFeedService;
+    private final SwiftCodeBloomFilter bloomFilter;
+
+    /**
+     * @return one entry per create, in order: {@code null} when it was inserted, otherwise the reason it was not
+     */
+    @Transactional
+    public List<RuntimeException> createAll(List<SwiftCodeCreateDTO> dtos) {
+        Set<String> lookups = new HashSet<>();
+        for (SwiftCodeCreateDTO dto : dtos) {
+            lookups.add(dto.getSwiftCode());
+            if (Boolean.FALSE.equals(dto.getIsHeadquarter())) {
+                lookups.add(headquarterCode(dto.getSwiftCode()));
+            }
+        }
+
+        List<SwiftCode> existing = lookups.isEmpty() ? List.of() : swiftCodeRepository.findAllBySwiftCodeIn(lookups);
+        Map<String, SwiftCode> known = existing.stream()
+                .collect(Collectors.toMap(SwiftCode::getSwiftCode, Function.identity(), (a, b) -> a, HashMap::new));
+        Map<String, Optional<Country>> countries = new HashMap<>();
+
+        List<RuntimeException> failures = new ArrayList<>(dtos.size());
+        List<SwiftCode> created = new ArrayList<>();
+
+        for (SwiftCodeCreateDTO dto : dtos) {
+            try {
+                SwiftCode entity = toEntity(dto, known, countries);
+                bloomFilter.put(entity.getSwiftCode());
+                swiftCodeRepository.save(entity);
+                changeFeedService.recordUpsert(entity, ChangeType.INSERT);
+                known.put(entity.getSwiftCode(), entity);
+                created.add(entity);
+                failures.add(null);
+            } catch (IllegalArgumentException | EntityNotFoundException e) {
+                failures.add(e);
+            }
+        }
+
+        AfterCommit.run(() -> readModel.putAll(created));
+        return failures;
+    }
+
+    private SwiftCode toEntity(SwiftCodeCreateDTO dto, Map<String, SwiftCode> known,
+                               Map<String, Optional<Country>> countries) {
+        if (known.containsKey(dto.getSwiftCode())) {
+            throw new IllegalArgumentException("SwiftCode already exists: " + dto.getSwiftCode());
+        }
+
+        Country country = countries.computeIfAbsent(dto.getCountryISO2().toUpperCase(), countryRepository::findByIsoCode)
+                .orElseThrow(() -> new EntityNotFoundException("Country not found with ISO2: " + dto.getCountryISO2()));
+
+        SwiftCode entity = swiftCodeMapper.toEntity(dto);
+        entity.setCountry(country);
+        entity.setHeadquarter(Boolean.TRUE.equals(dto.getIsHeadquarter()));
+
+        if (Boolean.FALSE.equals(dto.getIsHeadquarter())) {
+            SwiftCode headquarter = known.get(headquarterCode(dto.getSwiftCode()));
+            if (headquarter == null) {
+                throw new EntityNotFoundException("Headquarter not found for branch: " + dto.getSwiftCode());
+            }
+            entity.setHeadquarterEntity(headquarter);
+        }
+
+        return entity;
+    }
+
+    private static String headquarterCode(String branchSwiftCode) {
+        return branchSwiftCode.substring(0, 8) + "XXX";
+    }
+}
@@ -1,20 +1,41 @@
 package com.cebix.swiftcodesapi.service.impl;
 
+import com.cebix.swiftcodesapi.config.DataSourceRouting;
 import com.cebix.swiftcodesapi.dto.CountrySwiftCodesDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeBatchDTO;
 import com.cebix.swiftcodesapi.dto.SwiftCodeCreateDTO;
 import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
 import com.cebix.swiftcodesapi.dto.SwiftCodeSimpleDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeStatsDTO;
+import com.cebix.swiftcodesapi.entity.ChangeType;
 import com.cebix.swiftcodesapi.entity.Country;
 import com.cebix.swiftcodesapi.entity.SwiftCode;
 import com.cebix.swiftcodesapi.mapper.SwiftCodeMapper;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeBloomFilter;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeDirectory;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeReadModel;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeRecord;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeStatistics;
 import com.cebix.swiftcodesapi.repository.CountryRepository;
 import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import com.cebix.swiftcodesapi.service.ChangeFeedService;
 import com.cebix.swiftcodesapi.service.SwiftCodeService;
+import com.cebix.swiftcodesapi.timing.RequestTiming;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,36 +44,98 @@ public class SwiftCodeServiceImpl implements SwiftCodeService {
     private final SwiftCodeRepository swiftCodeRepository;
     private final CountryRepository countryRepository;
     private final SwiftCodeMapper swiftCodeMapper;
+    private final SwiftCodeReadModel readModel;
+    private final ChangeFeedService changeFeedService;
+    private final PlatformTransactionManager transactionManager;
+    private final SwiftCodeWriteBehind writeBehind;
+    private final SwiftCodeBloomFilter bloomFilter;
+    private final SwiftCodeStatistics statistics;
+
+    private final SingleFlight<String, SwiftCodeDTO> swiftCodeLoads = new SingleFlight<>();
+    private final SingleFlight<String, CountrySwiftCodesDTO> countryLoads = new SingleFlight<>();
 
     @Override
     public SwiftCodeDTO getSwiftCode(String swiftCode) {
-        SwiftCode entity = swiftCodeRepository.findBySwiftCode(swiftCode)
-                .orElseThrow(() -> new EntityNotFoundException("SwiftCode not found: " + swiftCode));
+        if (readModel.holds(swiftCode)) {
+            return getSwiftCodeFromReadModel(swiftCode);
+        }
 
-        SwiftCodeDTO dto = swiftCodeMapper.toDTO(entity);
+        if (!bloomFilter.mightContain(swiftCode)) {
+            throw new EntityNotFoundException("SwiftCode not found: " + swiftCode);
+        }
 
-        if (entity.isHeadquarter()) {
-            List<SwiftCodeSimpleDTO> branchDTOs = swiftCodeRepository.findAllByHeadquarterEntity(entity)
+        return coalesce(swiftCodeLoads, swiftCode, () -> loadSwiftCode(swiftCode));
+    }
+
+    private SwiftCodeDTO loadSwiftCode(String swiftCode) {
+        SwiftCode entity = swiftCodeRepository.findWithBranchesBySwiftCode(swiftCode)
+                .orElseThrow(() -> {
+                    bloomFilter.recordFalsePositive();
+                    return new EntityNotFoundException("SwiftCode not found: " + swiftCode);
+                });
+
+        return toDetailedDTO(entity);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SwiftCodeBatchDTO getSwiftCodes(List<String> swiftCodes) {
+        // Codes of countries held by the read model are served from it, the rest (all of them without it) from the database
+        Map<Boolean, List<String>> byHolder = swiftCodes.stream()
+                .collect(Collectors.partitioningBy(readModel::holds));
+        List<SwiftCodeDTO> found = new ArrayList<>();
+
+        if (!byHolder.get(true).isEmpty()) {
+            SwiftCodeDirectory directory = readModel.getDirectory();
+            directory.findAll(byHolder.get(true))
+                    .forEach(record -> found.add(toDetailedDTO(directory, record)));
+        }
+
+        List<String> candidates = byHolder.get(false).stream()
+                .filter(bloomFilter::mightContain)
+                .toList();
+        if (!candidates.isEmpty()) {
+            List<SwiftCodeDTO> loaded = swiftCodeRepository.findAllWithBranchesBySwiftCodeIn(candidates)
                     .stream()
-                    .map(swiftCodeMapper::toSimpleDTO)
+                    .map(this::toDetailedDTO)
                     .toList();
-            dto.setBranches(branchDTOs);
-        } else {
-            dto.setBranches(null);
+            found.addAll(loaded);
+            bloomFilter.recordFalsePositives(candidates.stream().distinct().count() - loaded.size());
         }
 
-        return dto;
+        Set<String> foundCodes = found.stream()
+                .map(SwiftCodeDTO::getSwiftCode)
+                .collect(Collectors.toSet());
+
+        List<String> notFound = swiftCodes.stream()
+                .filter(code -> !foundCodes.contains(code))
+                .distinct()
+                .toList();
+
+        return SwiftCodeBatchDTO.builder()
+                .swiftCodes(found)
+                .notFound(notFound)
+                .build();
     }
 
     @Override
     public CountrySwiftCodesDTO getSwiftCodesByCountryISO2(String countryISO2) {
+        if (readModel.holdsCountry(countryISO2)) {
+            return getSwiftCodesByCountryISO2FromReadModel(countryISO2);
+        }
+
+        return coalesce(countryLoads, countryISO2, () -> loadSwiftCodesByCountryISO2(countryISO2));
+    }
+
+    private CountrySwiftCodesDTO loadSwiftCodesByCountryISO2(String countryISO2) {
         Country country = countryRepository.findByIsoCode(countryISO2)
                 .orElseThrow(() -> new EntityNotFoundException("Country not found with ISO2: " + countryISO2));
 
-        List<SwiftCodeSimpleDTO> swiftCodes = swiftCodeRepository.findAllByCountry_Id(country.getId())
+        List<SwiftCode> entities = swiftCodeRepository.findAllByCountry_Id(country.getId());
+        List<SwiftCodeSimpleDTO> swiftCodes = RequestTiming.time(RequestTiming.Phase.MAPPING, () -> entities
                 .stream()
                 .map(swiftCodeMapper::toSimpleDTO)
-                .toList();
+                .toList());
 
         return CountrySwiftCodesDTO.builder()
                 .countryISO2(country.getIsoCode())
@@ -61,9 +144,26 @@ public class SwiftCodeServiceImpl implements SwiftCodeService {
                 .build();
     }
 
+    /**
+     * With write-behind enabled the create is validated here and then committed together with
+     * other concurrent creates; the call still returns only once it is stored.
+     */
     @Override
     public void createSwiftCode(SwiftCodeCreateDTO dto) {
-        if (swiftCodeRepository.existsBySwiftCode(dto.getSwiftCode())) {
+        if (writeBehind.isEnabled()) {
+            DataSourceRouting.onPrimary(() -> inReadOnlyTransaction(() -> {
+                validateCreate(dto);
+                return null;
+            }));
+            writeBehind.create(dto);
+            return;
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> insertSwiftCode(dto));
+    }
+
+    private void insertSwiftCode(SwiftCodeCreateDTO dto) {
+        if (exists(dto.getSwiftCode())) {
             throw new IllegalArgumentException("SwiftCode already exists: " + dto.getSwiftCode());
         }
 
@@ -77,21 +177,190 @@ public class SwiftCodeServiceImpl implements SwiftCodeService {
         entity.setHeadquarter(Boolean.TRUE.equals(dto.getIsHeadquarter()));
 
         if (Boolean.FALSE.equals(dto.getIsHeadquarter())) {
-            String hqSwiftCode = dto.getSwiftCode().substring(0, 8) + "XXX";
-            SwiftCode headquarter = swiftCodeRepository.findBySwiftCode(hqSwiftCode)
-                    .orElseThrow(() -> new EntityNotFoundException("Headquarter not found for branch: " + dto.getSwiftCode()));
-
-            entity.setHeadquarterEntity(headquarter);
+            entity.setHeadquarterEntity(resolveHeadquarter(dto.getSwiftCode()));
         }
 
+        bloomFilter.put(entity.getSwiftCode());
         swiftCodeRepository.save(entity);
+        changeFeedService.recordUpsert(entity, ChangeType.INSERT);
+        AfterCommit.run(() -> readModel.put(entity));
+    }
+
+    private void validateCreate(SwiftCodeCreateDTO dto) {
+        if (exists(dto.getSwiftCode())) {
+            throw new IllegalArgumentException("SwiftCode already exists: " + dto.getSwiftCode());
+        }
+
+        if (!countryRepository.existsByIsoCode(dto.getCountryISO2().toUpperCase())) {
+            throw new EntityNotFoundException("Country not found with ISO2: " + dto.getCountryISO2());
+        }
+
+        if (Boolean.FALSE.equals(dto.getIsHeadquarter())
+                && !exists(dto.getSwiftCode().substring(0, 8) + "XXX")) {
+            throw new EntityNotFoundException("Headquarter not found for branch: " + dto.getSwiftCode());
+        }
+    }
+
+    /**
+     * Always asks the database: the Bloom filter only learns of codes created on other replicas at
+     * the next sync, so it could let a duplicate through or miss a headquarter.
+     */
+    private boolean exists(String swiftCode) {
+        return swiftCodeRepository.existsBySwiftCode(swiftCode);
     }
 
     @Override
+    @Transactional
     public void deleteSwiftCode(String swiftCode) {
         SwiftCode entity = swiftCodeRepository.findBySwiftCode(swiftCode)
                 .orElseThrow(() -> new EntityNotFoundException("SwiftCode not found: " + swiftCode));
 
+        if (entity.isHeadquarter()) {
+            // Branches stay in the directory without a headquarter, as when they are imported before it
+            swiftCodeRepository.detachBranches(entity);
+        }
         swiftCodeRepository.delete(entity);
+        changeFeedService.recordDelete(swiftCode);
+        AfterCommit.run(() -> readModel.remove(swiftCode));
+    }
+
+    /**
+     * A handful of set-based statements regardless of the bank size. Repeatable read keeps them on one
+     * snapshot, so a code created concurrently is neither deleted nor missing from the change log.
+     */
+    @Override
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int deleteBank(String bic8) {
+        List<String> swiftCodes = swiftCodeRepository.findSwiftCodesByBic8(bic8);
+        if (swiftCodes.isEmpty()) {
+            throw new EntityNotFoundException("No SwiftCodes found for bank: " + bic8);
+        }
+
+        changeFeedService.recordDeletesOfBank(bic8);
+        swiftCodeRepository.detachBranchesOutsideBank(bic8);
+        int deleted = swiftCodeRepository.deleteAllByBic8(bic8, false) + swiftCodeRepository.deleteAllByBic8(bic8, true);
+        AfterCommit.run(() -> readModel.removeAll(swiftCodes));
+        return deleted;
+    }
+
+    /**
+     * Same statements as {@link #deleteBank(String)}, selected by country.
+     */
+    @Override
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int deleteCountry(String countryISO2) {
+        Country country = countryRepository.findByIsoCode(countryISO2)
+                .orElseThrow(() -> new EntityNotFoundException("Country not found with ISO2: " + countryISO2));
+
+        List<String> swiftCodes = swiftCodeRepository.findSwiftCodesByCountryId(country.getId());
+        if (swiftCodes.isEmpty()) {
+            return 0;
+        }
+
+        changeFeedService.recordDeletesOfCountry(country.getId());
+        swiftCodeRepository.detachBranchesOutsideCountry(country.getId());
+        int deleted = swiftCodeRepository.deleteAllByCountryId(country.getId(), false)
+                + swiftCodeRepository.deleteAllByCountryId(country.getId(), true);
+        AfterCommit.run(() -> readModel.removeAll(swiftCodes));
+        return deleted;
+    }
+
+    @Override
+    public SwiftCodeStatsDTO getStatistics(Integer largestBanks) {
+        return largestBanks == null ? statistics.getStatistics() : statistics.getStatistics(largestBanks);
+    }
+
+    /**
+     * Runs a database lookup in its own read-only transaction, shared with concurrent lookups of the
+     * same key. Waiting callers hold no transaction and therefore no pooled connection. Callers that
+     * already run in a transaction or are pinned to the primary must see their own writes, so they
+     * query on their own.
+     */
+    private <T> T coalesce(SingleFlight<String, T> loads, String key, Supplier<T> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive() || DataSourceRouting.isPrimaryForced()) {
+            return inReadOnlyTransaction(loader);
+        }
+
+        return loads.execute(key, () -> inReadOnlyTransaction(loader));
+    }
+
+    private <T> T inReadOnlyTransaction(Supplier<T> loader) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> loader.get());
+    }
+
+    /**
+     * Always asks the database, like {@link #exists}: the read model may not have synced a headquarter
+     * created or deleted on another replica yet.
+     */
+    private SwiftCode resolveHeadquarter(String branchSwiftCode) {
+        String hqSwiftCode = branchSwiftCode.substring(0, 8) + "XXX";
+        return swiftCodeRepository.findBySwiftCode(hqSwiftCode)
+                .orElseThrow(() -> new EntityNotFoundException("Headquarter not found for branch: " + branchSwiftCode));
+    }
+
+    private SwiftCodeDTO toDetailedDTO(SwiftCode entity) {
+        return RequestTiming.time(RequestTiming.Phase.MAPPING, () -> mapDetailed(entity));
+    }
+
+    private SwiftCodeDTO mapDetailed(SwiftCode entity) {
+        SwiftCodeDTO dto = swiftCodeMapper.toDTO(entity);
+
+        if (entity.isHeadquarter()) {
+            List<SwiftCodeSimpleDTO> branchDTOs = entity.getBranches()
+                    .stream()
+                    .map(swiftCodeMapper::toSimpleDTO)
+                    .toList();
+            dto.setBranches(branchDTOs);
+        } else {
+            dto.setBranches(null);
+        }
+
+        return dto;
+    }
+
+    private SwiftCodeDTO getSwiftCodeFromReadModel(String swiftCode) {
+        SwiftCodeDirectory directory = readModel.getDirectory();
+        SwiftCodeRecord record = directory.find(swiftCode)
+                .orElseThrow(() -> new EntityNotFoundException("SwiftCode not found: " + swiftCode));
+
+        return toDetailedDTO(directory, record);
+    }
+
+    private SwiftCodeDTO toDetailedDTO(SwiftCodeDirectory directory, SwiftCodeRecord record) {
+        return RequestTiming.time(RequestTiming.Phase.MAPPING, () -> mapDetailed(directory, record));
+    }
+
+    private SwiftCodeDTO mapDetailed(SwiftCodeDirectory directory, SwiftCodeRecord record) {
+        SwiftCodeDTO dto = swiftCodeMapper.recordToDTO(record);
+
+        if (record.isHeadquarter()) {
+            List<SwiftCodeSimpleDTO> branchDTOs = directory.findBranches(record)
+                    .stream()
+                    .map(swiftCodeMapper::recordToSimpleDTO)
+                    .toList();
+            dto.setBranches(branchDTOs);
+        } else {
+            dto.setBranches(null);
+        }
+
+        return dto;
+    }
+
+    private CountrySwiftCodesDTO getSwiftCodesByCountryISO2FromReadModel(String countryISO2) {
+        SwiftCodeDirectory.CountryEntry country = readModel.getDirectory().findCountry(countryISO2)
+                .orElseThrow(() -> new EntityNotFoundException("Country not found with ISO2: " + countryISO2));
+
+        List<SwiftCodeSimpleDTO> swiftCodes = RequestTiming.time(RequestTiming.Phase.MAPPING, () -> country.getCodes()
+                .stream()
+                .map(swiftCodeMapper::recordToSimpleDTO)
+                .toList());
+
+        return CountrySwiftCodesDTO.builder()
+                .countryISO2(country.getIsoCode())
+                .countryName(country.getName())
+                .swiftCodes(swiftCodes)
+                .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+package com.cebix.swiftcodesapi.service.impl;
+
+import com.cebix.swiftcodesapi.config.WriteBehindProperties;
+import com.cebix.swiftcodesapi.dto.SwiftCodeCreateDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queues validated creates and writes them in groups from a single background thread, so that
+ * a burst of POSTs shares a few transactions instead of committing one each.
+ * <p>
+ * Acknowledgment model: {@link #create} returns only after the transaction containing the create
+ * has committed, and throws if that create was rejected. A successful response therefore means
+ * the code is stored, exactly as without write-behind; the price is up to one batch delay of
+ * extra latency. Creates still queued when the process dies are lost, but their callers never
+ * received a response and can safely retry.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SwiftCodeWriteBehind {
+
+    private final WriteBehindProperties properties;
+    private final SwiftCodeBatchWriter batchWriter;
+
+    private BlockingQueue<PendingCreate> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        running = true;
+        flusher = new Thread(this::flushLoop, "swift-codes-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Writes the remaining queued creates before the connection pool shuts down.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+
+        running = false;
+        flusher.join();
+
+        List<PendingCreate> stranded = new ArrayList<>();
+        queue.drainTo(stranded);
+        stranded.forEach(pending -> pending.result.completeExceptionally(
+                new RejectedExecutionException("Write-behind queue is shut down")));
+    }
+
+    /**
+     * Enqueues a create and waits until it is committed.
+     */
+    public void create(SwiftCodeCreateDTO dto) {
+        if (!running) {
+            throw new RejectedExecutionException("Write-behind queue is not running");
+        }
+
+        PendingCreate pending = new PendingCreate(dto, new CompletableFuture<>());
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the write-behind queue", e);
+        }
+        // stop() may have drained the queue for the last time between the check above and the put;
+        // whoever removes the create first, this caller, the flusher or stop(), completes it
+        if (!running && queue.remove(pending)) {
+            throw new RejectedExecutionException("Write-behind queue is shut down");
+        }
+
+        try {
+            pending.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void flushLoop() {
+        List<PendingCreate> batch = new ArrayList<>(properties.getMaxBatchSize());
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCreate first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                long deadline = System.nanoTime() + properties.getMaxDelay().toNanos();
+                while (batch.size() < properties.getMaxBatchSize()) {
+                    PendingCreate next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException | Error e) {
+                log.error("Write-behind flush failed", e);
+                batch.forEach(pending -> pending.result.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes a batch in one transaction. If the transaction itself fails (for instance a code
+     * created concurrently through another node), each create is retried in its own transaction
+     * so that only the conflicting ones are rejected.
+     */
+    private void flush(List<PendingCreate> batch) {
+        List<RuntimeException> failures;
+        try {
+            failures = batchWriter.createAll(batch.stream().map(PendingCreate::dto).toList());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result.completeExceptionally(e);
+                return;
+            }
+            log.warn("Write-behind batch of {} creates failed, retrying them one by one: {}", batch.size(), e.getMessage());
+            batch.forEach(pending -> flush(List.of(pending)));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            RuntimeException failure = failures.get(i);
+            if (failure == null) {
+                batch.get(i).result.complete(null);
+            } else {
+                batch.get(i).result.completeExceptionally(failure);
+            }
+        }
+    }
+
+    private record PendingCreate(SwiftCodeCreateDTO dto, CompletableFuture<Void> result) {
+    }
+}
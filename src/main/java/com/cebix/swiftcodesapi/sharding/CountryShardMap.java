@@ -0,0 +1,112 @@
+package com.cebix.swiftcodesapi.sharding;
+
+import com.cebix.swiftcodesapi.config.ShardingProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Assigns every country (ISO2) to one node through a consistent-hash ring, so that adding or
+ * removing a node only moves the countries of the ring segments it takes over or gives up.
+ * <p>
+ * A SWIFT code belongs to the country in its characters 5-6, which the validator requires to match
+ * the code's country. Every node builds the same ring from the same configuration; nothing is
+ * coordinated at runtime. With sharding disabled every country is local.
+ */
+@Component
+public class CountryShardMap {
+
+    private final boolean enabled;
+    private final String nodeId;
+    private final Map<String, URI> nodes;
+    private final Map<String, String> pinned;
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    public CountryShardMap(ShardingProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.nodeId = properties.getNodeId();
+        this.nodes = Map.copyOf(properties.getNodes());
+        this.pinned = properties.getPinned().entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        entry -> entry.getKey().toUpperCase(Locale.ROOT), Map.Entry::getValue));
+
+        if (!enabled) {
+            return;
+        }
+        if (nodeId == null || !nodes.containsKey(nodeId)) {
+            throw new IllegalStateException("swift-codes.sharding.node-id [" + nodeId + "] must be one of "
+                    + "swift-codes.sharding.nodes " + nodes.keySet());
+        }
+        pinned.forEach((country, node) -> {
+            if (!nodes.containsKey(node)) {
+                throw new IllegalStateException("Country " + country + " is pinned to unknown node [" + node + "]");
+            }
+        });
+
+        for (String node : nodes.keySet()) {
+            for (int i = 0; i < properties.getVirtualNodes(); i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * @return the id of the node that owns {@code countryISO2}, or {@code null} with sharding disabled
+     */
+    public String ownerOf(String countryISO2) {
+        if (!enabled) {
+            return null;
+        }
+
+        String country = countryISO2.toUpperCase(Locale.ROOT);
+        String node = pinned.get(country);
+        if (node != null) {
+            return node;
+        }
+
+        Map.Entry<Long, String> point = ring.ceilingEntry(hash(country));
+        return (point != null ? point : ring.firstEntry()).getValue();
+    }
+
+    public boolean isLocal(String countryISO2) {
+        return !enabled || nodeId.equals(ownerOf(countryISO2));
+    }
+
+    /**
+     * Whether this node owns the country of {@code swiftCode}. Values too short to carry a country are
+     * treated as local, so that they are rejected or looked up here rather than sent elsewhere.
+     */
+    public boolean isLocalCode(String swiftCode) {
+        return !enabled || swiftCode == null || swiftCode.length() < 6 || isLocal(swiftCode.substring(4, 6));
+    }
+
+    public URI getNodeUrl(String node) {
+        return nodes.get(node);
+    }
+
+    private static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.cebix.swiftcodesapi.sharding;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Redirects lookups of a single code or a country owned by another node to that node with
+ * {@code 307 Temporary Redirect}, where the code is served from memory. Everything else is handled
+ * here: writes go to the shared database whichever node receives them, and batch lookups read the
+ * codes of other nodes' countries from the database.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ShardRoutingFilter extends OncePerRequestFilter {
+
+    static final String SHARD_HEADER = "X-Swift-Codes-Shard";
+
+    private static final String BASE_PATH = "/v1/swift-codes/";
+    private static final String COUNTRY_PATH = BASE_PATH + "country/";
+
+    private final CountryShardMap shardMap;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String owner = ownerOf(request);
+
+        if (owner == null || owner.equals(shardMap.getNodeId())) {
+            response.setHeader(SHARD_HEADER, shardMap.getNodeId());
+            chain.doFilter(request, response);
+            return;
+        }
+
+        URI target = shardMap.getNodeUrl(owner);
+        String query = request.getQueryString();
+        String location = target.toString().replaceAll("/+$", "") + request.getRequestURI()
+                + (query == null ? "" : "?" + query);
+
+        log.debug("Redirecting {} to node {}", request.getRequestURI(), owner);
+        response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+        response.setHeader(HttpHeaders.LOCATION, location);
+        response.setHeader(SHARD_HEADER, owner);
+    }
+
+    /**
+     * @return the node owning the code or country the request looks up, or {@code null} if it is not such a lookup
+     */
+    private String ownerOf(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return null;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith(COUNTRY_PATH)) {
+            String country = path.substring(COUNTRY_PATH.length());
+            return country.length() == 2 ? shardMap.ownerOf(country) : null;
+        }
+
+        if (path.startsWith(BASE_PATH)) {
+            String code = path.substring(BASE_PATH.length());
+            // Codes are 8 or 11 characters, longer than the fixed GET routes (changes, stats, export)
+            if (code.length() >= 8 && code.length() <= 11 && code.indexOf('/') < 0) {
+                return shardMap.ownerOf(code.substring(4, 6));
+            }
+        }
+        return null;
+    }
+}
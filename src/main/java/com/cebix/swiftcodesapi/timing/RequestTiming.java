@@ -0,0 +1,117 @@
+package com.cebix.swiftcodesapi.timing;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Time spent in each {@link Phase} of the HTTP request running on the current thread, reported by
+ * {@link ServerTimingFilter}. Outside of a timed request (instrumentation off, background jobs) the
+ * static helpers only run the given action.
+ * <p>
+ * Phases may overlap: a lazy load while mapping counts towards both {@code map} and {@code db}.
+ */
+public final class RequestTiming {
+
+    public enum Phase {
+        /**
+         * JDBC statements, counted and timed by {@link TimingDataSource}.
+         */
+        DB("db"),
+        /**
+         * Entity and read model records to DTOs.
+         */
+        MAPPING("map"),
+        /**
+         * Writing the response body.
+         */
+        SERIALIZATION("json");
+
+        private final String metric;
+
+        Phase(String metric) {
+            this.metric = metric;
+        }
+    }
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] nanos = new long[Phase.values().length];
+    private final int[] counts = new int[Phase.values().length];
+
+    private RequestTiming() {
+    }
+
+    static RequestTiming start() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    public static <T> T time(Phase phase, Supplier<T> action) {
+        RequestTiming timing = CURRENT.get();
+        if (timing == null) {
+            return action.get();
+        }
+
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            timing.add(phase, System.nanoTime() - start);
+        }
+    }
+
+    public static void record(Phase phase, long elapsedNanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.add(phase, elapsedNanos);
+        }
+    }
+
+    void add(Phase phase, long elapsedNanos) {
+        nanos[phase.ordinal()] += elapsedNanos;
+        counts[phase.ordinal()]++;
+    }
+
+    public long getNanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public int getCount(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Value for the {@code Server-Timing} header, e.g.
+     * {@code db;dur=1.52;desc="2 statements", map;dur=0.08, json;dur=0.31, total;dur=2.40}.
+     */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            header.append(phase.metric).append(";dur=").append(millis(getNanos(phase)));
+            if (phase == Phase.DB) {
+                int statements = getCount(phase);
+                header.append(";desc=\"").append(statements).append(statements == 1 ? " statement\"" : " statements\"");
+            }
+            header.append(", ");
+        }
+        return header.append("total;dur=").append(millis(getElapsedNanos())).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1e6);
+    }
+}
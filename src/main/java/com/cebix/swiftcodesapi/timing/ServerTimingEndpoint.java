@@ -0,0 +1,43 @@
+package com.cebix.swiftcodesapi.timing;
+
+import com.cebix.swiftcodesapi.config.ServerTimingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Switches request timing on a running instance, e.g.
+ * {@code POST /actuator/servertiming {"enabled": true, "slowThreshold": "200ms"}}.
+ * <p>
+ * Anyone who can reach it can make every response buffered and logged, so it is not exposed by default;
+ * expose it only on a management port that clients cannot reach.
+ */
+@Endpoint(id = "servertiming")
+@RequiredArgsConstructor
+public class ServerTimingEndpoint {
+
+    private final ServerTimingProperties properties;
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        return Map.of(
+                "enabled", properties.isEnabled(),
+                "slowThreshold", properties.getSlowThreshold().toString());
+    }
+
+    @WriteOperation
+    public Map<String, Object> configure(@Nullable Boolean enabled, @Nullable Duration slowThreshold) {
+        if (slowThreshold != null) {
+            properties.setSlowThreshold(slowThreshold);
+        }
+        if (enabled != null) {
+            properties.setEnabled(enabled);
+        }
+        return settings();
+    }
+}
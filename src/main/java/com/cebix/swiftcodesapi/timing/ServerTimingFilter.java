@@ -0,0 +1,53 @@
+package com.cebix.swiftcodesapi.timing;
+
+import com.cebix.swiftcodesapi.config.ServerTimingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Times API requests while {@link ServerTimingProperties#isEnabled()} is set and reports the
+ * {@link RequestTiming} in a {@code Server-Timing} header. Requests slower than the threshold are
+ * also logged with their breakdown.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final ServerTimingProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!properties.isEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // The header has to go out before the body, which is held back until the timing is complete
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        RequestTiming timing = RequestTiming.start();
+        try {
+            chain.doFilter(request, cachingResponse);
+        } finally {
+            RequestTiming.stop();
+            String serverTiming = timing.toServerTiming();
+            cachingResponse.setHeader(SERVER_TIMING, serverTiming);
+
+            if (timing.getElapsedNanos() > properties.getSlowThreshold().toNanos()) {
+                log.warn("Slow request {} {} ({}): {}",
+                        request.getMethod(), request.getRequestURI(), cachingResponse.getStatus(), serverTiming);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.cebix.swiftcodesapi.timing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Counts and times the statements executed on connections taken during a timed request
+ * ({@link RequestTiming.Phase#DB}). Connections taken outside of one are handed out unwrapped,
+ * so there is no overhead while timing is off.
+ */
+public class TimingDataSource extends DelegatingDataSource {
+
+    public TimingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        if (!RequestTiming.isActive()) {
+            return connection;
+        }
+        return (Connection) proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            // createStatement, prepareStatement and prepareCall
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return proxy(method.getReturnType(), statement, (statementProxy, statementMethod, statementArgs) ->
+                        invokeStatement(statement, statementMethod, statementArgs));
+            }
+            return result;
+        });
+    }
+
+    private static Object invokeStatement(Statement statement, Method method, Object[] args) throws Throwable {
+        if (!method.getName().startsWith("execute")) {
+            return invoke(statement, method, args);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return invoke(statement, method, args);
+        } finally {
+            RequestTiming.record(RequestTiming.Phase.DB, System.nanoTime() - start);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static Object proxy(Class<?> type, Object target, InvocationHandler handler) {
+        return Proxy.newProxyInstance(TimingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
@@ -0,0 +1,173 @@
+package com.cebix.swiftcodesapi.validation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks the ISO 9362 structure of SWIFT (BIC) codes before any database work: a 4-character bank
+ * code, a 2-letter country code, a 2-character location code and an optional 3-character branch
+ * code, all upper-case {@code [A-Z0-9]}. The location code may not start with {@code 0} or
+ * {@code 1} or end with the letter {@code O}, and a branch code starting with {@code X} must be
+ * {@code XXX}.
+ * <p>
+ * {@link #check} scans the characters in place and allocates nothing; only a rejection builds an
+ * exception. Rejections are counted per reason and source on {@code swiftcodes.validation.rejections}.
+ */
+@Component
+public class SwiftCodeValidator {
+
+    public static final String SOURCE_REQUEST = "request";
+    public static final String SOURCE_IMPORT = "import";
+
+    private final Map<SwiftCodeViolation, Counter> requestRejections = new EnumMap<>(SwiftCodeViolation.class);
+    private final Map<SwiftCodeViolation, Counter> importRejections = new EnumMap<>(SwiftCodeViolation.class);
+
+    public SwiftCodeValidator(MeterRegistry meterRegistry) {
+        for (SwiftCodeViolation violation : SwiftCodeViolation.values()) {
+            requestRejections.put(violation, rejectionCounter(meterRegistry, violation, SOURCE_REQUEST));
+            importRejections.put(violation, rejectionCounter(meterRegistry, violation, SOURCE_IMPORT));
+        }
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, SwiftCodeViolation violation, String source) {
+        return Counter.builder("swiftcodes.validation.rejections")
+                .tag("reason", violation.name().toLowerCase())
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the first violation found, or {@code null} if {@code code} is structurally valid
+     */
+    public static SwiftCodeViolation check(CharSequence code) {
+        if (code == null || code.isEmpty()) {
+            return SwiftCodeViolation.MISSING;
+        }
+
+        int length = code.length();
+        if (length != 8 && length != 11) {
+            return SwiftCodeViolation.LENGTH;
+        }
+
+        for (int i = 0; i < length; i++) {
+            char c = code.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                return SwiftCodeViolation.LOWERCASE;
+            }
+            if (!isUpperAlphanumeric(c)) {
+                return SwiftCodeViolation.CHARACTERS;
+            }
+        }
+
+        if (!isUpperLetter(code.charAt(4)) || !isUpperLetter(code.charAt(5))) {
+            return SwiftCodeViolation.COUNTRY_CODE;
+        }
+
+        if (code.charAt(6) == '0' || code.charAt(6) == '1' || code.charAt(7) == 'O') {
+            return SwiftCodeViolation.LOCATION_CODE;
+        }
+
+        if (length == 11 && code.charAt(8) == 'X' && (code.charAt(9) != 'X' || code.charAt(10) != 'X')) {
+            return SwiftCodeViolation.BRANCH_CODE;
+        }
+
+        return null;
+    }
+
+    /**
+     * Like {@link #check(CharSequence)}, and also requires the code's country segment to match
+     * {@code countryISO2}, compared case-insensitively.
+     */
+    public static SwiftCodeViolation check(CharSequence code, CharSequence countryISO2) {
+        SwiftCodeViolation violation = check(code);
+        if (violation != null) {
+            return violation;
+        }
+
+        if (countryISO2 == null || countryISO2.length() != 2
+                || code.charAt(4) != toUpper(countryISO2.charAt(0))
+                || code.charAt(5) != toUpper(countryISO2.charAt(1))) {
+            return SwiftCodeViolation.COUNTRY_MISMATCH;
+        }
+
+        return null;
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code code} is not structurally valid
+     */
+    public void requireValid(String code) {
+        reject(check(code), code);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code code} is not structurally valid or belongs to another country
+     */
+    public void requireValid(String code, String countryISO2) {
+        reject(check(code, countryISO2), code);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code bic8} is not a structurally valid 8-character bank code
+     */
+    public void requireValidBic8(String bic8) {
+        SwiftCodeViolation violation = check(bic8);
+        reject(violation == null && bic8.length() != 8 ? SwiftCodeViolation.LENGTH : violation, bic8);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code countryISO2} is not 2 upper-case letters, the form of the
+     *                                  country segment {@link #check} accepts
+     */
+    public void requireValidCountryISO2(String countryISO2) {
+        boolean valid = countryISO2 != null && countryISO2.length() == 2
+                && isUpperLetter(countryISO2.charAt(0)) && isUpperLetter(countryISO2.charAt(1));
+        reject(valid ? null : SwiftCodeViolation.COUNTRY_ISO2, countryISO2);
+    }
+
+    /**
+     * @throws IllegalArgumentException naming the first code that is not structurally valid
+     */
+    public void requireAllValid(List<String> codes) {
+        for (String code : codes) {
+            requireValid(code);
+        }
+    }
+
+    /**
+     * Checks a code read from an import file, counting a rejection under the import source.
+     *
+     * @return the violation, or {@code null} if the row may be imported
+     */
+    public SwiftCodeViolation checkImported(String code, String countryISO2) {
+        SwiftCodeViolation violation = check(code, countryISO2);
+        if (violation != null) {
+            importRejections.get(violation).increment();
+        }
+        return violation;
+    }
+
+    private void reject(SwiftCodeViolation violation, String code) {
+        if (violation != null) {
+            requestRejections.get(violation).increment();
+            throw new IllegalArgumentException(violation.getMessage() + ": " + code);
+        }
+    }
+
+    private static boolean isUpperAlphanumeric(char c) {
+        return isUpperLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isUpperLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static char toUpper(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+}
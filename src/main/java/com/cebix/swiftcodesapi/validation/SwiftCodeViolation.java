@@ -0,0 +1,26 @@
+package com.cebix.swiftcodesapi.validation;
+
+/**
+ * Why a value is not a structurally valid ISO 9362 business identifier code or ISO 3166 country code.
+ */
+public enum SwiftCodeViolation {
+    MISSING("SwiftCode is missing"),
+    LENGTH("SwiftCode must be 8 or 11 characters"),
+    LOWERCASE("SwiftCode must be upper case"),
+    CHARACTERS("SwiftCode may only contain letters A-Z and digits"),
+    COUNTRY_CODE("SwiftCode country code (characters 5-6) must be letters"),
+    LOCATION_CODE("SwiftCode location code (characters 7-8) may not start with 0 or 1 or end with O"),
+    BRANCH_CODE("SwiftCode branch code (characters 9-11) may only start with X when it is XXX"),
+    COUNTRY_MISMATCH("SwiftCode country code (characters 5-6) must match countryISO2"),
+    COUNTRY_ISO2("countryISO2 must be 2 upper-case letters");
+
+    private final String message;
+
+    SwiftCodeViolation(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,108 @@
+package com.cebix.swiftcodesapi.warmup;
+
+import com.cebix.swiftcodesapi.config.WarmupProperties;
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import com.cebix.swiftcodesapi.service.SwiftCodeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the single-code and country lookups, the mapping to DTOs and the JSON serialization of their responses
+ * with codes from the directory until the JIT has compiled them, before the application takes traffic.
+ * <p>
+ * It runs when the startup import and the read model load have finished. Spring Boot only publishes
+ * {@code ReadinessState.ACCEPTING_TRAFFIC} once every {@link ApplicationReadyEvent} listener has returned, so
+ * {@code /actuator/health/readiness} reports {@code OUT_OF_SERVICE} until the warm-up is over. Like the load
+ * tests, four in five calls look up a code and one lists a country. Further read paths, such as the reactive
+ * service of the {@code reactive} build, are exercised through {@link WarmupLookups}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JitWarmup {
+
+    private final WarmupProperties properties;
+    private final SwiftCodeRepository swiftCodeRepository;
+    private final SwiftCodeService swiftCodeService;
+    private final ObjectProvider<WarmupLookups> additionalLookups;
+    private final ObjectMapper objectMapper;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        List<String> codes = sample(swiftCodeRepository.findAllSwiftCodes());
+        if (codes.isEmpty()) {
+            log.info("Skipping JIT warm-up, the directory is empty");
+            return;
+        }
+        List<String> countries = codes.stream()
+                .filter(code -> code.length() >= 6)
+                .map(code -> code.substring(4, 6))
+                .distinct()
+                .toList();
+
+        WarmupLookups additional = additionalLookups.getIfAvailable();
+        long started = System.nanoTime();
+        long deadline = started + properties.getDuration().toNanos();
+        long calls = 0;
+        try {
+            for (int i = 0; System.nanoTime() < deadline; i++) {
+                if (i % 5 == 4 && !countries.isEmpty()) {
+                    String country = countries.get((i / 5) % countries.size());
+                    serialize(swiftCodeService.getSwiftCodesByCountryISO2(country));
+                    if (additional != null) {
+                        serialize(additional.getSwiftCodesByCountryISO2(country));
+                    }
+                } else {
+                    String code = codes.get(i % codes.size());
+                    serialize(swiftCodeService.getSwiftCode(code));
+                    if (additional != null) {
+                        serialize(additional.getSwiftCode(code));
+                    }
+                }
+                calls++;
+            }
+        } catch (RuntimeException e) {
+            // A warm-up that cannot run must not keep the instance out of service
+            log.warn("JIT warm-up stopped after {} calls", calls, e);
+            return;
+        }
+
+        log.info("JIT warm-up made {} calls over {} codes and {} countries in {} ms",
+                calls, codes.size(), countries.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Picks up to {@code sample-size} codes spread evenly over all of them, so that every kind of bank and
+     * country size is represented.
+     */
+    private List<String> sample(List<String> all) {
+        int size = Math.min(properties.getSampleSize(), all.size());
+        List<String> sample = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            sample.add(all.get((int) ((long) i * all.size() / size)));
+        }
+        return sample;
+    }
+
+    private void serialize(Object response) {
+        try {
+            objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
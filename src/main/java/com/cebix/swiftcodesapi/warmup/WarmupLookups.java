@@ -0,0 +1,11 @@
+package com.cebix.swiftcodesapi.warmup;
+
+/**
+ * A further read path for {@link JitWarmup} to exercise next to
+ * {@link com.cebix.swiftcodesapi.service.SwiftCodeService}; the {@code reactive} build provides one.
+ */
+public interface WarmupLookups {
+    Object getSwiftCode(String swiftCode);
+
+    Object getSwiftCodesByCountryISO2(String countryISO2);
+}
@@ -0,0 +1,43 @@
+-- Initial schema, matching what Hibernate used to generate with ddl-auto=update. Databases created
+-- that way are not empty, so Flyway baselines them at version 1 and only applies later migrations.
+
+create table countries (
+    id       bigint generated by default as identity primary key,
+    name     varchar(100) not null,
+    iso_code varchar(2)   not null,
+    constraint uk_countries_iso_code unique (iso_code)
+);
+
+create table swift_codes (
+    id             bigint generated by default as identity primary key,
+    swift_code     varchar(11)  not null,
+    bank_name      varchar(150) not null,
+    branch_name    varchar(150),
+    address        varchar(255) not null,
+    is_headquarter boolean      not null,
+    country_id     bigint       not null,
+    headquarter_id bigint,
+    constraint uk_swift_codes_swift_code unique (swift_code)
+);
+
+-- Created before the foreign keys so databases that index foreign keys implicitly (H2) reuse
+-- them instead of adding single-column indexes of their own.
+create index ix_swift_codes_country_code on swift_codes (country_id, swift_code);
+create index ix_swift_codes_headquarter on swift_codes (headquarter_id);
+
+alter table swift_codes
+    add constraint fk_swift_codes_country foreign key (country_id) references countries (id);
+alter table swift_codes
+    add constraint fk_swift_codes_headquarter foreign key (headquarter_id) references swift_codes (id);
+
+create table swift_code_changes (
+    version        bigint generated by default as identity primary key,
+    change_type    varchar(10)                 not null,
+    swift_code     varchar(11)                 not null,
+    bank_name      varchar(150),
+    address        varchar(255),
+    country_iso2   varchar(2),
+    country_name   varchar(100),
+    is_headquarter boolean,
+    changed_at     timestamp(6) with time zone not null
+);
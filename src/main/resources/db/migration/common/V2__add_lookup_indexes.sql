@@ -0,0 +1,7 @@
+-- Lookup indexes for schemas baselined from Hibernate at V1; a no-op on databases created by V1.
+
+-- Country listing (findAllByCountry_Id): filter by country, return codes in code order.
+create index if not exists ix_swift_codes_country_code on swift_codes (country_id, swift_code);
+
+-- Branch lookup (findAllByHeadquarterEntity); Postgres does not index foreign keys by itself.
+create index if not exists ix_swift_codes_headquarter on swift_codes (headquarter_id);
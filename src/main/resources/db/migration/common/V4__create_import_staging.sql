@@ -0,0 +1,14 @@
+-- Shadow copy of an uploaded CSV for staged imports. Rows are written here while the file is read,
+-- then merged into swift_codes in a single transaction and deleted again.
+create table swift_code_staging (
+    id             bigint generated by default as identity primary key,
+    import_id      varchar(36)  not null,
+    swift_code     varchar(11)  not null,
+    bank_name      varchar(150) not null,
+    branch_name    varchar(150),
+    address        varchar(255) not null,
+    is_headquarter boolean      not null,
+    country_iso2   varchar(2)   not null,
+    country_name   varchar(100) not null,
+    constraint uk_swift_code_staging_import_code unique (import_id, swift_code)
+);
@@ -0,0 +1,12 @@
+-- Change log for schemas baselined from Hibernate at V1, which never had it; a no-op on databases created by V1.
+create table if not exists swift_code_changes (
+    version        bigint generated by default as identity primary key,
+    change_type    varchar(10)                 not null,
+    swift_code     varchar(11)                 not null,
+    bank_name      varchar(150),
+    address        varchar(255),
+    country_iso2   varchar(2),
+    country_name   varchar(100),
+    is_headquarter boolean,
+    changed_at     timestamp(6) with time zone not null
+);
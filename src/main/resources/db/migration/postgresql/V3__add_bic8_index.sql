@@ -0,0 +1,4 @@
+-- Bank-level lookups by the first eight characters of the code (BIC8). A plain b-tree on
+-- swift_code cannot serve LIKE 'XXXXXXXX%' under a non-C collation, so index the expression.
+-- Queries must use the same expression: substring(swift_code from 1 for 8) = :bic8
+create index if not exists ix_swift_codes_bic8 on swift_codes (substring(swift_code from 1 for 8));
@@ -0,0 +1,39 @@
+package com.cebix.swiftcodesapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Infrastructure for the {@code reactive} profile, which shares the classpath with the servlet stack.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    /**
+     * Boot would otherwise pick Tomcat's reactive adapter because Tomcat is on the classpath,
+     * keeping its thread-per-connection pool.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Boot's JDBC auto-configuration backs off as soon as an R2DBC connection factory exists, but
+     * writes and the CSV import still run on JPA. With a replica configured,
+     * {@link DataSourceRoutingConfig} provides the pools instead.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    @ConditionalOnExpression("'${swift-codes.datasource.replica.jdbc-url:}'.isEmpty()")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.cebix.swiftcodesapi.config;
+
+import com.cebix.swiftcodesapi.protobuf.SwiftCodeProtobufMessageWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.accept.HeaderContentTypeResolver;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolverBuilder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The WebFlux side of {@link ResponseFormatConfig}: CBOR, Smile and protobuf codecs for the
+ * {@code reactive} profile.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveResponseFormatConfig implements WebFluxConfigurer {
+
+    private static final MediaType[] SMILE = {
+            new MediaType("application", "x-jackson-smile"), new MediaType("application", "*+x-jackson-smile")};
+
+    /**
+     * WebFlux orders custom codecs before the default JSON one, so a wildcard in {@code Accept} is
+     * preceded by JSON at the same quality to keep JSON the default.
+     */
+    @Override
+    public void configureContentTypeResolver(RequestedContentTypeResolverBuilder builder) {
+        HeaderContentTypeResolver acceptHeader = new HeaderContentTypeResolver();
+        builder.resolver(exchange -> {
+            List<MediaType> mediaTypes = new ArrayList<>();
+            for (MediaType mediaType : acceptHeader.resolveMediaTypes(exchange)) {
+                if (mediaType.isWildcardType()) {
+                    mediaTypes.add(new MediaType(MediaType.APPLICATION_JSON, mediaType.getParameters()));
+                }
+                mediaTypes.add(mediaType);
+            }
+            return mediaTypes;
+        });
+    }
+
+    /**
+     * Smile streams the export as a sequence of values; CBOR is written for single values only, so
+     * the export offers NDJSON, Smile and protobuf. Without explicit media types the Jackson codecs
+     * would claim the JSON ones.
+     */
+    @Bean
+    CodecCustomizer binaryFormatCodecCustomizer(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        ObjectMapper cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        ObjectMapper smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+
+        return configurer -> {
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, SMILE));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, SMILE));
+            configurer.customCodecs().register(new SingleValueCborEncoder(cborMapper));
+            configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+            configurer.customCodecs().register(new SwiftCodeProtobufMessageWriter());
+        };
+    }
+
+    /**
+     * Spring's CBOR encoder only implements {@code encodeValue}, but the message writer calls {@code encode}
+     * for single values as well.
+     */
+    static class SingleValueCborEncoder extends Jackson2CborEncoder {
+
+        SingleValueCborEncoder(ObjectMapper mapper) {
+            super(mapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                       @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+            if (inputStream instanceof Mono<?> mono) {
+                return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+            }
+            return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.cebix.swiftcodesapi.controller;
+
+import com.cebix.swiftcodesapi.dto.CountrySwiftCodesDTO;
+import com.cebix.swiftcodesapi.dto.MessageResponseDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeBatchDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeBatchRequestDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeChangesDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeCreateDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeStatsDTO;
+import com.cebix.swiftcodesapi.service.ChangeFeedService;
+import com.cebix.swiftcodesapi.service.ReactiveSwiftCodeService;
+import com.cebix.swiftcodesapi.service.SwiftCodeService;
+import com.cebix.swiftcodesapi.validation.SwiftCodeValidator;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+
+/**
+ * WebFlux counterpart of {@link SwiftCodeController}, active with the {@code reactive} profile.
+ * Lookups and the export are non-blocking; writes, batch lookups and the change feed reuse the
+ * JPA services on the bounded elastic scheduler so they never run on an event-loop thread.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/v1/swift-codes")
+@RequiredArgsConstructor
+public class ReactiveSwiftCodeController {
+    private final ReactiveSwiftCodeService reactiveSwiftCodeService;
+    private final SwiftCodeService swiftCodeService;
+    private final ChangeFeedService changeFeedService;
+    private final SwiftCodeValidator swiftCodeValidator;
+
+    @GetMapping("/changes")
+    public Mono<ResponseEntity<SwiftCodeChangesDTO>> getChanges(@RequestParam(defaultValue = "0") long since,
+                                                                @RequestParam(defaultValue = "500") int limit) {
+        return blocking(() -> ResponseEntity.ok(changeFeedService.getChanges(since, limit)));
+    }
+
+    @GetMapping("/stats")
+    public Mono<ResponseEntity<SwiftCodeStatsDTO>> getStatistics(@RequestParam(required = false) Integer largestBanks) {
+        return blocking(() -> ResponseEntity.ok(swiftCodeService.getStatistics(largestBanks)));
+    }
+
+    @GetMapping(value = "/export", produces = {
+            MediaType.APPLICATION_NDJSON_VALUE, "application/stream+x-jackson-smile", "application/x-protobuf"})
+    public Flux<SwiftCodeDTO> exportSwiftCodes() {
+        return reactiveSwiftCodeService.exportSwiftCodes();
+    }
+
+    @GetMapping("/{swiftCode}")
+    public Mono<ResponseEntity<SwiftCodeDTO>> getSwiftCode(@PathVariable String swiftCode) {
+        swiftCodeValidator.requireValid(swiftCode);
+        return reactiveSwiftCodeService.getSwiftCode(swiftCode)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<SwiftCodeBatchDTO>> getSwiftCodes(@Valid @RequestBody SwiftCodeBatchRequestDTO dto) {
+        swiftCodeValidator.requireAllValid(dto.getSwiftCodes());
+        return blocking(() -> ResponseEntity.ok(swiftCodeService.getSwiftCodes(dto.getSwiftCodes())));
+    }
+
+    @GetMapping("/country/{countryISO2}")
+    public Mono<ResponseEntity<CountrySwiftCodesDTO>> getSwiftCodesByCountry(@PathVariable String countryISO2) {
+        return reactiveSwiftCodeService.getSwiftCodesByCountryISO2(countryISO2.toUpperCase())
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<MessageResponseDTO>> createSwiftCode(@Valid @RequestBody SwiftCodeCreateDTO dto) {
+        swiftCodeValidator.requireValid(dto.getSwiftCode(), dto.getCountryISO2());
+        return blocking(() -> {
+            swiftCodeService.createSwiftCode(dto);
+            return ResponseEntity.ok(new MessageResponseDTO("SwiftCode " + dto.getSwiftCode() + " successfully created"));
+        });
+    }
+
+    @DeleteMapping("/{swiftCode}")
+    public Mono<ResponseEntity<MessageResponseDTO>> deleteSwiftCode(@PathVariable String swiftCode) {
+        swiftCodeValidator.requireValid(swiftCode);
+        return blocking(() -> {
+            swiftCodeService.deleteSwiftCode(swiftCode);
+            return ResponseEntity.ok(new MessageResponseDTO("SwiftCode " + swiftCode + " successfully deleted"));
+        });
+    }
+
+    @DeleteMapping("/bank/{bic8}")
+    public Mono<ResponseEntity<MessageResponseDTO>> deleteBank(@PathVariable String bic8) {
+        swiftCodeValidator.requireValidBic8(bic8);
+        return blocking(() -> {
+            int deleted = swiftCodeService.deleteBank(bic8);
+            return ResponseEntity.ok(new MessageResponseDTO(deleted + " SwiftCodes of bank " + bic8 + " successfully deleted"));
+        });
+    }
+
+    @DeleteMapping("/country/{countryISO2}")
+    public Mono<ResponseEntity<MessageResponseDTO>> deleteCountry(@PathVariable String countryISO2) {
+        String iso2 = countryISO2.toUpperCase();
+        return blocking(() -> {
+            int deleted = swiftCodeService.deleteCountry(iso2);
+            return ResponseEntity.ok(new MessageResponseDTO(deleted + " SwiftCodes of country " + iso2 + " successfully deleted"));
+        });
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,26 @@
+package com.cebix.swiftcodesapi.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * R2DBC mapping of the {@code countries} table for the reactive profile. Not a JPA entity.
+ */
+@Table("countries")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CountryRow {
+    @Id
+    private Long id;
+
+    @Column("name")
+    private String name;
+
+    @Column("iso_code")
+    private String isoCode;
+}
@@ -0,0 +1,39 @@
+package com.cebix.swiftcodesapi.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Flat, read-only view of a SWIFT code joined with its country, used by the R2DBC
+ * repositories of the reactive profile. Not a JPA entity.
+ */
+@Table("swift_codes")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SwiftCodeRow {
+    @Id
+    private Long id;
+
+    @Column("swift_code")
+    private String swiftCode;
+
+    @Column("bank_name")
+    private String bankName;
+
+    @Column("address")
+    private String address;
+
+    @Column("is_headquarter")
+    private boolean isHeadquarter;
+
+    @Column("country_iso2")
+    private String countryISO2;
+
+    @Column("country_name")
+    private String countryName;
+}
@@ -0,0 +1,17 @@
+package com.cebix.swiftcodesapi.mapper;
+
+import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeSimpleDTO;
+import com.cebix.swiftcodesapi.entity.SwiftCodeRow;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface SwiftCodeRowMapper {
+
+    @Mapping(source = "headquarter", target = "isHeadquarter")
+    SwiftCodeDTO rowToDTO(SwiftCodeRow row);
+
+    @Mapping(source = "headquarter", target = "isHeadquarter")
+    SwiftCodeSimpleDTO rowToSimpleDTO(SwiftCodeRow row);
+}
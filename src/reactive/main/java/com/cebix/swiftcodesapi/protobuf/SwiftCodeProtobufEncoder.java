@@ -0,0 +1,81 @@
+package com.cebix.swiftcodesapi.protobuf;
+
+import com.google.protobuf.CodedOutputStream;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageEncoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the read responses of the reactive stack as {@code application/x-protobuf}, see
+ * {@link SwiftCodeProtobufWriter}. A single value is written as one message; a stream such as the
+ * export writes each message after its length as a varint, as Spring's {@code ProtobufEncoder} does.
+ */
+public class SwiftCodeProtobufEncoder extends AbstractEncoder<Object> implements HttpMessageEncoder<Object> {
+
+    public SwiftCodeProtobufEncoder() {
+        super(SwiftCodeProtobufWriter.PROTOBUF);
+    }
+
+    /**
+     * Also accepts {@code Object}, like Jackson, so that the codec is ordered after the JSON encoder and
+     * {@code Accept: *}{@code /*} keeps answering with JSON.
+     */
+    @Override
+    public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        Class<?> type = elementType.toClass();
+        return (type == Object.class || SwiftCodeProtobufWriter.supports(type)) && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                   @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        if (inputStream instanceof Mono<?> mono) {
+            return mono.map(value -> encode(value, bufferFactory, false)).flux();
+        }
+        return Flux.from(inputStream).map(value -> encode(value, bufferFactory, true));
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        return encode(value, bufferFactory, false);
+    }
+
+    @Override
+    public List<MediaType> getStreamingMediaTypes() {
+        return List.of(SwiftCodeProtobufWriter.PROTOBUF);
+    }
+
+    private static DataBuffer encode(Object value, DataBufferFactory bufferFactory, boolean delimited) {
+        if (!SwiftCodeProtobufWriter.supports(value.getClass())) {
+            throw new EncodingException("No protobuf message for " + value.getClass().getName());
+        }
+
+        int size = SwiftCodeProtobufWriter.size(value);
+        byte[] bytes = new byte[(delimited ? CodedOutputStream.computeUInt32SizeNoTag(size) : 0) + size];
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        try {
+            if (delimited) {
+                out.writeUInt32NoTag(size);
+            }
+            SwiftCodeProtobufWriter.write(value, out);
+            out.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new EncodingException("Could not write protobuf message", e);
+        }
+        return bufferFactory.wrap(bytes);
+    }
+}
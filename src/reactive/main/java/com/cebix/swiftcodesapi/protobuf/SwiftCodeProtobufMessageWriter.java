@@ -0,0 +1,34 @@
+package com.cebix.swiftcodesapi.protobuf;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Adds the schema and message type headers that {@link SwiftCodeProtobufHttpMessageConverter} sends on the servlet stack.
+ */
+public class SwiftCodeProtobufMessageWriter extends EncoderHttpMessageWriter<Object> {
+
+    public SwiftCodeProtobufMessageWriter() {
+        super(new SwiftCodeProtobufEncoder());
+    }
+
+    @Override
+    public Mono<Void> write(Publisher<?> inputStream, ResolvableType elementType, @Nullable MediaType mediaType,
+                            ReactiveHttpOutputMessage message, Map<String, Object> hints) {
+        String messageName = SwiftCodeProtobufWriter.messageName(elementType.toClass());
+        if (messageName != null) {
+            HttpHeaders headers = message.getHeaders();
+            headers.set(SwiftCodeProtobufWriter.SCHEMA_HEADER, SwiftCodeProtobufWriter.SCHEMA);
+            headers.set(SwiftCodeProtobufWriter.MESSAGE_HEADER, messageName);
+        }
+        return super.write(inputStream, elementType, mediaType, message, hints);
+    }
+}
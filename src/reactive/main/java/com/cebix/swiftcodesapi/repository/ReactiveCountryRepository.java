@@ -0,0 +1,9 @@
+package com.cebix.swiftcodesapi.repository;
+
+import com.cebix.swiftcodesapi.entity.CountryRow;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCountryRepository extends R2dbcRepository<CountryRow, Long> {
+    Mono<CountryRow> findByIsoCode(String isoCode);
+}
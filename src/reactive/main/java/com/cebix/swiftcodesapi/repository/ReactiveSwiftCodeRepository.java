@@ -0,0 +1,29 @@
+package com.cebix.swiftcodesapi.repository;
+
+import com.cebix.swiftcodesapi.entity.SwiftCodeRow;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveSwiftCodeRepository extends R2dbcRepository<SwiftCodeRow, Long> {
+
+    String SELECT_ROW = """
+            select s.id, s.swift_code, s.bank_name, s.address, s.is_headquarter,
+                   c.iso_code as country_iso2, c.name as country_name
+            from swift_codes s
+            join countries c on c.id = s.country_id
+            """;
+
+    @Query(SELECT_ROW + "where s.swift_code = :swiftCode")
+    Mono<SwiftCodeRow> findBySwiftCode(String swiftCode);
+
+    @Query(SELECT_ROW + "where s.headquarter_id = :headquarterId order by s.swift_code")
+    Flux<SwiftCodeRow> findAllByHeadquarterId(Long headquarterId);
+
+    @Query(SELECT_ROW + "where c.iso_code = :isoCode order by s.swift_code")
+    Flux<SwiftCodeRow> findAllByCountryIso(String isoCode);
+
+    @Query(SELECT_ROW + "order by s.swift_code")
+    Flux<SwiftCodeRow> streamAll();
+}
@@ -0,0 +1,14 @@
+package com.cebix.swiftcodesapi.service;
+
+import com.cebix.swiftcodesapi.dto.CountrySwiftCodesDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveSwiftCodeService {
+    Mono<SwiftCodeDTO> getSwiftCode(String swiftCode);
+
+    Mono<CountrySwiftCodesDTO> getSwiftCodesByCountryISO2(String countryISO2);
+
+    Flux<SwiftCodeDTO> exportSwiftCodes();
+}
@@ -0,0 +1,131 @@
+package com.cebix.swiftcodesapi.service.impl;
+
+import com.cebix.swiftcodesapi.dto.CountrySwiftCodesDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeSimpleDTO;
+import com.cebix.swiftcodesapi.entity.SwiftCodeRow;
+import com.cebix.swiftcodesapi.mapper.SwiftCodeMapper;
+import com.cebix.swiftcodesapi.mapper.SwiftCodeRowMapper;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeDirectory;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeReadModel;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeRecord;
+import com.cebix.swiftcodesapi.repository.ReactiveCountryRepository;
+import com.cebix.swiftcodesapi.repository.ReactiveSwiftCodeRepository;
+import com.cebix.swiftcodesapi.service.ReactiveSwiftCodeService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+
+/**
+ * Non-blocking read side of the reactive profile: answers from the in-memory read model when
+ * it is enabled, otherwise from R2DBC. Writes stay on {@link SwiftCodeServiceImpl}.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveSwiftCodeServiceImpl implements ReactiveSwiftCodeService {
+
+    private final ReactiveSwiftCodeRepository swiftCodeRepository;
+    private final ReactiveCountryRepository countryRepository;
+    private final SwiftCodeMapper swiftCodeMapper;
+    private final SwiftCodeRowMapper rowMapper;
+    private final SwiftCodeReadModel readModel;
+
+    @Override
+    public Mono<SwiftCodeDTO> getSwiftCode(String swiftCode) {
+        if (readModel.holds(swiftCode)) {
+            return Mono.fromCallable(() -> getSwiftCodeFromReadModel(swiftCode));
+        }
+
+        return swiftCodeRepository.findBySwiftCode(swiftCode)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("SwiftCode not found: " + swiftCode)))
+                .flatMap(this::toDetailedDTO);
+    }
+
+    @Override
+    public Mono<CountrySwiftCodesDTO> getSwiftCodesByCountryISO2(String countryISO2) {
+        if (readModel.holdsCountry(countryISO2)) {
+            return Mono.fromCallable(() -> getSwiftCodesByCountryISO2FromReadModel(countryISO2));
+        }
+
+        return countryRepository.findByIsoCode(countryISO2)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Country not found with ISO2: " + countryISO2)))
+                .flatMap(country -> swiftCodeRepository.findAllByCountryIso(country.getIsoCode())
+                        .map(rowMapper::rowToSimpleDTO)
+                        .collectList()
+                        .map(swiftCodes -> CountrySwiftCodesDTO.builder()
+                                .countryISO2(country.getIsoCode())
+                                .countryName(country.getName())
+                                .swiftCodes(swiftCodes)
+                                .build()));
+    }
+
+    @Override
+    public Flux<SwiftCodeDTO> exportSwiftCodes() {
+        if (readModel.holdsAll()) {
+            return Flux.defer(() -> Flux.fromStream(readModel.getDirectory().records()
+                    .stream()
+                    .sorted(Comparator.comparing(SwiftCodeRecord::getSwiftCode))
+                    .map(this::toFlatDTO)));
+        }
+
+        return swiftCodeRepository.streamAll()
+                .map(row -> {
+                    SwiftCodeDTO dto = rowMapper.rowToDTO(row);
+                    dto.setBranches(null);
+                    return dto;
+                });
+    }
+
+    private Mono<SwiftCodeDTO> toDetailedDTO(SwiftCodeRow row) {
+        SwiftCodeDTO dto = rowMapper.rowToDTO(row);
+
+        if (!row.isHeadquarter()) {
+            dto.setBranches(null);
+            return Mono.just(dto);
+        }
+
+        return swiftCodeRepository.findAllByHeadquarterId(row.getId())
+                .map(rowMapper::rowToSimpleDTO)
+                .collectList()
+                .map(branches -> {
+                    dto.setBranches(branches);
+                    return dto;
+                });
+    }
+
+    private SwiftCodeDTO toFlatDTO(SwiftCodeRecord record) {
+        SwiftCodeDTO dto = swiftCodeMapper.recordToDTO(record);
+        dto.setBranches(null);
+        return dto;
+    }
+
+    private SwiftCodeDTO getSwiftCodeFromReadModel(String swiftCode) {
+        SwiftCodeDirectory directory = readModel.getDirectory();
+        SwiftCodeRecord record = directory.find(swiftCode)
+                .orElseThrow(() -> new EntityNotFoundException("SwiftCode not found: " + swiftCode));
+
+        SwiftCodeDTO dto = swiftCodeMapper.recordToDTO(record);
+        dto.setBranches(record.isHeadquarter()
+                ? directory.findBranches(record).stream().map(swiftCodeMapper::recordToSimpleDTO).toList()
+                : null);
+
+        return dto;
+    }
+
+    private CountrySwiftCodesDTO getSwiftCodesByCountryISO2FromReadModel(String countryISO2) {
+        SwiftCodeDirectory.CountryEntry country = readModel.getDirectory().findCountry(countryISO2)
+                .orElseThrow(() -> new EntityNotFoundException("Country not found with ISO2: " + countryISO2));
+
+        return CountrySwiftCodesDTO.builder()
+                .countryISO2(country.getIsoCode())
+                .countryName(country.getName())
+                .swiftCodes(country.getCodes().stream().map(swiftCodeMapper::recordToSimpleDTO).toList())
+                .build();
+    }
+}
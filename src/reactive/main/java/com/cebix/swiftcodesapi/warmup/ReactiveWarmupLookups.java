@@ -0,0 +1,27 @@
+package com.cebix.swiftcodesapi.warmup;
+
+import com.cebix.swiftcodesapi.service.ReactiveSwiftCodeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lets {@link JitWarmup} exercise the reactive service, blocking on each response.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+class ReactiveWarmupLookups implements WarmupLookups {
+
+    private final ReactiveSwiftCodeService reactiveService;
+
+    @Override
+    public Object getSwiftCode(String swiftCode) {
+        return reactiveService.getSwiftCode(swiftCode).block();
+    }
+
+    @Override
+    public Object getSwiftCodesByCountryISO2(String countryISO2) {
+        return reactiveService.getSwiftCodesByCountryISO2(countryISO2).block();
+    }
+}
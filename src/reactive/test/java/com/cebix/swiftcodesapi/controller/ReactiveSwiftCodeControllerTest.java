@@ -0,0 +1,221 @@
+package com.cebix.swiftcodesapi.controller;
+
+import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
+import com.cebix.swiftcodesapi.entity.Country;
+import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.repository.CountryRepository;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeStatistics;
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.protobuf.UnknownFieldSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the {@code reactive} profile against one embedded database shared by JDBC (schema,
+ * seeding) and R2DBC (the read path under test).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "swift-codes.import.on-startup=false"
+})
+@ActiveProfiles("reactive")
+class ReactiveSwiftCodeControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private SwiftCodeRepository swiftCodeRepository;
+
+    @Autowired
+    private SwiftCodeStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        swiftCodeRepository.deleteAll();
+        countryRepository.deleteAll();
+
+        Country poland = countryRepository.save(Country.builder().isoCode("PL").name("POLAND").build());
+        SwiftCode headquarter = swiftCodeRepository.save(SwiftCode.builder()
+                .swiftCode("TESTPLPWXXX")
+                .bankName("Bank HQ")
+                .address("Main HQ Address")
+                .isHeadquarter(true)
+                .country(poland)
+                .build());
+        swiftCodeRepository.save(SwiftCode.builder()
+                .swiftCode("TESTPLPW123")
+                .bankName("Bank Branch")
+                .address("Branch Address")
+                .isHeadquarter(false)
+                .country(poland)
+                .headquarterEntity(headquarter)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should return headquarter with branches")
+    void shouldReturnHeadquarter() {
+        webTestClient.get().uri("/v1/swift-codes/TESTPLPWXXX")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.countryName").isEqualTo("POLAND")
+                .jsonPath("$.isHeadquarter").isEqualTo(true)
+                .jsonPath("$.branches[0].swiftCode").isEqualTo("TESTPLPW123");
+    }
+
+    @Test
+    @DisplayName("Should return 404 for unknown code")
+    void shouldReturnNotFound() {
+        webTestClient.get().uri("/v1/swift-codes/UNKNOWNXXXX")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed code with 400")
+    void shouldRejectMalformedCode() {
+        webTestClient.get().uri("/v1/swift-codes/testplpwxxx")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("SwiftCode must be upper case: testplpwxxx");
+    }
+
+    @Test
+    @DisplayName("Should report directory statistics")
+    void shouldReportStatistics() {
+        // The fixture is saved through the repository, bypassing the change log
+        statistics.reload();
+
+        webTestClient.get().uri("/v1/swift-codes/stats")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalCodes").isEqualTo(2)
+                .jsonPath("$.countries[0].countryISO2").isEqualTo("PL")
+                .jsonPath("$.countries[0].headquarters").isEqualTo(1)
+                .jsonPath("$.largestBanks[0].bic8").isEqualTo("TESTPLPW")
+                .jsonPath("$.largestBanks[0].branches").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should list codes of a country")
+    void shouldListCountry() {
+        webTestClient.get().uri("/v1/swift-codes/country/pl")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.countryISO2").isEqualTo("PL")
+                .jsonPath("$.swiftCodes.length()").isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should stream the export as NDJSON")
+    void shouldStreamExport() {
+        var codes = webTestClient.get().uri("/v1/swift-codes/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(SwiftCodeDTO.class)
+                .getResponseBody()
+                .map(SwiftCodeDTO::getSwiftCode)
+                .collectList()
+                .block();
+
+        assertThat(codes).containsExactly("TESTPLPW123", "TESTPLPWXXX");
+    }
+
+    @Test
+    @DisplayName("Should stream the export as length-delimited protobuf messages")
+    void shouldStreamExportAsProtobuf() throws Exception {
+        byte[] body = webTestClient.get().uri("/v1/swift-codes/export")
+                .accept(MediaType.parseMediaType("application/x-protobuf"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Protobuf-Message", "cebix.swiftcodes.v1.SwiftCode")
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        InputStream in = new ByteArrayInputStream(body);
+        List<String> codes = new ArrayList<>();
+        UnknownFieldSet.Builder message = UnknownFieldSet.newBuilder();
+        while (message.mergeDelimitedFrom(in)) {
+            codes.add(message.build().getField(6).getLengthDelimitedList().get(0).toStringUtf8());
+            message.clear();
+        }
+        assertThat(codes).containsExactly("TESTPLPW123", "TESTPLPWXXX");
+    }
+
+    @Test
+    @DisplayName("Should stream the export as a sequence of Smile values")
+    void shouldStreamExportAsSmile() throws Exception {
+        byte[] body = webTestClient.get().uri("/v1/swift-codes/export")
+                .accept(MediaType.parseMediaType("application/stream+x-jackson-smile"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        List<String> codes = new ArrayList<>();
+        try (MappingIterator<JsonNode> values = new SmileMapper().readerFor(JsonNode.class).readValues(body)) {
+            values.forEachRemaining(value -> codes.add(value.get("swiftCode").asText()));
+        }
+        assertThat(codes).containsExactly("TESTPLPW123", "TESTPLPWXXX");
+    }
+
+    @Test
+    @DisplayName("Should write a lookup as CBOR")
+    void shouldReturnCbor() throws Exception {
+        byte[] body = webTestClient.get().uri("/v1/swift-codes/TESTPLPWXXX")
+                .accept(MediaType.parseMediaType("application/cbor"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/cbor")
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(new CBORMapper().readTree(body).get("countryName").asText()).isEqualTo("POLAND");
+    }
+
+    @Test
+    @DisplayName("Should delete through the blocking service")
+    void shouldDelete() {
+        webTestClient.delete().uri("/v1/swift-codes/TESTPLPW123")
+                .exchange()
+                .expectStatus().isOk();
+
+        assertThat(swiftCodeRepository.existsBySwiftCode("TESTPLPW123")).isFalse();
+    }
+}
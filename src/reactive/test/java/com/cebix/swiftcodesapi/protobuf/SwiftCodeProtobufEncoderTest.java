@@ -0,0 +1,68 @@
+package com.cebix.swiftcodesapi.protobuf;
+
+import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
+import com.google.protobuf.CodedInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SwiftCodeProtobufEncoderTest {
+
+    private final SwiftCodeProtobufEncoder encoder = new SwiftCodeProtobufEncoder();
+
+    private static SwiftCodeDTO code(String swiftCode) {
+        return SwiftCodeDTO.builder().swiftCode(swiftCode).branches(null).build();
+    }
+
+    private byte[] encode(Publisher<SwiftCodeDTO> input) {
+        DataBuffer joined = DataBufferUtils.join(encoder.encode(input, DefaultDataBufferFactory.sharedInstance,
+                ResolvableType.forClass(SwiftCodeDTO.class), SwiftCodeProtobufWriter.PROTOBUF, null)).block();
+        byte[] bytes = new byte[joined.readableByteCount()];
+        joined.read(bytes);
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("should write a single value as one message")
+    void should_EncodeSingleValue() {
+        byte[] bytes = encode(Mono.just(code("TESTPLPWXXX")));
+
+        assertThat(bytes).hasSize(SwiftCodeProtobufWriter.size(code("TESTPLPWXXX")));
+    }
+
+    @Test
+    @DisplayName("should prefix each streamed message with its length")
+    void should_DelimitStreamedValues() throws Exception {
+        byte[] bytes = encode(Flux.just(code("TESTPLPWXXX"), code("TESTPLPW123")));
+
+        CodedInputStream in = CodedInputStream.newInstance(bytes);
+        List<String> codes = new ArrayList<>();
+        while (!in.isAtEnd()) {
+            int limit = in.pushLimit(in.readRawVarint32());
+            assertThat(in.readTag() >>> 3).isEqualTo(6);
+            codes.add(in.readString());
+            in.popLimit(limit);
+        }
+        assertThat(codes).containsExactly("TESTPLPWXXX", "TESTPLPW123");
+    }
+
+    @Test
+    @DisplayName("should only offer itself for protobuf and the response types")
+    void should_MatchTypesAndMediaType() {
+        assertThat(encoder.canEncode(ResolvableType.forClass(SwiftCodeDTO.class), SwiftCodeProtobufWriter.PROTOBUF)).isTrue();
+        assertThat(encoder.canEncode(ResolvableType.forClass(String.class), SwiftCodeProtobufWriter.PROTOBUF)).isFalse();
+        assertThat(encoder.canEncode(ResolvableType.forClass(SwiftCodeDTO.class), MediaType.APPLICATION_JSON)).isFalse();
+    }
+}
@@ -0,0 +1,191 @@
+package com.cebix.swiftcodesapi.service;
+
+import com.cebix.swiftcodesapi.entity.CountryRow;
+import com.cebix.swiftcodesapi.entity.SwiftCodeRow;
+import com.cebix.swiftcodesapi.mapper.SwiftCodeMapper;
+import com.cebix.swiftcodesapi.mapper.SwiftCodeRowMapper;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeDirectory;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeReadModel;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeRecord;
+import com.cebix.swiftcodesapi.repository.ReactiveCountryRepository;
+import com.cebix.swiftcodesapi.repository.ReactiveSwiftCodeRepository;
+import com.cebix.swiftcodesapi.service.impl.ReactiveSwiftCodeServiceImpl;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.*;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReactiveSwiftCodeServiceImpl Unit Tests")
+class ReactiveSwiftCodeServiceImplTest {
+
+    private AutoCloseable closeable;
+
+    @Mock
+    private ReactiveSwiftCodeRepository swiftCodeRepository;
+
+    @Mock
+    private ReactiveCountryRepository countryRepository;
+
+    @Spy
+    private SwiftCodeMapper swiftCodeMapper = Mappers.getMapper(SwiftCodeMapper.class);
+
+    @Spy
+    private SwiftCodeRowMapper rowMapper = Mappers.getMapper(SwiftCodeRowMapper.class);
+
+    @Mock
+    private SwiftCodeReadModel readModel;
+
+    @InjectMocks
+    private ReactiveSwiftCodeServiceImpl reactiveSwiftCodeService;
+
+    private SwiftCodeRow hqRow;
+    private SwiftCodeRow branchRow;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+
+        hqRow = SwiftCodeRow.builder()
+                .id(1L)
+                .swiftCode("TESTPLPWXXX")
+                .bankName("Bank HQ")
+                .address("Main HQ Address")
+                .isHeadquarter(true)
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .build();
+
+        branchRow = SwiftCodeRow.builder()
+                .id(2L)
+                .swiftCode("TESTPLPW123")
+                .bankName("Bank Branch")
+                .address("Branch Address")
+                .isHeadquarter(false)
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Nested
+    @DisplayName("getSwiftCode Tests")
+    class GetSwiftCodeTests {
+
+        @Test
+        @DisplayName("Should return headquarter with its branches")
+        void shouldReturnHeadquarterWithBranches() {
+            when(swiftCodeRepository.findBySwiftCode("TESTPLPWXXX")).thenReturn(Mono.just(hqRow));
+            when(swiftCodeRepository.findAllByHeadquarterId(1L)).thenReturn(Flux.just(branchRow));
+
+            StepVerifier.create(reactiveSwiftCodeService.getSwiftCode("TESTPLPWXXX"))
+                    .assertNext(dto -> {
+                        assertThat(dto.getIsHeadquarter()).isTrue();
+                        assertThat(dto.getCountryName()).isEqualTo("POLAND");
+                        assertThat(dto.getBranches()).extracting("swiftCode").containsExactly("TESTPLPW123");
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should return branch without querying for branches")
+        void shouldReturnBranch() {
+            when(swiftCodeRepository.findBySwiftCode("TESTPLPW123")).thenReturn(Mono.just(branchRow));
+
+            StepVerifier.create(reactiveSwiftCodeService.getSwiftCode("TESTPLPW123"))
+                    .assertNext(dto -> assertThat(dto.getBranches()).isNull())
+                    .verifyComplete();
+
+            verify(swiftCodeRepository, never()).findAllByHeadquarterId(any());
+        }
+
+        @Test
+        @DisplayName("Should signal EntityNotFoundException when code is unknown")
+        void shouldSignalNotFound() {
+            when(swiftCodeRepository.findBySwiftCode("UNKNOWN")).thenReturn(Mono.empty());
+
+            StepVerifier.create(reactiveSwiftCodeService.getSwiftCode("UNKNOWN"))
+                    .expectError(EntityNotFoundException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Should answer from the read model without touching R2DBC")
+        void shouldUseReadModel() {
+            SwiftCodeRecord record = SwiftCodeRecord.builder()
+                    .id(1L)
+                    .swiftCode("TESTPLPWXXX")
+                    .bankName("Bank HQ")
+                    .countryISO2("PL")
+                    .countryName("POLAND")
+                    .headquarter(true)
+                    .build();
+            when(readModel.holds("TESTPLPWXXX")).thenReturn(true);
+            when(readModel.getDirectory()).thenReturn(SwiftCodeDirectory.of(List.of(record)));
+
+            StepVerifier.create(reactiveSwiftCodeService.getSwiftCode("TESTPLPWXXX"))
+                    .assertNext(dto -> assertThat(dto.getBankName()).isEqualTo("Bank HQ"))
+                    .verifyComplete();
+
+            verifyNoInteractions(swiftCodeRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("getSwiftCodesByCountryISO2 Tests")
+    class GetSwiftCodesByCountryTests {
+
+        @Test
+        @DisplayName("Should list codes of an existing country")
+        void shouldListCountryCodes() {
+            when(countryRepository.findByIsoCode("PL"))
+                    .thenReturn(Mono.just(CountryRow.builder().id(1L).isoCode("PL").name("POLAND").build()));
+            when(swiftCodeRepository.findAllByCountryIso("PL")).thenReturn(Flux.just(hqRow, branchRow));
+
+            StepVerifier.create(reactiveSwiftCodeService.getSwiftCodesByCountryISO2("PL"))
+                    .assertNext(dto -> {
+                        assertThat(dto.getCountryName()).isEqualTo("POLAND");
+                        assertThat(dto.getSwiftCodes()).hasSize(2);
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should signal EntityNotFoundException when country is unknown")
+        void shouldSignalCountryNotFound() {
+            when(countryRepository.findByIsoCode("XX")).thenReturn(Mono.empty());
+
+            StepVerifier.create(reactiveSwiftCodeService.getSwiftCodesByCountryISO2("XX"))
+                    .expectError(EntityNotFoundException.class)
+                    .verify();
+        }
+    }
+
+    @Test
+    @DisplayName("Should export codes as flat DTOs")
+    void shouldExportFlatDTOs() {
+        when(swiftCodeRepository.streamAll()).thenReturn(Flux.just(hqRow, branchRow));
+
+        StepVerifier.create(reactiveSwiftCodeService.exportSwiftCodes())
+                .assertNext(dto -> {
+                    assertThat(dto.getSwiftCode()).isEqualTo("TESTPLPWXXX");
+                    assertThat(dto.getBranches()).isNull();
+                })
+                .assertNext(dto -> assertThat(dto.getSwiftCode()).isEqualTo("TESTPLPW123"))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,105 @@
+package com.cebix.swiftcodesapi.admission;
+
+import com.cebix.swiftcodesapi.config.AdmissionProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AdmissionControlFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdmissionControl admissionControl;
+    private AdmissionControlFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setRead(new AdmissionProperties.Limit(1, 1, 1, Duration.ofSeconds(1)));
+
+        meterRegistry = new SimpleMeterRegistry();
+        admissionControl = new AdmissionControl(properties, meterRegistry);
+        filter = new AdmissionControlFilter(admissionControl,
+                new ObjectMapper().registerModule(new JavaTimeModule()), Duration.ofSeconds(2));
+    }
+
+    private double requests(String requestClass, String outcome) {
+        return meterRegistry.get("swiftcodes.admission.requests")
+                .tag("class", requestClass)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("should pass admitted requests through and release the permit")
+    void should_AdmitRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/swift-codes/TESTPLPWXXX");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        assertThat(admissionControl.getLimiter(RequestClass.READ).getInFlight()).isZero();
+        assertThat(requests("read", "accepted")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should answer 503 with Retry-After when the class limit is reached")
+    void should_RejectWhenAtLimit() throws Exception {
+        admissionControl.tryAcquire(RequestClass.READ);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/swift-codes/country/PL"), response, chain);
+
+        verify(chain, never()).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("\"status\":503");
+        assertThat(requests("read", "rejected")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should keep separate limits per request class")
+    void should_IsolateRequestClasses() throws Exception {
+        admissionControl.tryAcquire(RequestClass.READ);
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/v1/swift-codes/TESTPLPWXXX");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        assertThat(requests("write", "accepted")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should classify endpoints")
+    void should_ClassifyEndpoints() {
+        assertThat(RequestClass.of("GET", "/v1/swift-codes/TESTPLPWXXX")).isEqualTo(RequestClass.READ);
+        assertThat(RequestClass.of("GET", "/v1/swift-codes/changes")).isEqualTo(RequestClass.READ);
+        assertThat(RequestClass.of("POST", "/v1/swift-codes")).isEqualTo(RequestClass.WRITE);
+        assertThat(RequestClass.of("DELETE", "/v1/swift-codes/TESTPLPWXXX")).isEqualTo(RequestClass.WRITE);
+        assertThat(RequestClass.of("POST", "/v1/swift-codes/batch")).isEqualTo(RequestClass.BULK);
+        assertThat(RequestClass.of("GET", "/v1/swift-codes/export")).isEqualTo(RequestClass.BULK);
+        assertThat(RequestClass.of("DELETE", "/v1/swift-codes/bank/TESTPLPW")).isEqualTo(RequestClass.BULK);
+        assertThat(RequestClass.of("DELETE", "/v1/swift-codes/country/PL")).isEqualTo(RequestClass.BULK);
+        assertThat(RequestClass.of("GET", "/v1/swift-codes/country/PL")).isEqualTo(RequestClass.READ);
+        assertThat(RequestClass.of("POST", "/v1/imports")).isEqualTo(RequestClass.BULK);
+        assertThat(RequestClass.of("GET", "/v1/imports/job")).isEqualTo(RequestClass.READ);
+        assertThat(RequestClass.of("DELETE", "/v1/imports/job")).isEqualTo(RequestClass.WRITE);
+    }
+}
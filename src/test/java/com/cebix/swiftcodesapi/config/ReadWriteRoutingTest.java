@@ -0,0 +1,119 @@
+package com.cebix.swiftcodesapi.config;
+
+import com.cebix.swiftcodesapi.SwiftCodesApiApplication;
+import com.cebix.swiftcodesapi.dto.SwiftCodeCreateDTO;
+import com.cebix.swiftcodesapi.entity.Country;
+import com.cebix.swiftcodesapi.repository.CountryRepository;
+import com.cebix.swiftcodesapi.service.SwiftCodeService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Two independent embedded databases stand in for primary and replica. The replica is seeded
+ * with data the primary does not have, so the answer reveals which database served a call.
+ */
+class ReadWriteRoutingTest {
+
+    private ConfigurableApplicationContext context;
+
+    private static ConfigurableApplicationContext start(String url, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--swift-codes.import.on-startup=false"));
+        args.addAll(List.of(extraArgs));
+
+        return new SpringApplicationBuilder(SwiftCodesApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+    }
+
+    private static SwiftCodeCreateDTO headquarter(String swiftCode, String bankName) {
+        return SwiftCodeCreateDTO.builder()
+                .swiftCode(swiftCode)
+                .bankName(bankName)
+                .address("HYRJA 3")
+                .countryISO2("AL")
+                .countryName("ALBANIA")
+                .isHeadquarter(true)
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        String replicaUrl = "jdbc:h2:mem:replica-" + suffix + ";DB_CLOSE_DELAY=-1";
+
+        try (ConfigurableApplicationContext replica = start(replicaUrl)) {
+            replica.getBean(CountryRepository.class).save(Country.builder().isoCode("AL").name("ALBANIA").build());
+            replica.getBean(SwiftCodeService.class).createSwiftCode(headquarter("REPLALTRXXX", "REPLICA BANK"));
+        }
+
+        context = start("jdbc:h2:mem:primary-" + suffix + ";DB_CLOSE_DELAY=-1",
+                "--swift-codes.datasource.replica.jdbc-url=" + replicaUrl,
+                "--swift-codes.datasource.replica.username=sa",
+                "--swift-codes.datasource.replica.password=");
+        context.getBean(CountryRepository.class).save(Country.builder().isoCode("AL").name("ALBANIA").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    private long countOn(String dataSource, String swiftCode) {
+        JdbcTemplate jdbc = new JdbcTemplate(context.getBean(dataSource, DataSource.class));
+        return jdbc.queryForObject("select count(*) from swift_codes where swift_code = ?", Long.class, swiftCode);
+    }
+
+    @Test
+    @DisplayName("Should serve read-only queries from the replica")
+    void shouldReadFromReplica() {
+        SwiftCodeService service = context.getBean(SwiftCodeService.class);
+
+        assertThat(service.getSwiftCode("REPLALTRXXX").getBankName()).isEqualTo("REPLICA BANK");
+        assertThat(service.getSwiftCodesByCountryISO2("AL").getSwiftCodes()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should send writes to the primary only")
+    void shouldWriteToPrimary() {
+        SwiftCodeService service = context.getBean(SwiftCodeService.class);
+
+        service.createSwiftCode(headquarter("PRIMALTRXXX", "PRIMARY BANK"));
+
+        assertThat(countOn("primaryDataSource", "PRIMALTRXXX")).isEqualTo(1);
+        assertThat(countOn("replicaDataSource", "PRIMALTRXXX")).isZero();
+        assertThatThrownBy(() -> service.getSwiftCode("PRIMALTRXXX"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep read-only repository calls on the primary when pinned")
+    void shouldHonourPinnedPrimary() {
+        SwiftCodeService service = context.getBean(SwiftCodeService.class);
+        service.createSwiftCode(headquarter("PRIMALTRXXX", "PRIMARY BANK"));
+
+        String bankName = DataSourceRouting.onPrimary(() -> service.getSwiftCode("PRIMALTRXXX").getBankName());
+
+        assertThat(bankName).isEqualTo("PRIMARY BANK");
+    }
+}
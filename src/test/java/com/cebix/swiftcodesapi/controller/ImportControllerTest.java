@@ -0,0 +1,79 @@
+package com.cebix.swiftcodesapi.controller;
+
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:imports;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "swift-codes.import.on-startup=false"
+})
+@AutoConfigureMockMvc
+class ImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SwiftCodeRepository swiftCodeRepository;
+
+    @Test
+    @DisplayName("Should accept a CSV upload and import it in the background")
+    void shouldImportUploadedCsv() throws Exception {
+        byte[] csv = new ClassPathResource("data/test_swift_codes.csv").getContentAsByteArray();
+
+        String response = mockMvc.perform(post("/v1/imports").contentType("text/csv").content(csv))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn().getResponse().getContentAsString();
+        String id = objectMapper.readTree(response).get("id").asText();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> state(id).equals("COMPLETED"));
+
+        JsonNode job = job(id);
+        assertThat(job.get("rowsImported").asLong()).isEqualTo(3);
+        assertThat(job.get("bytesRead").asLong()).isEqualTo(csv.length);
+        assertThat(swiftCodeRepository.findBySwiftCode("AAISALTRXXX")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown import")
+    void shouldReturnNotFoundForUnknownImport() throws Exception {
+        mockMvc.perform(get("/v1/imports/unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    private String state(String id) throws Exception {
+        return job(id).get("state").asText();
+    }
+
+    private JsonNode job(String id) throws Exception {
+        String body = mockMvc.perform(get("/v1/imports/" + id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
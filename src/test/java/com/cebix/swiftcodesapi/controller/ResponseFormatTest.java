@@ -0,0 +1,135 @@
+package com.cebix.swiftcodesapi.controller;
+
+import com.cebix.swiftcodesapi.entity.Country;
+import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.repository.CountryRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.protobuf.UnknownFieldSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Content negotiation of the read endpoints between JSON, CBOR, Smile and protobuf on the servlet stack.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:formats;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "swift-codes.import.on-startup=false"
+})
+@AutoConfigureMockMvc
+class ResponseFormatTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private SwiftCodeRepository swiftCodeRepository;
+
+    @BeforeEach
+    void setUp() {
+        swiftCodeRepository.deleteAll();
+        countryRepository.deleteAll();
+
+        Country poland = countryRepository.save(Country.builder().isoCode("PL").name("POLAND").build());
+        SwiftCode headquarter = swiftCodeRepository.save(SwiftCode.builder()
+                .swiftCode("TESTPLPWXXX")
+                .bankName("Bank HQ")
+                .address("Main HQ Address")
+                .isHeadquarter(true)
+                .country(poland)
+                .build());
+        swiftCodeRepository.save(SwiftCode.builder()
+                .swiftCode("TESTPLPW123")
+                .bankName("Bank Branch")
+                .address("Branch Address")
+                .isHeadquarter(false)
+                .country(poland)
+                .headquarterEntity(headquarter)
+                .build());
+    }
+
+    private MockHttpServletResponse fetch(String uri, String accept) throws Exception {
+        return mockMvc.perform(get(uri).header("Accept", accept)).andReturn().getResponse();
+    }
+
+    @Test
+    @DisplayName("Should keep answering with JSON when any type is accepted")
+    void shouldPreferJson() throws Exception {
+        MockHttpServletResponse response = fetch("/v1/swift-codes/TESTPLPWXXX", "*/*");
+
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should write CBOR with the same fields as JSON")
+    void shouldWriteCbor() throws Exception {
+        MockHttpServletResponse response = fetch("/v1/swift-codes/TESTPLPWXXX", "application/cbor");
+
+        assertThat(response.getContentType()).isEqualTo("application/cbor");
+        JsonNode body = new CBORMapper().readTree(response.getContentAsByteArray());
+        assertThat(body.get("isHeadquarter").asBoolean()).isTrue();
+        assertThat(body.get("branches").get(0).get("swiftCode").asText()).isEqualTo("TESTPLPW123");
+    }
+
+    @Test
+    @DisplayName("Should write Smile with the same fields as JSON")
+    void shouldWriteSmile() throws Exception {
+        MockHttpServletResponse response = fetch("/v1/swift-codes/country/PL", "application/x-jackson-smile");
+
+        assertThat(response.getContentType()).isEqualTo("application/x-jackson-smile");
+        JsonNode body = new SmileMapper().readTree(response.getContentAsByteArray());
+        assertThat(body.get("countryName").asText()).isEqualTo("POLAND");
+        assertThat(body.get("swiftCodes")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should write protobuf and name the message type")
+    void shouldWriteProtobuf() throws Exception {
+        MockHttpServletResponse response = fetch("/v1/swift-codes/country/PL", "application/x-protobuf");
+
+        assertThat(response.getContentType()).isEqualTo("application/x-protobuf");
+        assertThat(response.getHeader("X-Protobuf-Message")).isEqualTo("cebix.swiftcodes.v1.CountrySwiftCodes");
+        assertThat(response.getHeader("X-Protobuf-Schema")).isEqualTo("/proto/swift_codes.proto");
+        UnknownFieldSet body = UnknownFieldSet.parseFrom(response.getContentAsByteArray());
+        assertThat(body.getField(2).getLengthDelimitedList().get(0).toStringUtf8()).isEqualTo("POLAND");
+        assertThat(body.getField(3).getLengthDelimitedList()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should answer errors with JSON whatever the request accepts")
+    void shouldWriteErrorsAsJson() throws Exception {
+        MockHttpServletResponse response = fetch("/v1/swift-codes/UNKNOWNXXXX", "application/x-protobuf");
+
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(response.getContentAsString()).contains("SwiftCode not found");
+    }
+
+    @Test
+    @DisplayName("Should publish the protobuf schema")
+    void shouldServeSchema() throws Exception {
+        MockHttpServletResponse response = fetch("/proto/swift_codes.proto", "*/*");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).contains("message CountrySwiftCodes");
+    }
+}
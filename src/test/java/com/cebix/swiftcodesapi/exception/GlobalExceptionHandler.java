@@ -40,6 +40,33 @@ class GlobalExceptionHandlerTest {
         assertThat(body).containsKey("timestamp");
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("should return 409 when ImportInProgressException is thrown")
+    void should_HandleImportInProgressException() {
+        String errorMsg = "Another import is already running";
+        ImportInProgressException ex = new ImportInProgressException(errorMsg);
+
+        ResponseEntity<Object> response = handler.handleImportInProgress(ex);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertThat(body).containsEntry("status", 409);
+        assertThat(body).containsEntry("error", "Conflict");
+        assertThat(body).containsEntry("message", errorMsg);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("should fall back to the reason phrase when the exception has no message")
+    void should_HandleExceptionWithoutMessage() {
+        ResponseEntity<Object> response = handler.handleIllegalArgument(new IllegalArgumentException());
+
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertThat(body).containsEntry("message", "Bad Request");
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     @DisplayName("should return 400 when IllegalArgumentException is thrown")
@@ -0,0 +1,77 @@
+package com.cebix.swiftcodesapi.json;
+
+import com.cebix.swiftcodesapi.dto.CountrySwiftCodesDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeSimpleDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The hand-written serializers must produce byte-identical output to bean serialization.
+ */
+class SwiftCodeJsonModuleTest {
+
+    private final ObjectMapper beanMapper = new ObjectMapper();
+    private final ObjectMapper moduleMapper = new ObjectMapper().registerModule(new SwiftCodeJsonModule());
+
+    private static SwiftCodeSimpleDTO branch() {
+        return SwiftCodeSimpleDTO.builder()
+                .address("UL. \"KOSZYKOWA\" 2\tWARSZAWA")
+                .bankName("BANK ŻYTNI")
+                .countryISO2("PL")
+                .isHeadquarter(false)
+                .swiftCode("TESTPLPW123")
+                .build();
+    }
+
+    private void assertSameJson(Object value) throws Exception {
+        assertThat(moduleMapper.writeValueAsString(value)).isEqualTo(beanMapper.writeValueAsString(value));
+    }
+
+    @Test
+    @DisplayName("should serialize simple DTO like the bean serializer, including nulls")
+    void should_MatchBeanSerialization_ForSimpleDTO() throws Exception {
+        assertSameJson(branch());
+        assertSameJson(SwiftCodeSimpleDTO.builder().build());
+    }
+
+    @Test
+    @DisplayName("should serialize detailed DTO like the bean serializer, omitting nulls")
+    void should_MatchBeanSerialization_ForSwiftCodeDTO() throws Exception {
+        assertSameJson(SwiftCodeDTO.builder()
+                .address("HQ")
+                .bankName("BANK")
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .isHeadquarter(true)
+                .swiftCode("TESTPLPWXXX")
+                .branches(List.of(branch(), branch()))
+                .build());
+        assertSameJson(SwiftCodeDTO.builder().swiftCode("TESTPLPW123").isHeadquarter(false).build());
+        assertSameJson(SwiftCodeDTO.builder().branches(new ArrayList<>()).build());
+        assertSameJson(SwiftCodeDTO.builder().build());
+    }
+
+    @Test
+    @DisplayName("should serialize country DTO like the bean serializer")
+    void should_MatchBeanSerialization_ForCountryDTO() throws Exception {
+        assertSameJson(CountrySwiftCodesDTO.builder()
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .swiftCodes(List.of(branch(), branch()))
+                .build());
+        assertSameJson(CountrySwiftCodesDTO.builder().countryISO2("PL").build());
+    }
+
+    @Test
+    @DisplayName("should serialize DTOs nested in other values")
+    void should_MatchBeanSerialization_WhenNested() throws Exception {
+        assertSameJson(List.of(branch(), SwiftCodeDTO.builder().swiftCode("TESTPLPWXXX").build()));
+    }
+}
@@ -5,6 +5,7 @@ import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
 import com.cebix.swiftcodesapi.dto.SwiftCodeSimpleDTO;
 import com.cebix.swiftcodesapi.entity.Country;
 import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -181,4 +182,26 @@ public class SwiftCodeMapperTest {
         assertThat(dto.getCountryISO2()).isEqualTo("PL");
         assertThat(dto.getCountryName()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should map read model record to SwiftCodeDTO and SwiftCodeSimpleDTO")
+    void should_MapRecordToDTOs() {
+        SwiftCodeRecord record = SwiftCodeRecord.builder()
+                .swiftCode("TESTPLPWXXX")
+                .bankName("Bank Poland")
+                .address("Warsaw")
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .headquarter(true)
+                .build();
+
+        SwiftCodeDTO dto = mapper.recordToDTO(record);
+        SwiftCodeSimpleDTO simpleDTO = mapper.recordToSimpleDTO(record);
+
+        assertThat(dto.getSwiftCode()).isEqualTo("TESTPLPWXXX");
+        assertThat(dto.getCountryName()).isEqualTo("POLAND");
+        assertThat(dto.getIsHeadquarter()).isTrue();
+        assertThat(simpleDTO.getCountryISO2()).isEqualTo("PL");
+        assertThat(simpleDTO.getIsHeadquarter()).isTrue();
+    }
+}
@@ -0,0 +1,168 @@
+package com.cebix.swiftcodesapi.parser;
+
+import com.cebix.swiftcodesapi.config.ImportProperties;
+import com.cebix.swiftcodesapi.dto.ImportJobDTO;
+import com.cebix.swiftcodesapi.exception.ImportInProgressException;
+import com.cebix.swiftcodesapi.service.ImportJobService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ImportDirectoryWatcher Unit Tests")
+class ImportDirectoryWatcherTest {
+
+    private static final String CSV = """
+            COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE
+            AL,AAISALTRXXX,BIC11,BANK,ADDRESS,TIRANA,ALBANIA,Europe/Tirane
+            """;
+
+    @TempDir
+    Path directory;
+
+    private final ImportJobService importJobService = mock(ImportJobService.class);
+    private final List<Path> submitted = new CopyOnWriteArrayList<>();
+    private ImportDirectoryWatcher watcher;
+    private String resultState = "COMPLETED";
+
+    @BeforeEach
+    void setUp() {
+        when(importJobService.submit(any(Path.class), any())).thenAnswer(invocation -> {
+            Path file = invocation.getArgument(0);
+            Consumer<ImportJobDTO> onFinished = invocation.getArgument(1);
+            submitted.add(file);
+            ImportJobDTO job = ImportJobDTO.builder().id("job-" + submitted.size()).state("RUNNING").build();
+            onFinished.accept(ImportJobDTO.builder().id(job.getId()).state(resultState).build());
+            return job;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (watcher != null) {
+            watcher.stop();
+        }
+    }
+
+    private void startWatcher() throws IOException {
+        startWatcher(Duration.ofMillis(100));
+    }
+
+    private void startWatcher(Duration debounce) throws IOException {
+        ImportProperties properties = new ImportProperties();
+        properties.getWatch().setDirectory(directory);
+        properties.getWatch().setDebounce(debounce);
+        watcher = new ImportDirectoryWatcher(properties, importJobService);
+        watcher.start();
+    }
+
+    @Test
+    @DisplayName("Should import a dropped CSV once and move it to processed")
+    void shouldImportDroppedFile() throws Exception {
+        startWatcher();
+
+        Files.writeString(directory.resolve("update.csv"), CSV);
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> Files.exists(directory.resolve("processed/update.csv")));
+        assertThat(submitted).containsExactly(directory.resolve("update.csv"));
+        assertThat(directory.resolve("update.csv")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should import files that were already in the directory at startup")
+    void shouldImportExistingFiles() throws Exception {
+        Files.writeString(directory.resolve("existing.csv"), CSV);
+
+        startWatcher();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> Files.exists(directory.resolve("processed/existing.csv")));
+        assertThat(submitted).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should wait until a file has stopped changing before importing it")
+    void shouldDebounceWrites() throws Exception {
+        startWatcher(Duration.ofSeconds(1));
+        Path file = directory.resolve("growing.csv");
+
+        Files.writeString(file, CSV.lines().findFirst().orElseThrow() + "\n");
+        long deadline = System.nanoTime() + Duration.ofMillis(1500).toNanos();
+        while (System.nanoTime() < deadline) {
+            Files.writeString(file, "AL,AAISALTRXXX,BIC11,BANK,ADDRESS,TIRANA,ALBANIA,Europe/Tirane\n", StandardOpenOption.APPEND);
+            Thread.sleep(50);
+            assertThat(submitted).isEmpty();
+        }
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> submitted.size() == 1);
+    }
+
+    @Test
+    @DisplayName("Should move a file whose import failed to failed")
+    void shouldMoveFailedImportAside() throws Exception {
+        resultState = "FAILED";
+        startWatcher();
+
+        Files.writeString(directory.resolve("broken.csv"), "not,a,swift,file");
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> Files.exists(directory.resolve("failed/broken.csv")));
+    }
+
+    @Test
+    @DisplayName("Should ignore hidden and non-CSV files")
+    void shouldIgnoreOtherFiles() throws Exception {
+        startWatcher();
+
+        Files.writeString(directory.resolve(".partial.csv"), CSV);
+        Files.writeString(directory.resolve("notes.txt"), "hello");
+        Files.writeString(directory.resolve("real.csv"), CSV);
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> Files.exists(directory.resolve("processed/real.csv")));
+        Thread.sleep(300);
+        assertThat(submitted).containsExactly(directory.resolve("real.csv"));
+    }
+
+    @Test
+    @DisplayName("Should retry a file while another import is running")
+    void shouldRetryWhileAnotherImportRuns() throws Exception {
+        when(importJobService.submit(any(Path.class), any()))
+                .thenThrow(new ImportInProgressException("Import 1 is still running"))
+                .thenAnswer(invocation -> {
+                    Consumer<ImportJobDTO> onFinished = invocation.getArgument(1);
+                    submitted.add(invocation.getArgument(0));
+                    onFinished.accept(ImportJobDTO.builder().id("job").state("COMPLETED").build());
+                    return ImportJobDTO.builder().id("job").state("RUNNING").build();
+                });
+        startWatcher();
+
+        Files.writeString(directory.resolve("later.csv"), CSV);
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> Files.exists(directory.resolve("processed/later.csv")));
+        assertThat(submitted).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should not start when no directory is configured")
+    void shouldStayIdleWithoutDirectory() throws Exception {
+        watcher = new ImportDirectoryWatcher(new ImportProperties(), importJobService);
+
+        watcher.start();
+
+        assertThat(watcher.isEnabled()).isFalse();
+    }
+}
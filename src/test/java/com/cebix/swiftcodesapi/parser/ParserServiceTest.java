@@ -1,9 +1,20 @@
 package com.cebix.swiftcodesapi.parser;
 
+import com.cebix.swiftcodesapi.config.ImportProperties;
+import com.cebix.swiftcodesapi.entity.ChangeType;
 import com.cebix.swiftcodesapi.entity.Country;
 import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.entity.SwiftCodeStaging;
+import com.cebix.swiftcodesapi.exception.ImportInProgressException;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeBloomFilter;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeReadModel;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeStatistics;
 import com.cebix.swiftcodesapi.repository.CountryRepository;
 import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeStagingRepository;
+import com.cebix.swiftcodesapi.service.ChangeFeedService;
+import com.cebix.swiftcodesapi.validation.SwiftCodeValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
 import org.junit.jupiter.api.AfterEach;
@@ -16,11 +27,19 @@ import org.springframework.core.io.ClassPathResource;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -38,6 +57,30 @@ class ParserServiceTest {
     @Mock
     private SwiftCodeRepository swiftCodeRepository;
 
+    @Mock
+    private SwiftCodeReadModel readModel;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @Mock
+    private SwiftCodeBloomFilter bloomFilter;
+
+    @Mock
+    private SwiftCodeStatistics statistics;
+
+    @Mock
+    private SwiftCodeStagingRepository stagingRepository;
+
+    @Mock
+    private StagedImportPublisher stagedImportPublisher;
+
+    @Spy
+    private ImportProperties importProperties = new ImportProperties();
+
+    @Spy
+    private SwiftCodeValidator swiftCodeValidator = new SwiftCodeValidator(new SimpleMeterRegistry());
+
     @Captor
     private ArgumentCaptor<SwiftCode> swiftCodeCaptor;
 
@@ -47,6 +90,7 @@ class ParserServiceTest {
     @BeforeEach
     void setUp() {
         closeable = MockitoAnnotations.openMocks(this);
+        importProperties.setMode(ImportProperties.Mode.IN_PLACE);
     }
 
     @AfterEach
@@ -77,6 +121,8 @@ class ParserServiceTest {
             verify(countryRepository).save(countryCaptor.capture());
 
             verify(swiftCodeRepository, times(3)).save(swiftCodeCaptor.capture());
+            verify(readModel).reload();
+            verify(changeFeedService, times(3)).recordUpsert(any(), eq(ChangeType.INSERT));
 
             var swiftCodes = swiftCodeCaptor.getAllValues();
 
@@ -178,6 +224,36 @@ class ParserServiceTest {
 
             assertThat(updatedSwiftCode.getBankName()).isEqualTo("Updated Bank");
             assertThat(updatedSwiftCode.getAddress()).isEqualTo("New Address");
+            verify(changeFeedService).recordUpsert(updatedSwiftCode, ChangeType.UPDATE);
+        }
+
+        @Test
+        void shouldNotRecordChangeWhenReimportingIdenticalRow() throws Exception {
+            Country existingCountry = Country.builder().id(1L).isoCode("AL").name("ALBANIA").build();
+
+            SwiftCode existingSwiftCode = SwiftCode.builder()
+                    .id(1L)
+                    .swiftCode("AAISALTRXXX")
+                    .bankName("Same Bank")
+                    .address("Same Address")
+                    .isHeadquarter(true)
+                    .country(existingCountry)
+                    .build();
+
+            when(countryRepository.findByIsoCode("AL")).thenReturn(Optional.of(existingCountry));
+            when(swiftCodeRepository.findBySwiftCode("AAISALTRXXX")).thenReturn(Optional.of(existingSwiftCode));
+
+            var csv = """
+                COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE
+                AL,AAISALTRXXX,BIC11,Same Bank,Same Address,Tirana,ALBANIA,Europe/Tirane
+                """;
+
+            var stream = new InputStreamReader(new java.io.ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+            parserService.importDataFromStream(stream);
+
+            verify(swiftCodeRepository).save(existingSwiftCode);
+            verifyNoInteractions(changeFeedService);
         }
 
         @Test
@@ -238,4 +314,263 @@ class ParserServiceTest {
             assertThat(savedHq.getHeadquarterEntity()).isNull();
         }
     }
+
+    @Nested
+    class ProgressTests {
+
+        private final String csv = """
+                COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE
+                AL,AAISALTRXXX,BIC11,UNITED BANK OF ALBANIA SH.A,HYRJA 3 RR. DRITAN HOXHA,TIRANA,ALBANIA,Europe/Tirane
+                XXX,INVALIDXXX,BIC11,Invalid Bank,Address,Town,Invalidland,Europe/Nowhere
+                AL,SHORTROW
+                AL,AAISALTR1XX,BIC11,UNITED BANK OF ALBANIA SH.A,HYRJA 3 RR. DRITAN HOXHA,TIRANA,ALBANIA,Europe/Tirane
+                """;
+
+        private final List<String> imported = new ArrayList<>();
+        private final List<String> rejected = new ArrayList<>();
+
+        @BeforeEach
+        void setUpCountry() {
+            Country country = Country.builder().id(1L).isoCode("AL").name("ALBANIA").build();
+            when(countryRepository.findByIsoCode("AL")).thenReturn(Optional.of(country));
+            when(swiftCodeRepository.findBySwiftCode(any())).thenReturn(Optional.empty());
+        }
+
+        @Test
+        void shouldReportImportedAndRejectedRows() {
+            parserService.importDataFromStream(reader(csv), new ImportProgress() {
+                @Override
+                public void rowImported(String countryISO2) {
+                    imported.add(countryISO2);
+                }
+
+                @Override
+                public void rowRejected(long line, String reason) {
+                    rejected.add(line + ": " + reason);
+                }
+            });
+
+            assertThat(imported).containsExactly("AL", "AL");
+            assertThat(rejected).containsExactly("3: Invalid ISO code [XXX]", "4: Expected 8 columns, found 2");
+        }
+
+        @Test
+        void shouldRejectMalformedSwiftCodesBeforeAnyLookup() {
+            String malformed = """
+                    COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE
+                    AL,aaisaltrxxx,BIC11,UNITED BANK OF ALBANIA SH.A,HYRJA 3 RR. DRITAN HOXHA,TIRANA,ALBANIA,Europe/Tirane
+                    AL,AAISPLTRXXX,BIC11,UNITED BANK OF ALBANIA SH.A,HYRJA 3 RR. DRITAN HOXHA,TIRANA,ALBANIA,Europe/Tirane
+                    """;
+
+            parserService.importDataFromStream(reader(malformed), new ImportProgress() {
+                @Override
+                public void rowRejected(long line, String reason) {
+                    rejected.add(line + ": " + reason);
+                }
+            });
+
+            assertThat(rejected).containsExactly(
+                    "2: SwiftCode must be upper case [aaisaltrxxx]",
+                    "3: SwiftCode country code (characters 5-6) must match countryISO2 [AAISPLTRXXX]");
+            verify(swiftCodeRepository, never()).findBySwiftCode(any());
+            verify(swiftCodeRepository, never()).save(any());
+        }
+
+        @Test
+        void shouldStopAtNextRowWhenCancelled() {
+            parserService.importDataFromStream(reader(csv), new ImportProgress() {
+                @Override
+                public void rowImported(String countryISO2) {
+                    imported.add(countryISO2);
+                }
+
+                @Override
+                public boolean isCancelled() {
+                    return !imported.isEmpty();
+                }
+            });
+
+            assertThat(imported).hasSize(1);
+            verify(swiftCodeRepository, times(1)).save(any());
+            verify(readModel).reload();
+        }
+
+        @Test
+        void shouldRefuseSecondImportWhileOneIsRunning() throws Exception {
+            CountDownLatch importing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(swiftCodeRepository.save(any())).thenAnswer(invocation -> {
+                importing.countDown();
+                release.await();
+                return invocation.getArgument(0);
+            });
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> first = executor.submit(() -> parserService.importDataFromStream(reader(csv), ImportProgress.NONE));
+                assertThat(importing.await(5, TimeUnit.SECONDS)).isTrue();
+
+                assertThatThrownBy(() -> parserService.importDataFromStream(reader(csv), ImportProgress.NONE))
+                        .isInstanceOf(ImportInProgressException.class)
+                        .hasMessageContaining("already running");
+
+                release.countDown();
+                first.get(5, TimeUnit.SECONDS);
+            } finally {
+                release.countDown();
+                executor.shutdownNow();
+            }
+        }
+
+        private InputStreamReader reader(String content) {
+            return new InputStreamReader(new java.io.ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Nested
+    class StagedImportTests {
+
+        private final List<SwiftCodeStaging> staged = new ArrayList<>();
+        private final List<Exception> failures = new ArrayList<>();
+
+        private final ImportProgress recordingFailures = new ImportProgress() {
+            @Override
+            public void importFailed(Exception cause) {
+                failures.add(cause);
+            }
+        };
+
+        @BeforeEach
+        void setUpStaging() {
+            importProperties.setMode(ImportProperties.Mode.STAGED);
+            when(stagingRepository.saveAll(any())).thenAnswer(invocation -> {
+                Iterable<SwiftCodeStaging> rows = invocation.getArgument(0);
+                rows.forEach(staged::add);
+                return rows;
+            });
+        }
+
+        @Test
+        void shouldStageAllRowsAndPublishThemOnce() throws Exception {
+            var resource = new ClassPathResource("data/test_swift_codes.csv");
+            parserService.importDataFromStream(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8), recordingFailures);
+
+            assertThat(staged).extracting(SwiftCodeStaging::getSwiftCode).containsExactly("AAISALTRXXX", "AAISALTR1XX");
+            SwiftCodeStaging branch = staged.get(1);
+            assertThat(branch.getBankName()).isEqualTo("UPDATED BRANCH NAME");
+            assertThat(branch.isHeadquarter()).isFalse();
+            assertThat(branch.getCountryName()).isEqualTo("ALBANIA");
+
+            String importId = branch.getImportId();
+            assertThat(staged).allSatisfy(row -> assertThat(row.getImportId()).isEqualTo(importId));
+
+            InOrder inOrder = inOrder(bloomFilter, stagedImportPublisher, readModel, stagingRepository);
+            inOrder.verify(bloomFilter).put("AAISALTR1XX");
+            inOrder.verify(stagedImportPublisher).publish(importId);
+            inOrder.verify(readModel).reload();
+            inOrder.verify(stagingRepository).deleteAllByImportId(importId);
+
+            assertThat(failures).isEmpty();
+            verifyNoInteractions(swiftCodeRepository, countryRepository, changeFeedService);
+        }
+
+        @Test
+        void shouldReplaceRowOfRepeatedCodeAlreadyWritten() throws Exception {
+            importProperties.setStagingBatchSize(1);
+
+            var resource = new ClassPathResource("data/test_swift_codes.csv");
+            parserService.importDataFromStream(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8), recordingFailures);
+
+            verify(stagingRepository).deleteAllByImportIdAndSwiftCodeIn(anyString(), eq(List.of("AAISALTR1XX")));
+            assertThat(staged).extracting(SwiftCodeStaging::getBankName)
+                    .containsExactly("UNITED BANK OF ALBANIA", "UNITED BANK OF ALBANIA BRANCH", "UPDATED BRANCH NAME");
+            verify(stagedImportPublisher).publish(anyString());
+        }
+
+        @Test
+        void shouldRejectFileWithTooManyInvalidRows() {
+            String csv = """
+                    COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE
+                    AL,AAISALTRXXX,BIC11,UNITED BANK OF ALBANIA SH.A,HYRJA 3 RR. DRITAN HOXHA,TIRANA,ALBANIA,Europe/Tirane
+                    XXX,INVALIDXXX,BIC11,Invalid Bank,Address,Town,Invalidland,Europe/Nowhere
+                    """;
+
+            parserService.importDataFromStream(reader(csv), recordingFailures);
+
+            assertThat(failures).singleElement().satisfies(failure ->
+                    assertThat(failure).hasMessage("1 of 2 rows rejected, more than the allowed 5.0%; nothing was published"));
+            verify(stagedImportPublisher, never()).publish(any());
+            verify(stagingRepository).deleteAllByImportId(anyString());
+            verifyNoInteractions(readModel);
+        }
+
+        @Test
+        void shouldRejectFileWithoutValidRows() {
+            String csv = "COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE\n";
+
+            parserService.importDataFromStream(reader(csv), recordingFailures);
+
+            assertThat(failures).singleElement().satisfies(failure ->
+                    assertThat(failure).hasMessageStartingWith("No valid rows"));
+            verify(stagedImportPublisher, never()).publish(any());
+        }
+
+        @Test
+        void shouldPublishNothingWhenCancelled() throws Exception {
+            List<String> imported = new ArrayList<>();
+            var resource = new ClassPathResource("data/test_swift_codes.csv");
+
+            parserService.importDataFromStream(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8), new ImportProgress() {
+                @Override
+                public void rowImported(String countryISO2) {
+                    imported.add(countryISO2);
+                }
+
+                @Override
+                public boolean isCancelled() {
+                    return !imported.isEmpty();
+                }
+            });
+
+            assertThat(imported).hasSize(1);
+            verify(stagedImportPublisher, never()).publish(any());
+            verify(stagingRepository).deleteAllByImportId(anyString());
+            verifyNoInteractions(readModel);
+        }
+
+        @Test
+        void shouldPublishNothingWhenCsvCannotBeReadToTheEnd() throws Exception {
+            CSVReader csvReader = mock(CSVReader.class);
+            when(csvReader.readNext())
+                    .thenReturn(new String[]{"COUNTRY ISO2 CODE", "SWIFT CODE", "CODE TYPE", "NAME", "ADDRESS", "TOWN NAME", "COUNTRY NAME", "TIME ZONE"})
+                    .thenReturn(new String[]{"AL", "AAISALTRXXX", "BIC11", "BANK", "ADDRESS", "TIRANA", "ALBANIA", "Europe/Tirane"})
+                    .thenThrow(new CsvValidationException("Unterminated quote"));
+
+            ParserService parserServiceSpy = spy(parserService);
+            doReturn(csvReader).when(parserServiceSpy).createCsvReader(any());
+
+            parserServiceSpy.importDataFromStream(mock(InputStreamReader.class), recordingFailures);
+
+            assertThat(failures).singleElement().isInstanceOf(CsvValidationException.class);
+            verify(stagedImportPublisher, never()).publish(any());
+            verify(stagingRepository).deleteAllByImportId(anyString());
+        }
+
+        @Test
+        void shouldDiscardStagedRowsWhenPublishingFails() throws Exception {
+            when(stagedImportPublisher.publish(anyString())).thenThrow(new IllegalStateException("duplicate key"));
+            var resource = new ClassPathResource("data/test_swift_codes.csv");
+
+            assertThatThrownBy(() -> parserService.importDataFromStream(
+                    new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8), recordingFailures))
+                    .hasMessage("duplicate key");
+
+            verify(stagingRepository).deleteAllByImportId(anyString());
+            verifyNoInteractions(readModel);
+        }
+
+        private InputStreamReader reader(String content) {
+            return new InputStreamReader(new java.io.ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+        }
+    }
 }
@@ -0,0 +1,203 @@
+package com.cebix.swiftcodesapi.parser;
+
+import com.cebix.swiftcodesapi.entity.ChangeType;
+import com.cebix.swiftcodesapi.entity.Country;
+import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.entity.SwiftCodeChange;
+import com.cebix.swiftcodesapi.entity.SwiftCodeStaging;
+import com.cebix.swiftcodesapi.repository.CountryRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeChangeRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeStagingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The set-based statements that merge a staged import into {@code swift_codes}.
+ */
+@DataJpaTest
+@Import(StagedImportPublisher.class)
+class StagedImportPublisherTest {
+
+    private static final String IMPORT_ID = "import-1";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StagedImportPublisher publisher;
+
+    @Autowired
+    private SwiftCodeRepository swiftCodeRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private SwiftCodeChangeRepository changeRepository;
+
+    @Autowired
+    private SwiftCodeStagingRepository stagingRepository;
+
+    private Country poland;
+
+    @BeforeEach
+    void setUp() {
+        poland = entityManager.persist(Country.builder().isoCode("PL").name("POLAND").build());
+    }
+
+    private SwiftCode persistCode(String swiftCode, String bankName, SwiftCode headquarter) {
+        return entityManager.persist(SwiftCode.builder()
+                .swiftCode(swiftCode)
+                .bankName(bankName)
+                .branchName("WARSZAWA")
+                .address("STREET 1")
+                .isHeadquarter(swiftCode.endsWith("XXX"))
+                .country(poland)
+                .headquarterEntity(headquarter)
+                .build());
+    }
+
+    private void stage(String swiftCode, String bankName, String countryISO2, String countryName) {
+        stagingRepository.save(SwiftCodeStaging.builder()
+                .importId(IMPORT_ID)
+                .swiftCode(swiftCode)
+                .bankName(bankName)
+                .branchName("WARSZAWA")
+                .address("STREET 1")
+                .isHeadquarter(swiftCode.endsWith("XXX"))
+                .countryISO2(countryISO2)
+                .countryName(countryName)
+                .build());
+    }
+
+    private StagedImportPublisher.Result publish() {
+        entityManager.flush();
+        entityManager.clear();
+        StagedImportPublisher.Result result = publisher.publish(IMPORT_ID);
+        entityManager.flush();
+        entityManager.clear();
+        return result;
+    }
+
+    private SwiftCode find(String swiftCode) {
+        return swiftCodeRepository.findBySwiftCode(swiftCode).orElseThrow();
+    }
+
+    private Map<String, ChangeType> changes() {
+        return changeRepository.findAll().stream()
+                .collect(Collectors.toMap(SwiftCodeChange::getSwiftCode, SwiftCodeChange::getChangeType));
+    }
+
+    @Test
+    @DisplayName("Should insert new codes and countries and link branches listed before their headquarter")
+    void shouldInsertNewCodes() {
+        stage("DEUTDEFF500", "DEUTSCHE BANK", "DE", "GERMANY");
+        stage("DEUTDEFFXXX", "DEUTSCHE BANK", "DE", "GERMANY");
+
+        StagedImportPublisher.Result result = publish();
+
+        assertThat(result).isEqualTo(new StagedImportPublisher.Result(2, 0));
+        SwiftCode branch = find("DEUTDEFF500");
+        assertThat(branch.getCountry().getName()).isEqualTo("GERMANY");
+        assertThat(branch.getHeadquarterEntity().getSwiftCode()).isEqualTo("DEUTDEFFXXX");
+        assertThat(find("DEUTDEFFXXX").getHeadquarterEntity()).isNull();
+        assertThat(countryRepository.findByIsoCode("DE")).isPresent();
+        assertThat(changes()).isEqualTo(Map.of("DEUTDEFF500", ChangeType.INSERT, "DEUTDEFFXXX", ChangeType.INSERT));
+        assertThat(stagingRepository.countByImportId(IMPORT_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should update and log only codes whose data changed")
+    void shouldUpdateChangedCodes() {
+        persistCode("BPKOPLPWXXX", "PKO BANK POLSKI", null);
+        persistCode("BREXPLPWXXX", "MBANK", null);
+        stage("BPKOPLPWXXX", "PKO BANK POLSKI", "PL", "POLAND");
+        stage("BREXPLPWXXX", "MBANK S.A.", "PL", "POLAND");
+
+        StagedImportPublisher.Result result = publish();
+
+        assertThat(result).isEqualTo(new StagedImportPublisher.Result(0, 1));
+        assertThat(find("BREXPLPWXXX").getBankName()).isEqualTo("MBANK S.A.");
+        assertThat(changeRepository.findAll()).singleElement().satisfies(change -> {
+            assertThat(change.getChangeType()).isEqualTo(ChangeType.UPDATE);
+            assertThat(change.getSwiftCode()).isEqualTo("BREXPLPWXXX");
+            assertThat(change.getBankName()).isEqualTo("MBANK S.A.");
+            assertThat(change.getCountryName()).isEqualTo("POLAND");
+        });
+    }
+
+    @Test
+    @DisplayName("Should move a code to another country and log it")
+    void shouldMoveCodeToAnotherCountry() {
+        persistCode("BPKOPLPWXXX", "PKO BANK POLSKI", null);
+        stage("BPKOPLPWXXX", "PKO BANK POLSKI", "DE", "GERMANY");
+
+        publish();
+
+        assertThat(find("BPKOPLPWXXX").getCountry().getIsoCode()).isEqualTo("DE");
+        assertThat(changes()).isEqualTo(Map.of("BPKOPLPWXXX", ChangeType.UPDATE));
+    }
+
+    @Test
+    @DisplayName("Should link stored branches to a headquarter that arrives in the import")
+    void shouldLinkStoredBranchesToNewHeadquarter() {
+        persistCode("BPKOPLPW001", "PKO BANK POLSKI", null);
+        persistCode("BPKOPLPW002", "PKO BANK POLSKI", null);
+        persistCode("BREXPLPW001", "MBANK", null);
+        stage("BPKOPLPWXXX", "PKO BANK POLSKI", "PL", "POLAND");
+
+        publish();
+
+        SwiftCode headquarter = find("BPKOPLPWXXX");
+        assertThat(List.of(find("BPKOPLPW001"), find("BPKOPLPW002")))
+                .allSatisfy(branch -> assertThat(branch.getHeadquarterEntity().getId()).isEqualTo(headquarter.getId()));
+        assertThat(find("BREXPLPW001").getHeadquarterEntity()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should leave the directory unchanged for an import identical to it")
+    void shouldNotTouchIdenticalRows() {
+        SwiftCode headquarter = persistCode("BPKOPLPWXXX", "PKO BANK POLSKI", null);
+        persistCode("BPKOPLPW001", "PKO BANK POLSKI", headquarter);
+        stage("BPKOPLPWXXX", "PKO BANK POLSKI", "PL", "POLAND");
+        stage("BPKOPLPW001", "PKO BANK POLSKI", "PL", "POLAND");
+
+        StagedImportPublisher.Result result = publish();
+
+        assertThat(result).isEqualTo(new StagedImportPublisher.Result(0, 0));
+        assertThat(changeRepository.count()).isZero();
+        assertThat(countryRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should only publish the rows of its own import")
+    void shouldIgnoreOtherImports() {
+        stagingRepository.save(SwiftCodeStaging.builder()
+                .importId("import-2")
+                .swiftCode("BREXPLPWXXX")
+                .bankName("MBANK")
+                .address("STREET 1")
+                .isHeadquarter(true)
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .build());
+        stage("BPKOPLPWXXX", "PKO BANK POLSKI", "PL", "POLAND");
+
+        publish();
+
+        assertThat(swiftCodeRepository.findBySwiftCode("BREXPLPWXXX")).isEmpty();
+        assertThat(stagingRepository.countByImportId("import-2")).isEqualTo(1);
+    }
+}
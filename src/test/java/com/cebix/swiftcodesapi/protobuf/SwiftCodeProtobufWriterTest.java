@@ -0,0 +1,164 @@
+package com.cebix.swiftcodesapi.protobuf;
+
+import com.cebix.swiftcodesapi.dto.BankStatsDTO;
+import com.cebix.swiftcodesapi.dto.CountryStatsDTO;
+import com.cebix.swiftcodesapi.dto.CountrySwiftCodesDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeBatchDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeChangeDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeChangesDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeSimpleDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeStatsDTO;
+import com.cebix.swiftcodesapi.entity.ChangeType;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnknownFieldSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Decodes the written bytes without the schema, by field number, as any protobuf reader would see them.
+ */
+class SwiftCodeProtobufWriterTest {
+
+    private static final SwiftCodeSimpleDTO BRANCH = SwiftCodeSimpleDTO.builder()
+            .address("Branch Address")
+            .bankName("Bank Branch")
+            .countryISO2("PL")
+            .isHeadquarter(false)
+            .swiftCode("TESTPLPW123")
+            .build();
+
+    private static final SwiftCodeDTO HEADQUARTER = SwiftCodeDTO.builder()
+            .address("Main HQ Address")
+            .bankName("Bank HQ")
+            .countryISO2("PL")
+            .countryName("POLAND")
+            .isHeadquarter(true)
+            .swiftCode("TESTPLPWXXX")
+            .branches(List.of(BRANCH))
+            .build();
+
+    private static byte[] write(Object value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        SwiftCodeProtobufWriter.write(value, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static UnknownFieldSet parse(byte[] bytes) throws Exception {
+        return UnknownFieldSet.parseFrom(bytes);
+    }
+
+    private static UnknownFieldSet parse(ByteString bytes) throws Exception {
+        return UnknownFieldSet.parseFrom(bytes);
+    }
+
+    private static String string(UnknownFieldSet message, int field) {
+        return message.getField(field).getLengthDelimitedList().get(0).toStringUtf8();
+    }
+
+    private static List<UnknownFieldSet> messages(UnknownFieldSet message, int field) throws Exception {
+        List<UnknownFieldSet> messages = new ArrayList<>();
+        for (ByteString bytes : message.getField(field).getLengthDelimitedList()) {
+            messages.add(parse(bytes));
+        }
+        return messages;
+    }
+
+    static Stream<Object> responses() {
+        return Stream.of(
+                HEADQUARTER,
+                CountrySwiftCodesDTO.builder().countryISO2("PL").countryName("POLAND").swiftCodes(List.of(BRANCH)).build(),
+                SwiftCodeBatchDTO.builder().swiftCodes(List.of(HEADQUARTER)).notFound(List.of("AAAAPLPWXXX")).build(),
+                SwiftCodeChangesDTO.builder()
+                        .changes(List.of(SwiftCodeChangeDTO.builder()
+                                .version(7L)
+                                .changeType(ChangeType.DELETE)
+                                .swiftCode("TESTPLPW123")
+                                .changedAt(Instant.parse("2025-03-01T10:15:30.5Z"))
+                                .build()))
+                        .nextSince(7)
+                        .hasMore(true)
+                        .build(),
+                SwiftCodeStatsDTO.builder()
+                        .version(3)
+                        .totalCodes(2)
+                        .headquarters(1)
+                        .branches(1)
+                        .countries(List.of(CountryStatsDTO.builder().countryISO2("PL").countryName("POLAND").headquarters(1).branches(1).build()))
+                        .largestBanks(List.of(BankStatsDTO.builder().bic8("TESTPLPW").bankName("Bank HQ").countryISO2("PL").branches(1).build()))
+                        .build());
+    }
+
+    @ParameterizedTest
+    @MethodSource("responses")
+    @DisplayName("should compute the size it writes")
+    void should_ComputeWrittenSize(Object response) throws Exception {
+        assertThat(SwiftCodeProtobufWriter.supports(response.getClass())).isTrue();
+        assertThat(write(response)).hasSize(SwiftCodeProtobufWriter.size(response));
+    }
+
+    @Test
+    @DisplayName("should write a code with its branches by field number")
+    void should_WriteSwiftCode() throws Exception {
+        UnknownFieldSet message = parse(write(HEADQUARTER));
+
+        assertThat(string(message, 1)).isEqualTo("Main HQ Address");
+        assertThat(string(message, 2)).isEqualTo("Bank HQ");
+        assertThat(string(message, 4)).isEqualTo("POLAND");
+        assertThat(message.getField(5).getVarintList()).containsExactly(1L);
+        assertThat(string(message, 6)).isEqualTo("TESTPLPWXXX");
+
+        UnknownFieldSet branch = messages(message, 7).get(0);
+        assertThat(string(branch, 5)).isEqualTo("TESTPLPW123");
+        // optional: false is written, unlike a missing flag
+        assertThat(branch.getField(4).getVarintList()).containsExactly(0L);
+    }
+
+    @Test
+    @DisplayName("should leave out null fields")
+    void should_SkipNullFields() throws Exception {
+        UnknownFieldSet message = parse(write(SwiftCodeDTO.builder().swiftCode("TESTPLPWXXX").branches(null).build()));
+
+        assertThat(message.asMap()).containsOnlyKeys(6);
+    }
+
+    @Test
+    @DisplayName("should write change types from 1 and times as a Timestamp")
+    void should_WriteChanges() throws Exception {
+        SwiftCodeChangesDTO changes = (SwiftCodeChangesDTO) responses().toList().get(3);
+
+        UnknownFieldSet message = parse(write(changes));
+        UnknownFieldSet change = messages(message, 1).get(0);
+        UnknownFieldSet changedAt = messages(change, 9).get(0);
+
+        assertThat(change.getField(1).getVarintList()).containsExactly(7L);
+        assertThat(change.getField(2).getVarintList()).containsExactly(3L);
+        assertThat(changedAt.getField(1).getVarintList()).containsExactly(Instant.parse("2025-03-01T10:15:30Z").getEpochSecond());
+        assertThat(changedAt.getField(2).getVarintList()).containsExactly(500_000_000L);
+        assertThat(message.getField(2).getVarintList()).containsExactly(7L);
+        assertThat(message.getField(3).getVarintList()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("should reject types without a message")
+    void should_RejectUnsupportedTypes() {
+        assertThat(SwiftCodeProtobufWriter.supports(SwiftCodeSimpleDTO.class)).isFalse();
+        assertThat(SwiftCodeProtobufWriter.messageName(SwiftCodeDTO.class)).isEqualTo("cebix.swiftcodes.v1.SwiftCode");
+        assertThatThrownBy(() -> SwiftCodeProtobufWriter.size("TESTPLPWXXX"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    private static String code(int i) {
+        return "BANK%06dXXX".formatted(i).substring(0, 11);
+    }
+
+    @Test
+    @DisplayName("Should size the filter from the expected insertions and false-positive rate")
+    void shouldSizeFilter() {
+        BloomFilter filter = BloomFilter.create(1000, 0.01);
+
+        // m = -1000 ln 0.01 / (ln 2)^2 = 9586 bits, rounded up to whole words; k = 9586 / 1000 ln 2 = 7
+        assertThat(filter.getBitCount()).isEqualTo(9600);
+        assertThat(filter.getHashFunctions()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should never report an added code as absent")
+    void shouldHaveNoFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        List<String> codes = IntStream.range(0, 10_000).mapToObj(BloomFilterTest::code).toList();
+
+        codes.forEach(filter::put);
+
+        assertThat(codes).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("Should keep the measured false-positive rate close to the configured one")
+    void shouldMatchConfiguredFalsePositiveRate() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).mapToObj(BloomFilterTest::code).forEach(filter::put);
+
+        long falsePositives = IntStream.range(10_000, 110_000)
+                .mapToObj(BloomFilterTest::code)
+                .filter(filter::mightContain)
+                .count();
+
+        assertThat(falsePositives / 100_000.0).isBetween(0.005, 0.015);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.008, 0.012);
+        assertThat(filter.approximateElementCount()).isBetween(9_800L, 10_200L);
+    }
+
+    @Test
+    @DisplayName("Should report an empty filter as containing nothing")
+    void shouldStartEmpty() {
+        BloomFilter filter = BloomFilter.create(100, 0.01);
+
+        assertThat(filter.mightContain("AAISALTRXXX")).isFalse();
+        assertThat(filter.expectedFalsePositiveRate()).isZero();
+        assertThat(filter.approximateElementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a false-positive rate outside (0, 1)")
+    void shouldRejectInvalidRate() {
+        assertThatThrownBy(() -> BloomFilter.create(100, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(100, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
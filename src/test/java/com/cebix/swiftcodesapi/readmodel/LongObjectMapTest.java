@@ -0,0 +1,78 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongObjectMapTest {
+
+    @Test
+    @DisplayName("Should behave like a HashMap under random puts and removes")
+    void shouldMatchHashMapSemantics() {
+        LongObjectMap<String> map = new LongObjectMap<>(4);
+        Map<Long, String> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = 1 + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(reference.remove(key));
+            } else {
+                String value = "v" + i;
+                assertThat(map.put(key, value)).isEqualTo(reference.put(key, value));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(reference.size());
+        reference.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+
+        List<String> values = new ArrayList<>();
+        map.forEachValue(values::add);
+        assertThat(values).containsExactlyInAnyOrderElementsOf(reference.values());
+    }
+
+    @Test
+    @DisplayName("Should leave the source untouched when a copy is modified")
+    void shouldCopyIndependently() {
+        LongObjectMap<String> source = new LongObjectMap<>();
+        source.put(1L, "one");
+
+        LongObjectMap<String> copy = source.copy();
+        copy.put(2L, "two");
+        copy.remove(1L);
+
+        assertThat(source.get(1L)).isEqualTo("one");
+        assertThat(source.get(2L)).isNull();
+        assertThat(copy.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should grow while keeping load factor below the threshold")
+    void shouldGrow() {
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        for (long key = 1; key <= 10_000; key++) {
+            map.put(key, key);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        assertThat(map.capacity()).isGreaterThan(10_000);
+        assertThat(map.get(9_999L)).isEqualTo(9_999L);
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive keys on write and miss on read")
+    void shouldRejectNonPositiveKeys() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+
+        assertThatThrownBy(() -> map.put(0L, "zero")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(map.get(SwiftCodeKeys.INVALID)).isNull();
+    }
+}
@@ -0,0 +1,161 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.opencsv.CSVReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapSwiftCodeDirectoryTest {
+
+    private static SwiftCodeRecord record(String swiftCode, String countryISO2) {
+        return SwiftCodeRecord.builder()
+                .id((long) swiftCode.hashCode())
+                .swiftCode(swiftCode)
+                .bankName("Bank")
+                .address("Address")
+                .townName("Town")
+                .countryISO2(countryISO2)
+                .countryName("COUNTRY " + countryISO2)
+                .headquarter(swiftCode.endsWith("XXX"))
+                .build();
+    }
+
+    private static List<SwiftCodeRecord> bundledDirectory() throws Exception {
+        List<SwiftCodeRecord> records = new ArrayList<>();
+        var resource = new ClassPathResource("data/Interns_2025_SWIFT_CODES.csv");
+        try (CSVReader reader = new CSVReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            reader.skip(1);
+            String[] fields;
+            while ((fields = reader.readNext()) != null) {
+                records.add(SwiftCodeRecord.builder()
+                        .id((long) records.size() + 1)
+                        .swiftCode(fields[1].trim())
+                        .bankName(fields[3].trim())
+                        .address(fields[4].trim())
+                        .townName(fields[5].trim())
+                        .countryISO2(fields[0].trim())
+                        .countryName(fields[6].trim())
+                        .headquarter(fields[1].trim().endsWith("XXX"))
+                        .build());
+            }
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("Should answer every lookup like the heap directory over the bundled directory")
+    void shouldMatchHeapDirectory() throws Exception {
+        List<SwiftCodeRecord> records = bundledDirectory();
+
+        SwiftCodeDirectory heap = SwiftCodeDirectory.of(records);
+        OffHeapSwiftCodeDirectory offHeap = OffHeapSwiftCodeDirectory.of(records);
+
+        assertThat(offHeap.size()).isEqualTo(heap.size());
+        assertThat(offHeap.nativeBytes()).isPositive();
+        for (SwiftCodeRecord record : records) {
+            assertThat(offHeap.find(record.getSwiftCode())).isEqualTo(heap.find(record.getSwiftCode()));
+            assertThat(offHeap.findHeadquarter(record.getSwiftCode())).isEqualTo(heap.findHeadquarter(record.getSwiftCode()));
+            assertThat(offHeap.findBranches(record)).containsExactlyElementsOf(heap.findBranches(record));
+            assertThat(offHeap.findCountry(record.getCountryISO2())).isEqualTo(heap.findCountry(record.getCountryISO2()));
+        }
+        assertThat(offHeap.records()).containsExactlyInAnyOrderElementsOf(heap.records());
+    }
+
+    @Test
+    @DisplayName("Should keep missing ids and town names and non-ASCII text")
+    void shouldRoundTripFields() {
+        SwiftCodeRecord record = record("AAISALTRXXX", "AL").toBuilder()
+                .id(null)
+                .townName(null)
+                .bankName("BANKA KOMBËTARE TREGTARE")
+                .build();
+
+        OffHeapSwiftCodeDirectory directory = OffHeapSwiftCodeDirectory.of(List.of(record));
+
+        assertThat(directory.find("AAISALTRXXX")).contains(record);
+        assertThat(directory.find("AAISALTR1XX")).isEmpty();
+        assertThat(directory.findCountry("BG")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return the codes of a BIC8 range without neighbouring banks")
+    void shouldReturnBranchRange() {
+        OffHeapSwiftCodeDirectory directory = OffHeapSwiftCodeDirectory.of(List.of(
+                record("AAISALTRXXX", "AL"),
+                record("AAISALTR2XX", "AL"),
+                record("AAISALTQ1XX", "AL"),
+                record("AAISALTS1XX", "AL"),
+                record("AAISALTR1XX", "AL")
+        ));
+
+        assertThat(directory.findBranches(directory.find("AAISALTRXXX").orElseThrow()))
+                .extracting(SwiftCodeRecord::getSwiftCode)
+                .containsExactly("AAISALTR1XX", "AAISALTR2XX");
+        assertThat(directory.findHeadquarter("AAISALTS1XX")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply removals and upserts without mutating the previous snapshot")
+    void shouldApplyCopyOnWrite() {
+        OffHeapSwiftCodeDirectory before = OffHeapSwiftCodeDirectory.of(List.of(
+                record("AAISALTRXXX", "AL"),
+                record("ABIEBGS1XXX", "BG")
+        ));
+
+        SwiftCodeDirectory after = before.apply(
+                List.of(record("AAISALTR1XX", "AL"), record("AAISALTRXXX", "AL").toBuilder().bankName("Renamed").build(),
+                        record("BCEYCHGGXXX", "CH")),
+                List.of("ABIEBGS1XXX"));
+
+        assertThat(before.size()).isEqualTo(2);
+        assertThat(before.find("AAISALTRXXX").orElseThrow().getBankName()).isEqualTo("Bank");
+        assertThat(after.size()).isEqualTo(3);
+        assertThat(after.find("AAISALTRXXX").orElseThrow().getBankName()).isEqualTo("Renamed");
+        assertThat(after.findCountry("BG")).isEmpty();
+        assertThat(after.findCountry("CH").orElseThrow().getName()).isEqualTo("COUNTRY CH");
+        assertThat(after.findCountry("AL").orElseThrow().getCodes())
+                .extracting(SwiftCodeRecord::getSwiftCode)
+                .containsExactly("AAISALTR1XX", "AAISALTRXXX");
+        assertThat(after.without("UNKNOWNXXXX")).isSameAs(after);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the string area once updates have doubled it")
+    void shouldCompactStrings() {
+        SwiftCodeDirectory directory = OffHeapSwiftCodeDirectory.of(List.of(record("AAISALTRXXX", "AL")));
+
+        for (int i = 0; i < 200; i++) {
+            directory = directory.with(record("AAISALTRXXX", "AL").toBuilder().address("X".repeat(1000) + i).build());
+        }
+
+        assertThat(directory.find("AAISALTRXXX").orElseThrow().getAddress()).endsWith("199");
+        assertThat(((OffHeapSwiftCodeDirectory) directory).nativeBytes())
+                .isLessThan(OffHeapSwiftCodeDirectory.SLOT_SIZE + 2 * 64 * 1024 + Integer.BYTES + 2000);
+    }
+
+    @Test
+    @DisplayName("Should keep codes that cannot be encoded reachable and listed with their country")
+    void shouldKeepIrregularCodes() {
+        OffHeapSwiftCodeDirectory directory = OffHeapSwiftCodeDirectory.of(List.of(
+                record("AAISALTR0XX", "AL"),
+                record("AAISALTR1XX", "AL"),
+                record("AAISALTR2XX", "AL")
+        ));
+
+        SwiftCodeDirectory after = directory.with(record("lower-case", "AL"));
+
+        assertThat(after.find("lower-case")).isPresent();
+        assertThat(after.findCountry("AL").orElseThrow().getCodes())
+                .extracting(SwiftCodeRecord::getSwiftCode)
+                .containsExactly("AAISALTR0XX", "AAISALTR1XX", "AAISALTR2XX", "lower-case");
+        assertThat(after.records()).hasSize(4);
+        assertThat(after.without("lower-case").size()).isEqualTo(3);
+    }
+}
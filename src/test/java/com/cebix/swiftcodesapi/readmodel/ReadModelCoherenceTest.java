@@ -0,0 +1,81 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.cebix.swiftcodesapi.SwiftCodesApiApplication;
+import com.cebix.swiftcodesapi.dto.SwiftCodeCreateDTO;
+import com.cebix.swiftcodesapi.entity.Country;
+import com.cebix.swiftcodesapi.repository.CountryRepository;
+import com.cebix.swiftcodesapi.service.SwiftCodeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Two application contexts ("replicas") sharing one embedded database: writes handled by
+ * one node must become visible in the other node's read model within a bounded delay.
+ */
+class ReadModelCoherenceTest {
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(SwiftCodesApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:coherence;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--swift-codes.import.on-startup=false",
+                        "--swift-codes.read-model.enabled=true",
+                        "--swift-codes.read-model.sync-interval=100ms");
+    }
+
+    @BeforeEach
+    void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+        nodeA.getBean(CountryRepository.class).save(Country.builder().isoCode("AL").name("ALBANIA").build());
+    }
+
+    @AfterEach
+    void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    @DisplayName("Should propagate creates and deletes to the other node's read model")
+    void shouldPropagateWritesBetweenNodes() {
+        SwiftCodeService serviceA = nodeA.getBean(SwiftCodeService.class);
+        SwiftCodeReadModel readModelB = nodeB.getBean(SwiftCodeReadModel.class);
+
+        serviceA.createSwiftCode(SwiftCodeCreateDTO.builder()
+                .swiftCode("AAISALTRXXX")
+                .bankName("UNITED BANK OF ALBANIA")
+                .address("HYRJA 3")
+                .countryISO2("AL")
+                .countryName("ALBANIA")
+                .isHeadquarter(true)
+                .build());
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> readModelB.getDirectory().find("AAISALTRXXX").isPresent());
+        assertThat(nodeB.getBean(SwiftCodeService.class).getSwiftCode("AAISALTRXXX").getBankName())
+                .isEqualTo("UNITED BANK OF ALBANIA");
+
+        serviceA.deleteSwiftCode("AAISALTRXXX");
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> readModelB.getDirectory().find("AAISALTRXXX").isEmpty());
+    }
+}
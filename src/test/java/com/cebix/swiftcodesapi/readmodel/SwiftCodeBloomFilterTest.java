@@ -0,0 +1,160 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.cebix.swiftcodesapi.config.BloomFilterProperties;
+import com.cebix.swiftcodesapi.entity.ChangeType;
+import com.cebix.swiftcodesapi.entity.SwiftCodeChange;
+import com.cebix.swiftcodesapi.repository.SwiftCodeChangeRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SwiftCodeBloomFilterTest {
+
+    private SwiftCodeRepository swiftCodeRepository;
+    private SwiftCodeChangeRepository changeRepository;
+    private BloomFilterProperties properties;
+    private MeterRegistry meterRegistry;
+    private SwiftCodeBloomFilter bloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        swiftCodeRepository = mock(SwiftCodeRepository.class);
+        changeRepository = mock(SwiftCodeChangeRepository.class);
+        properties = new BloomFilterProperties();
+        properties.setEnabled(true);
+        properties.setExpectedInsertions(1000);
+        meterRegistry = new SimpleMeterRegistry();
+        bloomFilter = new SwiftCodeBloomFilter(swiftCodeRepository, changeRepository, properties, meterRegistry);
+
+        when(changeRepository.findLatestVersion()).thenReturn(10L);
+        when(swiftCodeRepository.findAllSwiftCodes()).thenReturn(List.of("AAISALTRXXX", "AAISALTR1XX"));
+        bloomFilter.reload();
+    }
+
+    private static SwiftCodeChange change(long version, String swiftCode, ChangeType changeType) {
+        return SwiftCodeChange.builder().version(version).swiftCode(swiftCode).changeType(changeType).build();
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("swiftcodes.bloom.lookups").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should report loaded codes as possibly present and unknown codes as absent")
+    void shouldAnswerFromLoadedCodes() {
+        assertThat(bloomFilter.mightContain("AAISALTRXXX")).isTrue();
+        assertThat(bloomFilter.mightContain("BPKOPLPWXXX")).isFalse();
+
+        assertThat(bloomFilter.getVersion()).isEqualTo(10L);
+        assertThat(lookups("present")).isEqualTo(1);
+        assertThat(lookups("absent")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report every code as possibly present while disabled")
+    void shouldFailOpenWhenDisabled() {
+        properties.setEnabled(false);
+
+        assertThat(bloomFilter.mightContain("BPKOPLPWXXX")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report every code as possibly present before the first load")
+    void shouldFailOpenBeforeLoad() {
+        SwiftCodeBloomFilter unloaded = new SwiftCodeBloomFilter(
+                swiftCodeRepository, changeRepository, properties, new SimpleMeterRegistry());
+
+        assertThat(unloaded.mightContain("BPKOPLPWXXX")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should add codes put by local writers")
+    void shouldAddPutCodes() {
+        bloomFilter.put("BPKOPLPWXXX");
+
+        assertThat(bloomFilter.mightContain("BPKOPLPWXXX")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should add codes inserted by another node from the change log")
+    void shouldCatchUpWithRemoteInserts() {
+        when(changeRepository.findLatestVersion()).thenReturn(12L);
+        when(changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(eq(10L), any())).thenReturn(List.of(
+                change(11, "BPKOPLPWXXX", ChangeType.INSERT),
+                change(12, "AAISALTR1XX", ChangeType.DELETE)));
+
+        assertThat(bloomFilter.catchUp()).isEqualTo(2);
+
+        assertThat(bloomFilter.getVersion()).isEqualTo(12L);
+        assertThat(bloomFilter.mightContain("BPKOPLPWXXX")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should drop deleted codes on rebuild")
+    void shouldDropDeletedCodesOnRebuild() {
+        when(changeRepository.findLatestVersion()).thenReturn(11L);
+        when(changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(eq(11L), any())).thenReturn(List.of());
+        when(swiftCodeRepository.findAllSwiftCodes()).thenReturn(List.of("AAISALTRXXX"));
+
+        bloomFilter.reload();
+
+        assertThat(bloomFilter.mightContain("AAISALTR1XX")).isFalse();
+        assertThat(bloomFilter.getVersion()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("Should size the rebuild from the database once the filter is saturated")
+    void shouldResizeSaturatedFilter() {
+        List<String> codes = IntStream.range(0, 300).mapToObj(i -> String.format("TEST%04dXXX", i)).toList();
+        properties.setExpectedInsertions(1);
+        when(swiftCodeRepository.findAllSwiftCodes()).thenReturn(codes);
+        when(swiftCodeRepository.count()).thenReturn(300L);
+        when(changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(eq(10L), any())).thenReturn(List.of());
+        bloomFilter.reload();
+        assertThat(bloomFilter.getExpectedFalsePositiveRate()).isGreaterThan(0.5);
+
+        bloomFilter.reload();
+
+        assertThat(bloomFilter.getExpectedFalsePositiveRate()).isLessThan(0.01);
+        verify(swiftCodeRepository).count();
+    }
+
+    @Test
+    @DisplayName("Should rebuild instead of catching up when too far behind")
+    void shouldRebuildWhenFarBehind() {
+        properties.setSyncBatchSize(5);
+        when(changeRepository.findLatestVersion()).thenReturn(100L);
+
+        bloomFilter.catchUp();
+
+        assertThat(bloomFilter.getVersion()).isEqualTo(100L);
+        verify(swiftCodeRepository, times(2)).findAllSwiftCodes();
+    }
+
+    @Test
+    @DisplayName("Should report configured, expected and observed false-positive rates")
+    void shouldReportFalsePositiveRates() {
+        bloomFilter.mightContain("BPKOPLPWXXX");
+        bloomFilter.mightContain("AAISALTRXXX");
+        bloomFilter.recordFalsePositive();
+
+        assertThat(meterRegistry.get("swiftcodes.bloom.false.positive.rate").tag("kind", "configured").gauge().value())
+                .isEqualTo(0.01);
+        assertThat(meterRegistry.get("swiftcodes.bloom.false.positive.rate").tag("kind", "expected").gauge().value())
+                .isBetween(0.0, 0.01);
+        assertThat(meterRegistry.get("swiftcodes.bloom.false.positive.rate").tag("kind", "observed").gauge().value())
+                .isEqualTo(0.5);
+        assertThat(meterRegistry.get("swiftcodes.bloom.codes").gauge().value()).isEqualTo(2);
+    }
+}
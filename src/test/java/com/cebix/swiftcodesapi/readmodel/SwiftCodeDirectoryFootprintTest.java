@@ -0,0 +1,91 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.cebix.swiftcodesapi.config.ReadModelProperties;
+import com.cebix.swiftcodesapi.config.ShardingProperties;
+import com.cebix.swiftcodesapi.entity.Country;
+import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.repository.CountryRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeChangeRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import com.cebix.swiftcodesapi.sharding.CountryShardMap;
+import com.opencsv.CSVReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Heap-footprint check for the read model built from the bundled full-size directory,
+ * with and without string canonicalisation.
+ */
+class SwiftCodeDirectoryFootprintTest {
+
+    /** Pooled footprint per code; about 330 B today against about 420 B without the pool. */
+    private static final long BYTES_PER_CODE_BUDGET = 384;
+
+    private static List<SwiftCode> loadDirectory() throws Exception {
+        List<SwiftCode> entities = new ArrayList<>();
+        Map<String, Country> countries = new HashMap<>();
+
+        var resource = new ClassPathResource("data/Interns_2025_SWIFT_CODES.csv");
+        try (CSVReader reader = new CSVReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            reader.skip(1);
+            String[] fields;
+            while ((fields = reader.readNext()) != null) {
+                String[] row = fields;
+                Country country = countries.computeIfAbsent(row[0].trim(), iso -> Country.builder()
+                        .isoCode(iso)
+                        .name(row[6].trim())
+                        .build());
+
+                entities.add(SwiftCode.builder()
+                        .swiftCode(row[1].trim())
+                        .bankName(row[3].trim())
+                        .address(row[4].trim())
+                        .branchName(row[5].trim())
+                        .isHeadquarter(row[1].trim().endsWith("XXX"))
+                        .country(country)
+                        .build());
+            }
+        }
+        return entities;
+    }
+
+    private static long footprint(List<SwiftCode> entities, boolean internStrings) {
+        ReadModelProperties properties = new ReadModelProperties();
+        properties.setEnabled(true);
+        properties.setInternStrings(internStrings);
+
+        SwiftCodeRepository repository = mock(SwiftCodeRepository.class);
+        when(repository.findAllWithCountry()).thenReturn(entities);
+
+        SwiftCodeReadModel readModel = new SwiftCodeReadModel(repository, mock(CountryRepository.class),
+                mock(SwiftCodeChangeRepository.class), properties, new CountryShardMap(new ShardingProperties()));
+        readModel.reload();
+
+        return GraphLayout.parseInstance(readModel.getDirectory()).totalSize();
+    }
+
+    @Test
+    @DisplayName("Should keep the pooled read model within its heap footprint budget")
+    void shouldStayWithinFootprintBudget() throws Exception {
+        List<SwiftCode> entities = loadDirectory();
+
+        long plain = footprint(entities, false);
+        long pooled = footprint(entities, true);
+
+        assertThat(pooled).isLessThan(plain);
+        assertThat(pooled / entities.size()).isLessThanOrEqualTo(BYTES_PER_CODE_BUDGET);
+    }
+}
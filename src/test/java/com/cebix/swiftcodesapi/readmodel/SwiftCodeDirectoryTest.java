@@ -0,0 +1,106 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SwiftCodeDirectoryTest {
+
+    private static SwiftCodeRecord record(String swiftCode, String countryISO2) {
+        return SwiftCodeRecord.builder()
+                .swiftCode(swiftCode)
+                .bankName("Bank")
+                .address("Address")
+                .countryISO2(countryISO2)
+                .countryName("COUNTRY " + countryISO2)
+                .headquarter(swiftCode.endsWith("XXX"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should index records by code, country and BIC8")
+    void shouldIndexRecords() {
+        SwiftCodeDirectory directory = SwiftCodeDirectory.of(List.of(
+                record("AAISALTR1XX", "AL"),
+                record("AAISALTRXXX", "AL"),
+                record("ABIEBGS1XXX", "BG")
+        ));
+
+        assertThat(directory.size()).isEqualTo(3);
+        assertThat(directory.find("AAISALTRXXX")).isPresent();
+        assertThat(directory.findCountry("AL").orElseThrow().getCodes())
+                .extracting(SwiftCodeRecord::getSwiftCode)
+                .containsExactly("AAISALTR1XX", "AAISALTRXXX");
+        assertThat(directory.findBranches(directory.find("AAISALTRXXX").orElseThrow()))
+                .extracting(SwiftCodeRecord::getSwiftCode)
+                .containsExactly("AAISALTR1XX");
+    }
+
+    @Test
+    @DisplayName("Should add a record without mutating the previous snapshot")
+    void shouldAddRecordCopyOnWrite() {
+        SwiftCodeDirectory before = SwiftCodeDirectory.of(List.of(record("AAISALTRXXX", "AL")));
+
+        SwiftCodeDirectory after = before.with(record("AAISALTR2XX", "AL"));
+
+        assertThat(before.find("AAISALTR2XX")).isEmpty();
+        assertThat(after.findCountry("AL").orElseThrow().getCodes()).hasSize(2);
+        assertThat(after.findBranches(after.find("AAISALTRXXX").orElseThrow())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should drop empty country and bank entries on removal")
+    void shouldRemoveRecord() {
+        SwiftCodeDirectory directory = SwiftCodeDirectory.of(List.of(
+                record("AAISALTRXXX", "AL"),
+                record("ABIEBGS1XXX", "BG")
+        ));
+
+        SwiftCodeDirectory after = directory.without("ABIEBGS1XXX");
+
+        assertThat(after.size()).isEqualTo(1);
+        assertThat(after.findCountry("BG")).isEmpty();
+        assertThat(after.without("UNKNOWNXXXX")).isSameAs(after);
+    }
+
+    @Test
+    @DisplayName("Should replace an existing record with the same code")
+    void shouldReplaceRecord() {
+        SwiftCodeDirectory directory = SwiftCodeDirectory.of(List.of(record("AAISALTRXXX", "AL")));
+
+        SwiftCodeDirectory after = directory.with(record("AAISALTRXXX", "AL").toBuilder().bankName("Renamed").build());
+
+        assertThat(after.size()).isEqualTo(1);
+        assertThat(after.find("AAISALTRXXX").orElseThrow().getBankName()).isEqualTo("Renamed");
+        assertThat(after.findCountry("AL").orElseThrow().getCodes()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should resolve batch lookups and headquarters through encoded keys")
+    void shouldResolveBatchAndHeadquarter() {
+        SwiftCodeDirectory directory = SwiftCodeDirectory.of(List.of(
+                record("AAISALTRXXX", "AL"),
+                record("AAISALTR1XX", "AL")
+        ));
+
+        assertThat(directory.findAll(List.of("AAISALTR1XX", "MISSINGXXXX", "AAISALTRXXX")))
+                .extracting(SwiftCodeRecord::getSwiftCode)
+                .containsExactly("AAISALTR1XX", "AAISALTRXXX");
+        assertThat(directory.findHeadquarter("AAISALTR1XX"))
+                .get()
+                .extracting(SwiftCodeRecord::getSwiftCode)
+                .isEqualTo("AAISALTRXXX");
+    }
+
+    @Test
+    @DisplayName("Should keep codes that cannot be encoded reachable")
+    void shouldKeepIrregularCodes() {
+        SwiftCodeDirectory directory = SwiftCodeDirectory.of(List.of(record("lower-case", "AL")));
+
+        assertThat(directory.find("lower-case")).isPresent();
+        assertThat(directory.without("lower-case").size()).isZero();
+    }
+}
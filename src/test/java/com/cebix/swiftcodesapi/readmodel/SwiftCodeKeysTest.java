@@ -0,0 +1,50 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SwiftCodeKeysTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"AAISALTRXXX", "AAISALTR1XX", "DEUTDEFF", "ZZZZ99999ZZ", "A", "00000000000"})
+    @DisplayName("Should round-trip encodable codes")
+    void shouldRoundTrip(String swiftCode) {
+        long key = SwiftCodeKeys.encode(swiftCode);
+
+        assertThat(key).isPositive();
+        assertThat(SwiftCodeKeys.decode(key)).isEqualTo(swiftCode);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "aaisaltrxxx", "AAIS-LTRXXX", "AAISALTRXXXX"})
+    @DisplayName("Should reject values outside [A-Z0-9]{1,11}")
+    void shouldRejectInvalidCodes(String swiftCode) {
+        assertThat(SwiftCodeKeys.encode(swiftCode)).isEqualTo(SwiftCodeKeys.INVALID);
+    }
+
+    @Test
+    @DisplayName("Should distinguish a BIC8 from its XXX headquarter code")
+    void shouldDistinguishBic8FromHeadquarter() {
+        assertThat(SwiftCodeKeys.encode("DEUTDEFF")).isNotEqualTo(SwiftCodeKeys.encode("DEUTDEFFXXX"));
+    }
+
+    @Test
+    @DisplayName("Should resolve headquarter and BIC8 keys from a branch key")
+    void shouldResolveHeadquarterKey() {
+        long branch = SwiftCodeKeys.encode("AAISALTR1XX");
+
+        assertThat(SwiftCodeKeys.headquarter(branch)).isEqualTo(SwiftCodeKeys.encode("AAISALTRXXX"));
+        assertThat(SwiftCodeKeys.bic8(branch)).isEqualTo(SwiftCodeKeys.encode("AAISALTR"));
+    }
+
+    @Test
+    @DisplayName("Should preserve lexicographic order of equal-length codes")
+    void shouldPreserveOrder() {
+        assertThat(SwiftCodeKeys.encode("AAISALTR1XX")).isLessThan(SwiftCodeKeys.encode("AAISALTRXXX"));
+        assertThat(SwiftCodeKeys.encode("AAISALTRXXX")).isLessThan(SwiftCodeKeys.encode("ABIEBGS1XXX"));
+    }
+}
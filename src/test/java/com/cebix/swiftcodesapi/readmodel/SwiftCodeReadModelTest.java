@@ -0,0 +1,208 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.cebix.swiftcodesapi.config.ReadModelProperties;
+import com.cebix.swiftcodesapi.config.ShardingProperties;
+import com.cebix.swiftcodesapi.entity.ChangeType;
+import com.cebix.swiftcodesapi.entity.Country;
+import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.entity.SwiftCodeChange;
+import com.cebix.swiftcodesapi.repository.CountryRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeChangeRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import com.cebix.swiftcodesapi.sharding.CountryShardMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SwiftCodeReadModelTest {
+
+    private final Country albania = Country.builder().id(1L).isoCode("AL").name("ALBANIA").build();
+
+    private SwiftCodeRepository swiftCodeRepository;
+    private SwiftCodeChangeRepository changeRepository;
+    private CountryRepository countryRepository;
+    private ReadModelProperties properties;
+    private SwiftCodeReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        swiftCodeRepository = mock(SwiftCodeRepository.class);
+        changeRepository = mock(SwiftCodeChangeRepository.class);
+        properties = new ReadModelProperties();
+        properties.setEnabled(true);
+        countryRepository = mock(CountryRepository.class);
+        readModel = new SwiftCodeReadModel(swiftCodeRepository, countryRepository, changeRepository, properties,
+                new CountryShardMap(new ShardingProperties()));
+
+        when(changeRepository.findLatestVersion()).thenReturn(10L);
+        when(swiftCodeRepository.findAllWithCountry()).thenReturn(List.of(entity("AAISALTRXXX"), entity("AAISALTR1XX")));
+        readModel.reload();
+    }
+
+    private SwiftCode entity(String swiftCode) {
+        return SwiftCode.builder()
+                .swiftCode(swiftCode)
+                .bankName("UNITED BANK OF ALBANIA")
+                .address("HYRJA 3")
+                .isHeadquarter(swiftCode.endsWith("XXX"))
+                .country(albania)
+                .build();
+    }
+
+    private static SwiftCodeChange change(long version, String swiftCode, ChangeType changeType) {
+        return SwiftCodeChange.builder().version(version).swiftCode(swiftCode).changeType(changeType).build();
+    }
+
+    @Test
+    @DisplayName("Should record the change log version the snapshot was loaded at")
+    void shouldTrackVersionOnReload() {
+        assertThat(readModel.getVersion()).isEqualTo(10L);
+        assertThat(readModel.getDirectory().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep the snapshot off-heap and updates in it when configured")
+    void shouldLoadOffHeapSnapshot() {
+        properties.setStorage(ReadModelProperties.Storage.OFF_HEAP);
+        readModel.reload();
+
+        readModel.put(entity("AAISALTR2XX"));
+
+        assertThat(readModel.getDirectory()).isInstanceOf(OffHeapSwiftCodeDirectory.class);
+        assertThat(readModel.getDirectory().findBranches(readModel.getDirectory().find("AAISALTRXXX").orElseThrow()))
+                .extracting(SwiftCodeRecord::getSwiftCode)
+                .containsExactly("AAISALTR1XX", "AAISALTR2XX");
+    }
+
+    @Test
+    @DisplayName("Should apply inserts and deletes written by another node")
+    void shouldCatchUpWithRemoteChanges() {
+        when(changeRepository.findLatestVersion()).thenReturn(12L);
+        when(changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(eq(10L), any())).thenReturn(List.of(
+                change(11, "AAISALTR2XX", ChangeType.INSERT),
+                change(12, "AAISALTR1XX", ChangeType.DELETE)));
+        when(swiftCodeRepository.findAllWithCountryBySwiftCodeIn(any())).thenReturn(List.of(entity("AAISALTR2XX")));
+
+        assertThat(readModel.catchUp()).isEqualTo(2);
+
+        assertThat(readModel.getVersion()).isEqualTo(12L);
+        assertThat(readModel.getDirectory().find("AAISALTR2XX")).isPresent();
+        assertThat(readModel.getDirectory().find("AAISALTR1XX")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not query changes when already at the latest version")
+    void shouldSkipWhenUpToDate() {
+        assertThat(readModel.catchUp()).isZero();
+
+        verify(changeRepository, never()).findAllByVersionGreaterThanOrderByVersionAsc(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should reload the whole snapshot when too far behind")
+    void shouldReloadWhenFarBehind() {
+        properties.setSyncBatchSize(5);
+        when(changeRepository.findLatestVersion()).thenReturn(100L);
+
+        readModel.catchUp();
+
+        assertThat(readModel.getVersion()).isEqualTo(100L);
+        verify(swiftCodeRepository, times(2)).findAllWithCountry();
+    }
+
+    @Test
+    @DisplayName("Should hold the cursor before a version gap until the grace period expires")
+    void shouldWaitForUncommittedVersions() {
+        when(changeRepository.findLatestVersion()).thenReturn(13L);
+        when(changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(eq(10L), any())).thenReturn(List.of(
+                change(11, "AAISALTR2XX", ChangeType.INSERT),
+                change(13, "AAISALTR3XX", ChangeType.INSERT)));
+        when(swiftCodeRepository.findAllWithCountryBySwiftCodeIn(any()))
+                .thenReturn(List.of(entity("AAISALTR2XX"), entity("AAISALTR3XX")));
+
+        readModel.catchUp();
+
+        assertThat(readModel.getVersion()).isEqualTo(11L);
+        assertThat(readModel.getDirectory().find("AAISALTR3XX")).isPresent();
+
+        when(changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(eq(11L), any()))
+                .thenReturn(List.of(change(13, "AAISALTR3XX", ChangeType.INSERT)));
+        readModel.catchUp();
+        assertThat(readModel.getVersion()).isEqualTo(11L);
+
+        properties.setSyncGapGrace(Duration.ZERO);
+
+        readModel.catchUp();
+        assertThat(readModel.getVersion()).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("Should re-read a version below the loaded one that had not committed during the reload")
+    void shouldResumeBeforeUncommittedVersionAfterReload() {
+        when(changeRepository.findLatestVersion()).thenReturn(12L);
+        when(changeRepository.findLatestVersionBefore(any())).thenReturn(10L);
+        when(changeRepository.findVersionsBetween(10L, 12L)).thenReturn(List.of(12L));
+        readModel.reload();
+
+        assertThat(readModel.getVersion()).isEqualTo(10L);
+        assertThat(readModel.getDirectory().find("AAISALTR2XX")).isEmpty();
+
+        when(changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(eq(10L), any())).thenReturn(List.of(
+                change(11, "AAISALTR2XX", ChangeType.INSERT),
+                change(12, "AAISALTR1XX", ChangeType.UPDATE)));
+        when(swiftCodeRepository.findAllWithCountryBySwiftCodeIn(any()))
+                .thenReturn(List.of(entity("AAISALTR2XX"), entity("AAISALTR1XX")));
+
+        readModel.catchUp();
+
+        assertThat(readModel.getVersion()).isEqualTo(12L);
+        assertThat(readModel.getDirectory().find("AAISALTR2XX")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should hold only the countries of this node when sharded")
+    void shouldHoldOnlyLocalCountriesWhenSharded() {
+        Country poland = Country.builder().id(2L).isoCode("PL").name("POLAND").build();
+        ShardingProperties sharding = new ShardingProperties();
+        sharding.setEnabled(true);
+        sharding.setNodeId("a");
+        sharding.setNodes(Map.of("a", URI.create("http://localhost:8081"), "b", URI.create("http://localhost:8082")));
+        sharding.setPinned(Map.of("AL", "a", "PL", "b"));
+        readModel = new SwiftCodeReadModel(swiftCodeRepository, countryRepository, changeRepository, properties,
+                new CountryShardMap(sharding));
+
+        when(countryRepository.findAll()).thenReturn(List.of(albania, poland));
+        when(swiftCodeRepository.findAllWithCountryByCountryIsoCodeIn(List.of("AL"))).thenReturn(List.of(entity("AAISALTRXXX")));
+        readModel.reload();
+
+        assertThat(readModel.getDirectory().size()).isEqualTo(1);
+        assertThat(readModel.holds("AAISALTRXXX")).isTrue();
+        assertThat(readModel.holds("BREXPLPWXXX")).isFalse();
+        assertThat(readModel.holdsCountry("PL")).isFalse();
+        assertThat(readModel.holdsAll()).isFalse();
+
+        when(changeRepository.findLatestVersion()).thenReturn(12L);
+        when(changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(eq(10L), any())).thenReturn(List.of(
+                change(11, "BREXPLPWXXX", ChangeType.INSERT),
+                change(12, "AAISALTR1XX", ChangeType.INSERT)));
+        when(swiftCodeRepository.findAllWithCountryBySwiftCodeIn(any())).thenReturn(List.of(entity("AAISALTR1XX")));
+
+        readModel.catchUp();
+
+        verify(swiftCodeRepository).findAllWithCountryBySwiftCodeIn(Set.of("AAISALTR1XX"));
+        assertThat(readModel.getVersion()).isEqualTo(12L);
+        assertThat(readModel.getDirectory().size()).isEqualTo(2);
+    }
+}
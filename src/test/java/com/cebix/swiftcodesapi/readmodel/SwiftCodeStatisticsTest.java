@@ -0,0 +1,203 @@
+package com.cebix.swiftcodesapi.readmodel;
+
+import com.cebix.swiftcodesapi.config.StatisticsProperties;
+import com.cebix.swiftcodesapi.dto.BankStatsDTO;
+import com.cebix.swiftcodesapi.dto.CountryStatsDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeStatsDTO;
+import com.cebix.swiftcodesapi.entity.ChangeType;
+import com.cebix.swiftcodesapi.entity.SwiftCodeChange;
+import com.cebix.swiftcodesapi.entity.SwiftCodeSummary;
+import com.cebix.swiftcodesapi.repository.SwiftCodeChangeRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SwiftCodeStatisticsTest {
+
+    private SwiftCodeRepository swiftCodeRepository;
+    private SwiftCodeChangeRepository changeRepository;
+    private StatisticsProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private SwiftCodeStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        swiftCodeRepository = mock(SwiftCodeRepository.class);
+        changeRepository = mock(SwiftCodeChangeRepository.class);
+        properties = new StatisticsProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        statistics = new SwiftCodeStatistics(swiftCodeRepository, changeRepository, properties, meterRegistry);
+
+        when(changeRepository.findLatestVersion()).thenReturn(10L);
+        when(swiftCodeRepository.findAllSummaries()).thenReturn(List.of(
+                summary("AAISALTRXXX", "AL", "ALBANIA"),
+                summary("AAISALTR1XX", "AL", "ALBANIA"),
+                summary("AAISALTR2XX", "AL", "ALBANIA"),
+                summary("BPKOPLPWXXX", "PL", "POLAND"),
+                summary("BPKOPLPW123", "PL", "POLAND")));
+        statistics.reload();
+    }
+
+    private static SwiftCodeSummary summary(String swiftCode, String countryISO2, String countryName) {
+        return new SwiftCodeSummary(swiftCode, "BANK " + swiftCode.substring(0, 4), swiftCode.endsWith("XXX"),
+                countryISO2, countryName);
+    }
+
+    private static SwiftCodeChange insert(long version, String swiftCode, String countryISO2) {
+        return SwiftCodeChange.builder()
+                .version(version)
+                .swiftCode(swiftCode)
+                .changeType(ChangeType.INSERT)
+                .bankName("BANK " + swiftCode.substring(0, 4))
+                .countryISO2(countryISO2)
+                .countryName(countryISO2.equals("PL") ? "POLAND" : "ALBANIA")
+                .isHeadquarter(swiftCode.endsWith("XXX"))
+                .build();
+    }
+
+    private static SwiftCodeChange delete(long version, String swiftCode) {
+        return SwiftCodeChange.builder().version(version).swiftCode(swiftCode).changeType(ChangeType.DELETE).build();
+    }
+
+    @Test
+    @DisplayName("Should count codes per country, headquarters, branches and banks")
+    void shouldCountLoadedCodes() {
+        SwiftCodeStatsDTO stats = statistics.getStatistics();
+
+        assertThat(stats.getVersion()).isEqualTo(10L);
+        assertThat(stats.getTotalCodes()).isEqualTo(5);
+        assertThat(stats.getHeadquarters()).isEqualTo(2);
+        assertThat(stats.getBranches()).isEqualTo(3);
+        assertThat(stats.getCountries()).extracting(CountryStatsDTO::getCountryISO2, CountryStatsDTO::getCountryName,
+                        CountryStatsDTO::getHeadquarters, CountryStatsDTO::getBranches)
+                .containsExactly(
+                        tuple("AL", "ALBANIA", 1L, 2L),
+                        tuple("PL", "POLAND", 1L, 1L));
+        assertThat(stats.getLargestBanks()).extracting(BankStatsDTO::getBic8, BankStatsDTO::getBankName, BankStatsDTO::getBranches)
+                .containsExactly(
+                        tuple("AAISALTR", "BANK AAIS", 2L),
+                        tuple("BPKOPLPW", "BANK BPKO", 1L));
+        assertThat(statistics.getStatistics(1).getLargestBanks()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should apply inserts and deletes from the change log without recounting")
+    void shouldCatchUpIncrementally() {
+        when(changeRepository.findLatestVersion()).thenReturn(12L);
+        when(changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(eq(10L), any())).thenReturn(List.of(
+                insert(11, "BPKOPLPW456", "PL"),
+                delete(12, "AAISALTR1XX")));
+
+        assertThat(statistics.catchUp()).isEqualTo(2);
+        SwiftCodeStatsDTO stats = statistics.getStatistics();
+
+        assertThat(stats.getVersion()).isEqualTo(12L);
+        assertThat(stats.getTotalCodes()).isEqualTo(5);
+        assertThat(stats.getCountries()).extracting(CountryStatsDTO::getBranches).containsExactly(1L, 2L);
+        assertThat(stats.getLargestBanks()).extracting(BankStatsDTO::getBic8).containsExactly("BPKOPLPW", "AAISALTR");
+        verify(swiftCodeRepository, times(1)).findAllSummaries();
+    }
+
+    @Test
+    @DisplayName("Should not count a code twice when a change repeats what was already counted")
+    void shouldBeIdempotent() {
+        when(changeRepository.findLatestVersion()).thenReturn(13L);
+        when(changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(eq(10L), any())).thenReturn(List.of(
+                insert(11, "AAISALTR1XX", "AL"),
+                delete(12, "UNKNOWNXXXX"),
+                delete(13, "BPKOPLPW123")));
+
+        statistics.catchUp();
+        SwiftCodeStatsDTO stats = statistics.getStatistics();
+
+        assertThat(stats.getTotalCodes()).isEqualTo(4);
+        assertThat(stats.getCountries()).extracting(CountryStatsDTO::getCountryISO2).containsExactly("AL", "PL");
+        assertThat(stats.getLargestBanks()).extracting(BankStatsDTO::getBic8).containsExactly("AAISALTR");
+    }
+
+    @Test
+    @DisplayName("Should serve requests from the published snapshot without querying the change log")
+    void shouldServeSnapshotBetweenCatchUps() {
+        when(changeRepository.findLatestVersion()).thenReturn(11L);
+        when(changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(eq(10L), any()))
+                .thenReturn(List.of(insert(11, "BPKOPLPW456", "PL")));
+
+        assertThat(statistics.getStatistics().getTotalCodes()).isEqualTo(5);
+        assertThat(statistics.getStatistics().getVersion()).isEqualTo(10L);
+        verify(changeRepository, times(1)).findLatestVersion();
+
+        statistics.catchUp();
+
+        assertThat(statistics.getStatistics().getTotalCodes()).isEqualTo(6);
+        assertThat(statistics.getVersion()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("Should catch up on each request when change log polling is disabled")
+    void shouldCatchUpOnRequestWithoutPolling() {
+        properties.setSyncInterval(Duration.ZERO);
+        when(changeRepository.findLatestVersion()).thenReturn(11L);
+        when(changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(eq(10L), any()))
+                .thenReturn(List.of(insert(11, "BPKOPLPW456", "PL")));
+
+        assertThat(statistics.getStatistics().getTotalCodes()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should leave counters alone when they match the tables")
+    void shouldPassConsistencyCheck() {
+        assertThat(statistics.verify()).isFalse();
+        assertThat(meterRegistry.get("swiftcodes.stats.drift").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should replace counters that drifted from the tables")
+    void shouldCorrectDrift() {
+        when(swiftCodeRepository.findAllSummaries()).thenReturn(List.of(summary("AAISALTRXXX", "AL", "ALBANIA")));
+
+        assertThat(statistics.verify()).isTrue();
+
+        assertThat(statistics.getStatistics().getTotalCodes()).isEqualTo(1);
+        assertThat(meterRegistry.get("swiftcodes.stats.drift").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should skip the consistency check while the directory changes")
+    void shouldSkipCheckDuringWrites() {
+        when(changeRepository.findLatestVersion()).thenReturn(10L, 10L, 11L);
+        when(swiftCodeRepository.findAllSummaries()).thenReturn(List.of());
+
+        assertThat(statistics.verify()).isFalse();
+        assertThat(statistics.getStatistics().getTotalCodes()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should count from the tables on every call while disabled")
+    void shouldCountOnDemandWhenDisabled() {
+        properties.setEnabled(false);
+
+        statistics.getStatistics();
+        statistics.getStatistics();
+
+        verify(swiftCodeRepository, times(3)).findAllSummaries();
+    }
+
+    @Test
+    @DisplayName("Should reject a negative number of banks")
+    void shouldRejectNegativeLimit() {
+        assertThatThrownBy(() -> statistics.getStatistics(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,46 @@
+package com.cebix.swiftcodesapi.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Upgrades a schema as Hibernate created it before Flyway took over: Flyway baselines it at V1,
+ * so every table added since must come from a later migration.
+ */
+class BaselineMigrationTest {
+
+    @Test
+    @DisplayName("Should add the change log and staging tables to a schema baselined from Hibernate")
+    void shouldMigrateHibernateCreatedSchema() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:baseline-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table countries (id bigint generated by default as identity primary key, "
+                + "iso_code varchar(2) not null unique, name varchar(100) not null)");
+        jdbc.execute("create table swift_codes (id bigint generated by default as identity primary key, "
+                + "address varchar(255) not null, bank_name varchar(150) not null, branch_name varchar(150), "
+                + "is_headquarter boolean not null, swift_code varchar(11) not null unique, "
+                + "country_id bigint not null references countries (id), headquarter_id bigint references swift_codes (id))");
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common")
+                .baselineOnMigrate(true)
+                .load()
+                .migrate();
+
+        List<String> tables = jdbc.queryForList(
+                "select table_name from information_schema.tables where table_schema = 'PUBLIC'", String.class);
+        assertThat(tables).contains("SWIFT_CODE_CHANGES", "SWIFT_CODE_STAGING");
+        assertThat(jdbc.queryForObject("select count(*) from swift_code_changes", Long.class)).isZero();
+    }
+}
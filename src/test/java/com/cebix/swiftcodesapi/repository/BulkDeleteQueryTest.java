@@ -0,0 +1,146 @@
+package com.cebix.swiftcodesapi.repository;
+
+import com.cebix.swiftcodesapi.entity.ChangeType;
+import com.cebix.swiftcodesapi.entity.Country;
+import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.entity.SwiftCodeChange;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The set-based statements behind {@code deleteBank} and {@code deleteCountry}, run in the order the service runs them.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BulkDeleteQueryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SwiftCodeRepository swiftCodeRepository;
+
+    @Autowired
+    private SwiftCodeChangeRepository changeRepository;
+
+    private Statistics statistics;
+    private Country poland;
+    private Country germany;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        poland = entityManager.persist(Country.builder().isoCode("PL").name("POLAND").build());
+        germany = entityManager.persist(Country.builder().isoCode("DE").name("GERMANY").build());
+    }
+
+    private SwiftCode persistBank(String bic8, Country country, int branchCount) {
+        SwiftCode headquarter = persistCode(bic8 + "XXX", country, null);
+        for (int i = 0; i < branchCount; i++) {
+            persistCode(bic8 + String.format("%03d", i), country, headquarter);
+        }
+        return headquarter;
+    }
+
+    private SwiftCode persistCode(String swiftCode, Country country, SwiftCode headquarter) {
+        return entityManager.persist(SwiftCode.builder()
+                .swiftCode(swiftCode)
+                .bankName("BANK " + swiftCode.substring(0, 8))
+                .address("STREET 1")
+                .isHeadquarter(headquarter == null)
+                .country(country)
+                .headquarterEntity(headquarter)
+                .build());
+    }
+
+    private void startFreshSession() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private long deletesRecordedFor(String bic8) {
+        return changeRepository.findAll().stream()
+                .filter(change -> change.getChangeType() == ChangeType.DELETE)
+                .map(SwiftCodeChange::getSwiftCode)
+                .filter(code -> code.startsWith(bic8))
+                .count();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 3, 40})
+    @DisplayName("Should delete a bank with all its branches in four statements")
+    void shouldDeleteBank(int branchCount) {
+        persistBank("BPKOPLPW", poland, branchCount);
+        persistBank("BREXPLPW", poland, 2);
+        startFreshSession();
+
+        int recorded = changeRepository.insertDeletesOfBank("BPKOPLPW", Instant.now());
+        swiftCodeRepository.detachBranchesOutsideBank("BPKOPLPW");
+        int deleted = swiftCodeRepository.deleteAllByBic8("BPKOPLPW", false)
+                + swiftCodeRepository.deleteAllByBic8("BPKOPLPW", true);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(recorded).isEqualTo(branchCount + 1);
+        assertThat(deleted).isEqualTo(branchCount + 1);
+        assertThat(swiftCodeRepository.findSwiftCodesByBic8("BPKOPLPW")).isEmpty();
+        assertThat(swiftCodeRepository.findSwiftCodesByBic8("BREXPLPW")).hasSize(3);
+        assertThat(deletesRecordedFor("BPKOPLPW")).isEqualTo(branchCount + 1);
+        assertThat(deletesRecordedFor("BREXPLPW")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should delete every code of a country and unlink branches elsewhere from its headquarters")
+    void shouldDeleteCountry() {
+        SwiftCode polishHeadquarter = persistBank("BPKOPLPW", poland, 3);
+        persistBank("BREXPLPW", poland, 1);
+        persistBank("DEUTDEFF", germany, 2);
+        // Inconsistent data: a branch filed under another country than its headquarter
+        SwiftCode foreignBranch = persistCode("BPKOPLPW900", germany, polishHeadquarter);
+        startFreshSession();
+
+        changeRepository.insertDeletesOfCountry(poland.getId(), Instant.now());
+        int detached = swiftCodeRepository.detachBranchesOutsideCountry(poland.getId());
+        int deleted = swiftCodeRepository.deleteAllByCountryId(poland.getId(), false)
+                + swiftCodeRepository.deleteAllByCountryId(poland.getId(), true);
+
+        assertThat(detached).isEqualTo(1);
+        assertThat(deleted).isEqualTo(6);
+        assertThat(swiftCodeRepository.findSwiftCodesByCountryId(poland.getId())).isEmpty();
+        assertThat(swiftCodeRepository.findSwiftCodesByCountryId(germany.getId()))
+                .containsExactlyInAnyOrder("DEUTDEFFXXX", "DEUTDEFF000", "DEUTDEFF001", "BPKOPLPW900");
+        assertThat(swiftCodeRepository.findById(foreignBranch.getId()).orElseThrow().getHeadquarterEntity()).isNull();
+        assertThat(changeRepository.count()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should keep the branches of a deleted headquarter without a headquarter")
+    void shouldDetachBranchesOfDeletedHeadquarter() {
+        SwiftCode headquarter = persistBank("BPKOPLPW", poland, 2);
+        startFreshSession();
+
+        SwiftCode loaded = swiftCodeRepository.findBySwiftCode(headquarter.getSwiftCode()).orElseThrow();
+        assertThat(swiftCodeRepository.detachBranches(loaded)).isEqualTo(2);
+        swiftCodeRepository.delete(loaded);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(swiftCodeRepository.findSwiftCodesByBic8("BPKOPLPW")).containsExactlyInAnyOrder("BPKOPLPW000", "BPKOPLPW001");
+        assertThat(swiftCodeRepository.findBySwiftCode("BPKOPLPW000").orElseThrow().getHeadquarterEntity()).isNull();
+    }
+}
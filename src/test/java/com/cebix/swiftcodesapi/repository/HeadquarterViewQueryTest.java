@@ -0,0 +1,138 @@
+package com.cebix.swiftcodesapi.repository;
+
+import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeSimpleDTO;
+import com.cebix.swiftcodesapi.entity.Country;
+import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.mapper.SwiftCodeMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the JDBC statements Hibernate prepares while a headquarter view is loaded and mapped
+ * the way {@code SwiftCodeServiceImpl} does it, including every lazy association the mapper reads.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class HeadquarterViewQueryTest {
+
+    private final SwiftCodeMapper mapper = Mappers.getMapper(SwiftCodeMapper.class);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SwiftCodeRepository swiftCodeRepository;
+
+    private Statistics statistics;
+    private Country poland;
+    private Country germany;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        poland = entityManager.persist(Country.builder().isoCode("PL").name("POLAND").build());
+        germany = entityManager.persist(Country.builder().isoCode("DE").name("GERMANY").build());
+    }
+
+    private void persistBank(String bic8, int branchCount) {
+        SwiftCode headquarter = entityManager.persist(SwiftCode.builder()
+                .swiftCode(bic8 + "XXX")
+                .bankName("BANK " + bic8)
+                .address("HQ STREET 1")
+                .isHeadquarter(true)
+                .country(poland)
+                .build());
+        for (int i = 0; i < branchCount; i++) {
+            entityManager.persist(SwiftCode.builder()
+                    .swiftCode(bic8 + String.format("%03d", i))
+                    .bankName("BANK " + bic8)
+                    .address("BRANCH STREET " + i)
+                    .isHeadquarter(false)
+                    // Alternate countries so that branch countries are not all shared with the headquarter
+                    .country(i % 2 == 0 ? germany : poland)
+                    .headquarterEntity(headquarter)
+                    .build());
+        }
+    }
+
+    private void startFreshSession() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private SwiftCodeDTO toView(SwiftCode entity) {
+        SwiftCodeDTO dto = mapper.toDTO(entity);
+        dto.setBranches(entity.getBranches().stream().map(mapper::toSimpleDTO).toList());
+        return dto;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 25})
+    @DisplayName("Should load a headquarter with its branches and their countries in one statement")
+    void shouldLoadHeadquarterViewInOneStatement(int branchCount) {
+        persistBank("BPKOPLPW", branchCount);
+        startFreshSession();
+
+        SwiftCodeDTO view = toView(swiftCodeRepository.findWithBranchesBySwiftCode("BPKOPLPWXXX").orElseThrow());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(view.getCountryISO2()).isEqualTo("PL");
+        assertThat(view.getBranches()).hasSize(branchCount);
+        if (branchCount > 0) {
+            assertThat(view.getBranches()).extracting(SwiftCodeSimpleDTO::getCountryISO2).contains("DE");
+            assertThat(view.getBranches()).extracting(SwiftCodeSimpleDTO::getSwiftCode).isSorted();
+        }
+    }
+
+    @Test
+    @DisplayName("Should load a branch with its country in one statement")
+    void shouldLoadBranchInOneStatement() {
+        persistBank("BPKOPLPW", 3);
+        startFreshSession();
+
+        SwiftCode branch = swiftCodeRepository.findWithBranchesBySwiftCode("BPKOPLPW001").orElseThrow();
+
+        assertThat(mapper.toDTO(branch).getCountryISO2()).isEqualTo("PL");
+        assertThat(branch.getBranches()).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should load several headquarter views in one statement")
+    void shouldLoadBatchInOneStatement() {
+        persistBank("BPKOPLPW", 5);
+        persistBank("DEUTDEFF", 7);
+        startFreshSession();
+
+        List<SwiftCodeDTO> views = swiftCodeRepository
+                .findAllWithBranchesBySwiftCodeIn(List.of("BPKOPLPWXXX", "DEUTDEFFXXX", "BPKOPLPW002"))
+                .stream()
+                .map(this::toView)
+                .toList();
+
+        assertThat(views).extracting(SwiftCodeDTO::getSwiftCode)
+                .containsExactlyInAnyOrder("BPKOPLPWXXX", "DEUTDEFFXXX", "BPKOPLPW002");
+        assertThat(views).filteredOn(view -> view.getSwiftCode().equals("DEUTDEFFXXX"))
+                .singleElement()
+                .satisfies(view -> assertThat(view.getBranches()).hasSize(7));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,77 @@
+package com.cebix.swiftcodesapi.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Flyway migrations on the embedded database and checks with {@code EXPLAIN} that the
+ * lookup queries are answered through indexes rather than by scanning {@code swift_codes}.
+ */
+@DataJpaTest
+class SchemaIndexUsageTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    private String explain(String sql) {
+        return jdbc.queryForObject("explain " + sql, String.class);
+    }
+
+    @Test
+    @DisplayName("Should create the lookup indexes through migrations")
+    void shouldCreateLookupIndexes() {
+        List<String> indexes = jdbc.queryForList(
+                "select index_name from information_schema.indexes where table_name = 'SWIFT_CODES'", String.class);
+
+        assertThat(indexes).contains("IX_SWIFT_CODES_COUNTRY_CODE", "IX_SWIFT_CODES_HEADQUARTER");
+    }
+
+    @Test
+    @DisplayName("Should list a country's codes through an index on country_id")
+    void shouldUseIndexForCountryListing() {
+        String plan = explain("select * from swift_codes where country_id = 1");
+
+        // H2 always adds its own index for a foreign key unless one with exactly its columns exists,
+        // so the plan may name that one instead of ix_swift_codes_country_code.
+        assertThat(plan)
+                .contains("COUNTRY_ID = ")
+                .containsPattern("/\\* PUBLIC\\.\\w+: COUNTRY_ID")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Should find branches through the headquarter index")
+    void shouldUseHeadquarterIndex() {
+        String plan = explain("select * from swift_codes where headquarter_id = 1");
+
+        assertThat(plan)
+                .contains("IX_SWIFT_CODES_HEADQUARTER")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Should page the change feed through the primary key")
+    void shouldUsePrimaryKeyForChangeFeed() {
+        String plan = explain("select * from swift_code_changes where version > 10 order by version");
+
+        assertThat(plan)
+                .contains("PRIMARY_KEY")
+                .doesNotContain("tableScan");
+    }
+}
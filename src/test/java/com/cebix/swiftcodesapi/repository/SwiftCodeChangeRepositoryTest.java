@@ -0,0 +1,69 @@
+package com.cebix.swiftcodesapi.repository;
+
+import com.cebix.swiftcodesapi.entity.ChangeType;
+import com.cebix.swiftcodesapi.entity.SwiftCodeChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class SwiftCodeChangeRepositoryTest {
+
+    @Autowired
+    private SwiftCodeChangeRepository changeRepository;
+
+    private SwiftCodeChange append(String swiftCode, ChangeType changeType) {
+        return append(swiftCode, changeType, Instant.now());
+    }
+
+    private SwiftCodeChange append(String swiftCode, ChangeType changeType, Instant changedAt) {
+        return changeRepository.save(SwiftCodeChange.builder()
+                .swiftCode(swiftCode)
+                .changeType(changeType)
+                .changedAt(changedAt)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should assign increasing versions and page after a given version")
+    void shouldPageByVersion() {
+        SwiftCodeChange first = append("AAAAPLPWXXX", ChangeType.INSERT);
+        SwiftCodeChange second = append("AAAAPLPWXXX", ChangeType.UPDATE);
+        SwiftCodeChange third = append("AAAAPLPWXXX", ChangeType.DELETE);
+
+        assertThat(second.getVersion()).isGreaterThan(first.getVersion());
+        assertThat(third.getVersion()).isGreaterThan(second.getVersion());
+
+        List<SwiftCodeChange> page = changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(first.getVersion(), Limit.of(1));
+
+        assertThat(page).extracting(SwiftCodeChange::getChangeType).containsExactly(ChangeType.UPDATE);
+        assertThat(changeRepository.findLatestVersion()).isEqualTo(third.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should find the last version recorded before an instant and the versions in a range")
+    void shouldFindSettledAndCommittedVersions() {
+        Instant now = Instant.now();
+        SwiftCodeChange old = append("AAAAPLPWXXX", ChangeType.INSERT, now.minusSeconds(60));
+        SwiftCodeChange recent = append("AAAAPLPWXXX", ChangeType.UPDATE, now);
+        SwiftCodeChange latest = append("AAAAPLPWXXX", ChangeType.DELETE, now);
+
+        assertThat(changeRepository.findLatestVersionBefore(now.minusSeconds(10))).isEqualTo(old.getVersion());
+        assertThat(changeRepository.findLatestVersionBefore(now.minusSeconds(120))).isZero();
+        assertThat(changeRepository.findVersionsBetween(old.getVersion(), latest.getVersion()))
+                .containsExactly(recent.getVersion(), latest.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should report version 0 for an empty log")
+    void shouldReportZeroForEmptyLog() {
+        assertThat(changeRepository.findLatestVersion()).isZero();
+    }
+}
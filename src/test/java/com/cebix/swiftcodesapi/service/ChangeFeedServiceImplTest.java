@@ -0,0 +1,116 @@
+package com.cebix.swiftcodesapi.service;
+
+import com.cebix.swiftcodesapi.dto.SwiftCodeChangeDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeChangesDTO;
+import com.cebix.swiftcodesapi.entity.ChangeType;
+import com.cebix.swiftcodesapi.entity.Country;
+import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.entity.SwiftCodeChange;
+import com.cebix.swiftcodesapi.mapper.SwiftCodeMapper;
+import com.cebix.swiftcodesapi.repository.SwiftCodeChangeRepository;
+import com.cebix.swiftcodesapi.service.impl.ChangeFeedServiceImpl;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ChangeFeedServiceImpl Unit Tests")
+class ChangeFeedServiceImplTest {
+
+    private AutoCloseable closeable;
+
+    @Mock
+    private SwiftCodeChangeRepository changeRepository;
+
+    @Spy
+    private SwiftCodeMapper swiftCodeMapper = Mappers.getMapper(SwiftCodeMapper.class);
+
+    @InjectMocks
+    private ChangeFeedServiceImpl changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    private static List<SwiftCodeChange> changes(long from, long to) {
+        return LongStream.rangeClosed(from, to)
+                .mapToObj(version -> SwiftCodeChange.builder()
+                        .version(version)
+                        .changeType(ChangeType.INSERT)
+                        .swiftCode("CODE" + version)
+                        .build())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Should record an upsert with a snapshot of the row")
+    void shouldRecordUpsert() {
+        SwiftCode swiftCode = SwiftCode.builder()
+                .swiftCode("AAISALTRXXX")
+                .bankName("Bank")
+                .address("Address")
+                .isHeadquarter(true)
+                .country(Country.builder().isoCode("AL").name("ALBANIA").build())
+                .build();
+
+        changeFeedService.recordUpsert(swiftCode, ChangeType.INSERT);
+
+        ArgumentCaptor<SwiftCodeChange> captor = ArgumentCaptor.forClass(SwiftCodeChange.class);
+        verify(changeRepository).save(captor.capture());
+        assertThat(captor.getValue().getChangeType()).isEqualTo(ChangeType.INSERT);
+        assertThat(captor.getValue().getCountryISO2()).isEqualTo("AL");
+        assertThat(captor.getValue().getIsHeadquarter()).isTrue();
+        assertThat(captor.getValue().getChangedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should return a full page with hasMore and the last version as cursor")
+    void shouldPageWithKeyset() {
+        when(changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(10L, Limit.of(3)))
+                .thenReturn(changes(11, 13));
+
+        SwiftCodeChangesDTO result = changeFeedService.getChanges(10, 2);
+
+        assertThat(result.getChanges()).extracting(SwiftCodeChangeDTO::getVersion).containsExactly(11L, 12L);
+        assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getNextSince()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("Should keep the cursor when there are no newer changes")
+    void shouldKeepCursorWhenUpToDate() {
+        when(changeRepository.findAllByVersionGreaterThanOrderByVersionAsc(42L, Limit.of(501))).thenReturn(List.of());
+
+        SwiftCodeChangesDTO result = changeFeedService.getChanges(42, 500);
+
+        assertThat(result.getChanges()).isEmpty();
+        assertThat(result.isHasMore()).isFalse();
+        assertThat(result.getNextSince()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Should reject negative versions and out-of-range page sizes")
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> changeFeedService.getChanges(-1, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> changeFeedService.getChanges(0, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> changeFeedService.getChanges(0, ChangeFeedServiceImpl.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
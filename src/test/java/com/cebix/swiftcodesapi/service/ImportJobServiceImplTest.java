@@ -0,0 +1,176 @@
+package com.cebix.swiftcodesapi.service;
+
+import com.cebix.swiftcodesapi.config.ImportProperties;
+import com.cebix.swiftcodesapi.dto.ImportJobDTO;
+import com.cebix.swiftcodesapi.exception.ImportInProgressException;
+import com.cebix.swiftcodesapi.parser.ImportProgress;
+import com.cebix.swiftcodesapi.parser.ParserService;
+import com.cebix.swiftcodesapi.service.impl.ImportJobServiceImpl;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ImportJobServiceImpl Unit Tests")
+class ImportJobServiceImplTest {
+
+    private static final String CSV = """
+            COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE
+            AL,AAISALTRXXX,BIC11,BANK,ADDRESS,TIRANA,ALBANIA,Europe/Tirane
+            PL,BREXPLPWXXX,BIC11,BANK,ADDRESS,WARSZAWA,POLAND,Europe/Warsaw
+            PL,BREXPLPW123,BIC11,BANK,ADDRESS,WARSZAWA,POLAND,Europe/Warsaw
+            """;
+
+    private final ParserService parserService = mock(ParserService.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ImportJobServiceImpl importJobService;
+
+    @BeforeEach
+    void setUp() {
+        importJobService = new ImportJobServiceImpl(parserService, new ImportProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should run the uploaded CSV in the background and report its progress")
+    void shouldImportUploadInBackground() {
+        stubParser(false);
+
+        ImportJobDTO submitted = importJobService.submit(upload());
+        assertThat(submitted.getBytesTotal()).isEqualTo(CSV.getBytes(StandardCharsets.UTF_8).length);
+        release.countDown();
+
+        ImportJobDTO finished = awaitState(submitted.getId(), "COMPLETED");
+        assertThat(finished.getRowsProcessed()).isEqualTo(3);
+        assertThat(finished.getRowsImported()).isEqualTo(3);
+        assertThat(finished.getRowsByCountry()).containsEntry("AL", 1L).containsEntry("PL", 2L);
+        assertThat(finished.getBytesRead()).isEqualTo(finished.getBytesTotal());
+        assertThat(finished.getEtaSeconds()).isNull();
+        assertThat(finished.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should refuse a second upload while an import is running")
+    void shouldAllowOneImportAtATime() {
+        stubParser(false);
+
+        ImportJobDTO first = importJobService.submit(upload());
+
+        assertThatThrownBy(() -> importJobService.submit(upload()))
+                .isInstanceOf(ImportInProgressException.class)
+                .hasMessageContaining(first.getId());
+
+        release.countDown();
+        awaitState(first.getId(), "COMPLETED");
+        ImportJobDTO second = importJobService.submit(upload());
+        assertThat(second.getId()).isNotEqualTo(first.getId());
+    }
+
+    @Test
+    @DisplayName("Should stop a running import when it is cancelled")
+    void shouldCancelRunningImport() {
+        stubParser(false);
+
+        ImportJobDTO submitted = importJobService.submit(upload());
+        importJobService.cancel(submitted.getId());
+        release.countDown();
+
+        ImportJobDTO cancelled = awaitState(submitted.getId(), "CANCELLED");
+        assertThat(cancelled.getRowsImported()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should mark the job failed and keep the error when the CSV cannot be read")
+    void shouldReportFailure() {
+        stubParser(true);
+        release.countDown();
+
+        ImportJobDTO submitted = importJobService.submit(upload());
+
+        ImportJobDTO failed = awaitState(submitted.getId(), "FAILED");
+        assertThat(failed.getErrors()).anySatisfy(error -> assertThat(error).contains("broken CSV"));
+    }
+
+    @Test
+    @DisplayName("Should import a file in place, keep it and report the final status")
+    void shouldImportFileInPlace(@TempDir Path directory) throws Exception {
+        stubParser(false);
+        release.countDown();
+        Path file = Files.writeString(directory.resolve("codes.csv"), CSV);
+        CompletableFuture<ImportJobDTO> finished = new CompletableFuture<>();
+
+        ImportJobDTO submitted = importJobService.submit(file, finished::complete);
+
+        ImportJobDTO result = finished.get(5, TimeUnit.SECONDS);
+        assertThat(result.getId()).isEqualTo(submitted.getId());
+        assertThat(result.getState()).isEqualTo("COMPLETED");
+        assertThat(result.getRowsImported()).isEqualTo(3);
+        assertThat(result.getBytesRead()).isEqualTo(Files.size(file));
+        assertThat(file).exists();
+    }
+
+    @Test
+    @DisplayName("Should throw EntityNotFound for an unknown job")
+    void shouldThrowForUnknownJob() {
+        assertThatThrownBy(() -> importJobService.getJob("missing"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    /**
+     * Imports one row per CSV line, after the test releases it and as long as it is not cancelled.
+     */
+    private void stubParser(boolean fail) {
+        doAnswer(invocation -> {
+            InputStreamReader reader = invocation.getArgument(0);
+            ImportProgress progress = invocation.getArgument(1);
+            release.await();
+
+            if (fail) {
+                progress.importFailed(new IOException("broken CSV"));
+                return null;
+            }
+
+            BufferedReader lines = new BufferedReader(reader);
+            lines.readLine();
+            String line;
+            while ((line = lines.readLine()) != null && !progress.isCancelled()) {
+                progress.rowImported(line.substring(0, 2));
+            }
+            return null;
+        }).when(parserService).importDataFromStream(any(InputStreamReader.class), any(ImportProgress.class));
+    }
+
+    private ImportJobDTO awaitState(String id, String state) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> importJobService.getJob(id).getState().equals(state));
+        return importJobService.getJob(id);
+    }
+
+    private static ByteArrayInputStream upload() {
+        return new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8));
+    }
+}
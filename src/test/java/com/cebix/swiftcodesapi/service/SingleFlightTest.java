@@ -0,0 +1,110 @@
+package com.cebix.swiftcodesapi.service;
+
+import com.cebix.swiftcodesapi.service.impl.SingleFlight;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("SingleFlight Unit Tests")
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run one load for concurrent callers of the same key")
+    void shouldShareLoadBetweenConcurrentCallers() throws Exception {
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", this::blockingLoad), executor);
+        await().atMost(Duration.ofSeconds(5)).until(() -> loads.get() == 1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", this::blockingLoad), executor);
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", this::blockingLoad), executor);
+        await().atMost(Duration.ofSeconds(5)).until(() -> singleFlight.getWaiting("key") == 2);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.getWaiting("key")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should rethrow the load failure to every waiting caller")
+    void shouldPropagateFailureToWaitingCallers() {
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            awaitRelease();
+            throw new IllegalStateException("boom");
+        }), executor);
+        await().atMost(Duration.ofSeconds(5)).until(() -> loads.get() == 1);
+
+        CompletableFuture<String> waiting = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", this::blockingLoad), executor);
+        await().atMost(Duration.ofSeconds(5)).until(() -> singleFlight.getWaiting("key") == 1);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("boom");
+    }
+
+    @Test
+    @DisplayName("Should load again after the previous load finished")
+    void shouldNotRememberFinishedLoads() {
+        release.countDown();
+
+        assertThat(singleFlight.execute("key", this::blockingLoad)).isEqualTo("value-1");
+        assertThat(singleFlight.execute("key", this::blockingLoad)).isEqualTo("value-2");
+    }
+
+    @Test
+    @DisplayName("Should load different keys independently")
+    void shouldNotShareLoadsAcrossKeys() throws Exception {
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> singleFlight.execute("a", this::blockingLoad), executor);
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> singleFlight.execute("b", this::blockingLoad), executor);
+        await().atMost(Duration.ofSeconds(5)).until(() -> loads.get() == 2);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isNotEqualTo(second.get(5, TimeUnit.SECONDS));
+    }
+
+    private String blockingLoad() {
+        int load = loads.incrementAndGet();
+        awaitRelease();
+        return "value-" + load;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
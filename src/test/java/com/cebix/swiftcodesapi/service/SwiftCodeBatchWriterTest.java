@@ -0,0 +1,135 @@
+package com.cebix.swiftcodesapi.service;
+
+import com.cebix.swiftcodesapi.dto.SwiftCodeCreateDTO;
+import com.cebix.swiftcodesapi.entity.ChangeType;
+import com.cebix.swiftcodesapi.entity.Country;
+import com.cebix.swiftcodesapi.entity.SwiftCode;
+import com.cebix.swiftcodesapi.mapper.SwiftCodeMapper;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeBloomFilter;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeReadModel;
+import com.cebix.swiftcodesapi.repository.CountryRepository;
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import com.cebix.swiftcodesapi.service.impl.SwiftCodeBatchWriter;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.mapstruct.factory.Mappers;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SwiftCodeBatchWriter Unit Tests")
+class SwiftCodeBatchWriterTest {
+
+    private AutoCloseable closeable;
+
+    @Mock
+    private SwiftCodeRepository swiftCodeRepository;
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Spy
+    private SwiftCodeMapper swiftCodeMapper = Mappers.getMapper(SwiftCodeMapper.class);
+
+    @Mock
+    private SwiftCodeReadModel readModel;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @Mock
+    private SwiftCodeBloomFilter bloomFilter;
+
+    @InjectMocks
+    private SwiftCodeBatchWriter batchWriter;
+
+    private final Country poland = Country.builder().id(1L).isoCode("PL").name("POLAND").build();
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        when(countryRepository.findByIsoCode("PL")).thenReturn(Optional.of(poland));
+        when(countryRepository.findByIsoCode("XX")).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("Should insert a headquarter and its branch from the same batch with one lookup query")
+    void shouldLinkBranchToHeadquarterFromSameBatch() {
+        when(swiftCodeRepository.findAllBySwiftCodeIn(anyCollection())).thenReturn(List.of());
+
+        List<RuntimeException> failures = batchWriter.createAll(List.of(
+                create("NEWBPLPWXXX", true, "pl"),
+                create("NEWBPLPW123", false, "PL")));
+
+        assertThat(failures).containsExactly(null, null);
+
+        ArgumentCaptor<SwiftCode> saved = ArgumentCaptor.forClass(SwiftCode.class);
+        verify(swiftCodeRepository, times(2)).save(saved.capture());
+        SwiftCode headquarter = saved.getAllValues().get(0);
+        SwiftCode branch = saved.getAllValues().get(1);
+        assertThat(headquarter.isHeadquarter()).isTrue();
+        assertThat(branch.getHeadquarterEntity()).isSameAs(headquarter);
+        assertThat(branch.getCountry()).isSameAs(poland);
+
+        verify(swiftCodeRepository).findAllBySwiftCodeIn(Set.of("NEWBPLPWXXX", "NEWBPLPW123"));
+        verify(countryRepository, times(1)).findByIsoCode("PL");
+        verify(changeFeedService, times(2)).recordUpsert(any(), eq(ChangeType.INSERT));
+        verify(readModel).putAll(List.of(headquarter, branch));
+    }
+
+    @Test
+    @DisplayName("Should report invalid creates individually and insert the rest")
+    void shouldReportFailuresPerCreate() {
+        SwiftCode existing = SwiftCode.builder().id(7L).swiftCode("OLDBPLPWXXX").build();
+        when(swiftCodeRepository.findAllBySwiftCodeIn(anyCollection())).thenReturn(List.of(existing));
+
+        List<RuntimeException> failures = batchWriter.createAll(List.of(
+                create("OLDBPLPWXXX", true, "PL"),
+                create("NEWBPLPWXXX", true, "PL"),
+                create("NEWBPLPWXXX", true, "PL"),
+                create("NEWBXXPWXXX", true, "XX"),
+                create("NOHQPLPW123", false, "PL"),
+                create("OLDBPLPW123", false, "PL")));
+
+        assertThat(failures.get(0)).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("already exists");
+        assertThat(failures.get(1)).isNull();
+        assertThat(failures.get(2)).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("already exists");
+        assertThat(failures.get(3)).isInstanceOf(EntityNotFoundException.class).hasMessageContaining("Country not found");
+        assertThat(failures.get(4)).isInstanceOf(EntityNotFoundException.class).hasMessageContaining("Headquarter not found");
+        assertThat(failures.get(5)).isNull();
+
+        verify(swiftCodeRepository, times(2)).save(any());
+        verify(readModel).putAll(argThat((Collection<SwiftCode> created) -> created.size() == 2));
+    }
+
+    private static SwiftCodeCreateDTO create(String swiftCode, boolean headquarter, String countryISO2) {
+        return SwiftCodeCreateDTO.builder()
+                .swiftCode(swiftCode)
+                .bankName("Bank")
+                .address("Address")
+                .countryISO2(countryISO2)
+                .countryName("POLAND")
+                .isHeadquarter(headquarter)
+                .build();
+    }
+}
@@ -1,26 +1,49 @@
 package com.cebix.swiftcodesapi.service;
 
 import com.cebix.swiftcodesapi.dto.CountrySwiftCodesDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeBatchDTO;
 import com.cebix.swiftcodesapi.dto.SwiftCodeCreateDTO;
 import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
 import com.cebix.swiftcodesapi.dto.SwiftCodeSimpleDTO;
+import com.cebix.swiftcodesapi.entity.ChangeType;
 import com.cebix.swiftcodesapi.entity.Country;
 import com.cebix.swiftcodesapi.entity.SwiftCode;
 import com.cebix.swiftcodesapi.mapper.SwiftCodeMapper;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeBloomFilter;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeDirectory;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeReadModel;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeRecord;
+import com.cebix.swiftcodesapi.readmodel.SwiftCodeStatistics;
 import com.cebix.swiftcodesapi.repository.CountryRepository;
 import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import com.cebix.swiftcodesapi.service.impl.SingleFlight;
 import com.cebix.swiftcodesapi.service.impl.SwiftCodeServiceImpl;
+import com.cebix.swiftcodesapi.service.impl.SwiftCodeWriteBehind;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.*;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -38,6 +61,24 @@ class SwiftCodeServiceImplTest {
     @Mock
     private SwiftCodeMapper swiftCodeMapper;
 
+    @Mock
+    private SwiftCodeReadModel readModel;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SwiftCodeWriteBehind writeBehind;
+
+    @Mock
+    private SwiftCodeBloomFilter bloomFilter;
+
+    @Mock
+    private SwiftCodeStatistics statistics;
+
     @InjectMocks
     private SwiftCodeServiceImpl swiftCodeService;
 
@@ -55,6 +96,7 @@ class SwiftCodeServiceImplTest {
     @BeforeEach
     void setUp() {
         closeable = MockitoAnnotations.openMocks(this);
+        when(bloomFilter.mightContain(any())).thenReturn(true);
 
         country = Country.builder()
                 .id(COUNTRY_ID)
@@ -103,9 +145,9 @@ class SwiftCodeServiceImplTest {
         @Test
         @DisplayName("Should return SwiftCodeDTO for HQ with branches")
         void shouldReturnSwiftCodeHQWithBranches() {
-            when(swiftCodeRepository.findBySwiftCode(SWIFT_CODE_HQ)).thenReturn(Optional.of(hqSwiftCode));
+            when(swiftCodeRepository.findWithBranchesBySwiftCode(SWIFT_CODE_HQ)).thenReturn(Optional.of(hqSwiftCode));
             when(swiftCodeMapper.toDTO(hqSwiftCode)).thenReturn(hqSwiftCodeDTO);
-            when(swiftCodeRepository.findAllByHeadquarterEntity(hqSwiftCode)).thenReturn(List.of(branchSwiftCode));
+            hqSwiftCode.getBranches().add(branchSwiftCode);
 
             SwiftCodeSimpleDTO branchSimpleDTO = SwiftCodeSimpleDTO.builder()
                     .swiftCode(SWIFT_CODE_BRANCH)
@@ -130,7 +172,7 @@ class SwiftCodeServiceImplTest {
                     .isHeadquarter(false)
                     .build();
 
-            when(swiftCodeRepository.findBySwiftCode(SWIFT_CODE_BRANCH)).thenReturn(Optional.of(branchSwiftCode));
+            when(swiftCodeRepository.findWithBranchesBySwiftCode(SWIFT_CODE_BRANCH)).thenReturn(Optional.of(branchSwiftCode));
             when(swiftCodeMapper.toDTO(branchSwiftCode)).thenReturn(branchDTO);
 
             SwiftCodeDTO result = swiftCodeService.getSwiftCode(SWIFT_CODE_BRANCH);
@@ -142,7 +184,7 @@ class SwiftCodeServiceImplTest {
         @Test
         @DisplayName("Should throw EntityNotFound when SwiftCode not found")
         void shouldThrowWhenSwiftCodeNotFound() {
-            when(swiftCodeRepository.findBySwiftCode(SWIFT_CODE_HQ)).thenReturn(Optional.empty());
+            when(swiftCodeRepository.findWithBranchesBySwiftCode(SWIFT_CODE_HQ)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> swiftCodeService.getSwiftCode(SWIFT_CODE_HQ))
                     .isInstanceOf(EntityNotFoundException.class)
@@ -150,6 +192,101 @@ class SwiftCodeServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("getSwiftCodes")
+    class GetSwiftCodesTests {
+
+        @Test
+        @DisplayName("Should return found codes and report missing ones")
+        void shouldReturnFoundAndMissingCodes() {
+            when(swiftCodeRepository.findAllWithBranchesBySwiftCodeIn(List.of(SWIFT_CODE_HQ, "MISSINGXXXX")))
+                    .thenReturn(List.of(hqSwiftCode));
+            when(swiftCodeMapper.toDTO(hqSwiftCode)).thenReturn(hqSwiftCodeDTO);
+
+            SwiftCodeBatchDTO result = swiftCodeService.getSwiftCodes(List.of(SWIFT_CODE_HQ, "MISSINGXXXX"));
+
+            assertThat(result.getSwiftCodes()).extracting(SwiftCodeDTO::getSwiftCode).containsExactly(SWIFT_CODE_HQ);
+            assertThat(result.getNotFound()).containsExactly("MISSINGXXXX");
+        }
+    }
+
+    @Nested
+    @DisplayName("Bloom filter")
+    class BloomFilterTests {
+
+        @Test
+        @DisplayName("Should answer a definite miss without querying the database")
+        void shouldSkipDatabaseForDefiniteMiss() {
+            when(bloomFilter.mightContain("MISSINGXXXX")).thenReturn(false);
+
+            assertThatThrownBy(() -> swiftCodeService.getSwiftCode("MISSINGXXXX"))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessageContaining("SwiftCode not found");
+
+            verifyNoInteractions(swiftCodeRepository);
+        }
+
+        @Test
+        @DisplayName("Should record a false positive when a possibly present code is not found")
+        void shouldRecordFalsePositive() {
+            when(swiftCodeRepository.findWithBranchesBySwiftCode(SWIFT_CODE_HQ)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> swiftCodeService.getSwiftCode(SWIFT_CODE_HQ))
+                    .isInstanceOf(EntityNotFoundException.class);
+
+            verify(bloomFilter).recordFalsePositive();
+        }
+
+        @Test
+        @DisplayName("Should look up only possibly present codes in a batch")
+        void shouldFilterBatchLookup() {
+            when(bloomFilter.mightContain("MISSINGXXXX")).thenReturn(false);
+            when(swiftCodeRepository.findAllWithBranchesBySwiftCodeIn(List.of(SWIFT_CODE_HQ))).thenReturn(List.of(hqSwiftCode));
+            when(swiftCodeMapper.toDTO(hqSwiftCode)).thenReturn(hqSwiftCodeDTO);
+
+            SwiftCodeBatchDTO result = swiftCodeService.getSwiftCodes(List.of(SWIFT_CODE_HQ, "MISSINGXXXX"));
+
+            assertThat(result.getSwiftCodes()).extracting(SwiftCodeDTO::getSwiftCode).containsExactly(SWIFT_CODE_HQ);
+            assertThat(result.getNotFound()).containsExactly("MISSINGXXXX");
+            verify(swiftCodeRepository).findAllWithBranchesBySwiftCodeIn(List.of(SWIFT_CODE_HQ));
+        }
+
+        @Test
+        @DisplayName("Should skip the database when every code in a batch is a definite miss")
+        void shouldSkipDatabaseForBatchOfMisses() {
+            when(bloomFilter.mightContain(any())).thenReturn(false);
+
+            SwiftCodeBatchDTO result = swiftCodeService.getSwiftCodes(List.of("MISSINGXXXX", "ABSENTXXXXX"));
+
+            assertThat(result.getSwiftCodes()).isEmpty();
+            assertThat(result.getNotFound()).containsExactly("MISSINGXXXX", "ABSENTXXXXX");
+            verifyNoInteractions(swiftCodeRepository);
+        }
+
+        @Test
+        @DisplayName("Should check for duplicates in the database even when the filter has not seen the code")
+        void shouldCheckDuplicatesInDatabase() {
+            SwiftCodeCreateDTO dto = SwiftCodeCreateDTO.builder()
+                    .swiftCode(SWIFT_CODE_HQ)
+                    .bankName("Bank HQ")
+                    .address("Main HQ Address")
+                    .countryISO2(COUNTRY_ISO)
+                    .countryName(COUNTRY_NAME)
+                    .isHeadquarter(true)
+                    .build();
+
+            when(bloomFilter.mightContain(SWIFT_CODE_HQ)).thenReturn(false);
+            when(countryRepository.findByIsoCode(COUNTRY_ISO)).thenReturn(Optional.of(country));
+            when(swiftCodeMapper.toEntity(dto)).thenReturn(hqSwiftCode);
+
+            swiftCodeService.createSwiftCode(dto);
+
+            verify(swiftCodeRepository).existsBySwiftCode(SWIFT_CODE_HQ);
+            verify(bloomFilter).put(SWIFT_CODE_HQ);
+            verify(swiftCodeRepository).save(hqSwiftCode);
+        }
+    }
+
     @Nested
     @DisplayName("getSwiftCodesByCountryISO2")
     class GetSwiftCodesByCountryISO2Tests {
@@ -216,6 +353,8 @@ class SwiftCodeServiceImplTest {
             swiftCodeService.createSwiftCode(dto);
 
             verify(swiftCodeRepository).save(entity);
+            verify(readModel).put(entity);
+            verify(changeFeedService).recordUpsert(entity, ChangeType.INSERT);
             assertThat(entity.isHeadquarter()).isTrue();
             assertThat(entity.getCountry()).isEqualTo(country);
         }
@@ -305,7 +444,21 @@ class SwiftCodeServiceImplTest {
 
             swiftCodeService.deleteSwiftCode(SWIFT_CODE_HQ);
 
+            verify(swiftCodeRepository).detachBranches(hqSwiftCode);
             verify(swiftCodeRepository).delete(hqSwiftCode);
+            verify(readModel).remove(SWIFT_CODE_HQ);
+            verify(changeFeedService).recordDelete(SWIFT_CODE_HQ);
+        }
+
+        @Test
+        @DisplayName("Should not touch other rows when deleting a branch")
+        void shouldDeleteBranchAlone() {
+            when(swiftCodeRepository.findBySwiftCode(SWIFT_CODE_BRANCH)).thenReturn(Optional.of(branchSwiftCode));
+
+            swiftCodeService.deleteSwiftCode(SWIFT_CODE_BRANCH);
+
+            verify(swiftCodeRepository, never()).detachBranches(any());
+            verify(swiftCodeRepository).delete(branchSwiftCode);
         }
 
         @Test
@@ -318,6 +471,344 @@ class SwiftCodeServiceImplTest {
                     .hasMessageContaining("SwiftCode not found");
 
             verify(swiftCodeRepository, never()).delete(any());
+            verifyNoInteractions(changeFeedService);
+        }
+    }
+
+    @Nested
+    @DisplayName("bulk delete")
+    class BulkDeleteTests {
+
+        private static final String BIC8 = "TESTPLPW";
+
+        @Test
+        @DisplayName("Should record, delete and evict every code of a bank")
+        void shouldDeleteBank() {
+            when(swiftCodeRepository.findSwiftCodesByBic8(BIC8)).thenReturn(List.of(SWIFT_CODE_HQ, SWIFT_CODE_BRANCH));
+            when(swiftCodeRepository.deleteAllByBic8(BIC8, false)).thenReturn(1);
+            when(swiftCodeRepository.deleteAllByBic8(BIC8, true)).thenReturn(1);
+
+            assertThat(swiftCodeService.deleteBank(BIC8)).isEqualTo(2);
+
+            InOrder order = inOrder(changeFeedService, swiftCodeRepository);
+            order.verify(changeFeedService).recordDeletesOfBank(BIC8);
+            order.verify(swiftCodeRepository).detachBranchesOutsideBank(BIC8);
+            order.verify(swiftCodeRepository).deleteAllByBic8(BIC8, false);
+            order.verify(swiftCodeRepository).deleteAllByBic8(BIC8, true);
+            verify(readModel).removeAll(List.of(SWIFT_CODE_HQ, SWIFT_CODE_BRANCH));
+            verify(swiftCodeRepository, never()).delete(any());
+        }
+
+        @Test
+        @DisplayName("Should throw EntityNotFound for a bank without codes")
+        void shouldThrowForUnknownBank() {
+            when(swiftCodeRepository.findSwiftCodesByBic8(BIC8)).thenReturn(List.of());
+
+            assertThatThrownBy(() -> swiftCodeService.deleteBank(BIC8))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessageContaining(BIC8);
+
+            verifyNoInteractions(changeFeedService);
+            verify(swiftCodeRepository, never()).deleteAllByBic8(any(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("Should record, delete and evict every code of a country")
+        void shouldDeleteCountry() {
+            when(countryRepository.findByIsoCode(COUNTRY_ISO)).thenReturn(Optional.of(country));
+            when(swiftCodeRepository.findSwiftCodesByCountryId(COUNTRY_ID)).thenReturn(List.of(SWIFT_CODE_HQ, SWIFT_CODE_BRANCH));
+            when(swiftCodeRepository.deleteAllByCountryId(COUNTRY_ID, false)).thenReturn(1);
+            when(swiftCodeRepository.deleteAllByCountryId(COUNTRY_ID, true)).thenReturn(1);
+
+            assertThat(swiftCodeService.deleteCountry(COUNTRY_ISO)).isEqualTo(2);
+
+            InOrder order = inOrder(changeFeedService, swiftCodeRepository);
+            order.verify(changeFeedService).recordDeletesOfCountry(COUNTRY_ID);
+            order.verify(swiftCodeRepository).detachBranchesOutsideCountry(COUNTRY_ID);
+            order.verify(swiftCodeRepository).deleteAllByCountryId(COUNTRY_ID, false);
+            order.verify(swiftCodeRepository).deleteAllByCountryId(COUNTRY_ID, true);
+            verify(readModel).removeAll(List.of(SWIFT_CODE_HQ, SWIFT_CODE_BRANCH));
+        }
+
+        @Test
+        @DisplayName("Should delete nothing for a country without codes and throw for an unknown one")
+        void shouldHandleEmptyAndUnknownCountry() {
+            when(countryRepository.findByIsoCode(COUNTRY_ISO)).thenReturn(Optional.of(country));
+            when(swiftCodeRepository.findSwiftCodesByCountryId(COUNTRY_ID)).thenReturn(List.of());
+
+            assertThat(swiftCodeService.deleteCountry(COUNTRY_ISO)).isZero();
+            assertThatThrownBy(() -> swiftCodeService.deleteCountry("ZZ"))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessageContaining("ZZ");
+
+            verifyNoInteractions(changeFeedService);
+        }
+    }
+
+    @Nested
+    @DisplayName("read model")
+    class ReadModelTests {
+
+        private final SwiftCodeRecord hqRecord = SwiftCodeRecord.builder()
+                .swiftCode("TESTPLPWXXX")
+                .bankName("Bank HQ")
+                .address("Main HQ Address")
+                .countryISO2(COUNTRY_ISO)
+                .countryName(COUNTRY_NAME)
+                .headquarter(true)
+                .build();
+
+        private final SwiftCodeRecord branchRecord = SwiftCodeRecord.builder()
+                .swiftCode("TESTPLPW123")
+                .bankName("Bank HQ")
+                .address("Branch Address")
+                .countryISO2(COUNTRY_ISO)
+                .countryName(COUNTRY_NAME)
+                .headquarter(false)
+                .build();
+
+        @BeforeEach
+        void enableReadModel() {
+            when(readModel.isEnabled()).thenReturn(true);
+            when(readModel.holds(anyString())).thenReturn(true);
+            when(readModel.holdsCountry(anyString())).thenReturn(true);
+            when(readModel.getDirectory()).thenReturn(SwiftCodeDirectory.of(List.of(hqRecord, branchRecord)));
+        }
+
+        @Test
+        @DisplayName("Should serve HQ with branches without querying the database")
+        void shouldServeHeadquarterFromReadModel() {
+            when(swiftCodeMapper.recordToDTO(hqRecord)).thenReturn(hqSwiftCodeDTO);
+            when(swiftCodeMapper.recordToSimpleDTO(branchRecord)).thenReturn(SwiftCodeSimpleDTO.builder()
+                    .swiftCode("TESTPLPW123")
+                    .isHeadquarter(false)
+                    .build());
+
+            SwiftCodeDTO result = swiftCodeService.getSwiftCode("TESTPLPWXXX");
+
+            assertThat(result.getBranches()).extracting(SwiftCodeSimpleDTO::getSwiftCode).containsExactly("TESTPLPW123");
+            verifyNoInteractions(swiftCodeRepository, countryRepository);
+        }
+
+        @Test
+        @DisplayName("Should serve country listing without querying the database")
+        void shouldServeCountryFromReadModel() {
+            when(swiftCodeMapper.recordToSimpleDTO(any()))
+                    .thenAnswer(invocation -> SwiftCodeSimpleDTO.builder()
+                            .swiftCode(invocation.<SwiftCodeRecord>getArgument(0).getSwiftCode())
+                            .build());
+
+            CountrySwiftCodesDTO result = swiftCodeService.getSwiftCodesByCountryISO2(COUNTRY_ISO);
+
+            assertThat(result.getCountryName()).isEqualTo(COUNTRY_NAME);
+            assertThat(result.getSwiftCodes()).hasSize(2);
+            verifyNoInteractions(swiftCodeRepository, countryRepository);
+        }
+
+        @Test
+        @DisplayName("Should resolve branch headquarter from the database even when the read model lacks it")
+        void shouldResolveHeadquarterFromDatabase() {
+            when(readModel.getDirectory()).thenReturn(SwiftCodeDirectory.empty());
+
+            SwiftCodeCreateDTO dto = SwiftCodeCreateDTO.builder()
+                    .swiftCode("TESTPLPW456")
+                    .bankName("Bank HQ")
+                    .countryISO2(COUNTRY_ISO)
+                    .countryName(COUNTRY_NAME)
+                    .isHeadquarter(false)
+                    .build();
+            SwiftCode entity = SwiftCode.builder().swiftCode(dto.getSwiftCode()).build();
+
+            when(swiftCodeRepository.existsBySwiftCode(dto.getSwiftCode())).thenReturn(false);
+            when(countryRepository.findByIsoCode(COUNTRY_ISO)).thenReturn(Optional.of(country));
+            when(swiftCodeMapper.toEntity(dto)).thenReturn(entity);
+            when(swiftCodeRepository.findBySwiftCode("TESTPLPWXXX")).thenReturn(Optional.of(hqSwiftCode));
+
+            swiftCodeService.createSwiftCode(dto);
+
+            assertThat(entity.getHeadquarterEntity()).isEqualTo(hqSwiftCode);
+            verify(swiftCodeRepository, never()).getReferenceById(any());
         }
+
+        @Test
+        @DisplayName("Should read codes of countries held by another node from the database")
+        void shouldReadOtherShardsFromDatabase() {
+            SwiftCode german = SwiftCode.builder().swiftCode("DEUTDEFFXXX").isHeadquarter(true).build();
+            SwiftCodeDTO germanDTO = SwiftCodeDTO.builder().swiftCode("DEUTDEFFXXX").build();
+            when(readModel.holds("DEUTDEFFXXX")).thenReturn(false);
+            when(readModel.holdsCountry("DE")).thenReturn(false);
+            when(swiftCodeRepository.findAllWithBranchesBySwiftCodeIn(List.of("DEUTDEFFXXX"))).thenReturn(List.of(german));
+            when(swiftCodeMapper.toDTO(german)).thenReturn(germanDTO);
+            when(swiftCodeMapper.recordToDTO(hqRecord)).thenReturn(SwiftCodeDTO.builder().swiftCode("TESTPLPWXXX").build());
+            when(countryRepository.findByIsoCode("DE")).thenReturn(Optional.empty());
+
+            SwiftCodeBatchDTO result = swiftCodeService.getSwiftCodes(List.of("TESTPLPWXXX", "DEUTDEFFXXX"));
+
+            assertThat(result.getSwiftCodes()).extracting(SwiftCodeDTO::getSwiftCode).containsExactly("TESTPLPWXXX", "DEUTDEFFXXX");
+            assertThat(result.getNotFound()).isEmpty();
+            assertThatThrownBy(() -> swiftCodeService.getSwiftCodesByCountryISO2("DE"))
+                    .isInstanceOf(EntityNotFoundException.class);
+            verify(countryRepository).findByIsoCode("DE");
+        }
+
+        @Test
+        @DisplayName("Should throw EntityNotFound when code is missing from the read model")
+        void shouldThrowWhenMissingFromReadModel() {
+            assertThatThrownBy(() -> swiftCodeService.getSwiftCode("MISSPLPWXXX"))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessageContaining("SwiftCode not found");
+        }
+    }
+
+    @Nested
+    @DisplayName("write-behind")
+    class WriteBehindTests {
+
+        private static final String BRANCH = "TESTPLPW123";
+        private static final String HEADQUARTER = "TESTPLPWXXX";
+
+        private final SwiftCodeCreateDTO dto = SwiftCodeCreateDTO.builder()
+                .swiftCode(BRANCH)
+                .bankName("Branch Bank")
+                .address("Branch Address")
+                .countryISO2("pl")
+                .countryName(COUNTRY_NAME)
+                .isHeadquarter(false)
+                .build();
+
+        @BeforeEach
+        void enableWriteBehind() {
+            when(writeBehind.isEnabled()).thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("Should validate the create and hand it to the write-behind queue")
+        void shouldValidateAndEnqueue() {
+            when(swiftCodeRepository.existsBySwiftCode(BRANCH)).thenReturn(false);
+            when(countryRepository.existsByIsoCode(COUNTRY_ISO)).thenReturn(true);
+            when(swiftCodeRepository.existsBySwiftCode(HEADQUARTER)).thenReturn(true);
+
+            swiftCodeService.createSwiftCode(dto);
+
+            verify(writeBehind).create(dto);
+            verify(swiftCodeRepository, never()).save(any());
+            verifyNoInteractions(changeFeedService);
+        }
+
+        @Test
+        @DisplayName("Should reject a duplicate before it is queued")
+        void shouldRejectDuplicateSynchronously() {
+            when(swiftCodeRepository.existsBySwiftCode(BRANCH)).thenReturn(true);
+
+            assertThatThrownBy(() -> swiftCodeService.createSwiftCode(dto))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("already exists");
+            verify(writeBehind, never()).create(any());
+        }
+
+        @Test
+        @DisplayName("Should reject a branch without headquarter before it is queued")
+        void shouldRejectMissingHeadquarterSynchronously() {
+            when(swiftCodeRepository.existsBySwiftCode(BRANCH)).thenReturn(false);
+            when(countryRepository.existsByIsoCode(COUNTRY_ISO)).thenReturn(true);
+            when(swiftCodeRepository.existsBySwiftCode(HEADQUARTER)).thenReturn(false);
+
+            assertThatThrownBy(() -> swiftCodeService.createSwiftCode(dto))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessageContaining("Headquarter not found");
+            verify(writeBehind, never()).create(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("request coalescing")
+    class RequestCoalescingTests {
+
+        private static final int CALLERS = 16;
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Test
+        @DisplayName("Should share one query between concurrent lookups of the same SWIFT code")
+        void shouldCoalesceConcurrentSwiftCodeLookups() throws Exception {
+            when(swiftCodeRepository.findWithBranchesBySwiftCode(SWIFT_CODE_HQ)).thenAnswer(invocation -> {
+                release.await();
+                return Optional.of(hqSwiftCode);
+            });
+            when(swiftCodeMapper.toDTO(hqSwiftCode)).thenReturn(hqSwiftCodeDTO);
+            hqSwiftCode.getBranches().add(branchSwiftCode);
+
+            List<SwiftCodeDTO> results = callConcurrently(() -> swiftCodeService.getSwiftCode(SWIFT_CODE_HQ));
+
+            assertThat(results).hasSize(CALLERS).allSatisfy(result -> assertThat(result).isSameAs(hqSwiftCodeDTO));
+            verify(swiftCodeRepository, times(1)).findWithBranchesBySwiftCode(SWIFT_CODE_HQ);
+            verify(transactionManager, times(1)).getTransaction(any());
+        }
+
+        @Test
+        @DisplayName("Should share one query between concurrent lookups of the same country")
+        void shouldCoalesceConcurrentCountryLookups() throws Exception {
+            when(countryRepository.findByIsoCode(COUNTRY_ISO)).thenAnswer(invocation -> {
+                release.await();
+                return Optional.of(country);
+            });
+            when(swiftCodeRepository.findAllByCountry_Id(COUNTRY_ID)).thenReturn(List.of(hqSwiftCode, branchSwiftCode));
+
+            List<CountrySwiftCodesDTO> results = callConcurrently(() -> swiftCodeService.getSwiftCodesByCountryISO2(COUNTRY_ISO));
+
+            assertThat(results).hasSize(CALLERS).allSatisfy(result -> assertThat(result).isSameAs(results.get(0)));
+            verify(countryRepository, times(1)).findByIsoCode(COUNTRY_ISO);
+            verify(swiftCodeRepository, times(1)).findAllByCountry_Id(COUNTRY_ID);
+        }
+
+        @Test
+        @DisplayName("Should query again once the previous lookup has finished")
+        void shouldNotCacheFinishedLookups() {
+            when(swiftCodeRepository.findWithBranchesBySwiftCode(SWIFT_CODE_BRANCH)).thenReturn(Optional.of(branchSwiftCode));
+            when(swiftCodeMapper.toDTO(branchSwiftCode)).thenReturn(SwiftCodeDTO.builder().swiftCode(SWIFT_CODE_BRANCH).build());
+
+            swiftCodeService.getSwiftCode(SWIFT_CODE_BRANCH);
+            swiftCodeService.getSwiftCode(SWIFT_CODE_BRANCH);
+
+            verify(swiftCodeRepository, times(2)).findWithBranchesBySwiftCode(SWIFT_CODE_BRANCH);
+        }
+
+        /**
+         * Starts all callers at once and holds the first one inside the repository until every other
+         * caller is waiting on its result, so the assertions do not depend on thread timing.
+         */
+        private <T> List<T> callConcurrently(Callable<T> call) throws Exception {
+            List<Thread> threads = new CopyOnWriteArrayList<>();
+            ExecutorService executor = Executors.newFixedThreadPool(CALLERS, runnable -> {
+                Thread thread = new Thread(runnable);
+                threads.add(thread);
+                return thread;
+            });
+
+            try {
+                List<Future<T>> futures = IntStream.range(0, CALLERS)
+                        .mapToObj(i -> executor.submit(call))
+                        .toList();
+
+                await().atMost(Duration.ofSeconds(10))
+                        .until(() -> threads.stream().filter(SwiftCodeServiceImplTest::isWaitingOnSingleFlight).count() == CALLERS - 1);
+                release.countDown();
+
+                List<T> results = new ArrayList<>();
+                for (Future<T> future : futures) {
+                    results.add(future.get(10, TimeUnit.SECONDS));
+                }
+                return results;
+            } finally {
+                release.countDown();
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static boolean isWaitingOnSingleFlight(Thread thread) {
+        return Arrays.stream(thread.getStackTrace())
+                .anyMatch(frame -> frame.getClassName().equals(SingleFlight.class.getName())
+                        && frame.getMethodName().equals("await"));
     }
 }
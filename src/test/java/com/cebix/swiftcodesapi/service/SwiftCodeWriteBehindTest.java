@@ -0,0 +1,149 @@
+package com.cebix.swiftcodesapi.service;
+
+import com.cebix.swiftcodesapi.config.WriteBehindProperties;
+import com.cebix.swiftcodesapi.dto.SwiftCodeCreateDTO;
+import com.cebix.swiftcodesapi.service.impl.SwiftCodeBatchWriter;
+import com.cebix.swiftcodesapi.service.impl.SwiftCodeWriteBehind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SwiftCodeWriteBehind Unit Tests")
+class SwiftCodeWriteBehindTest {
+
+    private static final int CREATES = 8;
+
+    private final SwiftCodeBatchWriter batchWriter = mock(SwiftCodeBatchWriter.class);
+    private final ExecutorService callers = Executors.newFixedThreadPool(CREATES);
+    private SwiftCodeWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setEnabled(true);
+        properties.setMaxBatchSize(CREATES);
+        properties.setMaxDelay(Duration.ofSeconds(10));
+
+        writeBehind = new SwiftCodeWriteBehind(properties, batchWriter);
+        writeBehind.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        writeBehind.stop();
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should write concurrent creates in one transaction and acknowledge each after it")
+    void shouldGroupConcurrentCreates() throws Exception {
+        when(batchWriter.createAll(anyList())).thenAnswer(invocation -> Collections.nCopies(
+                invocation.<List<?>>getArgument(0).size(), null));
+
+        List<CompletableFuture<Void>> results = createConcurrently();
+
+        for (CompletableFuture<Void> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+        verify(batchWriter, times(1)).createAll(argThat(batch -> batch.size() == CREATES));
+    }
+
+    @Test
+    @DisplayName("Should fail only the create rejected by the batch writer")
+    void shouldReportFailurePerCreate() throws Exception {
+        when(batchWriter.createAll(anyList())).thenAnswer(invocation -> {
+            List<SwiftCodeCreateDTO> batch = invocation.getArgument(0);
+            List<RuntimeException> failures = new ArrayList<>();
+            batch.forEach(dto -> failures.add(dto.getSwiftCode().equals("WBTEST00XXX")
+                    ? new IllegalArgumentException("SwiftCode already exists: " + dto.getSwiftCode())
+                    : null));
+            return failures;
+        });
+
+        List<CompletableFuture<Void>> results = createConcurrently();
+
+        assertThatThrownBy(() -> results.get(0).get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        for (CompletableFuture<Void> result : results.subList(1, CREATES)) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("Should retry creates one by one when the batch transaction fails")
+    void shouldRetryIndividuallyWhenBatchFails() throws Exception {
+        when(batchWriter.createAll(anyList())).thenAnswer(invocation -> {
+            List<SwiftCodeCreateDTO> batch = invocation.getArgument(0);
+            if (batch.size() > 1 || batch.get(0).getSwiftCode().equals("WBTEST03XXX")) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            return Collections.singletonList(null);
+        });
+
+        List<CompletableFuture<Void>> results = createConcurrently();
+
+        for (int i = 0; i < CREATES; i++) {
+            CompletableFuture<Void> result = results.get(i);
+            if (i == 3) {
+                assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS))
+                        .hasCauseInstanceOf(DataIntegrityViolationException.class);
+            } else {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        }
+        verify(batchWriter, times(CREATES + 1)).createAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should complete every create, written or rejected, when the queue stops while they arrive")
+    void shouldNotStrandCreatesOnStop() throws Exception {
+        when(batchWriter.createAll(anyList())).thenAnswer(invocation -> Collections.nCopies(
+                invocation.<List<?>>getArgument(0).size(), null));
+
+        List<CompletableFuture<Void>> results = IntStream.range(0, CREATES)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    while (true) {
+                        writeBehind.create(SwiftCodeCreateDTO.builder()
+                                .swiftCode(String.format("WBTEST%02dXXX", i))
+                                .isHeadquarter(true)
+                                .build());
+                    }
+                }, callers))
+                .toList();
+        Thread.sleep(200);
+
+        writeBehind.stop();
+
+        for (CompletableFuture<Void> result : results) {
+            assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(RejectedExecutionException.class);
+        }
+    }
+
+    private List<CompletableFuture<Void>> createConcurrently() {
+        return IntStream.range(0, CREATES)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> writeBehind.create(SwiftCodeCreateDTO.builder()
+                        .swiftCode(String.format("WBTEST%02dXXX", i))
+                        .isHeadquarter(true)
+                        .build()), callers))
+                .toList();
+    }
+}
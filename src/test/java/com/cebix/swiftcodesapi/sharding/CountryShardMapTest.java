@@ -0,0 +1,111 @@
+package com.cebix.swiftcodesapi.sharding;
+
+import com.cebix.swiftcodesapi.config.ShardingProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CountryShardMapTest {
+
+    private static final List<String> COUNTRIES = IntStream.range(0, 26 * 26)
+            .mapToObj(i -> "" + (char) ('A' + i / 26) + (char) ('A' + i % 26))
+            .toList();
+
+    private static ShardingProperties properties(String nodeId, String... nodeIds) {
+        Map<String, URI> nodes = new LinkedHashMap<>();
+        for (int i = 0; i < nodeIds.length; i++) {
+            nodes.put(nodeIds[i], URI.create("http://localhost:" + (8081 + i)));
+        }
+
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setNodeId(nodeId);
+        properties.setNodes(nodes);
+        return properties;
+    }
+
+    private static Map<String, String> owners(CountryShardMap shardMap) {
+        return COUNTRIES.stream().collect(Collectors.toMap(country -> country, shardMap::ownerOf));
+    }
+
+    @Test
+    @DisplayName("should treat every country as local when sharding is disabled")
+    void should_BeLocalWhenDisabled() {
+        CountryShardMap shardMap = new CountryShardMap(new ShardingProperties());
+
+        assertThat(shardMap.ownerOf("PL")).isNull();
+        assertThat(shardMap.isLocal("PL")).isTrue();
+        assertThat(shardMap.isLocalCode("BPKOPLPWXXX")).isTrue();
+    }
+
+    @Test
+    @DisplayName("should assign countries the same way on every node")
+    void should_AgreeAcrossNodes() {
+        Map<String, String> a = owners(new CountryShardMap(properties("a", "a", "b", "c")));
+        Map<String, String> c = owners(new CountryShardMap(properties("c", "a", "b", "c")));
+
+        assertThat(a).isEqualTo(c);
+        assertThat(a.values()).containsOnly("a", "b", "c").contains("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("should derive the country of a code from its characters 5-6, ignoring case")
+    void should_UseCountryOfCode() {
+        CountryShardMap shardMap = new CountryShardMap(properties("a", "a", "b"));
+        String owner = shardMap.ownerOf("PL");
+
+        assertThat(shardMap.ownerOf("pl")).isEqualTo(owner);
+        assertThat(shardMap.isLocalCode("BPKOPLPWXXX")).isEqualTo("a".equals(owner));
+        assertThat(shardMap.isLocalCode("BPKO")).isTrue();
+    }
+
+    @Test
+    @DisplayName("should only move countries to a node that is added")
+    void should_MoveFewCountriesWhenNodeAdded() {
+        Map<String, String> before = owners(new CountryShardMap(properties("a", "a", "b", "c")));
+        Map<String, String> after = owners(new CountryShardMap(properties("a", "a", "b", "c", "d")));
+
+        List<String> moved = COUNTRIES.stream().filter(country -> !before.get(country).equals(after.get(country))).toList();
+
+        assertThat(moved).isNotEmpty().allSatisfy(country -> assertThat(after.get(country)).isEqualTo("d"));
+        assertThat(moved.size()).isLessThan(COUNTRIES.size() / 2);
+    }
+
+    @Test
+    @DisplayName("should place pinned countries on their node")
+    void should_HonourPinnedCountries() {
+        ShardingProperties properties = properties("b", "a", "b");
+        properties.setPinned(Map.of("pl", "b", "DE", "a"));
+        CountryShardMap shardMap = new CountryShardMap(properties);
+
+        assertThat(shardMap.ownerOf("PL")).isEqualTo("b");
+        assertThat(shardMap.ownerOf("DE")).isEqualTo("a");
+        assertThat(shardMap.isLocal("PL")).isTrue();
+        assertThat(shardMap.isLocal("DE")).isFalse();
+    }
+
+    @Test
+    @DisplayName("should reject a node id or pinned node missing from the node list")
+    void should_RejectUnknownNodes() {
+        assertThatThrownBy(() -> new CountryShardMap(properties("x", "a", "b")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("node-id [x]");
+        assertThatThrownBy(() -> new CountryShardMap(properties(null, "a")))
+                .isInstanceOf(IllegalStateException.class);
+
+        ShardingProperties properties = properties("a", "a");
+        properties.setPinned(Map.of("PL", "z"));
+        assertThatThrownBy(() -> new CountryShardMap(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("unknown node [z]");
+    }
+}
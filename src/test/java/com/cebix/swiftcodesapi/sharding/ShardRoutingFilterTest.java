@@ -0,0 +1,89 @@
+package com.cebix.swiftcodesapi.sharding;
+
+import com.cebix.swiftcodesapi.config.ShardingProperties;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.net.URI;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ShardRoutingFilterTest {
+
+    private ShardRoutingFilter filter;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setNodeId("a");
+        properties.setNodes(Map.of("a", URI.create("http://localhost:8081"), "b", URI.create("http://localhost:8082/")));
+        properties.setPinned(Map.of("PL", "a", "DE", "b"));
+
+        filter = new ShardRoutingFilter(new CountryShardMap(properties));
+        chain = mock(FilterChain.class);
+    }
+
+    @Test
+    @DisplayName("should serve a code of a local country")
+    void should_ServeLocalCode() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/swift-codes/BPKOPLPWXXX");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        assertThat(response.getHeader("X-Swift-Codes-Shard")).isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("should redirect a code of another node's country to that node, keeping the query")
+    void should_RedirectRemoteCode() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/swift-codes/DEUTDEFF500");
+        request.setQueryString("fields=bankName");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        verify(chain, never()).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(307);
+        assertThat(response.getHeader("Location")).isEqualTo("http://localhost:8082/v1/swift-codes/DEUTDEFF500?fields=bankName");
+        assertThat(response.getHeader("X-Swift-Codes-Shard")).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("should redirect a country listing to the country's node")
+    void should_RedirectRemoteCountry() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/swift-codes/country/de"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(307);
+        assertThat(response.getHeader("Location")).isEqualTo("http://localhost:8082/v1/swift-codes/country/de");
+    }
+
+    @Test
+    @DisplayName("should handle writes and other routes on the receiving node")
+    void should_PassThroughOtherRequests() throws Exception {
+        for (MockHttpServletRequest request : new MockHttpServletRequest[]{
+                new MockHttpServletRequest("DELETE", "/v1/swift-codes/DEUTDEFF500"),
+                new MockHttpServletRequest("POST", "/v1/swift-codes/batch"),
+                new MockHttpServletRequest("GET", "/v1/swift-codes/changes"),
+                new MockHttpServletRequest("GET", "/v1/swift-codes/stats")}) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(request, response, chain);
+
+            verify(chain).doFilter(request, response);
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+}
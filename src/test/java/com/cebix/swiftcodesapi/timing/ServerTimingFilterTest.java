@@ -0,0 +1,90 @@
+package com.cebix.swiftcodesapi.timing;
+
+import com.cebix.swiftcodesapi.config.ServerTimingProperties;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingFilterTest {
+
+    private ServerTimingProperties properties;
+    private ServerTimingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ServerTimingProperties();
+        filter = new ServerTimingFilter(properties);
+    }
+
+    private static final FilterChain TIMED_HANDLER = (request, response) -> {
+        RequestTiming.record(RequestTiming.Phase.DB, TimeUnit.MILLISECONDS.toNanos(3));
+        RequestTiming.record(RequestTiming.Phase.DB, TimeUnit.MILLISECONDS.toNanos(1));
+        RequestTiming.time(RequestTiming.Phase.MAPPING, () -> "dto");
+        response.getOutputStream().write("{\"swiftCode\":\"BPKOPLPWXXX\"}".getBytes(StandardCharsets.UTF_8));
+    };
+
+    @Test
+    @DisplayName("should leave requests alone while timing is disabled")
+    void should_NotTimeWhenDisabled() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/swift-codes/BPKOPLPWXXX"), response, TIMED_HANDLER);
+
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("{\"swiftCode\":\"BPKOPLPWXXX\"}");
+        assertThat(RequestTiming.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should report statements and phases in the Server-Timing header and keep the body")
+    void should_AddServerTimingHeader() throws Exception {
+        properties.setEnabled(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/swift-codes/BPKOPLPWXXX"), response, TIMED_HANDLER);
+
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING))
+                .startsWith("db;dur=4.00;desc=\"2 statements\", map;dur=")
+                .contains(", json;dur=0.00, total;dur=");
+        assertThat(response.getContentAsString()).isEqualTo("{\"swiftCode\":\"BPKOPLPWXXX\"}");
+        assertThat(RequestTiming.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should end the timing when the handler fails")
+    void should_StopTimingOnFailure() {
+        properties.setEnabled(true);
+        properties.setSlowThreshold(Duration.ZERO);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain failing = (request, res) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        try {
+            filter.doFilter(new MockHttpServletRequest("GET", "/v1/swift-codes/BPKOPLPWXXX"), response, failing);
+        } catch (Exception expected) {
+            // propagated to the container
+        }
+
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING)).startsWith("db;dur=0.00;desc=\"0 statements\"");
+        assertThat(RequestTiming.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should only run the action outside of a timed request")
+    void should_IgnorePhasesOutsideRequests() {
+        assertThat(RequestTiming.time(RequestTiming.Phase.MAPPING, () -> 42)).isEqualTo(42);
+        RequestTiming.record(RequestTiming.Phase.DB, 1_000);
+
+        assertThat(RequestTiming.isActive()).isFalse();
+    }
+}
@@ -0,0 +1,69 @@
+package com.cebix.swiftcodesapi.timing;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingDataSourceTest {
+
+    private JdbcDataSource target;
+    private TimingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:timing-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource = new TimingDataSource(target);
+
+        try (Connection connection = target.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table codes (code varchar(11))");
+            statement.execute("insert into codes values ('BPKOPLPWXXX'), ('BPKOPLPW123')");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestTiming.stop();
+    }
+
+    @Test
+    @DisplayName("should count every executed statement of a timed request")
+    void should_CountStatements() throws Exception {
+        RequestTiming timing = RequestTiming.start();
+
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement("select code from codes where code = ?")) {
+                statement.setString(1, "BPKOPLPWXXX");
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    assertThat(resultSet.next()).isTrue();
+                }
+                statement.setString(1, "BPKOPLPW123");
+                statement.executeQuery().close();
+            }
+            try (Statement statement = connection.createStatement()) {
+                assertThat(statement.executeUpdate("delete from codes where code = 'BPKOPLPW123'")).isEqualTo(1);
+            }
+        }
+
+        assertThat(timing.getCount(RequestTiming.Phase.DB)).isEqualTo(3);
+        assertThat(timing.getNanos(RequestTiming.Phase.DB)).isPositive();
+    }
+
+    @Test
+    @DisplayName("should hand out plain connections outside of a timed request")
+    void should_NotWrapOutsideRequests() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.getClass()).isEqualTo(target.getConnection().getClass());
+        }
+    }
+}
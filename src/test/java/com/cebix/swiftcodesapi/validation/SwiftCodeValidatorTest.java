@@ -0,0 +1,123 @@
+package com.cebix.swiftcodesapi.validation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SwiftCodeValidatorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SwiftCodeValidator validator = new SwiftCodeValidator(meterRegistry);
+
+    private double rejections(String reason, String source) {
+        return meterRegistry.get("swiftcodes.validation.rejections")
+                .tag("reason", reason)
+                .tag("source", source)
+                .counter()
+                .count();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"AAISALTRXXX", "AAISALTR", "AAISALTR1XX", "BPKOPLPW123", "1234PLP2ABC"})
+    @DisplayName("Should accept structurally valid BIC8 and BIC11 codes")
+    void shouldAcceptValidCodes(String code) {
+        assertThat(SwiftCodeValidator.check(code)).isNull();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "TESTPLPXXX, LENGTH",
+            "AAISALTRXXXX, LENGTH",
+            "aaisaltrxxx, LOWERCASE",
+            "AAISALTR-XX, CHARACTERS",
+            "'AAISALTR XX', CHARACTERS",
+            "AAIS12TRXXX, COUNTRY_CODE",
+            "AAISAL0RXXX, LOCATION_CODE",
+            "AAISAL1RXXX, LOCATION_CODE",
+            "AAISALTOXXX, LOCATION_CODE",
+            "AAISALTRX12, BRANCH_CODE",
+    })
+    @DisplayName("Should report why a code is malformed")
+    void shouldReportViolation(String code, SwiftCodeViolation expected) {
+        assertThat(SwiftCodeValidator.check(code)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should report a missing code")
+    void shouldReportMissingCode() {
+        assertThat(SwiftCodeValidator.check(null)).isEqualTo(SwiftCodeViolation.MISSING);
+        assertThat(SwiftCodeValidator.check("")).isEqualTo(SwiftCodeViolation.MISSING);
+    }
+
+    @Test
+    @DisplayName("Should require the country segment to match the country, ignoring its case")
+    void shouldCheckCountry() {
+        assertThat(SwiftCodeValidator.check("BPKOPLPWXXX", "PL")).isNull();
+        assertThat(SwiftCodeValidator.check("BPKOPLPWXXX", "pl")).isNull();
+        assertThat(SwiftCodeValidator.check("BPKOPLPWXXX", "DE")).isEqualTo(SwiftCodeViolation.COUNTRY_MISMATCH);
+        assertThat(SwiftCodeValidator.check("BPKOPLPWXXX", null)).isEqualTo(SwiftCodeViolation.COUNTRY_MISMATCH);
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid request value and count it")
+    void shouldRejectAndCountRequest() {
+        assertThatThrownBy(() -> validator.requireValid("BPKOPLPWXXX", "DE"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("SwiftCode country code (characters 5-6) must match countryISO2: BPKOPLPWXXX");
+        assertThatThrownBy(() -> validator.requireAllValid(List.of("BPKOPLPWXXX", "bpkoplpwxxx")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("bpkoplpwxxx");
+
+        assertThat(rejections("country_mismatch", "request")).isEqualTo(1);
+        assertThat(rejections("lowercase", "request")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should only accept 8-character bank codes as BIC8")
+    void shouldRequireBic8() {
+        validator.requireValidBic8("BPKOPLPW");
+
+        assertThatThrownBy(() -> validator.requireValidBic8("BPKOPLPWXXX"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("BPKOPLPWXXX");
+        assertThatThrownBy(() -> validator.requireValidBic8("BPKOPL1W"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(rejections("length", "request")).isEqualTo(1);
+        assertThat(rejections("location_code", "request")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should only accept 2 upper-case letters as countryISO2")
+    void shouldRequireCountryISO2() {
+        validator.requireValidCountryISO2("PL");
+
+        assertThatThrownBy(() -> validator.requireValidCountryISO2("pl"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("pl");
+        assertThatThrownBy(() -> validator.requireValidCountryISO2("POL"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> validator.requireValidCountryISO2("P1"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(rejections("country_iso2", "request")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should count import rejections separately")
+    void shouldCountImportRejections() {
+        assertThat(validator.checkImported("AAISALTRXXX", "AL")).isNull();
+        assertThat(validator.checkImported("AAISALTR", "PL")).isEqualTo(SwiftCodeViolation.COUNTRY_MISMATCH);
+
+        assertThat(rejections("country_mismatch", "import")).isEqualTo(1);
+        assertThat(rejections("country_mismatch", "request")).isZero();
+    }
+}
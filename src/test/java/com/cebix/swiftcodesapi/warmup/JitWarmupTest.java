@@ -0,0 +1,77 @@
+package com.cebix.swiftcodesapi.warmup;
+
+import com.cebix.swiftcodesapi.config.WarmupProperties;
+import com.cebix.swiftcodesapi.dto.CountrySwiftCodesDTO;
+import com.cebix.swiftcodesapi.dto.SwiftCodeDTO;
+import com.cebix.swiftcodesapi.repository.SwiftCodeRepository;
+import com.cebix.swiftcodesapi.service.SwiftCodeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JitWarmupTest {
+
+    private final WarmupProperties properties = new WarmupProperties();
+    private final SwiftCodeRepository repository = mock(SwiftCodeRepository.class);
+    private final SwiftCodeService service = mock(SwiftCodeService.class);
+
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<WarmupLookups> additionalLookups = mock(ObjectProvider.class);
+
+    private final JitWarmup warmup = new JitWarmup(properties, repository, service, additionalLookups, new ObjectMapper());
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        properties.setDuration(Duration.ofMillis(200));
+        properties.setSampleSize(2);
+        when(repository.findAllSwiftCodes()).thenReturn(List.of("AAISALTRXXX", "AAISALTR1XX", "ABIEBGS1XXX", "ABIEBGS1002"));
+        when(service.getSwiftCode(anyString())).thenAnswer(invocation ->
+                SwiftCodeDTO.builder().swiftCode(invocation.getArgument(0)).build());
+        when(service.getSwiftCodesByCountryISO2(anyString())).thenAnswer(invocation ->
+                CountrySwiftCodesDTO.builder().countryISO2(invocation.getArgument(0)).swiftCodes(List.of()).build());
+    }
+
+    @Test
+    @DisplayName("Should look up an even sample of codes and their countries until the duration is over")
+    void shouldExerciseSampledCodesAndCountries() {
+        warmup.warmUp();
+
+        verify(service, atLeast(10)).getSwiftCode("AAISALTRXXX");
+        verify(service, atLeast(10)).getSwiftCode("ABIEBGS1XXX");
+        verify(service, never()).getSwiftCode("AAISALTR1XX");
+        verify(service, atLeastOnce()).getSwiftCodesByCountryISO2("AL");
+        verify(service, atLeastOnce()).getSwiftCodesByCountryISO2("BG");
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled")
+    void shouldSkipWhenDisabled() {
+        properties.setEnabled(false);
+
+        warmup.warmUp();
+
+        verifyNoInteractions(repository, service);
+    }
+
+    @Test
+    @DisplayName("Should stop without failing startup when a lookup fails")
+    void shouldStopOnFailure() {
+        when(service.getSwiftCode("ABIEBGS1XXX")).thenThrow(new EntityNotFoundException("SwiftCode not found: ABIEBGS1XXX"));
+        properties.setDuration(Duration.ofMinutes(1));
+
+        assertThatCode(warmup::warmUp).doesNotThrowAnyException();
+
+        verify(service, times(1)).getSwiftCode("ABIEBGS1XXX");
+    }
+}